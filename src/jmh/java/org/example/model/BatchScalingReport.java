@@ -0,0 +1,46 @@
+package org.example.model;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 배치 시뮬레이터 확장성 측정용 실행 클래스
+ * 스레드 수를 1, 2, 4, ... 로 늘리며 초당 판 수와 1스레드 대비 배율을 출력합니다.
+ * benchmark 프로필의 jar에 함께 들어가며, main으로 직접 실행합니다 (인자로 최대 스레드 수 지정 가능).
+ * 예: java -cp target/yootnori-benchmarks.jar org.example.model.BatchScalingReport 8
+ */
+public class BatchScalingReport {
+    private static final int GAMES_PER_THREAD = 50_000;
+
+    public static void main(String[] args) {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        GameSettings settings = new GameSettings(2, 4, Board.BoardType.SQUARE);
+        BatchSimulator simulator = new BatchSimulator(settings, MoveStrategy::random, 42L);
+
+        // 워밍업
+        ForkJoinPool warmUpPool = new ForkJoinPool(1);
+        try {
+            simulator.run(GAMES_PER_THREAD, warmUpPool);
+        } finally {
+            warmUpPool.shutdown();
+        }
+
+        System.out.println("사용 가능한 코어 수: " + Runtime.getRuntime().availableProcessors());
+        double baseline = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                // 스레드당 같은 양의 게임 (약한 확장성)
+                SimulationStats stats = simulator.run(GAMES_PER_THREAD * threads, pool);
+                double gamesPerSecond = stats.getGamesPerSecond();
+                if (threads == 1) {
+                    baseline = gamesPerSecond;
+                }
+                System.out.printf("스레드 %2d: %,10.0f판/초, 배율 %5.2fx, 효율 %5.1f%%%n",
+                        threads, gamesPerSecond, gamesPerSecond / baseline,
+                        100.0 * gamesPerSecond / baseline / threads);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
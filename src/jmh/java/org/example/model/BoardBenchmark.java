@@ -0,0 +1,64 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board.calculateDestination 벤치마크
+ * 목적지 테이블 조회와 위치 연결을 직접 따라가는 계산(walkDestination)을 비교합니다.
+ * 호출 순서가 분기 예측에 유리하지 않도록 무작위 (위치, 윷 결과) 쌍을 순환합니다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    private static final int SAMPLE_COUNT = 4096; // 2의 거듭제곱 (마스크로 순환)
+
+    @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+    public Board.BoardType boardType;
+
+    private Board board;
+    private Place[] places;
+    private Yut.YutResult[] results;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        board = new Board(boardType);
+        Yut.YutResult[] allResults = Yut.YutResult.values();
+        Random random = new Random(42);
+        places = new Place[SAMPLE_COUNT];
+        results = new Yut.YutResult[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            places[i] = board.getPlaceByIndex(random.nextInt(board.getPlaceCount()));
+            results[i] = allResults[random.nextInt(allResults.length)];
+        }
+    }
+
+    @Benchmark
+    public Place calculateDestination() {
+        int sample = cursor++ & (SAMPLE_COUNT - 1);
+        return board.calculateDestination(places[sample], results[sample]);
+    }
+
+    @Benchmark
+    public Place walkDestination() {
+        int sample = cursor++ & (SAMPLE_COUNT - 1);
+        return board.walkDestination(places[sample], results[sample]);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.model;
+
+/**
+ * 게임당 보드 메모리 사용량 측정용 실행 클래스
+ * 보드 타입별로 Board와 초기화된 Game을 여러 개 유지한 채 힙 증가량을 재서 개당 바이트를 출력합니다.
+ * benchmark 프로필의 jar에 함께 들어가며, main으로 직접 실행합니다.
+ * 예: java -cp target/yootnori-benchmarks.jar org.example.model.BoardFootprintReport
+ */
+public class BoardFootprintReport {
+    private static final int INSTANCE_COUNT = 20_000;
+
+    public static void main(String[] args) {
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            // 공유 구조가 있다면 측정 전에 미리 만들어 둠
+            new Board(boardType);
+
+            long boardBytes = measure(() -> new Board(boardType));
+            long gameBytes = measure(() -> {
+                Game game = new Game();
+                game.initialize(new GameSettings(4, 5, boardType));
+                return game;
+            });
+
+            System.out.printf("%-8s Board: %,7d bytes, Game(4x5): %,7d bytes%n",
+                    boardType, boardBytes, gameBytes);
+        }
+    }
+
+    private interface Factory {
+        Object create();
+    }
+
+    private static long measure(Factory factory) {
+        Object[] holder = new Object[INSTANCE_COUNT];
+        long before = usedHeap();
+        for (int i = 0; i < INSTANCE_COUNT; i++) {
+            holder[i] = factory.create();
+        }
+        long after = usedHeap();
+        if (holder[INSTANCE_COUNT - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return (after - before) / INSTANCE_COUNT;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game.copyInto / PackedGameState 벤치마크 (기본값: 육각형 보드, 4명, 말 5개씩)
+ * 게임 중반 상태를 미리 만들어 두고, 미리 만든 대상 게임에 복사하거나 압축·복원하는 시간을 측정합니다.
+ * newGame은 비교 기준으로, 복사 대신 게임을 새로 만들어 초기화만 하는 시간(상태 복원 전)입니다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CopyBenchmark {
+
+    @Param({"HEXAGON"})
+    public Board.BoardType boardType;
+
+    @Param({"4"})
+    public int playerCount;
+
+    @Param({"5"})
+    public int piecePerPlayer;
+
+    private GameSettings settings;
+    private Game source;
+    private Game target;
+    private PackedGameState packed;
+    private final long[] packedWords = new long[2];
+    private final int[] packedCodes = new int[GameSettings.getMaxPiecePerPlayer()];
+
+    @Setup
+    public void setUp() {
+        source = new Game(YutRandomSource.seeded(7));
+        source.getEventLog().setRecording(false);
+        settings = new GameSettings(playerCount, piecePerPlayer, boardType);
+        source.initialize(settings);
+
+        // 무작위 이동으로 게임 중반까지 진행 (말이 판 위에 퍼지고 업기가 생기도록)
+        SplittableRandom random = new SplittableRandom(42);
+        MoveList moves = new MoveList();
+        for (int actions = 0; actions < 120 && !source.isGameFinished(); actions++) {
+            if (source.generateLegalMoves(moves) == 0) {
+                source.throwYut();
+                continue;
+            }
+            int choice = random.nextInt(moves.size());
+            source.movePiece(moves.getPiece(choice), moves.getResult(choice));
+            if (!source.checkGameEnd()) {
+                source.endTurnIfNoExtraTurn();
+            }
+        }
+
+        target = source.copyInto(new Game());
+        packed = PackedGameState.of(source);
+    }
+
+    @Benchmark
+    public Game copyInto() {
+        return source.copyInto(target);
+    }
+
+    @Benchmark
+    public Game newGame() {
+        Game game = new Game(YutRandomSource.seeded(7));
+        game.getEventLog().setRecording(false);
+        game.initialize(settings);
+        return game;
+    }
+
+    @Benchmark
+    public long[] encode() {
+        PackedGameState.encode(source, packedWords, packedCodes);
+        return packedWords;
+    }
+
+    @Benchmark
+    public Game decode() {
+        packed.decodeInto(target);
+        return target;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game.movePiece / Game.getMovablePieces / Game.generateLegalMoves / Game.applyMove+undo 벤치마크
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    private static final Yut.YutResult[] MOVE_RESULTS = {
+            Yut.YutResult.DO, Yut.YutResult.GAE, Yut.YutResult.GEOL,
+            Yut.YutResult.YUT, Yut.YutResult.MO, Yut.YutResult.BACKDO
+    };
+
+    /**
+     * 이동 한 번마다 게임을 다시 준비하는 상태
+     * 출발 위치와 윷 결과를 매번 바꾸고, 목적지 후보 위치에 상대 말과 자기 말을 두어
+     * 잡기/업기 처리까지 측정에 포함합니다. 준비 시간은 측정에서 제외됩니다.
+     */
+    @State(Scope.Thread)
+    public static class MoveState {
+        @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+        public Board.BoardType boardType;
+
+        GameSettings settings;
+        Game game;
+        Piece mover;
+        Yut.YutResult result;
+        int round;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            settings = new GameSettings(2, 4, boardType);
+            game = new Game();
+        }
+
+        @Setup(Level.Invocation)
+        public void setUpInvocation() {
+            game.initialize(settings);
+            Board board = game.getBoard();
+            List<Player> players = game.getPlayers();
+
+            // 도착점(FE)을 제외한 위치를 차례로 출발 위치로 사용
+            int placeCount = board.getPlaceCount();
+            Place from = board.getPlaceByIndex(round % placeCount);
+            if (from.isEndingPoint()) {
+                from = board.getStartingPlace();
+            }
+            result = MOVE_RESULTS[round % MOVE_RESULTS.length];
+            if (result == Yut.YutResult.BACKDO && from.isStartingPoint()) {
+                result = Yut.YutResult.DO; // 시작점에서는 빽도로 움직일 수 없음
+            }
+            round++;
+
+            mover = players.get(0).getPieces().get(0);
+            mover.moveTo(from);
+
+            // 짝수 회차는 목적지에 상대 말(잡기), 홀수 회차는 자기 말(업기)
+            Place destination = board.calculateDestination(from, result);
+            if (!destination.isEndingPoint() && destination != from) {
+                Piece other = (round % 2 == 0 ? players.get(1) : players.get(0)).getPieces().get(1);
+                other.moveTo(destination);
+            }
+
+            game.setSpecificYutResult(result);
+        }
+    }
+
+    /**
+     * 이동 가능한 말 조회용 상태 (보드 위에 말 두 개, 남은 윷 결과 모와 개)
+     */
+    @State(Scope.Thread)
+    public static class QueryState {
+        @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+        public Board.BoardType boardType;
+
+        Game game;
+        Player player;
+        MoveList moves = new MoveList();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            game = new Game();
+            game.initialize(new GameSettings(2, 4, boardType));
+            player = game.getCurrentPlayer();
+            player.getPieces().get(0).moveTo(game.getBoard().getPlaceById("5"));
+            player.getPieces().get(1).moveTo(game.getBoard().getPlaceById("C_1"));
+            game.setSpecificYutResult(Yut.YutResult.MO);
+            game.setSpecificYutResult(Yut.YutResult.GAE);
+        }
+    }
+
+    @Benchmark
+    public Place movePiece(MoveState state) {
+        return state.game.movePiece(state.mover, state.result);
+    }
+
+    @Benchmark
+    public List<Piece> getMovablePieces(QueryState state) {
+        return state.game.getMovablePieces();
+    }
+
+    @Benchmark
+    public List<Piece> getMovablePiecesForBackdo(QueryState state) {
+        return state.game.getMovablePieces(state.player, Yut.YutResult.BACKDO);
+    }
+
+    @Benchmark
+    public MoveList generateLegalMoves(QueryState state) {
+        state.game.generateLegalMoves(state.moves);
+        return state.moves;
+    }
+
+    @Benchmark
+    public Place applyMoveAndUndo(QueryState state) {
+        Place destination = state.game.applyMove(state.player.getPiece(0), Yut.YutResult.GAE);
+        state.game.undo();
+        return destination;
+    }
+}
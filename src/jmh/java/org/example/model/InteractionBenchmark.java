@@ -0,0 +1,112 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameInteractionService.applyCapture / checkAndApplyGrouping 벤치마크
+ * 잡기와 업기는 상태를 바꾸므로 호출마다 말 배치를 다시 준비합니다. (준비 시간은 측정에서 제외)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InteractionBenchmark {
+
+    /**
+     * 두 플레이어의 말을 같은 위치에 두는 공통 상태 (@Param은 @State 클래스에만 둘 수 있으므로 기반 클래스에도 표시)
+     */
+    @State(Scope.Thread)
+    public abstract static class PiecesState {
+        @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+        public Board.BoardType boardType;
+
+        GameSettings settings;
+        Game game;
+        GameInteractionService service;
+        Board board;
+        Piece mover;
+        GameEventLog eventLog;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            settings = new GameSettings(2, 4, boardType);
+            game = new Game();
+            service = new GameInteractionService();
+        }
+
+        void reset() {
+            game.initialize(settings);
+            board = game.getBoard();
+            mover = game.getPlayers().get(0).getPieces().get(0);
+            eventLog = new GameEventLog();
+        }
+    }
+
+    /**
+     * 상대 말 두 개(하나는 업힌 상태)가 있는 위치로 이동한 상태
+     */
+    @State(Scope.Thread)
+    public static class CaptureState extends PiecesState {
+        @Setup(Level.Invocation)
+        public void setUpInvocation() {
+            reset();
+            Place place = board.getPlaceById("5");
+            List<Piece> opponents = game.getPlayers().get(1).getPieces();
+            opponents.get(0).moveTo(place);
+            opponents.get(1).moveTo(place);
+            opponents.get(0).stackPiece(opponents.get(1));
+            mover.moveTo(place);
+        }
+    }
+
+    /**
+     * 자기 말이 있는 위치로 이동한 상태 (centerPair가 true면 다른 중앙점에 있는 말과 업기)
+     */
+    @State(Scope.Thread)
+    public static class GroupingState extends PiecesState {
+        @Param({"false", "true"})
+        public boolean centerPair;
+
+        Place place;
+
+        @Setup(Level.Invocation)
+        public void setUpInvocation() {
+            reset();
+            Piece partner = game.getPlayers().get(0).getPieces().get(1);
+            if (centerPair) {
+                place = board.getPlaceById("C_1");
+                partner.moveTo(board.getPlaceById("C_2"));
+            } else {
+                place = board.getPlaceById("5");
+                partner.moveTo(place);
+            }
+            mover.moveTo(place);
+        }
+    }
+
+    @Benchmark
+    public boolean applyCapture(CaptureState state) {
+        return state.service.applyCapture(state.mover, state.board, state.eventLog);
+    }
+
+    @Benchmark
+    public GameEventLog checkAndApplyGrouping(GroupingState state) {
+        state.service.checkAndApplyGrouping(state.place, state.mover, state.board, state.eventLog);
+        return state.eventLog;
+    }
+}
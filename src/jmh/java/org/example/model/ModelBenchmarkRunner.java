@@ -0,0 +1,23 @@
+package org.example.model;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 모델 벤치마크 실행 진입점 (yootnori-benchmarks.jar 의 메인 클래스)
+ * JMH 명령행 옵션을 그대로 받고, 연산당 할당량 측정을 위해 GC 프로파일러를 항상 붙입니다.
+ * 예: java -jar target/yootnori-benchmarks.jar Board -rf json -rff board.json
+ */
+public class ModelBenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이진 리플레이 재생 벤치마크
+ * 미리 기록해 둔 게임을 순서대로 하나씩 재생하며, 처리량(ops/s)이 곧 한 코어의 초당 재생 판 수입니다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ReplayBenchmark {
+
+    @Param({"SQUARE", "HEXAGON"})
+    public Board.BoardType boardType;
+
+    @Param({"1000"})
+    public int recordedGames;
+
+    private byte[] replay;
+    private ReplayReader reader;
+    private Game game;
+
+    @Setup
+    public void setUp() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Game recordingGame = new Game(new SplittableRandom(7));
+        ReplayWriter writer = new ReplayWriter(bytes);
+        recordingGame.setReplayWriter(writer);
+        GameSimulator simulator = new GameSimulator(new GameSettings(2, 4, boardType),
+                MoveStrategy.random(new SplittableRandom(42)), recordingGame);
+        simulator.run(recordedGames);
+        writer.close();
+        replay = bytes.toByteArray();
+
+        reader = new ReplayReader(ByteBuffer.wrap(replay));
+        game = new Game();
+        game.getEventLog().setRecording(false);
+    }
+
+    @Benchmark
+    public Player replayGame() {
+        if (!reader.hasNext()) {
+            reader = new ReplayReader(ByteBuffer.wrap(replay));
+        }
+        return reader.replayNext(game);
+    }
+}
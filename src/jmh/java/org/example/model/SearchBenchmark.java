@@ -0,0 +1,95 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExpectiminimaxStrategy 고정 깊이 탐색 벤치마크 (4명, 말 5개씩 게임 중반 상태)
+ * 시간 예산을 충분히 주고 깊이를 고정하여, 가지치기와 치환표 유무에 따른 한 번의 선택 시간을 비교합니다.
+ * 치환표는 매번 비우고 시작하여 같은 국면을 반복 탐색한 결과가 남지 않게 합니다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+    public Board.BoardType boardType;
+
+    @Param({"5"})
+    public int depth;
+
+    private Game game;
+    private final List<Piece> pieces = new ArrayList<>();
+    private final List<Yut.YutResult> results = new ArrayList<>();
+    private ExpectiminimaxStrategy pruned;
+    private ExpectiminimaxStrategy plain;
+    private ExpectiminimaxStrategy cached;
+
+    @Setup
+    public void setUp() {
+        game = new Game(YutRandomSource.seeded(7));
+        game.getEventLog().setRecording(false);
+        game.initialize(new GameSettings(4, 5, boardType));
+
+        // 무작위 이동으로 게임 중반까지 진행한 뒤, 이동 후보가 둘 이상인 결정 시점에서 멈춤
+        SplittableRandom random = new SplittableRandom(42);
+        MoveList moves = new MoveList();
+        for (int actions = 0; !game.isGameFinished(); actions++) {
+            int count = game.generateLegalMoves(moves);
+            if (actions >= 60 && count >= 2) {
+                break;
+            }
+            if (count == 0) {
+                game.throwYut();
+                continue;
+            }
+            int choice = random.nextInt(count);
+            game.movePiece(moves.getPiece(choice), moves.getResult(choice));
+            if (!game.checkGameEnd()) {
+                game.endTurnIfNoExtraTurn();
+            }
+        }
+        for (int i = 0; i < moves.size(); i++) {
+            pieces.add(moves.getPiece(i));
+            results.add(moves.getResult(i));
+        }
+
+        pruned = new ExpectiminimaxStrategy(60_000, depth, true);
+        plain = new ExpectiminimaxStrategy(60_000, depth, false);
+        cached = new ExpectiminimaxStrategy(60_000, depth);
+    }
+
+    @Benchmark
+    public int chooseMoveStar2() {
+        return pruned.chooseMove(game, pieces, results);
+    }
+
+    @Benchmark
+    public int chooseMoveStar2Table() {
+        cached.getTranspositionTable().clear();
+        return cached.chooseMove(game, pieces, results);
+    }
+
+    @Benchmark
+    public int chooseMoveNoPruning() {
+        return plain.chooseMove(game, pieces, results);
+    }
+}
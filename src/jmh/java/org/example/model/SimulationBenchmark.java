@@ -0,0 +1,52 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 헤드리스 시뮬레이터로 게임 한 판 전체를 진행하는 벤치마크
+ * 처리량(ops/s)이 곧 한 코어의 초당 판 수입니다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulationBenchmark {
+
+    @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+    public Board.BoardType boardType;
+
+    @Param({"2"})
+    public int playerCount;
+
+    @Param({"4"})
+    public int piecePerPlayer;
+
+    private GameSimulator simulator;
+
+    @Setup
+    public void setUp() {
+        GameSettings settings = new GameSettings(playerCount, piecePerPlayer, boardType);
+        simulator = new GameSimulator(settings, MoveStrategy.random(new SplittableRandom(42)),
+                new Game(new SplittableRandom(7)));
+    }
+
+    @Benchmark
+    public Player playGame() {
+        return simulator.playGame(null);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 디버그 추적 수준별 이동 한 번의 비용 벤치마크
+ * 업기가 일어나는 이동(자기 말 위로)을 추적 OFF/INFO/DEBUG 에서 비교합니다.
+ * 추적 문장은 길이만 더하는 출력 대상으로 보내 입출력 비용을 제외합니다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TracingBenchmark {
+
+    @Param({"OFF", "INFO", "DEBUG"})
+    public GameTracer.Level traceLevel;
+
+    @Param({"SQUARE", "PENTAGON", "HEXAGON"})
+    public Board.BoardType boardType;
+
+    private GameSettings settings;
+    private Game game;
+    private Piece mover;
+    private long tracedChars;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        settings = new GameSettings(2, 4, boardType);
+        game = new Game();
+        game.getTracer().setSink(message -> tracedChars += message.length());
+        game.getTracer().setLevel(traceLevel);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        game.initialize(settings);
+        Player player = game.getPlayers().get(0);
+        mover = player.getPieces().get(0);
+        player.getPieces().get(1).moveTo(game.getBoard().getPlaceById("2"));
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+    }
+
+    @Benchmark
+    public long moveWithStacking() {
+        game.movePiece(mover, Yut.YutResult.GAE);
+        return tracedChars;
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Yut.throwYut 벤치마크 (보드 타입과 무관)
+ * 기본 생성자(SplitMix64 공급원), SplittableRandom을 감싼 공급원, 시드 지정 공급원을 비교하고,
+ * 일괄 던지기(throwYuts)는 한 번 던지기당 시간으로 환산합니다.
+ * throwYutWeighted는 기본이 아닌 확률 모형도 같은 비용으로 뽑히는지 확인합니다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class YutBenchmark {
+    private static final int BULK_SIZE = 1024;
+
+    private Yut defaultYut;
+    private Yut splittableYut;
+    private Yut seededYut;
+    private Yut weightedYut;
+    private byte[] bulkResults;
+
+    @Setup
+    public void setUp() {
+        defaultYut = new Yut();
+        splittableYut = new Yut(new SplittableRandom(42));
+        seededYut = new Yut(YutRandomSource.seeded(42));
+        bulkResults = new byte[BULK_SIZE];
+        weightedYut = new Yut(YutRandomSource.seeded(42));
+        weightedYut.setProbabilityModel(YutProbabilityModel.ofSticks(new double[]{0.55, 0.5, 0.5, 0.45}, 0.1));
+    }
+
+    @Benchmark
+    public Yut.YutResult throwYut() {
+        return defaultYut.throwYut();
+    }
+
+    @Benchmark
+    public Yut.YutResult throwYutSplittable() {
+        return splittableYut.throwYut();
+    }
+
+    @Benchmark
+    public Yut.YutResult throwYutSeeded() {
+        return seededYut.throwYut();
+    }
+
+    @Benchmark
+    public Yut.YutResult throwYutWeighted() {
+        return weightedYut.throwYut();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public byte[] throwYutsBulk() {
+        seededYut.throwYuts(bulkResults, 0, BULK_SIZE);
+        return bulkResults;
+    }
+}
@@ -54,14 +54,14 @@ public abstract class AbstractGameController implements GameController {
             throw new IllegalStateException("게임이 초기화되지 않았습니다.");
         }
 
-        if (game.getPendingYutResults().isEmpty()) {
+        if (!game.hasPendingYutResults()) {
             showMessage("먼저 윷을 던져야 합니다.", "알림");
             return null;
         }
 
         // 윷 결과가 제공되지 않은 경우 첫 번째 결과를 사용
         if (yutResult == null) {
-            yutResult = game.getPendingYutResults().get(0);
+            yutResult = game.getPendingYutResultsView().get(0);
         }
 
         Place destination = game.movePiece(piece, yutResult);
@@ -89,22 +89,11 @@ public abstract class AbstractGameController implements GameController {
 
     @Override
     public List<Piece> getMovablePieces() {
-        if (game == null || game.getPendingYutResults().isEmpty()) {
+        if (game == null) {
             return new ArrayList<>();
         }
-
-        Yut.YutResult firstResult = game.getPendingYutResults().get(0);
-        List<Piece> allPieces = game.getMovablePieces(game.getCurrentPlayer(), firstResult);
-        List<Piece> validMovablePieces = new ArrayList<>();
-
-        // 업혀있지 않은 말만 반환
-        for (Piece piece : allPieces) {
-            if (!piece.isCarried()) {
-                validMovablePieces.add(piece);
-            }
-        }
-
-        return validMovablePieces;
+        // 업힌 말 제외 등 이동 가능 판정은 Game에서 처리
+        return game.getMovablePieces();
     }
 
     @Override
@@ -112,7 +101,7 @@ public abstract class AbstractGameController implements GameController {
         if (game == null) {
             return new ArrayList<>();
         }
-        return game.getPendingYutResults();
+        return game.getPendingYutResultsView();
     }
 
     @Override
@@ -124,7 +113,7 @@ public abstract class AbstractGameController implements GameController {
      * 이동 가능한 말이 있는지 확인하고, 없으면 턴을 자동 종료
      */
     private void checkMovablePieces() {
-        if (!game.getPendingYutResults().isEmpty()) {
+        if (game.hasPendingYutResults()) {
             List<Piece> movablePieces = getMovablePieces();
             if (movablePieces.isEmpty()) {
                 showMessage("이동 가능한 말이 없습니다. 턴을 넘깁니다.", "알림");
@@ -50,7 +50,7 @@ public interface GameController {
     List<Piece> getMovablePieces();
 
     /**
-     * 현재 보류 중인 윷 결과 목록 반환
+     * 현재 보류 중인 윷 결과 목록 반환 (이동 칸 수가 큰 결과부터, 복사하지 않는 읽기 전용 목록)
      * @return 윷 결과 목록
      */
     List<Yut.YutResult> getPendingYutResults();
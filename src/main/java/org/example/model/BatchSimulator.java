@@ -0,0 +1,143 @@
+package org.example.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * 여러 코어에 게임을 나누어 진행하는 배치 시뮬레이터
+ * 게임 번호 구간을 ForkJoin 작업으로 나누고, 작업마다 따로 집계한 결과를 합칠 때만 모읍니다.
+ * 각 게임은 (시드, 게임 번호)로 정해지는 독립 난수열을 사용하므로
+ * 스레드 수나 작업 분할과 관계없이 같은 시드면 같은 결과가 나옵니다.
+ */
+public class BatchSimulator {
+    public static final int DEFAULT_GAMES_PER_TASK = 256; // 더 나누지 않고 한 작업에서 진행할 게임 수
+
+    private GameSettings settings;
+    private Function<RandomGenerator, MoveStrategy> strategyFactory;
+    private long seed;
+    private int maxActions;
+    private int gamesPerTask;
+
+    /**
+     * 생성자
+     * @param settings 게임 설정
+     * @param strategyFactory 게임마다 전략 전용 난수열을 받아 이동 전략을 만드는 함수
+     * @param seed 배치 전체의 기준 시드
+     */
+    public BatchSimulator(GameSettings settings, Function<RandomGenerator, MoveStrategy> strategyFactory, long seed) {
+        if (settings == null || !settings.isValid()) {
+            throw new IllegalArgumentException("유효하지 않은 게임 설정입니다.");
+        }
+        if (strategyFactory == null) {
+            throw new IllegalArgumentException("이동 전략 생성 함수가 필요합니다.");
+        }
+        this.settings = settings;
+        this.strategyFactory = strategyFactory;
+        this.seed = seed;
+        this.maxActions = GameSimulator.DEFAULT_MAX_ACTIONS;
+        this.gamesPerTask = DEFAULT_GAMES_PER_TASK;
+    }
+
+    /**
+     * 한 판당 최대 행동 수 설정
+     * @param maxActions 최대 행동 수
+     */
+    public void setMaxActions(int maxActions) {
+        if (maxActions <= 0) {
+            throw new IllegalArgumentException("최대 행동 수는 1 이상이어야 합니다.");
+        }
+        this.maxActions = maxActions;
+    }
+
+    /**
+     * 한 작업에서 진행할 게임 수 설정
+     * @param gamesPerTask 작업당 게임 수
+     */
+    public void setGamesPerTask(int gamesPerTask) {
+        if (gamesPerTask <= 0) {
+            throw new IllegalArgumentException("작업당 게임 수는 1 이상이어야 합니다.");
+        }
+        this.gamesPerTask = gamesPerTask;
+    }
+
+    /**
+     * 공용 ForkJoinPool에서 배치 실행
+     * @param gameCount 게임 판 수
+     * @return 집계 결과 (경과 시간은 배치 전체의 실제 시간)
+     */
+    public SimulationStats run(int gameCount) {
+        return run(gameCount, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 지정한 ForkJoinPool에서 배치 실행
+     * @param gameCount 게임 판 수
+     * @param pool 사용할 풀
+     * @return 집계 결과 (경과 시간은 배치 전체의 실제 시간)
+     */
+    public SimulationStats run(int gameCount, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        SimulationStats stats = pool.invoke(new BatchTask(0, gameCount));
+        stats.addElapsedNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * 게임 번호 구간 [from, to)를 진행
+     * 게임 객체와 시뮬레이터(이동 후보 버퍼 포함)는 구간마다 한 번만 만들고,
+     * 게임마다 난수 공급원과 전략만 바꾸어 다시 초기화합니다.
+     * @param from 시작 게임 번호
+     * @param to 끝 게임 번호 (제외)
+     * @return 구간 집계 결과
+     */
+    SimulationStats playRange(int from, int to) {
+        SimulationStats stats = new SimulationStats(settings.getPlayerCount());
+        Game game = new Game();
+        GameSimulator simulator = null;
+        for (int gameIndex = from; gameIndex < to; gameIndex++) {
+            YutRandomSource gameSource = YutRandomSource.forStream(seed, gameIndex);
+            game.setRandomSource(gameSource.split()); // 윷 던지기용 난수열
+            MoveStrategy strategy = strategyFactory.apply(new SplittableRandom(gameSource.nextLong())); // 전략용 난수열
+
+            if (simulator == null) {
+                simulator = new GameSimulator(settings, strategy, game);
+                simulator.setMaxActions(maxActions);
+            } else {
+                simulator.setStrategy(strategy);
+            }
+            simulator.playGame(stats);
+        }
+        return stats;
+    }
+
+    /**
+     * 게임 번호 구간을 반씩 나누어 진행하는 ForkJoin 작업
+     */
+    private class BatchTask extends RecursiveTask<SimulationStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        BatchTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= gamesPerTask) {
+                return playRange(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            BatchTask left = new BatchTask(from, middle);
+            left.fork();
+            SimulationStats stats = new BatchTask(middle, to).compute();
+            stats.merge(left.join());
+            return stats;
+        }
+    }
+}
@@ -2,20 +2,20 @@ package org.example.model;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.List;
-import java.util.ArrayList;
 
 /**
  * 윷놀이 게임 보드 클래스
  * 사각형, 오각형, 육각형 보드 형태를 지원합니다.
+ * 보드 구조(연결, 위치 속성, 목적지 테이블)는 보드 타입별로 공유되는 BoardTopology를 사용하고,
+ * 이 객체는 게임별 말 점유 상태(위치 번호별 말 배열)와 그 상태를 보여 주는 위치 손잡이만 보관합니다.
  */
 public class Board {
     private BoardType boardType; // 사각형, 오각형, 육각형
-    private Map<String, Place> places; // ID로 접근 가능한 모든 위치
+    private BoardTopology topology; // 보드 타입별 공유 구조
+    private PlaceOccupancy occupancy; // 위치 번호별 말 점유 상태
+    private Place[] placesByIndex; // 위치 번호로 접근하는 이 게임의 위치 배열
     private Place startingPlace; // 시작 위치
     private Place endingPlace; // 도착 위치
-    private Map<String,Place> centerPlaces; // 중앙 위치
-    private Place beyondEndPlace; // E를 넘어가는 히든 위치
 
     /**
      * 보드 타입 열거형
@@ -30,363 +30,16 @@ public class Board {
      */
     public Board(BoardType boardType) {
         this.boardType = boardType;
-        this.places = new HashMap<>();
-        this.centerPlaces = new HashMap<>();
+        this.topology = BoardTopology.of(boardType);
 
-        // 보드 초기화
-        initializeBoard();
-    }
-
-    /**
-     * 보드 타입에 따라 보드 초기화
-     */
-    private void initializeBoard() {
-        switch (boardType) {
-            case SQUARE:
-                initializeSquareBoard();
-                break;
-            case PENTAGON:
-                initializePentagonBoard();
-                break;
-            case HEXAGON:
-                initializeHexagonBoard();
-                break;
-        }
-    }
-    /**
-     * 사각형 보드 초기화 메서드
-     * 일반적인 윷놀이판 구조를 생성합니다.
-     */
-    private void initializeSquareBoard() {
-        // 시작/도착 지점 생성
-        Place start = createPlace("S", "시작점", false, false, true, false);
-        Place end = createPlace("E", "종료점", false, false, false, false);
-        Place beyondEnd = createPlace("FE", "최종 도착", false, false, false, true);
-
-        startingPlace = start;
-        endingPlace = beyondEnd; // 최종 도착
-        end.setNextPlace(beyondEnd);
-        beyondEnd.setPreviousPlace(end); // 역방향 참조 설정
-
-        // 외곽 경로 생성 (인덱스 1~19 사용)
-        Place[] outerPath = new Place[20];
-        for (int i = 1; i < 20; i++) {
-            String id = String.valueOf(i);
-            String name = "외곽" + i;
-            outerPath[i] = createPlace(id, name);
-        }
-
-        // 외곽 경로 연결 및 역방향 참조 설정
-        for (int i = 1; i < 19; i++) {
-            outerPath[i].setNextPlace(outerPath[i + 1]);
-            outerPath[i + 1].setPreviousPlace(outerPath[i]); // 역방향 참조 설정
-        }
-        outerPath[19].setNextPlace(end);
-        end.setPreviousPlace(outerPath[19]); // 역방향 참조 설정
-
-        start.setNextPlace(outerPath[1]);
-        outerPath[1].setPreviousPlace(end); // 역방향 참조 설정
-
-        outerPath[5].setJunction(true);
-        outerPath[10].setJunction(true);
-        outerPath[15].setJunction(true);
-
-        Place center1 = createPlace("C_1", "중앙1", true, true, false, false);
-        Place center2 = createPlace("C_2", "중앙2", true, true, false, false);
-        centerPlaces.put(center1.getId(), center1);
-        centerPlaces.put(center2.getId(), center2);
-
-        // 05에서 들어가는 경로 (C1,C2)
-        Place C1 = createPlace("C1", "C1");
-        Place C2 = createPlace("C2", "C2");
-
-        // 10에서 들어가는 경로 (C3,C4)
-        Place C3 = createPlace("C3", "C3");
-        Place C4 = createPlace("C4", "C4");
-
-        // 05에서 나가는 경로 (C5,C6)
-        Place C5 = createPlace("C5", "C5");
-        Place C6 = createPlace("C6", "C6");
-
-        // 중앙에서 나가는 경로 2 (C7, C8)
-        Place C7 = createPlace("C7", "C7");
-        Place C8 = createPlace("C8", "C8");
-
-        // 특별 경로 연결 및 역방향 참조 설정
-        outerPath[5].setSpecialNextPlace(C1);
-        C1.setPreviousPlace(outerPath[5]); // 역방향 참조 설정
-
-        C1.setNextPlace(C2);
-        C2.setPreviousPlace(C1); // 역방향 참조 설정
-
-        C2.setNextPlace(center1);
-        center1.setPreviousPlace(C2); // 역방향 참조 설정
-
-        center1.setNextPlace(C5);
-        C5.setPreviousPlace(center1); // 역방향 참조 설정
-
-        C5.setNextPlace(C6);
-        C6.setPreviousPlace(C5); // 역방향 참조 설정
-
-        C6.setNextPlace(outerPath[15]);
-        outerPath[15].setPreviousPlace(C6); // 특별 경로에서 나갈 때의 역방향 참조 설정
-
-        outerPath[10].setSpecialNextPlace(C3);
-        C3.setPreviousPlace(outerPath[10]); // 역방향 참조 설정
-
-        C3.setNextPlace(C4);
-        C4.setPreviousPlace(C3); // 역방향 참조 설정
-
-        C4.setNextPlace(center2);
-        center2.setPreviousPlace(C4); // 역방향 참조 설정
-
-        center2.setNextPlace(C7);
-        C7.setPreviousPlace(center2); // 역방향 참조 설정
-
-        C7.setNextPlace(C8);
-        C8.setPreviousPlace(C7); // 역방향 참조 설정
-
-        C8.setNextPlace(end);
-        // end는 이미 역방향 참조가 설정되어 있음
-
-        center1.setSpecialNextPlace(C7);
-        C7.setPreviousPlace(center1); // 특별 경로의 역방향 참조 설정
-    }
-    /**
-     * 오각형 보드 초기화 메서드
-     * 오각형 구조의 윷놀이판을 생성합니다.
-     */
-    private void initializePentagonBoard() {
-        // 시작/도착 지점 생성
-        Place start = createPlace("S", "시작점", false, false, true, false);
-        Place end = createPlace("E", "종료점", false, false, false, false);
-        Place beyondEnd = createPlace("FE", "최종 도착", false, false, false, true);
-
-        startingPlace = start;
-        endingPlace = beyondEnd; // 최종 도착
-        end.setNextPlace(beyondEnd);
-        beyondEnd.setPreviousPlace(end); // 역방향 참조 설정
-
-        // 외곽 경로 생성 (인덱스 1~24 사용)
-        Place[] outerPath = new Place[25];
-        for (int i = 1; i < 25; i++) {
-            String id = String.valueOf(i);
-            String name = "외곽" + i;
-            outerPath[i] = createPlace(id, name);
-        }
-
-        // 외곽 경로 연결 및 역방향 참조 설정
-        for (int i = 1; i < 24; i++) {
-            outerPath[i].setNextPlace(outerPath[i + 1]);
-            outerPath[i + 1].setPreviousPlace(outerPath[i]); // 역방향 참조 설정
+        // 속성과 연결은 공유 구조에 두고, 이 게임의 점유 상태와 위치 손잡이만 생성
+        this.occupancy = new PlaceOccupancy(topology.getPlaceCount());
+        this.placesByIndex = new Place[topology.getPlaceCount()];
+        for (int index = 0; index < placesByIndex.length; index++) {
+            placesByIndex[index] = new Place(this, occupancy, index);
         }
-        outerPath[24].setNextPlace(end);
-        end.setPreviousPlace(outerPath[24]); // 역방향 참조 설정
-
-        start.setNextPlace(outerPath[1]);
-        outerPath[1].setPreviousPlace(end); // 역방향 참조 설정
-
-        // 중앙 지점 생성
-        Place center1 = createPlace("C_1", "중앙1", true, true, false, false);
-        Place center2 = createPlace("C_2", "중앙2", true, true, false, false);
-        centerPlaces.put(center1.getId(), center1);
-        centerPlaces.put(center2.getId(), center2);
-
-        Place C1 = createPlace("C1", "C1");
-        Place C2 = createPlace("C2", "C2");
-        Place C3 = createPlace("C3", "C3");
-        Place C4 = createPlace("C4", "C4");
-        Place C5 = createPlace("C5", "C5");
-        Place C6 = createPlace("C6", "C6");
-        Place C7 = createPlace("C7", "C7");
-        Place C8 = createPlace("C8", "C8");
-        Place C9 = createPlace("C9", "C9");
-        Place C10 = createPlace("C10", "C10");
-
-        outerPath[5].setJunction(true);
-        outerPath[10].setJunction(true);
-        outerPath[15].setJunction(true);
-        outerPath[20].setJunction(true);
-
-        // 특별 경로 연결 및 역방향 참조 설정
-        outerPath[5].setSpecialNextPlace(C1);
-        C1.setPreviousPlace(outerPath[5]); // 역방향 참조 설정
-
-        outerPath[10].setSpecialNextPlace(C3);
-        C3.setPreviousPlace(outerPath[10]); // 역방향 참조 설정
-
-        outerPath[15].setSpecialNextPlace(C5);
-        C5.setPreviousPlace(outerPath[15]); // 역방향 참조 설정
-
-        C1.setNextPlace(C2);
-        C2.setPreviousPlace(C1); // 역방향 참조 설정
-
-        C2.setNextPlace(center1);
-        center1.setPreviousPlace(C2); // 역방향 참조 설정
-
-        center1.setNextPlace(C7);
-        C7.setPreviousPlace(center1); // 역방향 참조 설정
-
-        C7.setNextPlace(C8);
-        C8.setPreviousPlace(C7); // 역방향 참조 설정
-
-        C8.setNextPlace(outerPath[20]);
-        outerPath[20].setPreviousPlace(C8); // 역방향 참조 설정
-
-        C3.setNextPlace(C4);
-        C4.setPreviousPlace(C3); // 역방향 참조 설정
-
-        C4.setNextPlace(center1);
-        // center1은 이미 역방향 참조가 설정됨
-
-        center1.setSpecialNextPlace(C9);
-        C9.setPreviousPlace(center1); // 역방향 참조 설정
-
-        C9.setNextPlace(C10);
-        C10.setPreviousPlace(C9); // 역방향 참조 설정
-
-        C10.setNextPlace(end);
-        // end는 이미 역방향 참조가 설정됨
-
-        C5.setNextPlace(C6);
-        C6.setPreviousPlace(C5); // 역방향 참조 설정
-
-        C6.setNextPlace(center2);
-        center2.setPreviousPlace(C6); // 역방향 참조 설정
-
-        center2.setNextPlace(C9);
-        // C9은 이미 역방향 참조가 설정됨
-    }
-    /**
-     * 육각형 보드 초기화 메서드
-     * 육각형 구조의 윷놀이판을 생성합니다.
-     */
-    private void initializeHexagonBoard() {
-        Place start = createPlace("S", "시작점", false, false, true, false);
-        Place end = createPlace("E", "종료점", false, false, false, false);
-        Place beyondEnd = createPlace("FE", "최종 도착", false, false, false, true);
-
-        startingPlace = start;
-        endingPlace = beyondEnd; // 최종 도착
-        end.setNextPlace(beyondEnd);
-        beyondEnd.setPreviousPlace(end); // 역방향 참조 설정
-
-        Place center1 = createPlace("C_1", "중앙1", true, true, false, false);
-        Place center2 = createPlace("C_2", "중앙2", true, true, false, false);
-        centerPlaces.put(center1.getId(), center1);
-        centerPlaces.put(center2.getId(), center2);
-
-        // 외곽 경로 생성 (인덱스 1~29 사용)
-        Place[] outerPath = new Place[30];
-        for (int i = 1; i < 30; i++) {
-            String id = String.valueOf(i);
-            String name = "외곽" + i;
-            outerPath[i] = createPlace(id, name);
-        }
-
-        // 외곽 경로 연결 및 역방향 참조 설정
-        for (int i = 1; i < 29; i++) {
-            outerPath[i].setNextPlace(outerPath[i + 1]);
-            outerPath[i + 1].setPreviousPlace(outerPath[i]); // 역방향 참조 설정
-        }
-        outerPath[29].setNextPlace(end);
-        end.setPreviousPlace(outerPath[29]); // 역방향 참조 설정
-
-        start.setNextPlace(outerPath[1]);
-        outerPath[1].setPreviousPlace(end); // 역방향 참조 설정
-
-        Place C1 = createPlace("C1", "C1");
-        Place C2 = createPlace("C2", "C2");
-        Place C3 = createPlace("C3", "C3");
-        Place C4 = createPlace("C4", "C4");
-        Place C5 = createPlace("C5", "C5");
-        Place C6 = createPlace("C6", "C6");
-        Place C7 = createPlace("C7", "C7");
-        Place C8 = createPlace("C8", "C8");
-        Place C9 = createPlace("C9", "C9");
-        Place C10 = createPlace("C10", "C10");
-        Place C11 = createPlace("C11", "C11");
-        Place C12 = createPlace("C12", "C12");
-
-        outerPath[5].setJunction(true);
-        outerPath[10].setJunction(true);
-        outerPath[15].setJunction(true);
-        outerPath[20].setJunction(true);
-        outerPath[25].setJunction(true);
-
-        // 특별 경로 연결 및 역방향 참조 설정
-        outerPath[5].setSpecialNextPlace(C1);
-        C1.setPreviousPlace(outerPath[5]); // 역방향 참조 설정
-
-        outerPath[10].setSpecialNextPlace(C3);
-        C3.setPreviousPlace(outerPath[10]); // 역방향 참조 설정
-
-        outerPath[15].setSpecialNextPlace(C5);
-        C5.setPreviousPlace(outerPath[15]); // 역방향 참조 설정
-
-        outerPath[20].setSpecialNextPlace(C7);
-        C7.setPreviousPlace(outerPath[20]); // 역방향 참조 설정
-
-        C1.setNextPlace(C2);
-        C2.setPreviousPlace(C1); // 역방향 참조 설정
-
-        C2.setNextPlace(center1);
-        center1.setPreviousPlace(C2); // 역방향 참조 설정
-
-        center1.setNextPlace(C9);
-        C9.setPreviousPlace(center1); // 역방향 참조 설정
-
-        C9.setNextPlace(C10);
-        C10.setPreviousPlace(C9); // 역방향 참조 설정
-
-        C10.setNextPlace(outerPath[25]);
-        outerPath[25].setPreviousPlace(C10); // 역방향 참조 설정
-
-        C3.setNextPlace(C4);
-        C4.setPreviousPlace(C3); // 역방향 참조 설정
-
-        C4.setNextPlace(center1);
-        // center1은 이미 역방향 참조가 설정됨
-
-        C5.setNextPlace(C6);
-        C6.setPreviousPlace(C5); // 역방향 참조 설정
-
-        C6.setNextPlace(center1);
-        // center1은 이미 역방향 참조가 설정됨
-
-        C7.setNextPlace(C8);
-        C8.setPreviousPlace(C7); // 역방향 참조 설정
-
-        C8.setNextPlace(center2);
-        center2.setPreviousPlace(C8); // 역방향 참조 설정
-
-        center1.setSpecialNextPlace(C11);
-        C11.setPreviousPlace(center1); // 역방향 참조 설정
-
-        C11.setNextPlace(C12);
-        C12.setPreviousPlace(C11); // 역방향 참조 설정
-
-        C12.setNextPlace(end);
-        // end는 이미 역방향 참조가 설정됨
-
-        center2.setNextPlace(C11);
-        // C11은 이미 역방향 참조가 설정됨
-    }
-    /**
-     * 위치 생성 및 맵에 추가하는 유틸리티 메서드
-     */
-    private Place createPlace(String id, String name, boolean isJunction, boolean isCenter,
-                              boolean isStartingPoint, boolean isEndingPoint) {
-        Place place = new Place(id, name, isJunction, isCenter, isStartingPoint, isEndingPoint);
-        places.put(id, place);
-        return place;
-    }
-
-    /**
-     * 간소화된 위치 생성 유틸리티 메서드
-     */
-    private Place createPlace(String id, String name) {
-        return createPlace(id, name, false, false, false, false);
+        this.startingPlace = placesByIndex[topology.getStartIndex()];
+        this.endingPlace = placesByIndex[topology.getEndIndex()]; // 최종 도착
     }
 
     /**
@@ -395,7 +48,8 @@ public class Board {
      * @return 해당 ID의 위치 객체
      */
     public Place getPlaceById(String id) {
-        return places.get(id);
+        int index = topology.indexOf(id);
+        return index < 0 ? null : placesByIndex[index];
     }
 
     /**
@@ -420,7 +74,11 @@ public class Board {
      * @return 중앙 위치
      */
     public Map<String,Place> getCenterPlaces() {
-        return new HashMap<>(centerPlaces);
+        Map<String, Place> centerPlaces = new HashMap<>();
+        for (int centerIndex : topology.getCenterIndices()) {
+            centerPlaces.put(placesByIndex[centerIndex].getId(), placesByIndex[centerIndex]);
+        }
+        return centerPlaces;
     }
 
     /**
@@ -436,16 +94,94 @@ public class Board {
      * @return 위치 맵
      */
     public Map<String, Place> getAllPlaces() {
-        return new HashMap<>(places);
+        Map<String, Place> places = new HashMap<>();
+        for (Place place : placesByIndex) {
+            places.put(place.getId(), place);
+        }
+        return places;
     }
+
     /**
      * 현재 위치와 윷 결과를 바탕으로 목적지 계산
+     * 보드 구조에 미리 계산된 목적지 테이블에서 조회합니다.
+     * @param currentPlace 현재 위치 (null이면 시작점)
+     * @param yutResult 윷 결과
+     * @return 이동 후 목적지
+     */
+    public Place calculateDestination(Place currentPlace, Yut.YutResult yutResult) {
+        if (currentPlace == null) {
+            currentPlace = startingPlace;
+        }
+
+        int index = currentPlace.getIndex();
+        if (index >= 0 && index < placesByIndex.length && placesByIndex[index] == currentPlace) {
+            return placesByIndex[topology.getDestinationIndex(index, yutResult)];
+        }
+
+        // 이 보드에 속하지 않은 위치는 연결을 직접 따라가며 계산
+        return walkDestination(currentPlace, yutResult);
+    }
+
+    /**
+     * 위치 번호 기준 목적지 조회
+     * @param placeIndex 현재 위치 번호
+     * @param yutResult 윷 결과
+     * @return 목적지 위치 번호
+     */
+    int getDestinationIndex(int placeIndex, Yut.YutResult yutResult) {
+        return topology.getDestinationIndex(placeIndex, yutResult);
+    }
+
+    /**
+     * 위치 번호로 위치 찾기
+     * @param index 위치 번호
+     * @return 해당 번호의 위치 객체
+     */
+    Place getPlaceByIndex(int index) {
+        return placesByIndex[index];
+    }
+
+    /**
+     * 보드의 위치 개수 반환
+     * @return 위치 개수
+     */
+    int getPlaceCount() {
+        return placesByIndex.length;
+    }
+
+    /**
+     * 중앙점 위치 번호 목록 반환 (내부 배열이므로 수정 금지)
+     * @return 중앙점 위치 번호 배열
+     */
+    int[] getCenterIndices() {
+        return topology.getCenterIndices();
+    }
+
+    /**
+     * 다른 중앙점의 위치 번호 반환
+     * @param placeIndex 위치 번호
+     * @return 다른 중앙점 위치 번호 (중앙점이 아니거나 보드 밖 위치면 -1)
+     */
+    int getPartnerCenterIndex(int placeIndex) {
+        return topology.getPartnerCenterIndex(placeIndex);
+    }
+
+    /**
+     * 보드 타입별 공유 구조 반환
+     * @return 보드 구조
+     */
+    BoardTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * 위치 연결을 한 칸씩 따라가며 목적지 계산
      * 특별 경로가 있으면 1칸은 특별 경로로, 나머지는 기본 경로로 이동
      * @param currentPlace 현재 위치
      * @param yutResult 윷 결과
      * @return 이동 후 목적지
      */
-    public Place calculateDestination(Place currentPlace, Yut.YutResult yutResult) {
+    Place walkDestination(Place currentPlace, Yut.YutResult yutResult) {
         // 이동 칸수 가져오기
         int moveCount = yutResult.getMoveCount();
 
@@ -463,16 +199,7 @@ public class Board {
                     return currentPlace.getPreviousPlace();
                 } else {
                     // previousPlace가 없으면 보드 타입에 따라 마지막 외곽 위치로
-                    switch (boardType) {
-                        case SQUARE:
-                            return getPlaceById("19");
-                        case PENTAGON:
-                            return getPlaceById("24");
-                        case HEXAGON:
-                            return getPlaceById("29");
-                        default:
-                            return currentPlace; // 기본값
-                    }
+                    return getPlaceById(topology.lastOuterPlaceId());
                 }
             }
 
@@ -0,0 +1,644 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보드 타입별 불변 보드 구조 클래스
+ * 위치 ID/이름, 위치 속성(분기점, 중앙점, 시작점, 도착점), 연결과 목적지 테이블을
+ * 보드 타입마다 한 번만 컴파일하여 모든 게임이 읽기 전용으로 공유합니다.
+ * 게임마다 만드는 것은 Board의 위치 손잡이(Place)와 점유 상태(PlaceOccupancy)뿐이며,
+ * 위치 손잡이의 ID, 이름, 속성과 연결 조회도 이 구조의 번호 배열을 따라갑니다.
+ */
+final class BoardTopology {
+    private static final Map<Board.BoardType, BoardTopology> TOPOLOGIES = new EnumMap<>(Board.BoardType.class);
+    private static final Yut.YutResult[] YUT_RESULTS = Yut.YutResult.values();
+
+    static {
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            TOPOLOGIES.put(boardType, new BoardTopology(boardType));
+        }
+    }
+
+    private final Board.BoardType boardType;
+
+    // 위치 번호 기반으로 컴파일된 보드 구조 (없는 연결은 -1, 생성자에서 한 번만 채움)
+    private final String[] ids; // 위치 ID
+    private final String[] names; // 위치 이름
+    private final boolean[] junction; // 분기점 여부
+    private final boolean[] center; // 중앙점 여부
+    private final boolean[] startingPoint; // 시작점 여부
+    private final boolean[] endingPoint; // 도착점 여부
+    private final int[] nextIndex; // 기본 다음 위치 번호
+    private final int[] specialNextIndex; // 특별 다음 위치 번호
+    private final int[] previousIndex; // 이전 위치 번호
+    private final int[] partnerCenterIndex; // 다른 중앙점의 위치 번호 (중앙점이 아니면 -1)
+    private final int[] centerIndices; // 중앙점 위치 번호 목록
+    private final int startIndex; // 시작점(S) 위치 번호
+    private final int endIndex; // 최종 도착점(FE) 위치 번호
+    private final int exitIndex; // 도착점(E) 위치 번호
+    private final int[] destinationTable; // [위치 번호 * 윷 결과 수 + 윷 결과 순서] → 목적지 위치 번호
+    private final Map<String, Integer> indexById; // 위치 ID → 위치 번호
+
+    // 빌드 중에만 사용하는 임시 위치 그래프 (컴파일 후 해제)
+    private List<Place> placeList;
+    private Map<String, Place> placeById;
+    private Map<String, Place> centerPlaces;
+    private Place startingPlace;
+    private Place endingPlace;
+
+    /**
+     * 보드 타입의 공유 구조 반환
+     * @param boardType 보드 타입
+     * @return 보드 구조
+     */
+    static BoardTopology of(Board.BoardType boardType) {
+        return TOPOLOGIES.get(boardType);
+    }
+
+    private BoardTopology(Board.BoardType boardType) {
+        this.boardType = boardType;
+        this.placeList = new ArrayList<>();
+        this.placeById = new HashMap<>();
+        this.centerPlaces = new HashMap<>();
+
+        // 임시 위치 그래프로 보드를 만든 뒤 번호 배열로 컴파일
+        initializeBoard();
+        int placeCount = placeList.size();
+        this.ids = new String[placeCount];
+        this.names = new String[placeCount];
+        this.junction = new boolean[placeCount];
+        this.center = new boolean[placeCount];
+        this.startingPoint = new boolean[placeCount];
+        this.endingPoint = new boolean[placeCount];
+        this.nextIndex = new int[placeCount];
+        this.specialNextIndex = new int[placeCount];
+        this.previousIndex = new int[placeCount];
+        this.partnerCenterIndex = new int[placeCount];
+        this.indexById = new HashMap<>();
+        compile();
+        this.centerIndices = compileCenters();
+        this.startIndex = startingPlace.getIndex();
+        this.endIndex = endingPlace.getIndex();
+        this.exitIndex = indexOf(placeById.get("E"));
+        this.destinationTable = new int[placeCount * YUT_RESULTS.length];
+        buildDestinationTable();
+
+        this.placeList = null;
+        this.placeById = null;
+        this.centerPlaces = null;
+        this.startingPlace = null;
+        this.endingPlace = null;
+    }
+
+    /**
+     * 보드 타입에 따라 보드 초기화
+     */
+    private void initializeBoard() {
+        switch (boardType) {
+            case SQUARE:
+                initializeSquareBoard();
+                break;
+            case PENTAGON:
+                initializePentagonBoard();
+                break;
+            case HEXAGON:
+                initializeHexagonBoard();
+                break;
+        }
+    }
+    /**
+     * 사각형 보드 초기화 메서드
+     * 일반적인 윷놀이판 구조를 생성합니다.
+     */
+    private void initializeSquareBoard() {
+        // 시작/도착 지점 생성
+        Place start = createPlace("S", "시작점", false, false, true, false);
+        Place end = createPlace("E", "종료점", false, false, false, false);
+        Place beyondEnd = createPlace("FE", "최종 도착", false, false, false, true);
+
+        startingPlace = start;
+        endingPlace = beyondEnd; // 최종 도착
+        end.setNextPlace(beyondEnd);
+        beyondEnd.setPreviousPlace(end); // 역방향 참조 설정
+
+        // 외곽 경로 생성 (인덱스 1~19 사용)
+        Place[] outerPath = new Place[20];
+        for (int i = 1; i < 20; i++) {
+            String id = String.valueOf(i);
+            String name = "외곽" + i;
+            outerPath[i] = createPlace(id, name);
+        }
+
+        // 외곽 경로 연결 및 역방향 참조 설정
+        for (int i = 1; i < 19; i++) {
+            outerPath[i].setNextPlace(outerPath[i + 1]);
+            outerPath[i + 1].setPreviousPlace(outerPath[i]); // 역방향 참조 설정
+        }
+        outerPath[19].setNextPlace(end);
+        end.setPreviousPlace(outerPath[19]); // 역방향 참조 설정
+
+        start.setNextPlace(outerPath[1]);
+        outerPath[1].setPreviousPlace(end); // 역방향 참조 설정
+
+        outerPath[5].setJunction(true);
+        outerPath[10].setJunction(true);
+        outerPath[15].setJunction(true);
+
+        Place center1 = createPlace("C_1", "중앙1", true, true, false, false);
+        Place center2 = createPlace("C_2", "중앙2", true, true, false, false);
+        centerPlaces.put(center1.getId(), center1);
+        centerPlaces.put(center2.getId(), center2);
+
+        // 05에서 들어가는 경로 (C1,C2)
+        Place C1 = createPlace("C1", "C1");
+        Place C2 = createPlace("C2", "C2");
+
+        // 10에서 들어가는 경로 (C3,C4)
+        Place C3 = createPlace("C3", "C3");
+        Place C4 = createPlace("C4", "C4");
+
+        // 05에서 나가는 경로 (C5,C6)
+        Place C5 = createPlace("C5", "C5");
+        Place C6 = createPlace("C6", "C6");
+
+        // 중앙에서 나가는 경로 2 (C7, C8)
+        Place C7 = createPlace("C7", "C7");
+        Place C8 = createPlace("C8", "C8");
+
+        // 특별 경로 연결 및 역방향 참조 설정
+        outerPath[5].setSpecialNextPlace(C1);
+        C1.setPreviousPlace(outerPath[5]); // 역방향 참조 설정
+
+        C1.setNextPlace(C2);
+        C2.setPreviousPlace(C1); // 역방향 참조 설정
+
+        C2.setNextPlace(center1);
+        center1.setPreviousPlace(C2); // 역방향 참조 설정
+
+        center1.setNextPlace(C5);
+        C5.setPreviousPlace(center1); // 역방향 참조 설정
+
+        C5.setNextPlace(C6);
+        C6.setPreviousPlace(C5); // 역방향 참조 설정
+
+        C6.setNextPlace(outerPath[15]);
+        outerPath[15].setPreviousPlace(C6); // 특별 경로에서 나갈 때의 역방향 참조 설정
+
+        outerPath[10].setSpecialNextPlace(C3);
+        C3.setPreviousPlace(outerPath[10]); // 역방향 참조 설정
+
+        C3.setNextPlace(C4);
+        C4.setPreviousPlace(C3); // 역방향 참조 설정
+
+        C4.setNextPlace(center2);
+        center2.setPreviousPlace(C4); // 역방향 참조 설정
+
+        center2.setNextPlace(C7);
+        C7.setPreviousPlace(center2); // 역방향 참조 설정
+
+        C7.setNextPlace(C8);
+        C8.setPreviousPlace(C7); // 역방향 참조 설정
+
+        C8.setNextPlace(end);
+        // end는 이미 역방향 참조가 설정되어 있음
+
+        center1.setSpecialNextPlace(C7);
+        C7.setPreviousPlace(center1); // 특별 경로의 역방향 참조 설정
+    }
+    /**
+     * 오각형 보드 초기화 메서드
+     * 오각형 구조의 윷놀이판을 생성합니다.
+     */
+    private void initializePentagonBoard() {
+        // 시작/도착 지점 생성
+        Place start = createPlace("S", "시작점", false, false, true, false);
+        Place end = createPlace("E", "종료점", false, false, false, false);
+        Place beyondEnd = createPlace("FE", "최종 도착", false, false, false, true);
+
+        startingPlace = start;
+        endingPlace = beyondEnd; // 최종 도착
+        end.setNextPlace(beyondEnd);
+        beyondEnd.setPreviousPlace(end); // 역방향 참조 설정
+
+        // 외곽 경로 생성 (인덱스 1~24 사용)
+        Place[] outerPath = new Place[25];
+        for (int i = 1; i < 25; i++) {
+            String id = String.valueOf(i);
+            String name = "외곽" + i;
+            outerPath[i] = createPlace(id, name);
+        }
+
+        // 외곽 경로 연결 및 역방향 참조 설정
+        for (int i = 1; i < 24; i++) {
+            outerPath[i].setNextPlace(outerPath[i + 1]);
+            outerPath[i + 1].setPreviousPlace(outerPath[i]); // 역방향 참조 설정
+        }
+        outerPath[24].setNextPlace(end);
+        end.setPreviousPlace(outerPath[24]); // 역방향 참조 설정
+
+        start.setNextPlace(outerPath[1]);
+        outerPath[1].setPreviousPlace(end); // 역방향 참조 설정
+
+        // 중앙 지점 생성
+        Place center1 = createPlace("C_1", "중앙1", true, true, false, false);
+        Place center2 = createPlace("C_2", "중앙2", true, true, false, false);
+        centerPlaces.put(center1.getId(), center1);
+        centerPlaces.put(center2.getId(), center2);
+
+        Place C1 = createPlace("C1", "C1");
+        Place C2 = createPlace("C2", "C2");
+        Place C3 = createPlace("C3", "C3");
+        Place C4 = createPlace("C4", "C4");
+        Place C5 = createPlace("C5", "C5");
+        Place C6 = createPlace("C6", "C6");
+        Place C7 = createPlace("C7", "C7");
+        Place C8 = createPlace("C8", "C8");
+        Place C9 = createPlace("C9", "C9");
+        Place C10 = createPlace("C10", "C10");
+
+        outerPath[5].setJunction(true);
+        outerPath[10].setJunction(true);
+        outerPath[15].setJunction(true);
+        outerPath[20].setJunction(true);
+
+        // 특별 경로 연결 및 역방향 참조 설정
+        outerPath[5].setSpecialNextPlace(C1);
+        C1.setPreviousPlace(outerPath[5]); // 역방향 참조 설정
+
+        outerPath[10].setSpecialNextPlace(C3);
+        C3.setPreviousPlace(outerPath[10]); // 역방향 참조 설정
+
+        outerPath[15].setSpecialNextPlace(C5);
+        C5.setPreviousPlace(outerPath[15]); // 역방향 참조 설정
+
+        C1.setNextPlace(C2);
+        C2.setPreviousPlace(C1); // 역방향 참조 설정
+
+        C2.setNextPlace(center1);
+        center1.setPreviousPlace(C2); // 역방향 참조 설정
+
+        center1.setNextPlace(C7);
+        C7.setPreviousPlace(center1); // 역방향 참조 설정
+
+        C7.setNextPlace(C8);
+        C8.setPreviousPlace(C7); // 역방향 참조 설정
+
+        C8.setNextPlace(outerPath[20]);
+        outerPath[20].setPreviousPlace(C8); // 역방향 참조 설정
+
+        C3.setNextPlace(C4);
+        C4.setPreviousPlace(C3); // 역방향 참조 설정
+
+        C4.setNextPlace(center1);
+        // center1은 이미 역방향 참조가 설정됨
+
+        center1.setSpecialNextPlace(C9);
+        C9.setPreviousPlace(center1); // 역방향 참조 설정
+
+        C9.setNextPlace(C10);
+        C10.setPreviousPlace(C9); // 역방향 참조 설정
+
+        C10.setNextPlace(end);
+        // end는 이미 역방향 참조가 설정됨
+
+        C5.setNextPlace(C6);
+        C6.setPreviousPlace(C5); // 역방향 참조 설정
+
+        C6.setNextPlace(center2);
+        center2.setPreviousPlace(C6); // 역방향 참조 설정
+
+        center2.setNextPlace(C9);
+        // C9은 이미 역방향 참조가 설정됨
+    }
+    /**
+     * 육각형 보드 초기화 메서드
+     * 육각형 구조의 윷놀이판을 생성합니다.
+     */
+    private void initializeHexagonBoard() {
+        Place start = createPlace("S", "시작점", false, false, true, false);
+        Place end = createPlace("E", "종료점", false, false, false, false);
+        Place beyondEnd = createPlace("FE", "최종 도착", false, false, false, true);
+
+        startingPlace = start;
+        endingPlace = beyondEnd; // 최종 도착
+        end.setNextPlace(beyondEnd);
+        beyondEnd.setPreviousPlace(end); // 역방향 참조 설정
+
+        Place center1 = createPlace("C_1", "중앙1", true, true, false, false);
+        Place center2 = createPlace("C_2", "중앙2", true, true, false, false);
+        centerPlaces.put(center1.getId(), center1);
+        centerPlaces.put(center2.getId(), center2);
+
+        // 외곽 경로 생성 (인덱스 1~29 사용)
+        Place[] outerPath = new Place[30];
+        for (int i = 1; i < 30; i++) {
+            String id = String.valueOf(i);
+            String name = "외곽" + i;
+            outerPath[i] = createPlace(id, name);
+        }
+
+        // 외곽 경로 연결 및 역방향 참조 설정
+        for (int i = 1; i < 29; i++) {
+            outerPath[i].setNextPlace(outerPath[i + 1]);
+            outerPath[i + 1].setPreviousPlace(outerPath[i]); // 역방향 참조 설정
+        }
+        outerPath[29].setNextPlace(end);
+        end.setPreviousPlace(outerPath[29]); // 역방향 참조 설정
+
+        start.setNextPlace(outerPath[1]);
+        outerPath[1].setPreviousPlace(end); // 역방향 참조 설정
+
+        Place C1 = createPlace("C1", "C1");
+        Place C2 = createPlace("C2", "C2");
+        Place C3 = createPlace("C3", "C3");
+        Place C4 = createPlace("C4", "C4");
+        Place C5 = createPlace("C5", "C5");
+        Place C6 = createPlace("C6", "C6");
+        Place C7 = createPlace("C7", "C7");
+        Place C8 = createPlace("C8", "C8");
+        Place C9 = createPlace("C9", "C9");
+        Place C10 = createPlace("C10", "C10");
+        Place C11 = createPlace("C11", "C11");
+        Place C12 = createPlace("C12", "C12");
+
+        outerPath[5].setJunction(true);
+        outerPath[10].setJunction(true);
+        outerPath[15].setJunction(true);
+        outerPath[20].setJunction(true);
+        outerPath[25].setJunction(true);
+
+        // 특별 경로 연결 및 역방향 참조 설정
+        outerPath[5].setSpecialNextPlace(C1);
+        C1.setPreviousPlace(outerPath[5]); // 역방향 참조 설정
+
+        outerPath[10].setSpecialNextPlace(C3);
+        C3.setPreviousPlace(outerPath[10]); // 역방향 참조 설정
+
+        outerPath[15].setSpecialNextPlace(C5);
+        C5.setPreviousPlace(outerPath[15]); // 역방향 참조 설정
+
+        outerPath[20].setSpecialNextPlace(C7);
+        C7.setPreviousPlace(outerPath[20]); // 역방향 참조 설정
+
+        C1.setNextPlace(C2);
+        C2.setPreviousPlace(C1); // 역방향 참조 설정
+
+        C2.setNextPlace(center1);
+        center1.setPreviousPlace(C2); // 역방향 참조 설정
+
+        center1.setNextPlace(C9);
+        C9.setPreviousPlace(center1); // 역방향 참조 설정
+
+        C9.setNextPlace(C10);
+        C10.setPreviousPlace(C9); // 역방향 참조 설정
+
+        C10.setNextPlace(outerPath[25]);
+        outerPath[25].setPreviousPlace(C10); // 역방향 참조 설정
+
+        C3.setNextPlace(C4);
+        C4.setPreviousPlace(C3); // 역방향 참조 설정
+
+        C4.setNextPlace(center1);
+        // center1은 이미 역방향 참조가 설정됨
+
+        C5.setNextPlace(C6);
+        C6.setPreviousPlace(C5); // 역방향 참조 설정
+
+        C6.setNextPlace(center1);
+        // center1은 이미 역방향 참조가 설정됨
+
+        C7.setNextPlace(C8);
+        C8.setPreviousPlace(C7); // 역방향 참조 설정
+
+        C8.setNextPlace(center2);
+        center2.setPreviousPlace(C8); // 역방향 참조 설정
+
+        center1.setSpecialNextPlace(C11);
+        C11.setPreviousPlace(center1); // 역방향 참조 설정
+
+        C11.setNextPlace(C12);
+        C12.setPreviousPlace(C11); // 역방향 참조 설정
+
+        C12.setNextPlace(end);
+        // end는 이미 역방향 참조가 설정됨
+
+        center2.setNextPlace(C11);
+        // C11은 이미 역방향 참조가 설정됨
+    }
+    /**
+     * 빌드용 위치 생성 및 맵에 추가하는 유틸리티 메서드
+     */
+    private Place createPlace(String id, String name, boolean isJunction, boolean isCenter,
+                              boolean isStartingPoint, boolean isEndingPoint) {
+        Place place = new Place(id, name, isJunction, isCenter, isStartingPoint, isEndingPoint);
+        place.setIndex(placeList.size());
+        placeById.put(id, place);
+        placeList.add(place);
+        return place;
+    }
+
+    /**
+     * 간소화된 위치 생성 유틸리티 메서드
+     */
+    private Place createPlace(String id, String name) {
+        return createPlace(id, name, false, false, false, false);
+    }
+
+    /**
+     * 임시 위치 그래프를 위치 번호 배열에 채움 (배열은 생성자에서 위치 개수만큼 만듦)
+     */
+    private void compile() {
+        for (Place place : placeList) {
+            int index = place.getIndex();
+            ids[index] = place.getId();
+            names[index] = place.getName();
+            junction[index] = place.isJunction();
+            center[index] = place.isCenter();
+            startingPoint[index] = place.isStartingPoint();
+            endingPoint[index] = place.isEndingPoint();
+            nextIndex[index] = indexOf(place.getNextPlace());
+            specialNextIndex[index] = indexOf(place.getSpecialNextPlace());
+            previousIndex[index] = indexOf(place.getPreviousPlace());
+            partnerCenterIndex[index] = -1;
+            indexById.put(place.getId(), index);
+        }
+    }
+
+    /**
+     * 중앙점 위치 번호 목록을 만들고 두 중앙점을 서로 짝지음
+     * @return 위치 번호 순서의 중앙점 위치 번호 목록
+     */
+    private int[] compileCenters() {
+        List<Place> centers = new ArrayList<>(centerPlaces.values());
+        centers.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        int[] indices = new int[centers.size()];
+        for (int i = 0; i < centers.size(); i++) {
+            indices[i] = centers.get(i).getIndex();
+        }
+        // 중앙점은 C_1, C_2 두 개이며 서로를 같은 위치로 취급
+        if (indices.length == 2) {
+            partnerCenterIndex[indices[0]] = indices[1];
+            partnerCenterIndex[indices[1]] = indices[0];
+        }
+        return indices;
+    }
+
+    private static int indexOf(Place place) {
+        return place == null ? -1 : place.getIndex();
+    }
+
+    /**
+     * 모든 위치와 윷 결과 조합의 목적지 테이블 생성
+     */
+    private void buildDestinationTable() {
+        for (int index = 0; index < ids.length; index++) {
+            for (Yut.YutResult result : YUT_RESULTS) {
+                destinationTable[index * YUT_RESULTS.length + result.ordinal()] =
+                        computeDestinationIndex(index, result);
+            }
+        }
+    }
+
+    /**
+     * 위치 번호 배열을 따라가며 목적지 위치 번호 계산 (Board.walkDestination과 같은 규칙)
+     * @param index 현재 위치 번호
+     * @param yutResult 윷 결과
+     * @return 목적지 위치 번호
+     */
+    private int computeDestinationIndex(int index, Yut.YutResult yutResult) {
+        int moveCount = yutResult.getMoveCount();
+
+        if (moveCount < 0) {
+            // 시작점이나 최종 도착점(FE)에서는 빽도가 적용되지 않음
+            if (startingPoint[index] || endingPoint[index]) {
+                return index;
+            }
+            if (previousIndex[index] >= 0) {
+                return previousIndex[index];
+            }
+            // 이전 위치가 없는 도착점(E)은 보드 타입에 따른 마지막 외곽 위치로
+            if (index == exitIndex) {
+                return indexOf(lastOuterPlaceId());
+            }
+            return index;
+        }
+
+        int current = index;
+        if (junction[current] && specialNextIndex[current] >= 0) {
+            current = specialNextIndex[current];
+            moveCount--;
+        }
+        for (int i = 0; i < moveCount && nextIndex[current] >= 0; i++) {
+            current = nextIndex[current];
+        }
+        return current;
+    }
+
+    /**
+     * 보드 타입별 마지막 외곽 위치 ID
+     */
+    String lastOuterPlaceId() {
+        switch (boardType) {
+            case PENTAGON:
+                return "24";
+            case HEXAGON:
+                return "29";
+            default:
+                return "19";
+        }
+    }
+
+    /**
+     * 위치 ID로 위치 번호 찾기
+     * @param id 위치 ID
+     * @return 위치 번호 (없으면 -1)
+     */
+    int indexOf(String id) {
+        Integer index = indexById.get(id);
+        return index == null ? -1 : index;
+    }
+
+    Board.BoardType getBoardType() {
+        return boardType;
+    }
+
+    int getPlaceCount() {
+        return ids.length;
+    }
+
+    int getStartIndex() {
+        return startIndex;
+    }
+
+    int getEndIndex() {
+        return endIndex;
+    }
+
+    int getExitIndex() {
+        return exitIndex;
+    }
+
+    /**
+     * 중앙점 위치 번호 목록 반환 (내부 배열이므로 수정 금지)
+     */
+    int[] getCenterIndices() {
+        return centerIndices;
+    }
+
+    int getPartnerCenterIndex(int index) {
+        if (index < 0 || index >= partnerCenterIndex.length) {
+            return -1;
+        }
+        return partnerCenterIndex[index];
+    }
+
+    int getNextIndex(int index) {
+        return nextIndex[index];
+    }
+
+    int getSpecialNextIndex(int index) {
+        return specialNextIndex[index];
+    }
+
+    int getPreviousIndex(int index) {
+        return previousIndex[index];
+    }
+
+    boolean isJunction(int index) {
+        return junction[index];
+    }
+
+    boolean isCenter(int index) {
+        return center[index];
+    }
+
+    boolean isStartingPoint(int index) {
+        return startingPoint[index];
+    }
+
+    boolean isEndingPoint(int index) {
+        return endingPoint[index];
+    }
+
+    String getId(int index) {
+        return ids[index];
+    }
+
+    String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * 위치 번호 기준 목적지 조회
+     * @param index 현재 위치 번호
+     * @param yutResult 윷 결과
+     * @return 목적지 위치 번호
+     */
+    int getDestinationIndex(int index, Yut.YutResult yutResult) {
+        return destinationTable[index * YUT_RESULTS.length + yutResult.ordinal()];
+    }
+}
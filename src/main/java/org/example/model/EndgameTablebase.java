@@ -0,0 +1,215 @@
+package org.example.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 2인 게임 종반 승리 확률표 (EndgameTablebaseGenerator가 만든 파일을 메모리에 매핑하여 조회)
+ * 두 플레이어 모두 완주하지 않은 말이 piecesPerPlayer개 이하인 국면에서, 턴을 시작하는 플레이어가
+ * 양쪽 모두 최선으로 둘 때 이길 확률을 저장합니다. 완주한 말은 더 움직이지 않으므로 전체 말 개수와 관계없이 조회할 수 있습니다.
+ * 값은 힙에 올리지 않고 매핑한 파일에서 바로 읽으므로 조회는 위치 코드 정렬과 배열 읽기 한 번입니다.
+ * <pre>
+ * 헤더 (HEADER_SIZE 바이트, 빅엔디언)
+ *   'Y' 'T' 'B' 'L', 버전, 보드 타입 순서, 플레이어당 말 개수, 위치 코드 개수 (각 int)
+ *   값 반복 횟수 (int), 마지막 반복의 최대 변화량 (double), 윷 결과 순서별 확률 (double 6개)
+ * 값 (double, 순위 M = 위치 코드 piecesPerPlayer개의 중복 조합 개수)
+ *   번호 = 턴을 시작하는 플레이어의 말 위치 순위 * M + 상대의 말 위치 순위
+ *   말 위치 순위는 PackedGameState와 같은 방법으로 구하며, 완주한 말은 도착점 코드로 채움
+ *   있을 수 없는 국면(두 플레이어의 말이 한 위치에 있음)과 이미 끝난 국면은 NaN
+ * </pre>
+ */
+public class EndgameTablebase implements Closeable {
+    static final int MAGIC = 'Y' << 24 | 'T' << 16 | 'B' << 8 | 'L';
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 6 * Integer.BYTES + Double.BYTES + 6 * Double.BYTES;
+
+    private static final Board.BoardType[] BOARD_TYPES = Board.BoardType.values();
+    private static final Yut.YutResult[] RESULTS = Yut.YutResult.values();
+
+    private final ByteBuffer buffer;
+    private FileChannel channel;
+    private final Board.BoardType boardType;
+    private final int piecesPerPlayer;
+    private final int codeCount;
+    private final long rankCount;
+    private final int iterations;
+    private final double residual;
+    private final double[] probabilities = new double[RESULTS.length];
+    private final int[] codes; // 조회용 위치 코드 버퍼
+
+    private EndgameTablebase(ByteBuffer buffer, FileChannel channel) {
+        this.buffer = buffer;
+        this.channel = channel;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("종반 승리 확률표 파일 형식이 아닙니다.");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalStateException("지원하지 않는 종반 승리 확률표 버전입니다: " + version);
+        }
+        this.boardType = BOARD_TYPES[buffer.getInt(8)];
+        this.piecesPerPlayer = buffer.getInt(12);
+        this.codeCount = buffer.getInt(16);
+        this.iterations = buffer.getInt(20);
+        this.residual = buffer.getDouble(24);
+        for (int i = 0; i < probabilities.length; i++) {
+            probabilities[i] = buffer.getDouble(32 + i * Double.BYTES);
+        }
+        this.rankCount = PackedGameState.multisetCount(codeCount, piecesPerPlayer);
+        if (buffer.capacity() != HEADER_SIZE + rankCount * rankCount * Double.BYTES) {
+            throw new IllegalStateException("종반 승리 확률표 파일이 잘렸습니다.");
+        }
+        this.codes = new int[Math.max(piecesPerPlayer, GameSettings.getMaxPiecePerPlayer())];
+    }
+
+    /**
+     * 확률표 파일을 읽기 전용으로 메모리에 매핑하여 생성
+     * @param file 확률표 파일 (2GB 이하)
+     * @return 확률표
+     */
+    public static EndgameTablebase open(Path file) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("2GB를 넘는 확률표 파일은 매핑할 수 없습니다: " + file);
+            }
+            return new EndgameTablebase(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), channel);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new IllegalStateException("확률표 파일을 열 수 없습니다: " + file, e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * 게임의 현재 국면을 조회할 수 있는지 확인
+     * 2인 게임, 같은 보드와 윷 확률 모형, 양쪽 모두 완주하지 않은 말이 piecesPerPlayer개 이하,
+     * 턴을 시작하는 시점(남은 윷 결과와 추가 턴 없음)이어야 합니다.
+     * @param game 게임
+     * @return 조회할 수 있으면 true
+     */
+    public boolean covers(Game game) {
+        if (game.getBoard() == null || game.isGameFinished() || game.getPlayers().size() != 2
+                || game.getBoard().getBoardType() != boardType || game.getBoard().getPlaceCount() != codeCount
+                || game.hasPendingYutResults() || game.hasExtraTurn()) {
+            return false;
+        }
+        YutProbabilityModel model = game.getGameSettings().getYutProbabilityModel();
+        for (Yut.YutResult result : RESULTS) {
+            if (model.getProbability(result) != probabilities[result.ordinal()]) {
+                return false;
+            }
+        }
+        for (Player player : game.getPlayers()) {
+            if (player.getPieceCount() - player.getCompletedPieceCount() > piecesPerPlayer) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 턴을 시작하는 현재 플레이어가 이길 확률 조회
+     * @param game 게임 (covers가 true인 국면)
+     * @return 승리 확률 (0 ~ 1)
+     */
+    public double getWinProbability(Game game) {
+        if (!covers(game)) {
+            throw new IllegalArgumentException("확률표에 없는 국면입니다.");
+        }
+        List<Player> players = game.getPlayers();
+        int mover = game.getCurrentTurnIndex();
+        Board board = game.getBoard();
+        long index = rank(players.get(mover), board) * rankCount + rank(players.get(1 - mover), board);
+        return buffer.getDouble((int) (HEADER_SIZE + index * Double.BYTES));
+    }
+
+    /**
+     * 플레이어의 말 위치 순위 (완주하지 않은 말의 위치 코드 + 모자란 개수만큼 도착점 코드)
+     */
+    private long rank(Player player, Board board) {
+        return rank(player, board, piecesPerPlayer, codes);
+    }
+
+    /**
+     * 플레이어의 말 위치 순위 계산 (생성기와 공용)
+     * @param player 플레이어 (완주하지 않은 말이 count개 이하)
+     * @param board 보드
+     * @param count 순위를 구할 말 개수
+     * @param codes 위치 코드 버퍼 (플레이어의 말 개수 이상)
+     * @return 순위
+     */
+    static long rank(Player player, Board board, int count, int[] codes) {
+        int startCode = board.getStartingPlace().getIndex();
+        int endCode = board.getEndingPlace().getIndex();
+        int filled = 0;
+        for (int i = 0; i < player.getPieceCount(); i++) {
+            int code = PackedGameState.codeOf(player.getPiece(i), startCode, endCode);
+            if (code != endCode) {
+                codes[filled++] = code;
+            }
+        }
+        while (filled < count) {
+            codes[filled++] = endCode;
+        }
+        return PackedGameState.rankMultiset(codes, count);
+    }
+
+    public Board.BoardType getBoardType() {
+        return boardType;
+    }
+
+    public int getPiecesPerPlayer() {
+        return piecesPerPlayer;
+    }
+
+    /**
+     * 생성할 때 값 반복 횟수
+     * @return 반복 횟수
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * 생성할 때 마지막 반복에서 값이 가장 크게 바뀐 양 (수렴 정도)
+     * @return 최대 변화량
+     */
+    public double getResidual() {
+        return residual;
+    }
+
+    /**
+     * 생성에 쓴 윷 결과 확률
+     * @param result 윷 결과
+     * @return 확률
+     */
+    public double getProbability(Yut.YutResult result) {
+        return probabilities[result.ordinal()];
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(channel);
+        channel = null;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 읽기 전용 채널이므로 닫기 실패는 무시
+        }
+    }
+}
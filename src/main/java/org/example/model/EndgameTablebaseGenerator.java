@@ -0,0 +1,382 @@
+package org.example.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 2인 게임 종반 승리 확률표 생성기 (오프라인용, 형식은 EndgameTablebase 참고)
+ * 턴을 시작하는 국면마다 값 V = 턴을 시작하는 플레이어가 이길 확률로 두고, 모든 국면을 차례로 다시 계산하는
+ * 값 반복(Gauss-Seidel)으로 풉니다. 잡기와 빽도 때문에 국면 사이에 순환이 있어 한 번에 풀리지 않습니다.
+ * 한 국면의 값은 그 턴 안을 Game의 applyThrow/applyMove/undo로 끝까지 탐색하여 구합니다.
+ * - 던지기: 윷 확률 모형의 확률로 평균
+ * - 이동: 턴을 진행하는 플레이어가 이길 확률이 가장 큰 이동 (남은 결과로 움직일 말이 없으면 결과를 버림)
+ * - 턴이 넘어가면 1 - V(상대 차례 국면), 게임이 끝나면 승패
+ * 턴 안에서 같은 국면은 Zobrist 해시로 한 번만 계산합니다.
+ * 윷/모가 계속 나와 남은 결과가 MAX_PENDING_RESULTS개가 되면 다음 던지기에서는 윷/모를 빼고 확률을 다시 나누므로,
+ * 값은 그런 연속 던지기(표준 확률에서 0.125^5 미만)를 뺀 범위에서 정확합니다.
+ * 한 턴에 여러 결과를 나누어 쓰는 경우가 많아 턴 안 탐색이 커지므로, 말 1개씩(사각형 보드 국면 약 930개)은
+ * 수십 초면 풀리지만 말 2개씩(약 25만 개)은 반복 한 번에 몇 시간이 걸립니다.
+ */
+public final class EndgameTablebaseGenerator {
+    public static final int MAX_PENDING_RESULTS = 5;
+    public static final double DEFAULT_TOLERANCE = 1e-12;
+    public static final int DEFAULT_MAX_ITERATIONS = 10_000;
+
+    private static final long CHANCE_NODE_KEY = 0xD1B54A32D192ED03L;
+
+    private final Board.BoardType boardType;
+    private final int piecesPerPlayer;
+    private final YutProbabilityModel model;
+    private final Game game;
+    private final int gamePieces; // 탐색용 게임의 말 개수 (설정 최솟값보다 적으면 나머지는 완주 상태)
+    private final int codeCount;
+    private final int startCode;
+    private final int endCode;
+    private final long rankCount;
+    private final double[] values;
+    private final int[] validIndices;
+
+    private final Yut.YutResult[] outcomes; // 확률이 0보다 큰 윷 결과
+    private final double[] outcomeProbabilities;
+    private final double[] cappedProbabilities; // 남은 결과가 가득 찼을 때 (윷/모 제외 후 다시 나눔)
+    private final TranspositionTable memo = new TranspositionTable(1 << 12, TranspositionTable.ReplacementPolicy.ALWAYS);
+    private final List<MoveList> moveLists = new ArrayList<>();
+    private final int[] moverCodes;
+    private final int[] opponentCodes;
+    private final int[] rankCodes;
+
+    private int iterations;
+    private double residual = Double.POSITIVE_INFINITY;
+
+    /**
+     * 생성기 준비 (값은 solve로 계산)
+     * @param boardType 보드 형태
+     * @param piecesPerPlayer 플레이어마다 완주하지 않은 말의 최대 개수
+     * @param model 윷 확률 모형
+     */
+    public EndgameTablebaseGenerator(Board.BoardType boardType, int piecesPerPlayer, YutProbabilityModel model) {
+        if (boardType == null || model == null) {
+            throw new NullPointerException("보드 형태와 윷 확률 모형은 null일 수 없습니다.");
+        }
+        if (piecesPerPlayer < 1 || piecesPerPlayer > GameSettings.getMaxPiecePerPlayer()) {
+            throw new IllegalArgumentException("말 개수는 1개에서 " + GameSettings.getMaxPiecePerPlayer() + "개 사이여야 합니다: "
+                    + piecesPerPlayer);
+        }
+        this.boardType = boardType;
+        this.piecesPerPlayer = piecesPerPlayer;
+        this.model = model;
+        this.gamePieces = Math.max(piecesPerPlayer, GameSettings.getMinPiecePerPlayer());
+
+        GameSettings settings = new GameSettings(2, gamePieces, boardType);
+        settings.setYutProbabilityModel(model);
+        this.game = new Game();
+        this.game.getEventLog().setRecording(false);
+        this.game.initialize(settings);
+
+        Board board = game.getBoard();
+        this.codeCount = board.getPlaceCount();
+        this.startCode = board.getStartingPlace().getIndex();
+        this.endCode = board.getEndingPlace().getIndex();
+        this.rankCount = PackedGameState.multisetCount(codeCount, piecesPerPlayer);
+        long size = rankCount * rankCount;
+        if (EndgameTablebase.HEADER_SIZE + size * Double.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("확률표가 2GB를 넘습니다. 말 개수를 줄이세요: " + piecesPerPlayer);
+        }
+
+        int outcomeCount = 0;
+        for (Yut.YutResult result : Yut.YutResult.values()) {
+            if (model.getProbability(result) > 0) {
+                outcomeCount++;
+            }
+        }
+        this.outcomes = new Yut.YutResult[outcomeCount];
+        this.outcomeProbabilities = new double[outcomeCount];
+        this.cappedProbabilities = new double[outcomeCount];
+        double finalMass = 0;
+        int k = 0;
+        for (Yut.YutResult result : Yut.YutResult.values()) {
+            double p = model.getProbability(result);
+            if (p > 0) {
+                outcomes[k] = result;
+                outcomeProbabilities[k++] = p;
+                if (!result.grantsExtraThrow()) {
+                    finalMass += p;
+                }
+            }
+        }
+        for (int i = 0; i < outcomeCount; i++) {
+            cappedProbabilities[i] = outcomes[i].grantsExtraThrow() ? 0 : outcomeProbabilities[i] / finalMass;
+        }
+
+        this.moverCodes = new int[gamePieces];
+        this.opponentCodes = new int[gamePieces];
+        this.rankCodes = new int[gamePieces];
+        this.values = new double[(int) size];
+        Arrays.fill(values, Double.NaN);
+        int[] valid = new int[(int) size];
+        int validCount = 0;
+        for (int index = 0; index < size; index++) {
+            if (isValid(index)) {
+                values[index] = 0.5;
+                valid[validCount++] = index;
+            }
+        }
+        this.validIndices = Arrays.copyOf(valid, validCount);
+    }
+
+    /**
+     * 명령줄 실행: 확률표 파일 생성 (표준 윷 확률)
+     * 인자: 출력 파일 [말 개수 (기본 1)] [보드 형태 (기본 SQUARE)]
+     * @param args 명령줄 인자
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("사용법: EndgameTablebaseGenerator <출력 파일> [말 개수] [SQUARE|PENTAGON|HEXAGON]");
+            System.exit(1);
+        }
+        int pieces = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        Board.BoardType boardType = args.length > 2 ? Board.BoardType.valueOf(args[2]) : Board.BoardType.SQUARE;
+
+        long start = System.nanoTime();
+        EndgameTablebaseGenerator generator = new EndgameTablebaseGenerator(boardType, pieces, YutProbabilityModel.standard());
+        generator.solve(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+        generator.write(Paths.get(args[0]));
+        System.out.printf("국면 %d개, 반복 %d회, 최대 변화량 %.3e, %.1f초%n", generator.getStateCount(),
+                generator.getIterations(), generator.getResidual(), (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * 모든 국면의 값이 바뀌지 않을 때까지 반복 계산
+     * @param tolerance 한 번의 반복에서 가장 크게 바뀐 양이 이보다 작으면 멈춤
+     * @param maxIterations 최대 반복 횟수
+     */
+    public void solve(double tolerance, int maxIterations) {
+        while (iterations < maxIterations) {
+            double change = 0;
+            for (int index : validIndices) {
+                double value = evaluate(index);
+                change = Math.max(change, Math.abs(value - values[index]));
+                values[index] = value;
+            }
+            iterations++;
+            residual = change;
+            if (change < tolerance) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 확률표 파일로 저장
+     * @param file 출력 파일 (있으면 덮어씀)
+     */
+    public void write(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(EndgameTablebase.HEADER_SIZE);
+            header.putInt(EndgameTablebase.MAGIC)
+                    .putInt(EndgameTablebase.VERSION)
+                    .putInt(boardType.ordinal())
+                    .putInt(piecesPerPlayer)
+                    .putInt(codeCount)
+                    .putInt(iterations)
+                    .putDouble(residual);
+            for (Yut.YutResult result : Yut.YutResult.values()) {
+                header.putDouble(model.getProbability(result));
+            }
+            header.flip();
+            writeFully(channel, header);
+
+            ByteBuffer chunk = ByteBuffer.allocate(8192 * Double.BYTES);
+            for (int i = 0; i < values.length; i++) {
+                chunk.putDouble(values[i]);
+                if (!chunk.hasRemaining() || i == values.length - 1) {
+                    chunk.flip();
+                    writeFully(channel, chunk);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("확률표 파일을 저장할 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 조회할 수 있는 국면 수
+     * @return 국면 수
+     */
+    public int getStateCount() {
+        return validIndices.length;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * 마지막 반복에서 값이 가장 크게 바뀐 양
+     * @return 최대 변화량 (반복 전이면 무한대)
+     */
+    public double getResidual() {
+        return residual;
+    }
+
+    /**
+     * 현재 값 표의 값 (검증용)
+     * @param index EndgameTablebase와 같은 번호
+     * @return 값 (없는 국면이면 NaN)
+     */
+    double getValue(long index) {
+        return values[(int) index];
+    }
+
+    /**
+     * 현재 값 표로 국면 하나의 턴을 끝까지 탐색한 값 (값 표는 바꾸지 않음)
+     * @param index EndgameTablebase와 같은 번호
+     * @return 턴을 시작하는 플레이어가 이길 확률
+     */
+    double evaluate(long index) {
+        unrank(index);
+        int[] ranks = rankCodes;
+        long moverRank = packedRank(moverCodes, ranks);
+        long opponentRank = packedRank(opponentCodes, ranks);
+        PackedGameState.ofPlayerRanks(moverRank, opponentRank).decodeInto(game);
+        memo.clear();
+        return turnValue(0);
+    }
+
+    /**
+     * 턴 안의 국면 값 (0번 플레이어가 이길 확률)
+     */
+    private double turnValue(int depth) {
+        if (game.isGameFinished()) {
+            return game.getWinner() == game.getPlayers().get(0) ? 1 : 0;
+        }
+        if (game.getCurrentTurnIndex() != 0) {
+            // 턴이 넘어감: 상대가 턴을 시작하는 국면
+            Board board = game.getBoard();
+            List<Player> players = game.getPlayers();
+            long index = EndgameTablebase.rank(players.get(1), board, piecesPerPlayer, rankCodes) * rankCount
+                    + EndgameTablebase.rank(players.get(0), board, piecesPerPlayer, rankCodes);
+            return 1 - values[(int) index];
+        }
+
+        boolean chance = game.isAwaitingThrow();
+        long key = game.getZobristHash() ^ (chance ? CHANCE_NODE_KEY : 0);
+        int slot = memo.probe(key);
+        if (slot >= 0) {
+            return memo.getValue(slot);
+        }
+
+        double value = 0;
+        if (chance) {
+            double[] probabilities = game.pendingYutResultsView().size() >= MAX_PENDING_RESULTS
+                    ? cappedProbabilities : outcomeProbabilities;
+            for (int i = 0; i < outcomes.length; i++) {
+                if (probabilities[i] == 0) {
+                    continue;
+                }
+                game.applyThrow(outcomes[i]);
+                try {
+                    value += probabilities[i] * turnValue(depth + 1);
+                } finally {
+                    game.undo();
+                }
+            }
+        } else {
+            MoveList moves = moveList(depth);
+            int count = game.generateLegalMoves(moves);
+            if (count == 0) {
+                game.applyForfeit();
+                try {
+                    value = turnValue(depth + 1);
+                } finally {
+                    game.undo();
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                if (moves.repeatsEarlierMove(i)) {
+                    continue;
+                }
+                game.applyMove(moves.getPiece(i), moves.getResult(i));
+                try {
+                    value = Math.max(value, turnValue(depth + 1));
+                } finally {
+                    game.undo();
+                }
+            }
+        }
+        memo.store(key, value, 0, -1, TranspositionTable.Bound.EXACT);
+        return value;
+    }
+
+    /**
+     * 번호를 두 플레이어의 위치 코드로 풀어 moverCodes, opponentCodes에 채움 (piecesPerPlayer개, 오름차순)
+     */
+    private void unrank(long index) {
+        PackedGameState.unrankMultiset(index / rankCount, moverCodes, piecesPerPlayer);
+        PackedGameState.unrankMultiset(index % rankCount, opponentCodes, piecesPerPlayer);
+    }
+
+    /**
+     * 있을 수 있고 아직 끝나지 않은 국면인지 확인
+     */
+    private boolean isValid(long index) {
+        unrank(index);
+        int[] centers = game.getBoard().getCenterIndices();
+        boolean moverDone = true;
+        boolean opponentDone = true;
+        for (int i = 0; i < piecesPerPlayer; i++) {
+            moverDone &= moverCodes[i] == endCode;
+            opponentDone &= opponentCodes[i] == endCode;
+            int code = moverCodes[i];
+            if (code == startCode || code == endCode || isCenter(code, centers)) {
+                continue; // 시작점, 도착점과 중앙점은 두 플레이어의 말이 함께 있을 수 있음
+            }
+            for (int j = 0; j < piecesPerPlayer; j++) {
+                if (opponentCodes[j] == code) {
+                    return false;
+                }
+            }
+        }
+        return !moverDone && !opponentDone;
+    }
+
+    /**
+     * 위치 코드 piecesPerPlayer개에 완주한 말을 더해 탐색용 게임 말 개수의 순위로 바꿈
+     */
+    private long packedRank(int[] codes, int[] buffer) {
+        System.arraycopy(codes, 0, buffer, 0, piecesPerPlayer);
+        Arrays.fill(buffer, piecesPerPlayer, gamePieces, endCode);
+        return PackedGameState.rankMultiset(buffer, gamePieces);
+    }
+
+    private static boolean isCenter(int code, int[] centers) {
+        for (int center : centers) {
+            if (center == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private MoveList moveList(int depth) {
+        while (moveLists.size() <= depth) {
+            moveLists.add(new MoveList());
+        }
+        return moveLists.get(depth);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
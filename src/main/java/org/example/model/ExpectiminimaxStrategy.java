@@ -0,0 +1,588 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게임 트리를 탐색하여 이동을 고르는 컴퓨터 플레이어 전략 (expectiminimax)
+ * - 결정 노드: 현재 플레이어의 합법 이동. 이 전략을 쓰는 플레이어는 최대화, 다른 플레이어는 모두 최소화합니다 (paranoid).
+ * - 확률 노드: 윷 던지기. 게임 설정의 윷 확률 모형으로 결과별 가중치를 주며,
+ *   윷/모의 추가 던지기와 잡기로 얻은 추가 턴은 Game이 TurnService로 처리한 그대로 따라갑니다.
+ * - 확률 노드는 Star1(남은 결과의 값 범위로 창을 좁힘)과 Star2(결과마다 첫 이동만 먼저 탐색하여 범위를 구함)로 가지치기합니다.
+ * - 깊이 1부터 반복 심화하며, 시간 예산을 넘기면 마지막으로 끝난 깊이의 최선 이동을 고릅니다.
+ * - 남은 깊이 2 이상인 노드의 값과 최선 이동은 Zobrist 해시를 키로 치환표에 저장하여, 같은 국면을 다시 만나면
+ *   저장된 값으로 자르거나 최선 이동부터 탐색합니다. 치환표는 선택 사이에도 유지되며 게임 설정이 바뀌면 비웁니다.
+ * 탐색은 넘겨받은 게임을 copyInto로 복사한 게임에서 applyMove/applyThrow/undo로 진행하므로 원래 게임은 바뀌지 않습니다.
+ * 탐색용 게임과 버퍼를 재사용하므로 한 객체를 여러 스레드에서 동시에 쓰지 마세요.
+ */
+public class ExpectiminimaxStrategy implements MoveStrategy {
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 80; // 100ms 턴 제한에 여유를 둔 기본 예산
+    public static final int DEFAULT_MAX_DEPTH = 32;
+    public static final int DEFAULT_TABLE_CAPACITY = 1 << 16;
+
+    private static final double WIN = 1.0;
+    private static final double LOSS = -1.0;
+    private static final double HEURISTIC_SCALE = 0.9; // 평가 값은 승패 값보다 작게
+    private static final int MIN_TABLE_DEPTH = 2; // 이보다 얕은 노드는 치환표를 쓰지 않음 (다시 계산이 더 쌈)
+    private static final long ROOT_PLAYER_KEY = 0x9E3779B97F4A7C15L; // 값이 루트 플레이어 기준이므로 키에 섞음
+    private static final long CHANCE_NODE_KEY = 0xD1B54A32D192ED03L;
+
+    private final SearchDeadline deadline;
+    private final int maxDepth;
+    private final boolean pruning;
+    private final TranspositionTable table; // null이면 사용하지 않음
+    private final Game searchGame;
+
+    // 보드/확률 모형별 평가 표 (바뀔 때만 다시 계산)
+    private Board.BoardType tableBoardType;
+    private YutProbabilityModel tableModel;
+    private FinishTimeTable finishTimes; // 위치 번호별 완주까지 남은 평균 던지기 수
+    private double meanMove; // 한 번 던질 때 평균 이동 칸 수
+    private Yut.YutResult[] outcomes; // 확률이 0보다 큰 윷 결과
+    private double[] outcomeProbabilities;
+    private int tablePlayerCount;
+    private int tablePiecePerPlayer;
+
+    // 깊이별 버퍼
+    private MoveList[] moveLists = new MoveList[0];
+    private int[][] moveOrders = new int[0][];
+    private double[][] lowerBounds = new double[0][];
+    private double[][] upperBounds = new double[0][];
+
+    private List<Player> players; // 탐색용 게임의 플레이어 목록
+    private Player rootPlayer;
+    private long rootKey;
+    private int nodeBestMove; // decide가 마지막으로 고른 이동 번호 (치환표 저장용)
+    private int lastDepth;
+    private double lastValue;
+
+    /**
+     * 기본 시간 예산(80ms)을 쓰는 생성자
+     */
+    public ExpectiminimaxStrategy() {
+        this(DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * 시간 예산을 지정하는 생성자
+     * @param timeBudgetMillis 한 번의 선택에 쓸 시간 (밀리초)
+     */
+    public ExpectiminimaxStrategy(long timeBudgetMillis) {
+        this(timeBudgetMillis, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * 시간 예산과 최대 깊이를 지정하는 생성자
+     * 깊이는 던지기와 이동을 각각 한 단계로 셉니다.
+     * @param timeBudgetMillis 한 번의 선택에 쓸 시간 (밀리초)
+     * @param maxDepth 최대 탐색 깊이
+     */
+    public ExpectiminimaxStrategy(long timeBudgetMillis, int maxDepth) {
+        this(timeBudgetMillis, maxDepth, true, new TranspositionTable(DEFAULT_TABLE_CAPACITY));
+    }
+
+    /**
+     * 가지치기 사용 여부를 지정하고 치환표는 쓰지 않는 생성자 (가지치기 결과 검증용)
+     */
+    ExpectiminimaxStrategy(long timeBudgetMillis, int maxDepth, boolean pruning) {
+        this(timeBudgetMillis, maxDepth, pruning, null);
+    }
+
+    /**
+     * 가지치기 사용 여부와 치환표까지 지정하는 생성자
+     * @param table 치환표 (null이면 사용하지 않음)
+     */
+    ExpectiminimaxStrategy(long timeBudgetMillis, int maxDepth, boolean pruning, TranspositionTable table) {
+        this.deadline = new SearchDeadline(timeBudgetMillis);
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("최대 탐색 깊이는 1 이상이어야 합니다.");
+        }
+        this.maxDepth = maxDepth;
+        this.pruning = pruning;
+        this.table = table;
+        this.searchGame = new Game();
+        this.searchGame.getEventLog().setRecording(false);
+    }
+
+    @Override
+    public int chooseMove(Game game, List<Piece> pieces, List<Yut.YutResult> results) {
+        if (pieces.size() <= 1) {
+            return 0;
+        }
+        deadline.start();
+
+        game.copyInto(searchGame);
+        prepareTables();
+        players = searchGame.getPlayers();
+        rootPlayer = searchGame.getCurrentPlayer();
+        rootKey = (searchGame.getCurrentTurnIndex() + 1) * ROOT_PLAYER_KEY;
+        if (table != null) {
+            table.newSearch();
+        }
+
+        MoveList rootMoves = moveList(maxDepth);
+        int[] order = moveOrders[maxDepth];
+        int count = orderMoves(rootMoves, order);
+        if (count == 0) {
+            return 0;
+        }
+
+        int best = order[0];
+        lastDepth = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            // 깊이 1은 시간과 관계없이 끝까지 탐색하여 항상 답이 있게 함
+            deadline.setActive(depth > 1);
+            try {
+                best = searchRoot(rootMoves, order, count, depth);
+            } catch (SearchDeadline.Timeout timeout) {
+                break;
+            }
+            lastDepth = depth;
+            moveToFront(order, count, best);
+            if (lastValue >= WIN || lastValue <= LOSS || deadline.isExpired()) {
+                break;
+            }
+        }
+
+        return MoveList.findCandidate(game, pieces, results, rootMoves.getPiece(best), rootMoves.getResult(best));
+    }
+
+    /**
+     * 마지막 선택에서 끝까지 탐색한 깊이 반환
+     * @return 탐색 깊이
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * 마지막 선택에서 고른 이동의 평가 값 반환 (-1: 패배 확정 ~ 1: 승리 확정)
+     * @return 평가 값
+     */
+    public double getLastValue() {
+        return lastValue;
+    }
+
+    /**
+     * 마지막 선택에서 방문한 노드 수 반환
+     * @return 노드 수
+     */
+    public long getLastNodeCount() {
+        return deadline.getNodeCount();
+    }
+
+    /**
+     * 치환표 반환 (조회 성공률 등 통계 확인용)
+     * @return 치환표 (사용하지 않으면 null)
+     */
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /**
+     * 루트에서 모든 이동을 탐색하여 최선 이동 번호 반환
+     */
+    private int searchRoot(MoveList moves, int[] order, int count, int depth) {
+        double alpha = LOSS;
+        int best = order[0];
+        for (int k = 0; k < count; k++) {
+            int i = order[k];
+            searchGame.applyMove(moves.getPiece(i), moves.getResult(i));
+            double value;
+            try {
+                value = search(depth - 1, alpha, WIN);
+            } finally {
+                searchGame.undo();
+            }
+            if (k == 0 || value > alpha) {
+                alpha = value;
+                best = i;
+            }
+        }
+        lastValue = alpha;
+        return best;
+    }
+
+    /**
+     * 노드 값 계산 (창 밖의 값은 창 경계로 잘라서 반환)
+     * @param depth 남은 깊이
+     * @param alpha 하한
+     * @param beta 상한
+     * @return 루트 플레이어 기준 값
+     */
+    private double search(int depth, double alpha, double beta) {
+        deadline.visit();
+        if (searchGame.isGameFinished()) {
+            return searchGame.getWinner() == rootPlayer ? WIN : LOSS;
+        }
+        if (depth <= 0) {
+            return evaluate();
+        }
+        boolean chanceNode = searchGame.isAwaitingThrow();
+        if (table == null || depth < MIN_TABLE_DEPTH || alpha >= beta) {
+            return chanceNode ? chance(depth, alpha, beta) : decide(depth, alpha, beta, -1);
+        }
+
+        long key = searchGame.getZobristHash() ^ rootKey ^ (chanceNode ? CHANCE_NODE_KEY : 0);
+        int hint = -1;
+        int slot = table.probe(key);
+        if (slot >= 0) {
+            if (table.getDepth(slot) >= depth) {
+                double stored = table.getValue(slot);
+                switch (table.getBound(slot)) {
+                    case EXACT:
+                        return Math.max(alpha, Math.min(beta, stored));
+                    case LOWER:
+                        if (stored >= beta) {
+                            return beta;
+                        }
+                        break;
+                    case UPPER:
+                        if (stored <= alpha) {
+                            return alpha;
+                        }
+                        break;
+                }
+            }
+            hint = table.getBestMove(slot);
+        }
+
+        double value;
+        int bestMove = -1;
+        if (chanceNode) {
+            value = chance(depth, alpha, beta);
+        } else {
+            value = decide(depth, alpha, beta, hint);
+            bestMove = nodeBestMove;
+        }
+        TranspositionTable.Bound bound = value <= alpha ? TranspositionTable.Bound.UPPER
+                : value >= beta ? TranspositionTable.Bound.LOWER : TranspositionTable.Bound.EXACT;
+        table.store(key, value, depth, bestMove, bound);
+        return value;
+    }
+
+    /**
+     * 결정 노드 값 계산 (고른 이동 번호는 nodeBestMove에 남김)
+     * @param hint 먼저 탐색할 이동 번호 (없으면 -1)
+     */
+    private double decide(int depth, double alpha, double beta, int hint) {
+        MoveList moves = moveList(depth);
+        int[] order = moveOrders[depth];
+        int count = orderMoves(moves, order);
+        if (count == 0) {
+            // 남은 결과로 움직일 말이 없으면 결과를 버리고 진행
+            searchGame.applyForfeit();
+            double value;
+            try {
+                value = search(depth - 1, alpha, beta);
+            } finally {
+                searchGame.undo();
+            }
+            nodeBestMove = -1;
+            return value;
+        }
+        if (hint >= 0) {
+            moveToFront(order, count, hint);
+        }
+
+        boolean maximizing = searchGame.getCurrentPlayer() == rootPlayer;
+        int best = order[0];
+        for (int k = 0; k < count; k++) {
+            int i = order[k];
+            searchGame.applyMove(moves.getPiece(i), moves.getResult(i));
+            double value;
+            try {
+                value = search(depth - 1, alpha, beta);
+            } finally {
+                searchGame.undo();
+            }
+            if (maximizing) {
+                if (value > alpha) {
+                    alpha = value;
+                    best = i;
+                }
+            } else if (value < beta) {
+                beta = value;
+                best = i;
+            }
+            if (alpha >= beta) {
+                nodeBestMove = best;
+                return maximizing ? beta : alpha;
+            }
+        }
+        nodeBestMove = best;
+        return maximizing ? alpha : beta;
+    }
+
+    /**
+     * 확률 노드 (윷 던지기) 값 계산
+     * 결과 i를 탐색할 때 아직 탐색하지 않은 결과들의 값 범위 [lower, upper]로 창을 좁히고 (Star1),
+     * 그 전에 결과마다 첫 이동만 탐색하여 범위를 좁혀 둡니다 (Star2).
+     */
+    private double chance(int depth, double alpha, double beta) {
+        int n = outcomes.length;
+        double[] lower = lowerBounds[depth];
+        double[] upper = upperBounds[depth];
+        Arrays.fill(lower, 0, n, LOSS);
+        Arrays.fill(upper, 0, n, WIN);
+
+        if (pruning && depth >= 2) {
+            int cutoff = probe(depth, alpha, beta, lower, upper);
+            if (cutoff > 0) {
+                return beta;
+            }
+            if (cutoff < 0) {
+                return alpha;
+            }
+        }
+
+        double restLower = 0;
+        double restUpper = 0;
+        for (int i = 0; i < n; i++) {
+            restLower += outcomeProbabilities[i] * lower[i];
+            restUpper += outcomeProbabilities[i] * upper[i];
+        }
+
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            double p = outcomeProbabilities[i];
+            restLower -= p * lower[i];
+            restUpper -= p * upper[i];
+
+            double childAlpha = LOSS;
+            double childBeta = WIN;
+            double ax = 0;
+            double bx = 0;
+            if (pruning) {
+                ax = (alpha - sum - restUpper) / p;
+                bx = (beta - sum - restLower) / p;
+                if (ax >= upper[i]) {
+                    return alpha;
+                }
+                if (bx <= lower[i]) {
+                    return beta;
+                }
+                childAlpha = Math.max(ax, lower[i]);
+                childBeta = Math.min(bx, upper[i]);
+            }
+
+            searchGame.applyThrow(outcomes[i]);
+            double value;
+            try {
+                value = search(depth - 1, childAlpha, childBeta);
+            } finally {
+                searchGame.undo();
+            }
+
+            if (pruning) {
+                if (value <= ax) {
+                    return alpha;
+                }
+                if (value >= bx) {
+                    return beta;
+                }
+            }
+            sum += p * value;
+        }
+        return sum;
+    }
+
+    /**
+     * Star2 탐색: 던진 뒤 바로 이동을 고르는 결과마다 첫 이동만 탐색하여 값 범위를 구함
+     * 루트 플레이어가 고르면 첫 이동 값이 하한, 상대가 고르면 상한이 됩니다.
+     * @return 상한 초과로 잘리면 1, 하한 미만으로 잘리면 -1, 아니면 0
+     */
+    private int probe(int depth, double alpha, double beta, double[] lower, double[] upper) {
+        int n = outcomes.length;
+        double lowerSum = LOSS;
+        double upperSum = WIN;
+        for (int i = 0; i < n; i++) {
+            double p = outcomeProbabilities[i];
+            searchGame.applyThrow(outcomes[i]);
+            try {
+                if (searchGame.isGameFinished() || searchGame.isAwaitingThrow()) {
+                    continue;
+                }
+                MoveList moves = moveList(depth - 1);
+                int[] order = moveOrders[depth - 1];
+                if (orderMoves(moves, order) == 0) {
+                    continue;
+                }
+                boolean maximizing = searchGame.getCurrentPlayer() == rootPlayer;
+                double threshold = maximizing
+                        ? (beta - (lowerSum - p * lower[i])) / p
+                        : (alpha - (upperSum - p * upper[i])) / p;
+                if (maximizing ? threshold > WIN : threshold < LOSS) {
+                    // 이 결과만으로는 잘릴 수 없으므로 탐색하지 않음
+                    continue;
+                }
+
+                searchGame.applyMove(moves.getPiece(order[0]), moves.getResult(order[0]));
+                double value;
+                try {
+                    value = maximizing
+                            ? search(depth - 2, LOSS, Math.max(LOSS, Math.min(WIN, threshold)))
+                            : search(depth - 2, Math.min(WIN, Math.max(LOSS, threshold)), WIN);
+                } finally {
+                    searchGame.undo();
+                }
+
+                if (maximizing) {
+                    if (value >= threshold) {
+                        return 1;
+                    }
+                    lowerSum += p * (value - lower[i]);
+                    lower[i] = value;
+                } else {
+                    if (value <= threshold) {
+                        return -1;
+                    }
+                    upperSum += p * (value - upper[i]);
+                    upper[i] = value;
+                }
+            } finally {
+                searchGame.undo();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 정적 평가: 루트 플레이어의 진행도 - 가장 앞선 상대의 진행도
+     * 진행도는 말마다 줄어든 평균 남은 던지기 수의 비율이며, 현재 플레이어의 남은 윷 결과도 이동 칸 수만큼 더합니다.
+     */
+    private double evaluate() {
+        Player current = searchGame.getCurrentPlayer();
+        double rootScore = 0;
+        double bestOpponent = 0;
+        for (Player player : players) {
+            double score = progress(player, player == current);
+            if (player == rootPlayer) {
+                rootScore = score;
+            } else if (score > bestOpponent) {
+                bestOpponent = score;
+            }
+        }
+        return HEURISTIC_SCALE * (rootScore - bestOpponent);
+    }
+
+    private double progress(Player player, boolean withPending) {
+        double home = finishTimes.homeThrows();
+        double gained = finishTimes.progress(player);
+        if (withPending) {
+            YutResultBag pending = searchGame.pendingYutResultsView();
+            for (Yut.YutResult result : YutResultBag.ORDER) {
+                gained += pending.count(result) * Math.max(0, result.getMoveCount()) / meanMove;
+            }
+        }
+        return Math.min(1.0, gained / (home * player.getPieceCount()));
+    }
+
+    /**
+     * 합법 이동을 만들고, 같은 위치에서 같은 결과로 움직이는 중복 이동을 빼고 순서를 정함
+     * 잡는 이동 → 완주하는 이동 → 나머지 순서입니다.
+     * @return 탐색할 이동 개수
+     */
+    private int orderMoves(MoveList moves, int[] order) {
+        int total = searchGame.generateLegalMoves(moves);
+        Player player = searchGame.getCurrentPlayer();
+        int count = 0;
+        for (int i = 0; i < total; i++) {
+            if (moves.repeatsEarlierMove(i)) {
+                continue;
+            }
+            Place destination = moves.getDestination(i);
+            int priority = destination.hasOpponentPieces(player) ? 2 : destination.isEndingPoint() ? 1 : 0;
+            // 우선순위가 높은 이동이 앞에 오도록 삽입
+            int k = count++;
+            while (k > 0 && movePriority(moves, order[k - 1], player) < priority) {
+                order[k] = order[k - 1];
+                k--;
+            }
+            order[k] = i;
+        }
+        return count;
+    }
+
+    private static int movePriority(MoveList moves, int i, Player player) {
+        Place destination = moves.getDestination(i);
+        return destination.hasOpponentPieces(player) ? 2 : destination.isEndingPoint() ? 1 : 0;
+    }
+
+    private static void moveToFront(int[] order, int count, int move) {
+        for (int k = 0; k < count; k++) {
+            if (order[k] == move) {
+                System.arraycopy(order, 0, order, 1, k);
+                order[0] = move;
+                return;
+            }
+        }
+    }
+
+    /**
+     * 깊이별 이동 목록 (필요하면 버퍼를 늘림)
+     */
+    private MoveList moveList(int depth) {
+        if (depth >= moveLists.length) {
+            int size = Math.max(depth + 1, maxDepth + 1);
+            int outcomeCount = Yut.YutResult.values().length;
+            int oldSize = moveLists.length;
+            moveLists = Arrays.copyOf(moveLists, size);
+            moveOrders = Arrays.copyOf(moveOrders, size);
+            lowerBounds = Arrays.copyOf(lowerBounds, size);
+            upperBounds = Arrays.copyOf(upperBounds, size);
+            for (int d = oldSize; d < size; d++) {
+                moveLists[d] = new MoveList();
+                moveOrders[d] = new int[64];
+                lowerBounds[d] = new double[outcomeCount];
+                upperBounds[d] = new double[outcomeCount];
+            }
+        }
+        return moveLists[depth];
+    }
+
+    /**
+     * 보드와 확률 모형이 바뀌었으면 평가 표와 확률 노드 결과 목록을 다시 계산
+     * 위치별 남은 평균 던지기 수는 보드 타입과 확률 모형마다 공유하는 FinishTimeTable에서 가져옵니다.
+     */
+    private void prepareTables() {
+        Board board = searchGame.getBoard();
+        GameSettings settings = searchGame.getGameSettings();
+        YutProbabilityModel model = settings.getYutProbabilityModel();
+        if (board.getBoardType() == tableBoardType && model == tableModel
+                && settings.getPlayerCount() == tablePlayerCount && settings.getPiecePerPlayer() == tablePiecePerPlayer) {
+            return;
+        }
+        // 같은 해시라도 다른 설정의 국면이면 값이 다르므로 치환표를 비움
+        if (table != null) {
+            table.clear();
+        }
+        tablePlayerCount = settings.getPlayerCount();
+        tablePiecePerPlayer = settings.getPiecePerPlayer();
+
+        Yut.YutResult[] values = Yut.YutResult.values();
+        int outcomeCount = 0;
+        for (Yut.YutResult result : values) {
+            if (model.getProbability(result) > 0) {
+                outcomeCount++;
+            }
+        }
+        outcomes = new Yut.YutResult[outcomeCount];
+        outcomeProbabilities = new double[outcomeCount];
+        meanMove = 0;
+        int k = 0;
+        for (Yut.YutResult result : values) {
+            double p = model.getProbability(result);
+            if (p > 0) {
+                outcomes[k] = result;
+                outcomeProbabilities[k] = p;
+                k++;
+                meanMove += p * result.getMoveCount();
+            }
+        }
+
+        finishTimes = FinishTimeTable.of(board.getBoardType(), model);
+        tableBoardType = board.getBoardType();
+        tableModel = model;
+    }
+}
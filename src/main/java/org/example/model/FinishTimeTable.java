@@ -0,0 +1,210 @@
+package org.example.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * 말 하나가 각 위치에서 최종 도착점(FE)까지 가는 데 드는 평균 던지기 수와 턴 수 표
+ * 말 하나의 이동을 위치 번호를 상태로 하는 흡수 마르코프 연쇄로 보고, 기대값 연립방정식
+ * E[i] = 비용 + Σ 확률(결과) × E[목적지(i, 결과)], E[FE] = 0 을 가우스 소거법으로 한 번에 풉니다.
+ * 목적지는 BoardTopology의 목적지 테이블을 쓰므로 분기점 지름길과 빽도 규칙이 그대로 반영됩니다.
+ * - 던지기 수: 던질 때마다 1
+ * - 턴 수: 윷/모는 한 번 더 던지므로 턴을 끝내는 결과(윷/모가 아니고 도착하지 않음)에서만 1을 더함
+ *   (말 하나만 보므로 결과를 나온 순서대로 바로 쓰고, 잡기로 얻는 추가 턴은 세지 않음)
+ * 표는 보드 타입과 확률 모형마다 한 번만 만들어 공유하며, 조회는 배열 읽기 한 번입니다.
+ */
+public final class FinishTimeTable {
+    private static final Yut.YutResult[] RESULTS = Yut.YutResult.values();
+    private static final double SINGULAR_PIVOT = 1e-12;
+
+    // 보드 타입별, 확률 모형(불변 객체, 동일성 비교)별 표. 쓰지 않는 모형의 표는 GC가 정리
+    private static final Map<Board.BoardType, Map<YutProbabilityModel, FinishTimeTable>> CACHE =
+            new EnumMap<>(Board.BoardType.class);
+
+    private final Board.BoardType boardType;
+    private final int startIndex;
+    private final double[] expectedThrows; // 위치 번호별 평균 던지기 수
+    private final double[] expectedTurns; // 위치 번호별 평균 턴 수 (턴을 시작하는 시점 기준)
+
+    private FinishTimeTable(Board.BoardType boardType, YutProbabilityModel model) {
+        this.boardType = boardType;
+        BoardTopology topology = BoardTopology.of(boardType);
+        this.startIndex = topology.getStartIndex();
+        int endIndex = topology.getEndIndex();
+        int placeCount = topology.getPlaceCount();
+
+        double[] throwCosts = new double[placeCount];
+        double[] turnCosts = new double[placeCount];
+        for (int index = 0; index < placeCount; index++) {
+            if (index == endIndex) {
+                continue;
+            }
+            throwCosts[index] = 1;
+            for (Yut.YutResult result : RESULTS) {
+                if (!result.grantsExtraThrow() && topology.getDestinationIndex(index, result) != endIndex) {
+                    turnCosts[index] += model.getProbability(result);
+                }
+            }
+        }
+        this.expectedThrows = solve(topology, model, throwCosts);
+        // 턴 비용은 던지기를 마친 뒤 남은 턴 수이므로, 턴을 시작하는 시점에서는 지금 턴 하나를 더함
+        double[] remainingTurns = solve(topology, model, turnCosts);
+        for (int index = 0; index < placeCount; index++) {
+            if (index != endIndex) {
+                remainingTurns[index] += 1;
+            }
+        }
+        this.expectedTurns = remainingTurns;
+    }
+
+    /**
+     * 보드 타입과 확률 모형의 표 반환 (처음 요청할 때 계산하여 보관)
+     * @param boardType 보드 타입
+     * @param model 윷 확률 모형
+     * @return 표
+     */
+    public static FinishTimeTable of(Board.BoardType boardType, YutProbabilityModel model) {
+        if (boardType == null || model == null) {
+            throw new NullPointerException("보드 타입과 윷 확률 모형은 null일 수 없습니다.");
+        }
+        synchronized (CACHE) {
+            Map<YutProbabilityModel, FinishTimeTable> tables =
+                    CACHE.computeIfAbsent(boardType, type -> new WeakHashMap<>());
+            FinishTimeTable table = tables.get(model);
+            if (table == null) {
+                table = new FinishTimeTable(boardType, model);
+                tables.put(model, table);
+            }
+            return table;
+        }
+    }
+
+    /**
+     * 위치에서 최종 도착점까지 평균 던지기 수
+     * @param place 이 표의 보드 타입인 보드의 위치
+     * @return 평균 던지기 수 (최종 도착점이면 0)
+     */
+    public double getExpectedThrows(Place place) {
+        return expectedThrows[place.getIndex()];
+    }
+
+    /**
+     * 턴을 시작하는 위치에서 최종 도착점까지 평균 턴 수
+     * @param place 이 표의 보드 타입인 보드의 위치
+     * @return 평균 턴 수 (최종 도착점이면 0)
+     */
+    public double getExpectedTurns(Place place) {
+        return expectedTurns[place.getIndex()];
+    }
+
+    /**
+     * 위치 번호로 평균 던지기 수 조회
+     * @param index 위치 번호
+     * @return 평균 던지기 수
+     */
+    double expectedThrows(int index) {
+        return expectedThrows[index];
+    }
+
+    /**
+     * 위치 번호로 평균 턴 수 조회
+     * @param index 위치 번호
+     * @return 평균 턴 수
+     */
+    double expectedTurns(int index) {
+        return expectedTurns[index];
+    }
+
+    /**
+     * 출발 전 말이 완주할 때까지 평균 던지기 수 (말 하나의 전체 진행도)
+     * @return 평균 던지기 수
+     */
+    double homeThrows() {
+        return expectedThrows[startIndex];
+    }
+
+    /**
+     * 플레이어의 진행도: 말마다 출발 전보다 줄어든 평균 던지기 수의 합
+     * 완주한 말은 homeThrows 전체, 업힌 말은 업은 말의 위치로 셉니다. (탐색 전략들의 평가 함수가 공유)
+     * @param player 이 표의 보드 타입인 게임의 플레이어
+     * @return 진행도 (0 ~ homeThrows × 말 개수)
+     */
+    double progress(Player player) {
+        double home = expectedThrows[startIndex];
+        double gained = 0;
+        for (int i = 0; i < player.getPieceCount(); i++) {
+            Piece piece = player.getPiece(i);
+            if (piece.isCompleted()) {
+                gained += home;
+                continue;
+            }
+            Piece carrier = piece.isCarried() ? piece.getCarriedBy() : piece;
+            Place place = carrier.getCurrentPlace();
+            if (place != null) {
+                gained += home - expectedThrows[place.getIndex()];
+            }
+        }
+        return gained;
+    }
+
+    public Board.BoardType getBoardType() {
+        return boardType;
+    }
+
+    /**
+     * (I - P) E = costs 를 부분 피벗 가우스 소거법으로 풀기 (P: 최종 도착점을 흡수 상태로 둔 이동 확률 행렬)
+     */
+    private static double[] solve(BoardTopology topology, YutProbabilityModel model, double[] costs) {
+        int n = topology.getPlaceCount();
+        int endIndex = topology.getEndIndex();
+        double[][] matrix = new double[n][n + 1];
+        for (int row = 0; row < n; row++) {
+            matrix[row][row] = 1;
+            matrix[row][n] = costs[row];
+            if (row == endIndex) {
+                continue;
+            }
+            for (Yut.YutResult result : RESULTS) {
+                matrix[row][topology.getDestinationIndex(row, result)] -= model.getProbability(result);
+            }
+        }
+
+        for (int column = 0; column < n; column++) {
+            int pivot = column;
+            for (int row = column + 1; row < n; row++) {
+                if (Math.abs(matrix[row][column]) > Math.abs(matrix[pivot][column])) {
+                    pivot = row;
+                }
+            }
+            if (Math.abs(matrix[pivot][column]) < SINGULAR_PIVOT) {
+                throw new IllegalArgumentException("최종 도착점에 갈 수 없는 위치가 있어 평균을 구할 수 없습니다: " + model);
+            }
+            double[] swap = matrix[pivot];
+            matrix[pivot] = matrix[column];
+            matrix[column] = swap;
+
+            double[] pivotRow = matrix[column];
+            for (int row = column + 1; row < n; row++) {
+                double factor = matrix[row][column] / pivotRow[column];
+                if (factor == 0) {
+                    continue;
+                }
+                double[] target = matrix[row];
+                for (int k = column; k <= n; k++) {
+                    target[k] -= factor * pivotRow[k];
+                }
+            }
+        }
+
+        double[] solution = new double[n];
+        for (int row = n - 1; row >= 0; row--) {
+            double sum = matrix[row][n];
+            for (int k = row + 1; k < n; k++) {
+                sum -= matrix[row][k] * solution[k];
+            }
+            solution[row] = sum / matrix[row][row];
+        }
+        return solution;
+    }
+}
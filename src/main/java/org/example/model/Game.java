@@ -1,9 +1,11 @@
 package org.example.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.random.RandomGenerator;
 
 /**
  * 윷놀이 게임의 전체 상태를 관리하는 모델 클래스
@@ -19,8 +21,16 @@ public class Game {
     private boolean isGameFinished;
     private Player winner;
     private Yut.YutResult lastYutResult;
-    private List<String> gameLog;
-    private List<Yut.YutResult> pendingYutResults;
+    private GameEventLog eventLog;
+    private final YutResultBag pendingYutResults;
+    private int captureCount; // 이번 게임의 잡기 횟수
+    private int stackCount; // 이번 게임에서 업기가 일어난 이동 횟수
+    private ReplayWriter replayWriter; // 이진 리플레이 기록기 (없으면 null)
+    private GameJournal journal; // applyMove/applyThrow 되돌리기 기록
+    private Piece[] copyBuffer = new Piece[32]; // copyInto 대상일 때 쓰는 말 목록 버퍼
+    private final ZobristHash zobristHash; // 이동과 턴 변경마다 갱신하는 국면 해시
+    private boolean zobristVerification; // 켜면 행동마다 해시를 전체 재계산 값과 비교
+    private final Place[] hashPlaces = new Place[8]; // 이동이 바꿀 수 있는 위치 (해시 갱신용)
 
     // 말 상호작용 서비스 (잡기/업기 로직 분리)
     private GameInteractionService interactionService;
@@ -31,17 +41,51 @@ public class Game {
      * 기본 생성자
      */
     public Game() {
+        this(new Yut());
+    }
+
+    /**
+     * 윷 던지기에 사용할 난수 생성기를 지정하는 생성자
+     * 같은 시드의 생성기를 넘기면 같은 윷 결과가 재현됩니다.
+     * @param random 난수 생성기
+     */
+    public Game(RandomGenerator random) {
+        this(new Yut(random));
+    }
+
+    /**
+     * 윷 던지기에 사용할 난수 공급원을 지정하는 생성자
+     * YutRandomSource.seeded(seed)를 넘기면 시드만으로 게임 전체를 재현할 수 있습니다.
+     * @param randomSource 난수 공급원
+     */
+    public Game(YutRandomSource randomSource) {
+        this(new Yut(randomSource));
+    }
+
+    /**
+     * 윷 던지기에 사용할 난수 공급원 교체 (게임 객체를 재사용하는 배치 시뮬레이션용)
+     * 새 판의 결과를 새 게임 객체와 같게 하려면 initialize 전에 호출하세요.
+     * @param randomSource 난수 공급원
+     */
+    void setRandomSource(YutRandomSource randomSource) {
+        yut.setRandomSource(randomSource);
+    }
+
+    private Game(Yut yut) {
         this.players = new ArrayList<>();
-        this.yut = new Yut();
+        this.yut = yut;
         this.isGameFinished = false;
-        this.gameLog = new ArrayList<>();
-        this.pendingYutResults = new ArrayList<>();
+        this.eventLog = new GameEventLog();
+        this.pendingYutResults = new YutResultBag();
+        this.journal = new GameJournal();
 
-        // 상호작용 서비스 초기화
-        this.interactionService = new GameInteractionService();
+        // 상호작용 서비스 초기화 (디버그 추적은 기본적으로 꺼짐)
+        this.interactionService = new GameInteractionService(new GameTracer());
 
         // 턴 서비스 초기화
-        this.turnService = new TurnService(pendingYutResults, gameLog);
+        this.turnService = new TurnService(pendingYutResults, eventLog);
+        this.zobristHash = new ZobristHash();
+        this.turnService.setZobristHash(zobristHash);
     }
 
     /**
@@ -52,12 +96,18 @@ public class Game {
         this.gameSettings = settings;
         this.isGameFinished = false;
         this.winner = null;
-        this.gameLog.clear();
+        this.captureCount = 0;
+        this.stackCount = 0;
+        this.eventLog.clear();
         this.pendingYutResults.clear();
+        this.journal.clear();
 
         // 턴 서비스 초기화
         this.turnService.initializeTurn();
 
+        // 윷 확률 모형 적용
+        this.yut.setProbabilityModel(settings.getYutProbabilityModel());
+
         // 보드 초기화
         this.board = new Board(settings.getBoardType());
 
@@ -74,11 +124,13 @@ public class Game {
 
             this.players.add(player);
         }
+        resetZobristHash();
 
         // 초기 로그 추가
-        addToGameLog("게임이 시작되었습니다. 보드 형태: " + settings.getBoardType() +
-                ", 플레이어 수: " + settings.getPlayerCount() +
-                ", 말 개수: " + settings.getPiecePerPlayer());
+        eventLog.gameStarted(settings);
+        if (replayWriter != null) {
+            replayWriter.startGame(settings);
+        }
     }
 
     /**
@@ -94,6 +146,7 @@ public class Game {
      */
     public void nextTurn() {
         turnService.nextTurn(players);
+        verifyZobristHash();
     }
 
     /**
@@ -104,13 +157,16 @@ public class Game {
         turnService.prepareForYutThrow();
 
         lastYutResult = yut.throwYut();
-        addToGameLog(getCurrentPlayer().getName() + "이(가) 윷을 던져 " +
-                lastYutResult.getName() + "(" + lastYutResult.getMoveCount() + "칸)가 나왔습니다.");
+        eventLog.thrown(getCurrentPlayer(), lastYutResult, false);
+        if (replayWriter != null) {
+            replayWriter.recordThrow(lastYutResult);
+        }
 
         turnService.processYutResult(lastYutResult, getCurrentPlayer());
 
         // 이동 가능한 말이 있는지 확인
         checkMovablePieces();
+        verifyZobristHash();
 
         return lastYutResult;
     }
@@ -124,11 +180,14 @@ public class Game {
         turnService.prepareForYutThrow();
 
         lastYutResult = result;
-        addToGameLog(getCurrentPlayer().getName() + "이(가) " +
-                result.getName() + "(" + result.getMoveCount() + "칸)로 지정했습니다.");
+        eventLog.thrown(getCurrentPlayer(), result, true);
+        if (replayWriter != null) {
+            replayWriter.recordThrow(result);
+        }
 
         turnService.processYutResult(result, getCurrentPlayer());
         checkMovablePieces();
+        verifyZobristHash();
 
         return result;
     }
@@ -142,12 +201,9 @@ public class Game {
     public List<Piece> getMovablePieces(Player player, Yut.YutResult result) {
         List<Piece> movablePieces = new ArrayList<>();
 
-        for (Piece piece : player.getPieces()) {
-            if (!piece.isCompleted() && !piece.isCarried()) {
-                if (result == Yut.YutResult.BACKDO &&
-                        (piece.getCurrentPlace() == null || piece.getCurrentPlace().isStartingPoint())) {
-                    continue;
-                }
+        for (int i = 0; i < player.getPieceCount(); i++) {
+            Piece piece = player.getPiece(i);
+            if (canMove(piece, result)) {
                 movablePieces.add(piece);
             }
         }
@@ -155,19 +211,73 @@ public class Game {
         return movablePieces;
     }
 
+    /**
+     * 말이 윷 결과로 이동할 수 있는지 확인
+     * 완주했거나 업힌 말은 움직일 수 없고, 빽도는 시작점에 있는 말에 적용되지 않습니다.
+     * @param piece 말
+     * @param result 윷 결과
+     * @return 이동 가능하면 true
+     */
+    private boolean canMove(Piece piece, Yut.YutResult result) {
+        if (piece.isCompleted() || piece.isCarried()) {
+            return false;
+        }
+        return result != Yut.YutResult.BACKDO
+                || (piece.getCurrentPlace() != null && !piece.getCurrentPlace().isStartingPoint());
+    }
+
+    /**
+     * 현재 플레이어가 남은 윷 결과로 할 수 있는 모든 합법 이동을 목적지와 함께 채움
+     * 같은 윷 결과가 여러 개 남아 있어도 한 번만 넣으며, 순서는 이동 칸 수가 큰 결과 → 말 순서입니다.
+     * 넘겨받은 버퍼를 재사용하므로 버퍼가 충분하면 객체를 새로 만들지 않습니다.
+     * @param moves 채울 이동 목록 (기존 내용은 지워짐)
+     * @return 합법 이동 개수
+     */
+    public int generateLegalMoves(MoveList moves) {
+        moves.clear();
+        if (isGameFinished || pendingYutResults.isEmpty()) {
+            return 0;
+        }
+
+        Player player = getCurrentPlayer();
+        for (Yut.YutResult result : YutResultBag.ORDER) {
+            if (!pendingYutResults.contains(result)) {
+                continue;
+            }
+
+            for (int i = 0; i < player.getPieceCount(); i++) {
+                Piece piece = player.getPiece(i);
+                if (canMove(piece, result)) {
+                    Place from = piece.getCurrentPlace() == null ? board.getStartingPlace() : piece.getCurrentPlace();
+                    moves.add(piece, result, board.calculateDestination(from, result));
+                }
+            }
+        }
+        return moves.size();
+    }
+
     /**
      * 말 이동 실행 (GameInteractionService를 사용하여 리팩토링)
      * @param piece 이동할 말
      * @param result 윷 결과
-     * @return 이동 후 위치
+     * @return 이동 후 위치 (남아 있지 않은 윷 결과이거나 현재 플레이어의 말이 아니면 null)
      */
     public Place movePiece(Piece piece, Yut.YutResult result) {
         // 요청한 결과가 pendingYutResults에 있는지 확인
         if (!pendingYutResults.contains(result)) {
-            addToGameLog("[오류] 이동에 사용할 수 없는 윷 결과입니다.");
+            eventLog.invalidMove(getCurrentPlayer(), result);
+            return null;
+        }
+        // 현재 플레이어의 말인지 확인
+        if (piece.getPlayer() != getCurrentPlayer()) {
+            eventLog.invalidPiece(getCurrentPlayer(), piece, result);
             return null;
         }
 
+        if (replayWriter != null) {
+            replayWriter.recordMove(getCurrentPlayer().getPieceIndex(piece), result);
+        }
+
         // 현재 위치 계산
         Place currentPlace = piece.getCurrentPlace();
         if (currentPlace == null) {
@@ -176,26 +286,354 @@ public class Game {
 
         // 목적지 계산
         Place destination = board.calculateDestination(currentPlace, result);
-        addToGameLog(destination.toString());
+
+        // 이동, 잡기, 업기가 바꿀 수 있는 위치의 해시를 뺐다가 처리 후 다시 넣음
+        int hashPlaceCount = collectHashPlaces(currentPlace, destination);
+        toggleHashPlaces(hashPlaceCount);
 
         // 이동 실행
         piece.moveTo(destination);
 
         // 이동 로그 추가
-        addToGameLog(getCurrentPlayer().getName() + "의 말 " + piece.getId() +
-                "이(가) " + (currentPlace.getName() != null ? currentPlace.getName() : "시작점") +
-                "에서 " + (destination.getName() != null ? destination.getName() : "도착점") +
-                "으로 " + result.getName() + "(" + result.getMoveCount() + "칸) 만큼 이동했습니다.");
+        eventLog.moved(getCurrentPlayer(), piece, currentPlace, destination, result);
 
         // 사용한 윷 결과 제거
         turnService.useYutResult(result);
 
         // 상호작용 처리 (GameInteractionService 사용)
+        int groupSizeBefore = piece.getTotalPieceCount();
         handlePieceInteractions(piece, destination);
+        if (piece.getTotalPieceCount() > groupSizeBefore) {
+            stackCount++;
+        }
 
+        toggleHashPlaces(hashPlaceCount);
+        verifyZobristHash();
         return destination;
     }
 
+    /**
+     * 되돌릴 수 있는 윷 결과 적용 (탐색용)
+     * setSpecificYutResult와 같이 진행하되, 사건 기록과 리플레이 기록은 남기지 않습니다.
+     * @param result 윷 결과
+     */
+    public void applyThrow(Yut.YutResult result) {
+        saveGameState(journal.push());
+        runUnrecorded(() -> setSpecificYutResult(result));
+    }
+
+    /**
+     * 되돌릴 수 있는 말 이동 (탐색용)
+     * 컨트롤러와 같이 movePiece 후 승자가 없으면 endTurnIfNoExtraTurn까지 진행하며,
+     * 사건 기록과 리플레이 기록은 남기지 않습니다.
+     * 이동 전에 말이 움직일 위치와 그 위치의 말들, 출발 위치, 시작점의 상태만 기록합니다.
+     * @param piece 이동할 말
+     * @param result 윷 결과
+     * @return 이동 후 위치 (남은 윷 결과에 없으면 null, 이때는 기록하지 않음)
+     */
+    public Place applyMove(Piece piece, Yut.YutResult result) {
+        if (!pendingYutResults.contains(result)) {
+            return null;
+        }
+
+        GameJournal.Entry entry = journal.push();
+        saveGameState(entry);
+
+        Place from = piece.getCurrentPlace();
+        Place destination = board.calculateDestination(from == null ? board.getStartingPlace() : from, result);
+        entry.savePiece(piece);
+        entry.savePlace(from, false);
+        entry.savePlace(board.getStartingPlace(), false); // 잡힌 말이 돌아오는 곳
+        entry.savePlace(destination, true);
+        if (destination.isCenter()) {
+            // 중앙점 잡기/업기는 다른 중앙점의 말에도 적용됨
+            for (int centerIndex : board.getCenterIndices()) {
+                entry.savePlace(board.getPlaceByIndex(centerIndex), true);
+            }
+        }
+
+        runUnrecorded(() -> {
+            movePiece(piece, result);
+            if (!checkGameEnd()) {
+                endTurnIfNoExtraTurn();
+            }
+        });
+        return destination;
+    }
+
+    /**
+     * 되돌릴 수 있는 남은 윷 결과 포기 (탐색용)
+     * forfeitPendingResults와 같이 진행하되, 사건 기록과 리플레이 기록은 남기지 않습니다.
+     * 말은 움직이지 않으므로 턴과 남은 결과만 기록합니다.
+     */
+    public void applyForfeit() {
+        saveGameState(journal.push());
+        runUnrecorded(this::forfeitPendingResults);
+    }
+
+    /**
+     * 가장 최근의 applyMove/applyThrow/applyForfeit를 정확히 되돌림
+     * @throws IllegalStateException 되돌릴 행동이 없을 때
+     */
+    public void undo() {
+        GameJournal.Entry entry = journal.pop();
+        entry.restore(pendingYutResults);
+        turnService.restoreState(entry.turnState);
+        zobristHash.restore(entry.zobristHash, entry.turnState, pendingYutResults);
+        lastYutResult = entry.lastYutResult;
+        isGameFinished = entry.gameFinished;
+        winner = entry.winner;
+        captureCount = entry.captureCount;
+        stackCount = entry.stackCount;
+        entry.reset();
+        verifyZobristHash();
+    }
+
+    /**
+     * 되돌릴 수 있는 행동 수 반환
+     * @return 되돌리기 기록 깊이
+     */
+    public int getUndoDepth() {
+        return journal.getDepth();
+    }
+
+    /**
+     * 이 게임의 진행 상태를 다른 게임 객체에 복사 (병렬 탐색 작업자용)
+     * 대상의 설정(보드 형태, 플레이어 수, 말 개수, 윷 확률 모형)이 같으면 대상의 보드/플레이어/말 객체를
+     * 그대로 재사용하여 위치, 업기, 완주 여부, 위치별 말 순서, 턴 상태, 남은 윷 결과만 덮어쓰므로
+     * 복사할 때 객체를 새로 만들지 않습니다. 설정이 다르면 대상을 먼저 initialize합니다.
+     * 대상의 윷 난수열, 사건 기록, 리플레이 기록기, 추적 설정은 복사하지 않으며, 대상의 되돌리기 기록은 지워집니다.
+     * @param target 복사 대상 게임 (이 게임과 다른 객체)
+     * @return 복사 대상 게임
+     */
+    public Game copyInto(Game target) {
+        if (target == this) {
+            throw new IllegalArgumentException("자기 자신에게는 복사할 수 없습니다.");
+        }
+        if (gameSettings == null) {
+            throw new IllegalStateException("초기화되지 않은 게임은 복사할 수 없습니다.");
+        }
+        if (!target.hasSameShape(gameSettings)) {
+            target.initialize(gameSettings);
+        }
+        target.gameSettings = gameSettings;
+        target.journal.clear();
+
+        // 말 상태 (위치와 업기 관계는 대상 게임의 같은 번호 객체로 바꾸어 복사)
+        Piece[] buffer = target.copyBuffer;
+        for (int p = 0; p < players.size(); p++) {
+            Player player = players.get(p);
+            Player targetPlayer = target.players.get(p);
+            for (int i = 0; i < player.getPieceCount(); i++) {
+                Piece piece = player.getPiece(i);
+                int stackSize = piece.copyStackTo(buffer, 0);
+                for (int k = 0; k < stackSize; k++) {
+                    buffer[k] = target.correspondingPiece(this, buffer[k]);
+                }
+                Place place = piece.getCurrentPlace();
+                targetPlayer.getPiece(i).restoreState(
+                        place == null ? null : target.board.getPlaceByIndex(place.getIndex()),
+                        piece.getCarriedBy() == null ? null : target.correspondingPiece(this, piece.getCarriedBy()),
+                        piece.isCompleted(), buffer, 0, stackSize);
+            }
+        }
+
+        // 위치별 말 목록 (순서 유지)
+        for (int index = 0; index < board.getPlaceCount(); index++) {
+            Place place = board.getPlaceByIndex(index);
+            Place targetPlace = target.board.getPlaceByIndex(index);
+            if (place.isEmpty() && targetPlace.isEmpty()) {
+                continue;
+            }
+            int count = place.copyPiecesTo(buffer, 0);
+            for (int k = 0; k < count; k++) {
+                buffer[k] = target.correspondingPiece(this, buffer[k]);
+            }
+            targetPlace.restorePieces(buffer, 0, count);
+        }
+        Arrays.fill(buffer, null);
+
+        // 턴과 게임 진행 상태
+        target.turnService.restoreState(turnService.saveState());
+        target.pendingYutResults.copyFrom(pendingYutResults);
+        target.lastYutResult = lastYutResult;
+        target.isGameFinished = isGameFinished;
+        target.winner = winner == null ? null : target.players.get(players.indexOf(winner));
+        target.captureCount = captureCount;
+        target.stackCount = stackCount;
+        target.zobristHash.copyFrom(zobristHash);
+        target.verifyZobristHash();
+        return target;
+    }
+
+    /**
+     * 턴 서비스 반환 (PackedGameState 압축/복원용)
+     * @return 턴 서비스
+     */
+    TurnService getTurnService() {
+        return turnService;
+    }
+
+    /**
+     * 플레이어 원본 목록 반환 (PackedGameState 압축용, 복사하지 않으므로 바꾸지 말 것)
+     * @return 플레이어 목록
+     */
+    List<Player> playersView() {
+        return players;
+    }
+
+    /**
+     * 남은 윷 결과 원본 모음 반환 (탐색과 PackedGameState 압축/복원용, 복사하지 않음)
+     * @return 남은 윷 결과 모음
+     */
+    YutResultBag pendingYutResultsView() {
+        return pendingYutResults;
+    }
+
+    /**
+     * 말 위치를 외부에서 통째로 바꾼 뒤 호출 (되돌리기 기록을 지우고 승자를 다시 판정)
+     */
+    void positionRestored() {
+        journal.clear();
+        resetZobristHash();
+        isGameFinished = false;
+        winner = null;
+        for (Player player : players) {
+            if (isPlayerWinner(player)) {
+                isGameFinished = true;
+                winner = player;
+                break;
+            }
+        }
+    }
+
+    /**
+     * 설정이 같은 모양의 게임(보드, 플레이어, 말 개수, 윷 확률 모형)으로 초기화되어 있는지 확인
+     * @param settings 비교할 설정
+     * @return 같으면 true
+     */
+    private boolean hasSameShape(GameSettings settings) {
+        return gameSettings != null && board != null
+                && gameSettings.getBoardType() == settings.getBoardType()
+                && gameSettings.getPlayerCount() == settings.getPlayerCount()
+                && gameSettings.getPiecePerPlayer() == settings.getPiecePerPlayer()
+                && yut.getProbabilityModel() == settings.getYutProbabilityModel();
+    }
+
+    /**
+     * 다른 게임의 말에 해당하는 이 게임의 말 반환 (플레이어 순서와 말 순서로 대응)
+     * @param source 원본 게임
+     * @param piece 원본 게임의 말
+     * @return 이 게임의 같은 번호 말
+     */
+    private Piece correspondingPiece(Game source, Piece piece) {
+        List<Player> sourcePlayers = source.players;
+        for (int p = 0; p < sourcePlayers.size(); p++) {
+            Player sourcePlayer = sourcePlayers.get(p);
+            if (sourcePlayer != piece.getPlayer()) {
+                continue;
+            }
+            // 같은 ID의 말끼리 equals가 참이므로 객체 비교로 순서를 찾음
+            for (int i = 0; i < sourcePlayer.getPieceCount(); i++) {
+                if (sourcePlayer.getPiece(i) == piece) {
+                    return players.get(p).getPiece(i);
+                }
+            }
+        }
+        throw new IllegalArgumentException("원본 게임의 말이 아닙니다: " + piece.getId());
+    }
+
+    /**
+     * 턴과 게임 진행 상태를 되돌리기 기록에 저장
+     * @param entry 되돌리기 기록
+     */
+    private void saveGameState(GameJournal.Entry entry) {
+        entry.turnState = turnService.saveState();
+        entry.zobristHash = zobristHash.getValue();
+        entry.lastYutResult = lastYutResult;
+        entry.gameFinished = isGameFinished;
+        entry.winner = winner;
+        entry.captureCount = captureCount;
+        entry.stackCount = stackCount;
+        entry.savePending(pendingYutResults);
+    }
+
+    /**
+     * 이동이 바꿀 수 있는 위치(출발 위치, 목적지, 목적지가 중앙점이면 모든 중앙점)를 중복 없이 모음
+     * 시작점은 해시에 들어가지 않으므로 잡힌 말이 돌아가는 것은 따로 모으지 않습니다.
+     * @param from 출발 위치
+     * @param destination 목적지
+     * @return 모은 위치 개수
+     */
+    private int collectHashPlaces(Place from, Place destination) {
+        int count = addHashPlace(0, from);
+        count = addHashPlace(count, destination);
+        if (destination.isCenter()) {
+            for (int centerIndex : board.getCenterIndices()) {
+                count = addHashPlace(count, board.getPlaceByIndex(centerIndex));
+            }
+        }
+        return count;
+    }
+
+    private int addHashPlace(int count, Place place) {
+        if (place == null) {
+            return count;
+        }
+        for (int i = 0; i < count; i++) {
+            if (hashPlaces[i] == place) {
+                return count;
+            }
+        }
+        hashPlaces[count] = place;
+        return count + 1;
+    }
+
+    private void toggleHashPlaces(int count) {
+        for (int i = 0; i < count; i++) {
+            zobristHash.togglePlace(hashPlaces[i], players);
+        }
+    }
+
+    /**
+     * 현재 상태로 해시를 다시 계산
+     */
+    private void resetZobristHash() {
+        zobristHash.reset(board, players, turnService.saveState(), pendingYutResults);
+    }
+
+    /**
+     * 해시 검증이 켜져 있으면 갱신해 온 해시를 전체 재계산 값과 비교
+     * @throws IllegalStateException 두 값이 다를 때
+     */
+    private void verifyZobristHash() {
+        if (!zobristVerification || board == null) {
+            return;
+        }
+        long expected = zobristHash.compute(board, players, turnService.saveState(), pendingYutResults);
+        if (expected != zobristHash.getValue()) {
+            throw new IllegalStateException(String.format(
+                    "Zobrist 해시 불일치: 갱신 값 %016x, 재계산 값 %016x", zobristHash.getValue(), expected));
+        }
+    }
+
+    /**
+     * 사건 기록과 리플레이 기록을 잠시 끄고 실행 (탐색 중 행동은 기록하지 않음)
+     * @param action 실행할 행동
+     */
+    private void runUnrecorded(Runnable action) {
+        boolean recording = eventLog.isRecording();
+        ReplayWriter writer = replayWriter;
+        eventLog.setRecording(false);
+        replayWriter = null;
+        try {
+            action.run();
+        } finally {
+            eventLog.setRecording(recording);
+            replayWriter = writer;
+        }
+    }
+
     /**
      * 말 이동 후 상호작용 처리 (잡기/업기)
      * @param piece 이동한 말
@@ -205,8 +643,9 @@ public class Game {
         // 중심점 특별 처리
         if (destination.isCenter()) {
             // 중심점 잡기 확인
-            boolean captured = interactionService.checkCenterCapture(piece, board, gameLog);
+            boolean captured = interactionService.checkCenterCapture(piece, board, eventLog);
             if (captured) {
+                captureCount++;
                 // 잡기 발생 시 추가 턴 부여
                 Player currentPlayer = getCurrentPlayer();
                 if (piece.getPlayer().equals(currentPlayer)) {
@@ -216,15 +655,16 @@ public class Game {
             }
 
             // 잡기가 발생하지 않았으면 중심점 업기 확인
-            boolean stacked = interactionService.checkCenterStacking(piece, board, gameLog);
+            boolean stacked = interactionService.checkCenterStacking(piece, board, eventLog);
 
             // 중심점 업기 이후에도 같은 위치의 업기 확인
-            interactionService.checkAndApplyGrouping(destination, piece, board, gameLog);
+            interactionService.checkAndApplyGrouping(destination, piece, board, eventLog);
         }
         // 일반적인 잡기 확인
         else if (interactionService.isCapture(destination, getCurrentPlayer())) {
-            boolean captured = interactionService.applyCapture(piece, board, gameLog);
+            boolean captured = interactionService.applyCapture(piece, board, eventLog);
             if (captured) {
+                captureCount++;
                 // 잡기 후 추가 턴 부여
                 Player currentPlayer = getCurrentPlayer();
                 if (piece.getPlayer().equals(currentPlayer)) {
@@ -234,7 +674,7 @@ public class Game {
         }
         // 업기 확인
         else {
-            interactionService.checkAndApplyGrouping(destination, piece, board, gameLog);
+            interactionService.checkAndApplyGrouping(destination, piece, board, eventLog);
         }
     }
 
@@ -246,7 +686,12 @@ public class Game {
      * @return 업기 성공 여부
      */
     public boolean applyGrouping(Piece piece1, Piece piece2) {
-        return interactionService.applyGrouping(piece1, piece2, gameLog);
+        int hashPlaceCount = addHashPlace(addHashPlace(0, piece1.getCurrentPlace()), piece2.getCurrentPlace());
+        toggleHashPlaces(hashPlaceCount);
+        boolean grouped = interactionService.applyGrouping(piece1, piece2, eventLog);
+        toggleHashPlaces(hashPlaceCount);
+        verifyZobristHash();
+        return grouped;
     }
 
     /**
@@ -255,7 +700,15 @@ public class Game {
      * @return 업기가 발생했으면 true, 아니면 false
      */
     public boolean checkCenterStacking(Piece piece) {
-        return interactionService.checkCenterStacking(piece, board, gameLog);
+        int hashPlaceCount = 0;
+        for (int centerIndex : board.getCenterIndices()) {
+            hashPlaceCount = addHashPlace(hashPlaceCount, board.getPlaceByIndex(centerIndex));
+        }
+        toggleHashPlaces(hashPlaceCount);
+        boolean stacked = interactionService.checkCenterStacking(piece, board, eventLog);
+        toggleHashPlaces(hashPlaceCount);
+        verifyZobristHash();
+        return stacked;
     }
 
     /**
@@ -276,7 +729,10 @@ public class Game {
             if (isPlayerWinner(player)) {
                 isGameFinished = true;
                 winner = player;
-                addToGameLog(player.getName() + "이(가) 게임에서 승리했습니다!");
+                eventLog.won(player);
+                if (replayWriter != null) {
+                    replayWriter.endGame();
+                }
                 return true;
             }
         }
@@ -288,6 +744,23 @@ public class Game {
      */
     public void endTurnIfNoExtraTurn() {
         turnService.endTurnIfNoExtraTurn(players);
+        verifyZobristHash();
+    }
+
+    /**
+     * 남은 윷 결과로 이동할 수 있는 말이 없을 때 결과를 버리고 턴 진행
+     * (던진 직후 첫 결과만 확인하는 checkMovablePieces가 잡지 못하는 경우 사용)
+     */
+    public void forfeitPendingResults() {
+        if (pendingYutResults.isEmpty()) {
+            return;
+        }
+        eventLog.noMovablePiece(getCurrentPlayer(), true);
+        if (replayWriter != null) {
+            replayWriter.recordForfeit();
+        }
+        turnService.clearPendingYutResults();
+        endTurnIfNoExtraTurn();
     }
 
     /**
@@ -297,8 +770,8 @@ public class Game {
         if (!pendingYutResults.isEmpty()) {
             List<Piece> movablePieces = getMovablePieces();
             if (movablePieces.isEmpty()) {
-                addToGameLog("이동 가능한 말이 없습니다. 턴을 넘깁니다.");
-                pendingYutResults.clear(); // 이 줄 추가 필요!
+                eventLog.noMovablePiece(getCurrentPlayer(), false);
+                turnService.clearPendingYutResults();
                 endTurnIfNoExtraTurn();
             }
         }
@@ -313,18 +786,8 @@ public class Game {
             return new ArrayList<>();
         }
 
-        Yut.YutResult firstResult = pendingYutResults.get(0);
-        List<Piece> allPieces = getMovablePieces(getCurrentPlayer(), firstResult);
-        List<Piece> validMovablePieces = new ArrayList<>();
-
-        // 업혀있지 않은 말만 반환
-        for (Piece piece : allPieces) {
-            if (!piece.isCarried()) {
-                validMovablePieces.add(piece);
-            }
-        }
-
-        return validMovablePieces;
+        // 첫 번째 남은 결과(이동 칸 수가 가장 큰 결과) 기준 (업힌 말은 canMove에서 제외)
+        return getMovablePieces(getCurrentPlayer(), pendingYutResults.get(0));
     }
 
     /**
@@ -337,15 +800,7 @@ public class Game {
         } else if (gameSettings != null) {
             initialize(gameSettings);
         }
-        addToGameLog("게임이 재시작되었습니다.");
-    }
-
-    /**
-     * 게임 로그에 메시지 추가
-     * @param message 로그 메시지
-     */
-    private void addToGameLog(String message) {
-        gameLog.add(message);
+        eventLog.gameRestarted();
     }
 
     // Getter 메소드들
@@ -430,18 +885,117 @@ public class Game {
     }
 
     /**
-     * 게임 로그 반환
+     * 이번 게임의 잡기 횟수 반환
+     * @return 잡기 횟수
+     */
+    public int getCaptureCount() {
+        return captureCount;
+    }
+
+    /**
+     * 이번 게임에서 업기가 일어난 이동 횟수 반환
+     * @return 업기 횟수
+     */
+    public int getStackCount() {
+        return stackCount;
+    }
+
+    /**
+     * 이번 게임에서 다음 플레이어로 턴이 넘어간 횟수 반환
+     * @return 턴 수
+     */
+    public int getTurnCount() {
+        return turnService.getTurnCount();
+    }
+
+    /**
+     * 게임 로그 반환 (보관 중인 최근 사건을 이 시점에 문장으로 변환)
+     * 화면 갱신처럼 자주 읽는 경우 getEventLog().readMessagesSince(순번)로 새 로그만 읽으세요.
      * @return 게임 로그 목록
      */
     public List<String> getGameLog() {
-        return new ArrayList<>(gameLog);
+        return eventLog.toMessages();
     }
 
     /**
-     * 윷/모 결과를 저장하는 리스트 반환
-     * @return 윷/모 결과를 저장하는 리스트
+     * 잡기/업기 디버그 추적 출력기 반환 (수준과 출력 대상 설정용)
+     * @return 추적 출력기
+     */
+    public GameTracer getTracer() {
+        return interactionService.getTracer();
+    }
+
+    /**
+     * 게임 사건 기록 반환 (순번 기반 읽기, 기록 끄기, 파일 내보내기 설정용)
+     * @return 게임 사건 기록
+     */
+    public GameEventLog getEventLog() {
+        return eventLog;
+    }
+
+    /**
+     * 이진 리플레이 기록기 연결 (다음 initialize부터 기록, null이면 기록 중지)
+     * @param replayWriter 리플레이 기록기
+     */
+    public void setReplayWriter(ReplayWriter replayWriter) {
+        this.replayWriter = replayWriter;
+    }
+
+    /**
+     * 현재 국면의 Zobrist 해시 반환
+     * 말 위치(업힌 말 포함, 같은 플레이어의 말끼리는 구분하지 않음), 턴 인덱스와 추가 턴 상태,
+     * 남은 윷 결과로 정해지며, 이동과 턴 변경마다 바뀐 부분만 갱신하므로 읽는 비용은 O(1)입니다.
+     * 같은 국면이면 다른 게임 객체나 다른 JVM에서도 같은 값입니다.
+     * @return 해시 값
+     */
+    public long getZobristHash() {
+        return zobristHash.getValue();
+    }
+
+    /**
+     * Zobrist 해시 검증 설정 (디버그용)
+     * 켜면 이동, 던지기, 턴 변경, 되돌리기마다 해시를 처음부터 다시 계산하여 비교하고,
+     * 다르면 IllegalStateException을 던집니다. 말을 Piece.moveTo 등으로 직접 옮기면 해시가 맞지 않으므로
+     * 그런 테스트에서는 끄세요.
+     * @param zobristVerification 검증 여부
+     */
+    public void setZobristVerification(boolean zobristVerification) {
+        this.zobristVerification = zobristVerification;
+        verifyZobristHash();
+    }
+
+    /**
+     * 남은 윷 결과가 있는지 확인 (목록을 복사하지 않음)
+     * @return 남은 결과가 있으면 true
+     */
+    public boolean hasPendingYutResults() {
+        return !pendingYutResults.isEmpty();
+    }
+
+    /**
+     * 지금 윷을 던질 차례인지 확인 (탐색용)
+     * GameSimulator와 같은 순서로, 남은 결과가 없거나 방금 윷/모가 나왔으면 이동 전에 던집니다.
+     * @return 던질 차례이면 true
+     */
+    boolean isAwaitingThrow() {
+        return pendingYutResults.isEmpty()
+                || (lastYutResult != null && lastYutResult.grantsExtraThrow());
+    }
+
+    /**
+     * 남은 윷 결과 목록의 복사본 반환 (이동 칸 수가 큰 결과부터)
+     * 화면 갱신처럼 자주 읽는 곳에서는 복사하지 않는 getPendingYutResultsView를 쓰세요.
+     * @return 남은 윷 결과 목록 (복사본)
      */
     public List<Yut.YutResult> getPendingYutResults() {
-        return new ArrayList<>(pendingYutResults);
+        return new ArrayList<>(pendingYutResults.asList());
+    }
+
+    /**
+     * 남은 윷 결과의 읽기 전용 목록 보기 반환 (이동 칸 수가 큰 결과부터, 복사하지 않으며 게임이 진행되면 함께 바뀜)
+     * @return 남은 윷 결과 목록 보기
+     */
+    public List<Yut.YutResult> getPendingYutResultsView() {
+        return pendingYutResults.asList();
     }
 }
\ No newline at end of file
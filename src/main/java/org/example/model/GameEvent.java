@@ -0,0 +1,291 @@
+package org.example.model;
+
+import java.util.List;
+
+/**
+ * 게임 진행 중 발생한 사건 하나를 나타내는 불변 클래스
+ * 사건의 종류와 관련 객체만 보관하고, 사람이 읽는 문장은 toMessage() 호출 시점에 만듭니다.
+ * (플레이어 이름, 말 ID, 위치 이름은 게임 중 바뀌지 않으므로 나중에 만들어도 같은 문장이 됩니다.)
+ */
+public final class GameEvent {
+
+    /**
+     * 사건 종류 열거형
+     */
+    public enum Type {
+        GAME_STARTED,          // 게임 시작
+        GAME_RESTARTED,        // 게임 재시작
+        THROWN,                // 윷 던지기 (지정 포함)
+        MOVED,                 // 말 이동
+        INVALID_MOVE,          // 남아 있지 않은 윷 결과 또는 현재 플레이어의 것이 아닌 말로 이동 시도
+        CAPTURED,              // 잡기
+        STACKED,               // 업기
+        EXTRA_TURN,            // 추가 턴 부여 (윷/모 또는 잡기)
+        EXTRA_TURN_CONTINUED,  // 추가 턴 계속 (다시 던지기 또는 남은 윷 결과 사용)
+        TURN_CHANGED,          // 턴 전환
+        NO_MOVABLE_PIECE,      // 이동 가능한 말이 없어 윷 결과를 버림
+        WON                    // 승리
+    }
+
+    private final Type type;
+    private final Player player;          // 사건의 주체 플레이어
+    private final Piece piece;            // 이동/잡기/업기를 한 말
+    private final Piece otherPiece;       // 잡힌 말 또는 업힌 말
+    private final Place from;             // 출발 위치
+    private final Place to;               // 도착 위치
+    private final Yut.YutResult result;   // 윷 결과
+    private final List<Yut.YutResult> results; // 남은 윷 결과 (EXTRA_TURN_CONTINUED)
+    private final Board.BoardType boardType;   // 보드 형태 (GAME_STARTED)
+    private final int count;              // 플레이어 수 또는 함께 돌아간 업힌 말 수
+    private final int secondCount;        // 플레이어당 말 개수 (GAME_STARTED)
+    private final boolean flag;           // 종류별 보조 표시 (의미는 isSpecified, isAtCenter 등 종류별 접근자로 노출)
+
+    private GameEvent(Type type, Player player, Piece piece, Piece otherPiece, Place from, Place to,
+                      Yut.YutResult result, List<Yut.YutResult> results, Board.BoardType boardType,
+                      int count, int secondCount, boolean flag) {
+        this.type = type;
+        this.player = player;
+        this.piece = piece;
+        this.otherPiece = otherPiece;
+        this.from = from;
+        this.to = to;
+        this.result = result;
+        this.results = results;
+        this.boardType = boardType;
+        this.count = count;
+        this.secondCount = secondCount;
+        this.flag = flag;
+    }
+
+    static GameEvent gameStarted(Board.BoardType boardType, int playerCount, int piecePerPlayer) {
+        return new GameEvent(Type.GAME_STARTED, null, null, null, null, null, null, null,
+                boardType, playerCount, piecePerPlayer, false);
+    }
+
+    static GameEvent gameRestarted() {
+        return new GameEvent(Type.GAME_RESTARTED, null, null, null, null, null, null, null,
+                null, 0, 0, false);
+    }
+
+    static GameEvent thrown(Player player, Yut.YutResult result, boolean specified) {
+        return new GameEvent(Type.THROWN, player, null, null, null, null, result, null,
+                null, 0, 0, specified);
+    }
+
+    static GameEvent moved(Player player, Piece piece, Place from, Place to, Yut.YutResult result) {
+        return new GameEvent(Type.MOVED, player, piece, null, from, to, result, null,
+                null, 0, 0, false);
+    }
+
+    static GameEvent invalidMove(Player player, Yut.YutResult result) {
+        return new GameEvent(Type.INVALID_MOVE, player, null, null, null, null, result, null,
+                null, 0, 0, false);
+    }
+
+    static GameEvent invalidPiece(Player player, Piece piece, Yut.YutResult result) {
+        return new GameEvent(Type.INVALID_MOVE, player, piece, null, null, null, result, null,
+                null, 0, 0, false);
+    }
+
+    static GameEvent captured(Player player, Piece piece, Piece capturedPiece, int carriedCount, boolean atCenter) {
+        return new GameEvent(Type.CAPTURED, player, piece, capturedPiece, null, null, null, null,
+                null, carriedCount, 0, atCenter);
+    }
+
+    static GameEvent stacked(Player player, Piece piece, Piece stackedPiece, boolean acrossCenters) {
+        return new GameEvent(Type.STACKED, player, piece, stackedPiece, null, null, null, null,
+                null, 0, 0, acrossCenters);
+    }
+
+    static GameEvent extraTurn(Player player, boolean byCapture) {
+        return new GameEvent(Type.EXTRA_TURN, player, null, null, null, null, null, null,
+                null, 0, 0, byCapture);
+    }
+
+    static GameEvent extraTurnContinued(Player player, List<Yut.YutResult> remainingResults) {
+        return new GameEvent(Type.EXTRA_TURN_CONTINUED, player, null, null, null, null, null, remainingResults,
+                null, 0, 0, false);
+    }
+
+    static GameEvent turnChanged(Player player, boolean extraTurn) {
+        return new GameEvent(Type.TURN_CHANGED, player, null, null, null, null, null, null,
+                null, 0, 0, extraTurn);
+    }
+
+    static GameEvent noMovablePiece(Player player, boolean forfeited) {
+        return new GameEvent(Type.NO_MOVABLE_PIECE, player, null, null, null, null, null, null,
+                null, 0, 0, forfeited);
+    }
+
+    static GameEvent won(Player player) {
+        return new GameEvent(Type.WON, player, null, null, null, null, null, null,
+                null, 0, 0, false);
+    }
+
+    /**
+     * 사람이 읽는 로그 문장 생성
+     * @return 로그 문장
+     */
+    public String toMessage() {
+        switch (type) {
+            case GAME_STARTED:
+                return "게임이 시작되었습니다. 보드 형태: " + boardType +
+                        ", 플레이어 수: " + count + ", 말 개수: " + secondCount;
+            case GAME_RESTARTED:
+                return "게임이 재시작되었습니다.";
+            case THROWN:
+                if (flag) {
+                    return player.getName() + "이(가) " + formatResult(result) + "로 지정했습니다.";
+                }
+                return player.getName() + "이(가) 윷을 던져 " + formatResult(result) + "가 나왔습니다.";
+            case MOVED:
+                return player.getName() + "의 말 " + piece.getId() +
+                        "이(가) " + (from.getName() != null ? from.getName() : "시작점") +
+                        "에서 " + (to.getName() != null ? to.getName() : "도착점") +
+                        "으로 " + formatResult(result) + " 만큼 이동했습니다.";
+            case INVALID_MOVE:
+                if (piece != null) {
+                    return "[오류] " + player.getName() + "의 말이 아닙니다: " + piece.getId();
+                }
+                return "[오류] 이동에 사용할 수 없는 윷 결과입니다.";
+            case CAPTURED: {
+                String message = player.getName() + "의 말 " + piece.getId() +
+                        "이(가) " + (flag ? "중심점에서 " : "") + otherPiece.getPlayer().getName() +
+                        "의 말 " + otherPiece.getId() + "을(를) 잡았습니다.";
+                if (count > 0) {
+                    message += " 업힌 말 " + count + "개도 함께 시작점으로 돌아갑니다.";
+                }
+                return message;
+            }
+            case STACKED:
+                return player.getName() + "의 말 " + piece.getId() + "이(가) " +
+                        (flag ? "다른 중심점에 있던 " : "") + otherPiece.getId() + "을(를) 업었습니다.";
+            case EXTRA_TURN:
+                return player.getName() + "에게 추가 턴이 부여되었습니다. " + (flag ? "(잡기)" : "(윷/모)");
+            case EXTRA_TURN_CONTINUED:
+                if (results == null || results.isEmpty()) {
+                    return player.getName() + "의 추가 턴입니다. 윷을 던지세요.";
+                }
+                return player.getName() + "의 추가 턴이 남아있습니다. 윷 결과: " + formatResults(results);
+            case TURN_CHANGED:
+                return player.getName() + (flag ? "의 추가 턴입니다." : "의 턴입니다.");
+            case NO_MOVABLE_PIECE:
+                return flag ? "이동 가능한 말이 없어 남은 윷 결과를 버립니다."
+                        : "이동 가능한 말이 없습니다. 턴을 넘깁니다.";
+            case WON:
+                return player.getName() + "이(가) 게임에서 승리했습니다!";
+            default:
+                return type.name();
+        }
+    }
+
+    private static String formatResult(Yut.YutResult result) {
+        return result.getName() + "(" + result.getMoveCount() + "칸)";
+    }
+
+    private static String formatResults(List<Yut.YutResult> results) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < results.size(); i++) {
+            sb.append(formatResult(results.get(i)));
+            if (i < results.size() - 1) {
+                sb.append(", ");
+            }
+        }
+        return sb.toString();
+    }
+
+    // Getter 메소드들
+
+    public Type getType() {
+        return type;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public Piece getPiece() {
+        return piece;
+    }
+
+    /**
+     * 잡힌 말 또는 업힌 말 반환
+     * @return 상대 말 (없으면 null)
+     */
+    public Piece getOtherPiece() {
+        return otherPiece;
+    }
+
+    public Place getFrom() {
+        return from;
+    }
+
+    public Place getTo() {
+        return to;
+    }
+
+    public Yut.YutResult getResult() {
+        return result;
+    }
+
+    /**
+     * 잡기와 함께 시작점으로 돌아간 업힌 말 수 (CAPTURED)
+     * @return 업힌 말 수
+     */
+    public int getCarriedCount() {
+        return type == Type.CAPTURED ? count : 0;
+    }
+
+    /**
+     * 윷 결과를 던지지 않고 지정했는지 여부 (THROWN)
+     * @return 지정이면 true
+     */
+    public boolean isSpecified() {
+        return type == Type.THROWN && flag;
+    }
+
+    /**
+     * 중심점에서 잡았는지 여부 (CAPTURED)
+     * @return 중심점 잡기면 true
+     */
+    public boolean isAtCenter() {
+        return type == Type.CAPTURED && flag;
+    }
+
+    /**
+     * 다른 중앙점에 있던 말을 업었는지 여부 (STACKED)
+     * @return 중앙점을 건너 업었으면 true
+     */
+    public boolean isAcrossCenters() {
+        return type == Type.STACKED && flag;
+    }
+
+    /**
+     * 잡기로 얻은 추가 턴인지 여부 (EXTRA_TURN, 아니면 윷/모로 얻은 추가 턴)
+     * @return 잡기로 인한 추가 턴이면 true
+     */
+    public boolean isFromCapture() {
+        return type == Type.EXTRA_TURN && flag;
+    }
+
+    /**
+     * 추가 턴으로 같은 플레이어에게 턴이 돌아왔는지 여부 (TURN_CHANGED)
+     * @return 추가 턴이면 true
+     */
+    public boolean isExtraTurn() {
+        return type == Type.TURN_CHANGED && flag;
+    }
+
+    /**
+     * 남은 윷 결과를 버렸는지 여부 (NO_MOVABLE_PIECE, 아니면 턴을 넘김)
+     * @return 결과를 버렸으면 true
+     */
+    public boolean isForfeited() {
+        return type == Type.NO_MOVABLE_PIECE && flag;
+    }
+
+    @Override
+    public String toString() {
+        return toMessage();
+    }
+}
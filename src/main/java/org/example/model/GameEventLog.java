@@ -0,0 +1,446 @@
+package org.example.model;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임 사건(GameEvent) 기록 클래스
+ * Game, TurnService, GameInteractionService가 공유하며, 문장은 UI가 요청할 때만 만듭니다.
+ * 기록을 끄면 기록 메서드가 사건 객체도 만들지 않고 바로 반환합니다. (헤드리스 시뮬레이션용)
+ *
+ * 최대 용량의 원형 버퍼에 최근 사건만 보관합니다. 버퍼는 첫 사건이 기록될 때 작게 만들고
+ * 가득 차면 용량까지 두 배씩 늘리므로, 기록을 끈 게임(시뮬레이션, 탐색 작업자)은 버퍼를 만들지 않습니다.
+ * 사건마다 0부터 증가하는 순번이 붙고,
+ * 읽는 쪽은 마지막으로 읽은 순번 이후의 새 사건만 가져갈 수 있습니다. (readSince)
+ * 넘치거나 삭제되는 사건은 파일 내보내기를 켜 둔 경우 "순번\t문장" 줄로 파일에 덧붙입니다.
+ */
+public class GameEventLog implements Closeable {
+    public static final int DEFAULT_CAPACITY = 1024; // 기본 보관 사건 수
+    private static final int INITIAL_BUFFER_SIZE = 16; // 처음 만드는 버퍼 크기
+    private static final GameEvent[] EMPTY = new GameEvent[0];
+
+    private final int capacity;   // 보관할 최대 사건 수
+    private GameEvent[] buffer;   // 원형 버퍼 (순번 % 버퍼 길이 위치에 저장, 아직 기록이 없으면 EMPTY)
+    private long firstSequence;   // 보관 중인 가장 오래된 사건의 순번
+    private long nextSequence;    // 다음에 기록될 사건의 순번
+    private long generation;      // clear() 호출 횟수 (읽는 쪽이 새 게임 시작을 알아채는 용도)
+    private boolean recording;
+    private BufferedWriter spillWriter; // 밀려난 사건을 내보낼 파일 (없으면 null)
+
+    /**
+     * 생성자 (기본 용량, 기록 켜짐)
+     */
+    public GameEventLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 용량을 지정하는 생성자 (기록 켜짐)
+     * @param capacity 보관할 최대 사건 수
+     */
+    public GameEventLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("로그 용량은 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.buffer = EMPTY;
+        this.recording = true;
+    }
+
+    /**
+     * 기록 여부 반환
+     * @return 기록 중이면 true
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * 기록 여부 설정 (끄면 이후 사건은 버려짐)
+     * @param recording 기록 여부
+     */
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * 게임 시작 기록
+     * @param settings 게임 설정
+     */
+    public void gameStarted(GameSettings settings) {
+        if (recording) {
+            add(GameEvent.gameStarted(settings.getBoardType(), settings.getPlayerCount(), settings.getPiecePerPlayer()));
+        }
+    }
+
+    /**
+     * 게임 재시작 기록
+     */
+    public void gameRestarted() {
+        if (recording) {
+            add(GameEvent.gameRestarted());
+        }
+    }
+
+    /**
+     * 윷 던지기 기록
+     * @param player 던진 플레이어
+     * @param result 윷 결과
+     * @param specified 결과를 지정했으면 true
+     */
+    public void thrown(Player player, Yut.YutResult result, boolean specified) {
+        if (recording) {
+            add(GameEvent.thrown(player, result, specified));
+        }
+    }
+
+    /**
+     * 말 이동 기록
+     * @param player 플레이어
+     * @param piece 이동한 말
+     * @param from 출발 위치
+     * @param to 도착 위치
+     * @param result 사용한 윷 결과
+     */
+    public void moved(Player player, Piece piece, Place from, Place to, Yut.YutResult result) {
+        if (recording) {
+            add(GameEvent.moved(player, piece, from, to, result));
+        }
+    }
+
+    /**
+     * 남아 있지 않은 윷 결과로 이동 시도 기록
+     * @param player 현재 플레이어
+     * @param result 윷 결과
+     */
+    public void invalidMove(Player player, Yut.YutResult result) {
+        if (recording) {
+            add(GameEvent.invalidMove(player, result));
+        }
+    }
+
+    /**
+     * 현재 플레이어의 것이 아닌 말로 이동 시도 기록
+     * @param player 현재 플레이어
+     * @param piece 이동하려던 말
+     * @param result 윷 결과
+     */
+    public void invalidPiece(Player player, Piece piece, Yut.YutResult result) {
+        if (recording) {
+            add(GameEvent.invalidPiece(player, piece, result));
+        }
+    }
+
+    /**
+     * 잡기 기록
+     * @param player 잡은 플레이어
+     * @param piece 잡은 말
+     * @param capturedPiece 잡힌 말
+     * @param carriedCount 함께 돌아간 업힌 말 수
+     * @param atCenter 중심점에서 잡았으면 true
+     */
+    public void captured(Player player, Piece piece, Piece capturedPiece, int carriedCount, boolean atCenter) {
+        if (recording) {
+            add(GameEvent.captured(player, piece, capturedPiece, carriedCount, atCenter));
+        }
+    }
+
+    /**
+     * 업기 기록
+     * @param player 플레이어
+     * @param piece 업은 말
+     * @param stackedPiece 업힌 말
+     * @param acrossCenters 업힌 말이 다른 중심점에 있었으면 true
+     */
+    public void stacked(Player player, Piece piece, Piece stackedPiece, boolean acrossCenters) {
+        if (recording) {
+            add(GameEvent.stacked(player, piece, stackedPiece, acrossCenters));
+        }
+    }
+
+    /**
+     * 추가 턴 부여 기록
+     * @param player 플레이어
+     * @param byCapture 잡기로 얻었으면 true (아니면 윷/모)
+     */
+    public void extraTurn(Player player, boolean byCapture) {
+        if (recording) {
+            add(GameEvent.extraTurn(player, byCapture));
+        }
+    }
+
+    /**
+     * 추가 턴 계속 기록
+     * @param player 플레이어
+     * @param remainingResults 남은 윷 결과 (비어 있으면 다시 던질 차례, 기록 시점의 사본을 저장)
+     */
+    public void extraTurnContinued(Player player, List<Yut.YutResult> remainingResults) {
+        if (recording) {
+            add(GameEvent.extraTurnContinued(player, new ArrayList<>(remainingResults)));
+        }
+    }
+
+    /**
+     * 턴 전환 기록
+     * @param player 차례가 된 플레이어
+     * @param extraTurn 추가 턴이면 true
+     */
+    public void turnChanged(Player player, boolean extraTurn) {
+        if (recording) {
+            add(GameEvent.turnChanged(player, extraTurn));
+        }
+    }
+
+    /**
+     * 이동 가능한 말이 없음 기록
+     * @param player 플레이어
+     * @param forfeited 남은 윷 결과를 버렸으면 true
+     */
+    public void noMovablePiece(Player player, boolean forfeited) {
+        if (recording) {
+            add(GameEvent.noMovablePiece(player, forfeited));
+        }
+    }
+
+    /**
+     * 승리 기록
+     * @param player 승리한 플레이어
+     */
+    public void won(Player player) {
+        if (recording) {
+            add(GameEvent.won(player));
+        }
+    }
+
+    /**
+     * 사건 추가 (기록 여부와 관계없이 추가)
+     * 버퍼가 가득 차면 용량까지는 늘리고, 용량에 이르렀으면 가장 오래된 사건을 밀어내며
+     * 파일 내보내기가 켜져 있으면 파일에 씁니다.
+     * @param event 사건
+     */
+    void add(GameEvent event) {
+        if (nextSequence - firstSequence == buffer.length) {
+            if (buffer.length < capacity) {
+                grow();
+            } else {
+                evictOldest();
+            }
+        }
+        buffer[slot(nextSequence)] = event;
+        nextSequence++;
+    }
+
+    /**
+     * 버퍼를 두 배로 (처음에는 INITIAL_BUFFER_SIZE, 최대 용량까지) 늘리고 사건을 새 위치로 옮김
+     */
+    private void grow() {
+        GameEvent[] grown = new GameEvent[Math.min(capacity, Math.max(INITIAL_BUFFER_SIZE, buffer.length * 2))];
+        for (long s = firstSequence; s < nextSequence; s++) {
+            grown[(int) (s % grown.length)] = buffer[slot(s)];
+        }
+        buffer = grown;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % buffer.length);
+    }
+
+    private void evictOldest() {
+        int oldest = slot(firstSequence);
+        spill(firstSequence, buffer[oldest]);
+        buffer[oldest] = null;
+        firstSequence++;
+    }
+
+    /**
+     * 보관 중인 사건을 모두 삭제 (순번은 이어서 증가)
+     * 파일 내보내기가 켜져 있으면 삭제되는 사건도 파일에 씁니다.
+     */
+    public void clear() {
+        while (firstSequence < nextSequence) {
+            evictOldest();
+        }
+        generation++;
+    }
+
+    /**
+     * 밀려난 사건을 파일에 내보내도록 설정 (기존 파일 뒤에 덧붙임)
+     * @param file 내보낼 파일
+     */
+    public void enableSpill(Path file) {
+        disableSpill();
+        try {
+            spillWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException("게임 로그 파일을 열 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 파일 내보내기 해제 (파일을 닫음)
+     */
+    public void disableSpill() {
+        if (spillWriter == null) {
+            return;
+        }
+        BufferedWriter writer = spillWriter;
+        spillWriter = null;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("게임 로그 파일을 닫을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 파일 내보내기 여부 반환
+     * @return 내보내는 중이면 true
+     */
+    public boolean isSpilling() {
+        return spillWriter != null;
+    }
+
+    /**
+     * 내보낸 내용을 파일에 반영
+     */
+    public void flush() {
+        if (spillWriter == null) {
+            return;
+        }
+        try {
+            spillWriter.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("게임 로그 파일에 기록할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        disableSpill();
+    }
+
+    private void spill(long sequence, GameEvent event) {
+        if (spillWriter == null) {
+            return;
+        }
+        try {
+            spillWriter.write(Long.toString(sequence));
+            spillWriter.write('\t');
+            spillWriter.write(event.toMessage());
+            spillWriter.newLine();
+        } catch (IOException e) {
+            throw new IllegalStateException("게임 로그 파일에 기록할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 보관 중인 사건 수 반환
+     * @return 사건 수
+     */
+    public int size() {
+        return (int) (nextSequence - firstSequence);
+    }
+
+    /**
+     * 보관 가능한 최대 사건 수 반환
+     * @return 용량
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 지금 만들어 둔 버퍼 길이 (기록한 사건이 없으면 0)
+     * @return 버퍼 길이
+     */
+    int getBufferLength() {
+        return buffer.length;
+    }
+
+    /**
+     * 보관 중인 가장 오래된 사건의 순번 반환
+     * @return 순번 (보관 중인 사건이 없으면 getNextSequence()와 같음)
+     */
+    public long getFirstSequence() {
+        return firstSequence;
+    }
+
+    /**
+     * 다음에 기록될 사건의 순번 반환
+     * 지금까지 읽은 위치로 저장해 두었다가 readSince에 넘기면 새 사건만 받을 수 있습니다.
+     * @return 순번
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * clear() 호출 횟수 반환 (바뀌었으면 새 게임이 시작된 것)
+     * @return 삭제 횟수
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * 지정한 순번부터의 사건 반환
+     * 이미 밀려난 순번을 넘기면 보관 중인 가장 오래된 사건부터 반환합니다.
+     * @param sequence 시작 순번 (포함)
+     * @return 사건 목록
+     */
+    public List<GameEvent> readSince(long sequence) {
+        long from = Math.max(sequence, firstSequence);
+        List<GameEvent> result = new ArrayList<>((int) Math.max(0, nextSequence - from));
+        for (long s = from; s < nextSequence; s++) {
+            result.add(buffer[slot(s)]);
+        }
+        return result;
+    }
+
+    /**
+     * 지정한 순번부터의 사건을 문장으로 변환하여 반환
+     * @param sequence 시작 순번 (포함)
+     * @return 로그 문장 목록
+     */
+    public List<String> readMessagesSince(long sequence) {
+        List<GameEvent> events = readSince(sequence);
+        List<String> messages = new ArrayList<>(events.size());
+        for (GameEvent event : events) {
+            messages.add(event.toMessage());
+        }
+        return messages;
+    }
+
+    /**
+     * 가장 최근 사건 반환
+     * @param count 가져올 최대 사건 수
+     * @return 사건 목록 (오래된 순)
+     */
+    public List<GameEvent> tail(int count) {
+        return readSince(nextSequence - Math.max(0, count));
+    }
+
+    /**
+     * 보관 중인 사건 목록 반환
+     * @return 사건 목록 (사본)
+     */
+    public List<GameEvent> getEvents() {
+        return readSince(firstSequence);
+    }
+
+    /**
+     * 보관 중인 사건을 사람이 읽는 문장 목록으로 변환
+     * @return 로그 문장 목록
+     */
+    public List<String> toMessages() {
+        return readMessagesSince(firstSequence);
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.model;
+
+import java.util.Arrays;
+
+/**
+ * Game의 이동/던지기 되돌리기 기록
+ * 기록 하나에는 그 행동 전의 턴 상태와, 행동이 바꿀 수 있는 위치와 말의 상태만 담깁니다.
+ * 기록 객체와 내부 배열은 깊이마다 재사용하므로, 탐색 중에는 객체를 거의 새로 만들지 않습니다.
+ */
+final class GameJournal {
+    private Entry[] entries = new Entry[16];
+    private int depth;
+
+    /**
+     * 행동 하나의 되돌리기 기록
+     */
+    static final class Entry {
+        // 게임/턴 상태
+        long turnState;
+        long zobristHash;
+        Yut.YutResult lastYutResult;
+        boolean gameFinished;
+        Player winner;
+        int captureCount;
+        int stackCount;
+
+        private final YutResultBag pending = new YutResultBag();
+
+        // 위치별 말 목록 (placeEnds[i]: i번째 위치의 말이 placePieces에서 끝나는 위치)
+        private Place[] places = new Place[8];
+        private int[] placeEnds = new int[8];
+        private int placeCount;
+        private Piece[] placePieces = new Piece[32];
+
+        // 말 상태 (stackEnds[i]: i번째 말의 업힌 말이 stackPieces에서 끝나는 위치)
+        private Piece[] pieces = new Piece[16];
+        private Place[] piecePlaces = new Place[16];
+        private Piece[] carriers = new Piece[16];
+        private boolean[] completed = new boolean[16];
+        private int[] stackEnds = new int[16];
+        private int pieceCount;
+        private Piece[] stackPieces = new Piece[16];
+
+        /**
+         * 남은 윷 결과 저장
+         * @param pendingYutResults 남은 윷 결과
+         */
+        void savePending(YutResultBag pendingYutResults) {
+            pending.copyFrom(pendingYutResults);
+        }
+
+        /**
+         * 위치의 말 목록 저장 (같은 위치는 한 번만)
+         * @param place 위치 (null이면 무시)
+         * @param withPieces 그 위치에 있는 말들의 상태도 저장할지 여부
+         */
+        void savePlace(Place place, boolean withPieces) {
+            if (place == null || indexOf(places, placeCount, place) >= 0) {
+                return;
+            }
+            if (placeCount == places.length) {
+                places = Arrays.copyOf(places, placeCount * 2);
+                placeEnds = Arrays.copyOf(placeEnds, placeCount * 2);
+            }
+            int start = placeCount == 0 ? 0 : placeEnds[placeCount - 1];
+            if (placePieces.length < start + place.getPieceCount()) {
+                placePieces = Arrays.copyOf(placePieces, (start + place.getPieceCount()) * 2);
+            }
+            int end = start + place.copyPiecesTo(placePieces, start);
+            places[placeCount] = place;
+            placeEnds[placeCount] = end;
+            placeCount++;
+
+            if (withPieces) {
+                for (int i = start; i < end; i++) {
+                    savePiece(placePieces[i]);
+                }
+            }
+        }
+
+        /**
+         * 말 상태 저장 (업힌 말들도 함께, 같은 말은 한 번만)
+         * @param piece 말
+         */
+        void savePiece(Piece piece) {
+            if (indexOf(pieces, pieceCount, piece) >= 0) {
+                return;
+            }
+            if (pieceCount == pieces.length) {
+                int capacity = pieceCount * 2;
+                pieces = Arrays.copyOf(pieces, capacity);
+                piecePlaces = Arrays.copyOf(piecePlaces, capacity);
+                carriers = Arrays.copyOf(carriers, capacity);
+                completed = Arrays.copyOf(completed, capacity);
+                stackEnds = Arrays.copyOf(stackEnds, capacity);
+            }
+            int start = pieceCount == 0 ? 0 : stackEnds[pieceCount - 1];
+            int stackSize = piece.getTotalPieceCount() - 1;
+            if (stackPieces.length < start + stackSize) {
+                stackPieces = Arrays.copyOf(stackPieces, (start + stackSize) * 2);
+            }
+            int end = start + piece.copyStackTo(stackPieces, start);
+
+            pieces[pieceCount] = piece;
+            piecePlaces[pieceCount] = piece.getCurrentPlace();
+            carriers[pieceCount] = piece.getCarriedBy();
+            completed[pieceCount] = piece.isCompleted();
+            stackEnds[pieceCount] = end;
+            pieceCount++;
+
+            for (int i = start; i < end; i++) {
+                savePiece(stackPieces[i]);
+            }
+        }
+
+        /**
+         * 저장한 말과 위치 상태, 남은 윷 결과를 복원
+         * @param pendingYutResults 복원할 남은 윷 결과 모음
+         */
+        void restore(YutResultBag pendingYutResults) {
+            for (int i = 0; i < pieceCount; i++) {
+                int start = i == 0 ? 0 : stackEnds[i - 1];
+                pieces[i].restoreState(piecePlaces[i], carriers[i], completed[i], stackPieces, start, stackEnds[i]);
+            }
+            for (int i = 0; i < placeCount; i++) {
+                int start = i == 0 ? 0 : placeEnds[i - 1];
+                places[i].restorePieces(placePieces, start, placeEnds[i]);
+            }
+            pendingYutResults.copyFrom(pending);
+        }
+
+        /**
+         * 다음 사용을 위해 비움 (이전 게임 객체 참조도 지움)
+         */
+        void reset() {
+            int placePieceEnd = placeCount == 0 ? 0 : placeEnds[placeCount - 1];
+            int stackEnd = pieceCount == 0 ? 0 : stackEnds[pieceCount - 1];
+            Arrays.fill(places, 0, placeCount, null);
+            Arrays.fill(placePieces, 0, placePieceEnd, null);
+            Arrays.fill(pieces, 0, pieceCount, null);
+            Arrays.fill(piecePlaces, 0, pieceCount, null);
+            Arrays.fill(carriers, 0, pieceCount, null);
+            Arrays.fill(stackPieces, 0, stackEnd, null);
+            placeCount = 0;
+            pieceCount = 0;
+            pending.clear();
+            lastYutResult = null;
+            winner = null;
+        }
+
+        private static int indexOf(Object[] array, int size, Object value) {
+            for (int i = 0; i < size; i++) {
+                if (array[i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * 새 기록을 쌓고 반환
+     * @return 비어 있는 기록
+     */
+    Entry push() {
+        if (depth == entries.length) {
+            entries = Arrays.copyOf(entries, depth * 2);
+        }
+        Entry entry = entries[depth];
+        if (entry == null) {
+            entry = new Entry();
+            entries[depth] = entry;
+        }
+        depth++;
+        return entry;
+    }
+
+    /**
+     * 가장 최근 기록을 꺼냄 (reset 전까지 유효)
+     * @return 가장 최근 기록
+     */
+    Entry pop() {
+        if (depth == 0) {
+            throw new IllegalStateException("되돌릴 행동이 없습니다.");
+        }
+        return entries[--depth];
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    /**
+     * 모든 기록 삭제
+     */
+    void clear() {
+        while (depth > 0) {
+            entries[--depth].reset();
+        }
+    }
+}
@@ -19,6 +19,7 @@ public class GameSettings {
     private int playerCount;
     private int piecePerPlayer;
     private Board.BoardType boardType;
+    private YutProbabilityModel yutProbabilityModel = YutProbabilityModel.standard();
 
     /**
      * 기본 생성자
@@ -81,6 +82,18 @@ public class GameSettings {
         this.boardType = boardType;
     }
 
+    /**
+     * 윷 결과 확률 모형 설정 (막대기 무게, 지역별 빽도 규칙 실험용)
+     * @param yutProbabilityModel 확률 모형
+     * @throws NullPointerException null 입력 시
+     */
+    public void setYutProbabilityModel(YutProbabilityModel yutProbabilityModel) {
+        if (yutProbabilityModel == null) {
+            throw new NullPointerException("윷 확률 모형은 null일 수 없습니다");
+        }
+        this.yutProbabilityModel = yutProbabilityModel;
+    }
+
     /**
      * 플레이어 수 반환
      * @return 플레이어 수
@@ -105,6 +118,14 @@ public class GameSettings {
         return boardType;
     }
 
+    /**
+     * 윷 결과 확률 모형 반환
+     * @return 확률 모형 (기본값은 YutProbabilityModel.standard())
+     */
+    public YutProbabilityModel getYutProbabilityModel() {
+        return yutProbabilityModel;
+    }
+
     /**
      * 설정값이 모두 유효한지 검증
      * @return 유효성 여부
@@ -112,7 +133,7 @@ public class GameSettings {
     public boolean isValid() {
         return playerCount >= MIN_PLAYER_COUNT && playerCount <= MAX_PLAYER_COUNT
                 && piecePerPlayer >= MIN_PIECE_PER_PLAYER && piecePerPlayer <= MAX_PIECE_PER_PLAYER
-                && boardType != null;
+                && boardType != null && yutProbabilityModel != null;
     }
 
     /**
@@ -140,6 +161,7 @@ public class GameSettings {
                 "playerCount=" + playerCount +
                 ", piecePerPlayer=" + piecePerPlayer +
                 ", boardType=" + boardType +
+                (yutProbabilityModel.isStandard() ? "" : ", yutProbabilityModel=" + yutProbabilityModel) +
                 '}';
     }
 }
\ No newline at end of file
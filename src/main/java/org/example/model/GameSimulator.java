@@ -0,0 +1,162 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UI 없이 게임 전체를 진행하는 헤드리스 시뮬레이터
+ * 컨트롤러(AbstractGameController)와 같은 순서로 Game을 호출하되,
+ * 대화상자 대신 MoveStrategy가 이동할 말과 윷 결과를 고릅니다.
+ * 사건 기록은 꺼서 로그 문장이나 사건 객체를 만들지 않습니다.
+ */
+public class GameSimulator {
+    public static final int DEFAULT_MAX_ACTIONS = 10_000; // 한 판당 최대 행동(던지기/이동) 수
+
+    private GameSettings settings;
+    private MoveStrategy strategy;
+    private int maxActions;
+    private Game game;
+
+    // 이동 후보 버퍼 (매 결정마다 재사용)
+    private List<Piece> candidatePieces;
+    private List<Yut.YutResult> candidateResults;
+    private MoveList legalMoves;
+
+    /**
+     * 생성자
+     * @param settings 게임 설정
+     * @param strategy 이동 선택 전략 (모든 플레이어 공통)
+     */
+    public GameSimulator(GameSettings settings, MoveStrategy strategy) {
+        this(settings, strategy, new Game());
+    }
+
+    /**
+     * 사용할 게임 객체를 지정하는 생성자
+     * @param settings 게임 설정
+     * @param strategy 이동 선택 전략 (모든 플레이어 공통)
+     * @param game 판마다 다시 초기화하여 재사용할 게임 객체
+     */
+    public GameSimulator(GameSettings settings, MoveStrategy strategy, Game game) {
+        if (settings == null || !settings.isValid()) {
+            throw new IllegalArgumentException("유효하지 않은 게임 설정입니다.");
+        }
+        if (strategy == null) {
+            throw new IllegalArgumentException("이동 전략이 필요합니다.");
+        }
+        this.settings = settings;
+        this.strategy = strategy;
+        this.game = game;
+        this.game.getEventLog().setRecording(false);
+        this.maxActions = DEFAULT_MAX_ACTIONS;
+        this.candidatePieces = new ArrayList<>();
+        this.candidateResults = new ArrayList<>();
+        this.legalMoves = new MoveList();
+    }
+
+    /**
+     * 이동 선택 전략 교체 (시뮬레이터를 재사용하며 판마다 새 전략을 쓸 때)
+     * @param strategy 이동 선택 전략
+     */
+    void setStrategy(MoveStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("이동 전략이 필요합니다.");
+        }
+        this.strategy = strategy;
+    }
+
+    /**
+     * 한 판당 최대 행동 수 설정 (넘으면 끝나지 않은 게임으로 기록)
+     * @param maxActions 최대 행동 수
+     */
+    public void setMaxActions(int maxActions) {
+        if (maxActions <= 0) {
+            throw new IllegalArgumentException("최대 행동 수는 1 이상이어야 합니다.");
+        }
+        this.maxActions = maxActions;
+    }
+
+    /**
+     * 지정한 판 수만큼 게임을 진행하고 결과 집계
+     * @param gameCount 게임 판 수
+     * @return 집계 결과
+     */
+    public SimulationStats run(int gameCount) {
+        SimulationStats stats = new SimulationStats(settings.getPlayerCount());
+        long start = System.nanoTime();
+        for (int i = 0; i < gameCount; i++) {
+            playGame(stats);
+        }
+        stats.addElapsedNanos(System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * 게임 한 판 진행
+     * @param stats 결과를 기록할 집계
+     * @return 승리 플레이어 (행동 한도에 걸리면 null)
+     */
+    Player playGame(SimulationStats stats) {
+        game.initialize(settings);
+
+        long throwCount = 0;
+        long moveCount = 0;
+        boolean throwAgain = false; // 윷/모가 나오면 이동 전에 한 번 더 던짐
+
+        for (int actions = 0; actions < maxActions && !game.isGameFinished(); actions++) {
+            if (throwAgain || !game.hasPendingYutResults()) {
+                Yut.YutResult result = game.throwYut();
+                throwCount++;
+                throwAgain = result.grantsExtraThrow();
+                continue;
+            }
+
+            if (!collectCandidates()) {
+                // 남은 결과로 움직일 수 있는 말이 없음
+                game.forfeitPendingResults();
+                continue;
+            }
+
+            int choice = strategy.chooseMove(game, candidatePieces, candidateResults);
+            game.movePiece(candidatePieces.get(choice), candidateResults.get(choice));
+            moveCount++;
+
+            if (!game.checkGameEnd()) {
+                game.endTurnIfNoExtraTurn();
+            }
+        }
+
+        Player winner = game.getWinner();
+        int winnerSeat = winner == null ? -1 : game.getPlayers().indexOf(winner);
+        if (stats != null) {
+            stats.recordGame(winnerSeat, throwCount, moveCount,
+                    game.getTurnCount(), game.getCaptureCount(), game.getStackCount());
+        }
+        return winner;
+    }
+
+    /**
+     * 현재 플레이어의 (말, 윷 결과) 이동 후보 수집
+     * 같은 윷 결과가 여러 개 남아 있어도 한 번만 후보로 만듭니다.
+     * @return 후보가 하나 이상이면 true
+     */
+    private boolean collectCandidates() {
+        candidatePieces.clear();
+        candidateResults.clear();
+
+        int count = game.generateLegalMoves(legalMoves);
+        for (int i = 0; i < count; i++) {
+            candidatePieces.add(legalMoves.getPiece(i));
+            candidateResults.add(legalMoves.getResult(i));
+        }
+        return count > 0;
+    }
+
+    /**
+     * 시뮬레이션에 사용하는 게임 객체 반환 (마지막 판의 상태)
+     * @return 게임 객체
+     */
+    public Game getGame() {
+        return game;
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.model;
+
+import java.util.function.Consumer;
+
+/**
+ * 잡기/업기 처리의 디버그 추적 출력 클래스
+ * 호출하는 쪽은 반드시 isInfoEnabled()/isDebugEnabled()로 감싼 뒤 문장을 만들어야 합니다.
+ * 그러면 추적이 꺼져 있을 때 문자열 연결이나 말 목록 복사가 전혀 일어나지 않습니다.
+ * <pre>
+ * if (tracer.isDebugEnabled()) {
+ *     tracer.debug("업는 말: " + piece.getId());
+ * }
+ * </pre>
+ */
+public final class GameTracer {
+
+    /**
+     * 추적 수준 열거형 (뒤로 갈수록 자세함)
+     */
+    public enum Level {
+        OFF,    // 출력 없음 (기본값)
+        INFO,   // 잡기/업기 실패 이유
+        DEBUG   // 위치와 말 목록 상세 덤프
+    }
+
+    private Level level;
+    private Consumer<String> sink;
+    // 호출마다 열거형 비교를 하지 않도록 수준 확인 결과를 미리 계산
+    private boolean infoEnabled;
+    private boolean debugEnabled;
+
+    /**
+     * 기본 생성자 (추적 꺼짐, 켜면 표준 출력으로 출력)
+     */
+    public GameTracer() {
+        this(Level.OFF, System.out::println);
+    }
+
+    /**
+     * 수준과 출력 대상을 지정하는 생성자
+     * @param level 추적 수준
+     * @param sink 추적 문장을 받을 대상
+     */
+    public GameTracer(Level level, Consumer<String> sink) {
+        setSink(sink);
+        setLevel(level);
+    }
+
+    /**
+     * 추적 수준 설정
+     * @param level 추적 수준 (null이면 OFF)
+     */
+    public void setLevel(Level level) {
+        this.level = level == null ? Level.OFF : level;
+        this.infoEnabled = this.level.compareTo(Level.INFO) >= 0;
+        this.debugEnabled = this.level.compareTo(Level.DEBUG) >= 0;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * 출력 대상 설정
+     * @param sink 추적 문장을 받을 대상
+     */
+    public void setSink(Consumer<String> sink) {
+        if (sink == null) {
+            throw new IllegalArgumentException("추적 출력 대상이 필요합니다.");
+        }
+        this.sink = sink;
+    }
+
+    public boolean isInfoEnabled() {
+        return infoEnabled;
+    }
+
+    public boolean isDebugEnabled() {
+        return debugEnabled;
+    }
+
+    /**
+     * INFO 수준 문장 출력
+     * @param message 문장
+     */
+    public void info(String message) {
+        if (infoEnabled) {
+            sink.accept(message);
+        }
+    }
+
+    /**
+     * DEBUG 수준 문장 출력 ("[디버그] " 접두어를 붙임)
+     * @param message 문장
+     */
+    public void debug(String message) {
+        if (debugEnabled) {
+            sink.accept("[디버그] " + message);
+        }
+    }
+}
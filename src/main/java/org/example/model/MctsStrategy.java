@@ -0,0 +1,398 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 몬테카를로 트리 탐색(MCTS)으로 이동을 고르는 컴퓨터 플레이어 전략
+ * - 선택: 결정 노드에서는 UCT(평균 승률 + 탐험 항)가 가장 큰 이동을, 던지기 노드에서는 윷 확률 모형대로 뽑은 결과를 따라갑니다.
+ * - 확장/롤아웃: 처음 방문한 노드에서 무작위 이동과 무작위 던지기로 게임 끝까지 진행합니다.
+ * - 역전파: 경로의 각 이동에 대해, 그 이동을 고른 플레이어가 이겼으면 승리로 셉니다 (여러 명도 그대로 적용).
+ * 루트 병렬화: 작업자마다 자기 트리와 게임 복사본, 난수열을 갖고 ForkJoinPool에서 따로 탐색한 뒤,
+ * 루트 이동별 방문 수를 합쳐 가장 많이 방문한 이동을 고릅니다.
+ * 예산은 시간(withTimeBudget) 또는 롤아웃 수(withPlayoutBudget)로 정하며, 롤아웃 수 예산과 시드가 같으면
+ * 스레드 스케줄과 관계없이 같은 이동을 고릅니다.
+ * 작업자와 작업자 게임 두 개는 그 결정의 난수열로 결정마다 새로 만듭니다.
+ * 결정 번호와 마지막 선택의 통계를 필드에 남기므로 한 객체로 여러 게임을 동시에 진행하지 마세요.
+ */
+public class MctsStrategy implements MoveStrategy {
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+    public static final int DEFAULT_MAX_ROLLOUT_ACTIONS = 2_000; // 롤아웃 한 번의 최대 행동 수
+
+    private final long timeBudgetNanos; // 0이면 롤아웃 수 예산
+    private final int playoutBudget; // 0이면 시간 예산
+    private int threadCount;
+    private long seed;
+    private double exploration;
+    private ForkJoinPool pool;
+
+    private long decisionCount; // 결정마다 다른 난수열을 쓰기 위한 번호
+    private long lastPlayoutCount;
+    private long lastElapsedNanos;
+    private int[] lastVisits = new int[0];
+
+    /**
+     * 탐색 트리 노드
+     * 결정 노드의 자식은 (말 번호, 윷 결과) 이동, 던지기 노드의 자식은 윷 결과별 노드입니다.
+     */
+    private static final class Node {
+        final int mover; // 이 노드로 오는 이동을 고른 플레이어 번호 (던지기 결과 노드는 -1)
+        final int pieceIndex;
+        final Yut.YutResult result;
+        Node[] children;
+        boolean chance; // 던지기 노드 여부
+        int visits;
+        int wins; // mover가 이긴 롤아웃 수
+
+        Node(int mover, int pieceIndex, Yut.YutResult result) {
+            this.mover = mover;
+            this.pieceIndex = pieceIndex;
+            this.result = result;
+        }
+    }
+
+    private MctsStrategy(long timeBudgetNanos, int playoutBudget) {
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.playoutBudget = playoutBudget;
+        this.threadCount = Runtime.getRuntime().availableProcessors();
+        this.exploration = DEFAULT_EXPLORATION;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * 한 번의 선택에 쓸 시간으로 예산을 정한 전략 생성
+     * @param timeBudgetMillis 시간 예산 (밀리초)
+     * @return 전략
+     */
+    public static MctsStrategy withTimeBudget(long timeBudgetMillis) {
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("시간 예산은 1ms 이상이어야 합니다.");
+        }
+        return new MctsStrategy(timeBudgetMillis * 1_000_000L, 0);
+    }
+
+    /**
+     * 한 번의 선택에 쓸 롤아웃 수(모든 작업자 합계)로 예산을 정한 전략 생성
+     * @param playouts 롤아웃 수
+     * @return 전략
+     */
+    public static MctsStrategy withPlayoutBudget(int playouts) {
+        if (playouts <= 0) {
+            throw new IllegalArgumentException("롤아웃 수는 1 이상이어야 합니다.");
+        }
+        return new MctsStrategy(0, playouts);
+    }
+
+    /**
+     * 병렬 작업자(트리) 수 설정 (기본값: 사용 가능한 코어 수)
+     * @param threadCount 작업자 수
+     * @return 이 전략
+     */
+    public MctsStrategy setThreadCount(int threadCount) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("작업자 수는 1 이상이어야 합니다.");
+        }
+        this.threadCount = threadCount;
+        return this;
+    }
+
+    /**
+     * 난수 시드 설정 (결정마다, 작업자마다 이 시드에서 나눈 독립 난수열을 사용)
+     * @param seed 시드
+     * @return 이 전략
+     */
+    public MctsStrategy setSeed(long seed) {
+        this.seed = seed;
+        this.decisionCount = 0;
+        return this;
+    }
+
+    /**
+     * UCT 탐험 상수 설정 (기본값: √2)
+     * @param exploration 탐험 상수
+     * @return 이 전략
+     */
+    public MctsStrategy setExploration(double exploration) {
+        if (!(exploration >= 0)) {
+            throw new IllegalArgumentException("탐험 상수는 0 이상이어야 합니다.");
+        }
+        this.exploration = exploration;
+        return this;
+    }
+
+    /**
+     * 작업자를 실행할 풀 설정 (기본값: 공용 ForkJoinPool)
+     * @param pool 풀
+     * @return 이 전략
+     */
+    public MctsStrategy setPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("풀은 null일 수 없습니다.");
+        }
+        this.pool = pool;
+        return this;
+    }
+
+    @Override
+    public int chooseMove(Game game, List<Piece> pieces, List<Yut.YutResult> results) {
+        if (pieces.size() <= 1) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        long deadline = start + timeBudgetNanos;
+        long decision = decisionCount++;
+
+        // 작업자 준비는 호출한 스레드에서 (원래 게임은 여기서만 읽음)
+        List<ForkJoinTask<Worker>> tasks = new ArrayList<>(threadCount);
+        for (int w = 0; w < threadCount; w++) {
+            int playouts = playoutBudget == 0 ? 0 : playoutBudget / threadCount + (w < playoutBudget % threadCount ? 1 : 0);
+            Worker worker = new Worker(game, YutRandomSource.forStream(seed, decision * threadCount + w));
+            tasks.add(pool.submit(() -> {
+                worker.search(playouts, deadline);
+                return worker;
+            }));
+        }
+
+        // 루트 이동별 방문 수 합산 (모든 작업자의 루트 이동 순서는 같음)
+        int[] visits = null;
+        MoveList rootMoves = null;
+        long playoutCount = 0;
+        for (ForkJoinTask<Worker> task : tasks) {
+            Worker worker = task.join();
+            playoutCount += worker.playouts;
+            if (visits == null) {
+                visits = new int[worker.root.children.length];
+                rootMoves = worker.rootMoves;
+            }
+            for (int i = 0; i < visits.length; i++) {
+                visits[i] += worker.root.children[i].visits;
+            }
+        }
+
+        int best = 0;
+        for (int i = 1; i < visits.length; i++) {
+            if (visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        lastVisits = visits;
+        lastPlayoutCount = playoutCount;
+        lastElapsedNanos = System.nanoTime() - start;
+
+        int move = rootMoveIndex(rootMoves, best);
+        return MoveList.findCandidate(game, pieces, results, rootMoves.getPiece(move), rootMoves.getResult(move));
+    }
+
+    /**
+     * 마지막 선택에서 진행한 롤아웃 수 (모든 작업자 합계)
+     * @return 롤아웃 수
+     */
+    public long getLastPlayoutCount() {
+        return lastPlayoutCount;
+    }
+
+    /**
+     * 마지막 선택에 걸린 시간
+     * @return 경과 시간 (나노초)
+     */
+    public long getLastElapsedNanos() {
+        return lastElapsedNanos;
+    }
+
+    /**
+     * 마지막 선택의 초당 롤아웃 수
+     * @return 초당 롤아웃 수 (측정값이 없으면 0)
+     */
+    public double getPlayoutsPerSecond() {
+        return lastElapsedNanos == 0 ? 0 : lastPlayoutCount * 1e9 / lastElapsedNanos;
+    }
+
+    /**
+     * 마지막 선택에서 루트 이동별 방문 수 (중복 이동을 뺀 탐색 순서)
+     * @return 방문 수 배열 복사본
+     */
+    int[] getLastVisits() {
+        return lastVisits.clone();
+    }
+
+    private static int rootMoveIndex(MoveList rootMoves, int child) {
+        int seen = 0;
+        for (int i = 0; i < rootMoves.size(); i++) {
+            if (!rootMoves.repeatsEarlierMove(i)) {
+                if (seen++ == child) {
+                    return i;
+                }
+            }
+        }
+        throw new IllegalStateException("루트 이동을 찾을 수 없습니다: " + child);
+    }
+
+    /**
+     * 루트 병렬화 작업자: 자기 트리, 게임 복사본, 난수열로 독립 탐색
+     */
+    private final class Worker {
+        private final Game rootGame;
+        private final Game game;
+        private final YutRandomSource random;
+        private final YutProbabilityModel model;
+        private final MoveList rootMoves = new MoveList();
+        private final MoveList moves = new MoveList();
+        private final Node[] path = new Node[256];
+        private final Node root;
+        private long playouts;
+
+        Worker(Game source, YutRandomSource random) {
+            this.random = random;
+            this.rootGame = new Game(random.split());
+            this.rootGame.getEventLog().setRecording(false);
+            source.copyInto(rootGame);
+            this.game = new Game(random.split());
+            this.game.getEventLog().setRecording(false);
+            this.model = rootGame.getGameSettings().getYutProbabilityModel();
+            this.root = new Node(-1, -1, null);
+            expandDecision(root, rootGame, rootMoves);
+        }
+
+        /**
+         * 예산이 끝날 때까지 선택 → 확장 → 롤아웃 → 역전파 반복
+         * @param playoutLimit 롤아웃 수 예산 (0이면 시간 예산)
+         * @param deadline 시간 예산 끝 (System.nanoTime 기준)
+         */
+        void search(int playoutLimit, long deadline) {
+            while (playoutLimit > 0 ? playouts < playoutLimit : System.nanoTime() < deadline) {
+                rootGame.copyInto(game);
+                int length = select();
+                int winner = rollout();
+                backpropagate(length, winner);
+                playouts++;
+            }
+        }
+
+        /**
+         * 트리를 따라 내려가며 게임을 진행하고, 처음 방문한 노드에서 멈춤
+         * @return 경로 길이
+         */
+        private int select() {
+            Node node = root;
+            int length = 0;
+            path[length++] = root;
+            while (!game.isGameFinished() && length < path.length) {
+                if (node.children == null) {
+                    if (node.visits == 0) {
+                        break; // 처음 방문한 노드에서는 롤아웃
+                    }
+                    expand(node);
+                }
+                Node child;
+                if (node.chance) {
+                    Yut.YutResult thrown = model.sample(random.nextLong());
+                    game.setSpecificYutResult(thrown);
+                    child = node.children[thrown.ordinal()];
+                } else {
+                    child = selectUct(node);
+                    applyMove(child);
+                }
+                path[length++] = child;
+                node = child;
+            }
+            return length;
+        }
+
+        private void expand(Node node) {
+            if (game.isAwaitingThrow()) {
+                node.chance = true;
+                node.children = new Node[Yut.YutResult.values().length];
+                for (Yut.YutResult result : Yut.YutResult.values()) {
+                    node.children[result.ordinal()] = new Node(-1, -1, result);
+                }
+            } else {
+                expandDecision(node, game, moves);
+            }
+        }
+
+        private void expandDecision(Node node, Game state, MoveList buffer) {
+            int count = state.generateLegalMoves(buffer);
+            int mover = state.getCurrentTurnIndex();
+            List<Node> children = new ArrayList<>(count);
+            Player player = state.getCurrentPlayer();
+            for (int i = 0; i < count; i++) {
+                if (!buffer.repeatsEarlierMove(i)) {
+                    Piece piece = buffer.getPiece(i);
+                    children.add(new Node(mover, player.getPieceIndex(piece), buffer.getResult(i)));
+                }
+            }
+            if (children.isEmpty()) {
+                // 남은 결과로 움직일 말이 없으면 결과를 버리는 이동 하나
+                children.add(new Node(mover, -1, null));
+            }
+            node.children = children.toArray(new Node[0]);
+        }
+
+        private Node selectUct(Node node) {
+            double logVisits = Math.log(Math.max(1, node.visits));
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Node child : node.children) {
+                if (child.visits == 0) {
+                    return child; // 아직 방문하지 않은 이동부터
+                }
+                double score = (double) child.wins / child.visits
+                        + exploration * Math.sqrt(logVisits / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        private void applyMove(Node child) {
+            if (child.pieceIndex < 0) {
+                game.forfeitPendingResults();
+                return;
+            }
+            Piece piece = game.getCurrentPlayer().getPiece(child.pieceIndex);
+            game.movePiece(piece, child.result);
+            if (!game.checkGameEnd()) {
+                game.endTurnIfNoExtraTurn();
+            }
+        }
+
+        /**
+         * 무작위 이동과 무작위 던지기로 게임 끝까지 진행
+         * @return 승리 플레이어 번호 (행동 한도를 넘으면 -1)
+         */
+        private int rollout() {
+            for (int actions = 0; actions < DEFAULT_MAX_ROLLOUT_ACTIONS && !game.isGameFinished(); actions++) {
+                if (game.isAwaitingThrow()) {
+                    game.throwYut();
+                    continue;
+                }
+                int count = game.generateLegalMoves(moves);
+                if (count == 0) {
+                    game.forfeitPendingResults();
+                    continue;
+                }
+                int choice = (int) (((random.nextLong() >>> 32) * count) >>> 32);
+                game.movePiece(moves.getPiece(choice), moves.getResult(choice));
+                if (!game.checkGameEnd()) {
+                    game.endTurnIfNoExtraTurn();
+                }
+            }
+            Player winner = game.getWinner();
+            return winner == null ? -1 : game.getPlayers().indexOf(winner);
+        }
+
+        private void backpropagate(int length, int winner) {
+            for (int i = 0; i < length; i++) {
+                Node node = path[i];
+                node.visits++;
+                if (node.mover >= 0 && node.mover == winner) {
+                    node.wins++;
+                }
+            }
+        }
+    }
+}
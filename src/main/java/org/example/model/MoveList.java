@@ -0,0 +1,179 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 합법 이동 (말, 윷 결과, 목적지) 목록을 담는 재사용 버퍼
+ * Game.generateLegalMoves가 채우며, 같은 객체를 계속 넘기면 이동을 만들 때 객체를 새로 만들지 않습니다.
+ * 목록은 채운 시점의 게임 상태 기준이므로, 게임이 진행되면 다시 채워야 합니다.
+ */
+public final class MoveList {
+    private static final int DEFAULT_CAPACITY = 32; // 말 5개 x 윷 결과 6종류를 넘는 크기
+
+    private Piece[] pieces;
+    private Yut.YutResult[] results;
+    private Place[] destinations;
+    private int size;
+
+    /**
+     * 기본 크기로 생성
+     */
+    public MoveList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 초기 크기를 지정하여 생성 (부족하면 자동으로 늘어남)
+     * @param capacity 초기 크기
+     */
+    public MoveList(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("이동 목록 크기는 1 이상이어야 합니다.");
+        }
+        this.pieces = new Piece[capacity];
+        this.results = new Yut.YutResult[capacity];
+        this.destinations = new Place[capacity];
+    }
+
+    /**
+     * 목록 비우기 (이전 이동의 참조도 지움)
+     */
+    public void clear() {
+        Arrays.fill(pieces, 0, size, null);
+        Arrays.fill(destinations, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * 이동 추가
+     * @param piece 이동할 말
+     * @param result 사용할 윷 결과
+     * @param destination 이동 후 위치
+     */
+    void add(Piece piece, Yut.YutResult result, Place destination) {
+        if (size == pieces.length) {
+            int capacity = size * 2;
+            pieces = Arrays.copyOf(pieces, capacity);
+            results = Arrays.copyOf(results, capacity);
+            destinations = Arrays.copyOf(destinations, capacity);
+        }
+        pieces[size] = piece;
+        results[size] = result;
+        destinations[size] = destination;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * i번째 이동의 말
+     * @param index 이동 순서
+     * @return 말
+     */
+    public Piece getPiece(int index) {
+        checkIndex(index);
+        return pieces[index];
+    }
+
+    /**
+     * i번째 이동의 윷 결과
+     * @param index 이동 순서
+     * @return 윷 결과
+     */
+    public Yut.YutResult getResult(int index) {
+        checkIndex(index);
+        return results[index];
+    }
+
+    /**
+     * i번째 이동의 목적지
+     * @param index 이동 순서
+     * @return 이동 후 위치
+     */
+    public Place getDestination(int index) {
+        checkIndex(index);
+        return destinations[index];
+    }
+
+    /**
+     * 말과 윷 결과가 같은 이동의 순서 찾기
+     * @param piece 말
+     * @param result 윷 결과
+     * @return 이동 순서 (없으면 -1)
+     */
+    public int indexOf(Piece piece, Yut.YutResult result) {
+        for (int i = 0; i < size; i++) {
+            if (pieces[i] == piece && results[i] == result) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * i번째 이동이 앞선 이동과 같은 위치에서 같은 윷 결과로 움직이는지 확인 (탐색에서 같은 결과를 내는 이동 제외용)
+     * 출발 전 말(위치 없음)과 시작점의 말은 같은 위치로 봅니다.
+     * @param index 이동 순서
+     * @return 앞선 이동과 결과가 같으면 true
+     */
+    boolean repeatsEarlierMove(int index) {
+        Place origin = origin(index);
+        for (int j = 0; j < index; j++) {
+            if (results[j] == results[index] && origin(j) == origin) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Place origin(int index) {
+        Place place = pieces[index].getCurrentPlace();
+        return place == null || place.isStartingPoint() ? null : place;
+    }
+
+    /**
+     * 다른 게임 객체(탐색용 복사본)에서 고른 이동에 해당하는 후보 번호 찾기
+     * 말 번호와 윷 결과가 같은 후보를 찾고, 없으면 같은 위치에서 같은 결과로 움직이는 후보를 찾습니다.
+     * @param game 후보 목록의 게임
+     * @param pieces 후보 말 목록
+     * @param results 후보 윷 결과 목록
+     * @param piece 복사본에서 고른 말
+     * @param result 복사본에서 고른 윷 결과
+     * @return 후보 번호
+     * @throws IllegalStateException 해당하는 후보가 없을 때 (후보 목록과 복사본의 국면이 다름)
+     */
+    static int findCandidate(Game game, List<Piece> pieces, List<Yut.YutResult> results,
+                             Piece piece, Yut.YutResult result) {
+        int pieceIndex = piece.getPlayer().getPieceIndex(piece);
+        Player player = game.getCurrentPlayer();
+        for (int i = 0; i < pieces.size(); i++) {
+            if (results.get(i) == result && player.getPieceIndex(pieces.get(i)) == pieceIndex) {
+                return i;
+            }
+        }
+        Board board = game.getBoard();
+        Place place = piece.getCurrentPlace();
+        int placeIndex = place == null ? board.getStartingPlace().getIndex() : place.getIndex();
+        for (int i = 0; i < pieces.size(); i++) {
+            Place candidatePlace = pieces.get(i).getCurrentPlace();
+            int candidateIndex = candidatePlace == null ? board.getStartingPlace().getIndex() : candidatePlace.getIndex();
+            if (results.get(i) == result && candidateIndex == placeIndex) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("고른 이동에 해당하는 후보가 없습니다: " + piece.getId() + " " + result);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("이동 순서가 범위를 벗어났습니다: " + index);
+        }
+    }
+}
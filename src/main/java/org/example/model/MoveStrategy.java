@@ -0,0 +1,38 @@
+package org.example.model;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 헤드리스 시뮬레이션에서 이동할 말과 윷 결과를 고르는 전략 인터페이스
+ * 후보 i는 (pieces.get(i), results.get(i)) 쌍입니다.
+ */
+@FunctionalInterface
+public interface MoveStrategy {
+
+    /**
+     * 이동 후보 중 하나 선택
+     * @param game 현재 게임 (읽기 전용으로 사용)
+     * @param pieces 후보 말 목록
+     * @param results 후보 말과 같은 순서의 윷 결과 목록
+     * @return 선택한 후보 번호
+     */
+    int chooseMove(Game game, List<Piece> pieces, List<Yut.YutResult> results);
+
+    /**
+     * 후보 중 무작위로 고르는 전략
+     * @param random 난수 생성기
+     * @return 무작위 전략
+     */
+    static MoveStrategy random(RandomGenerator random) {
+        return (game, pieces, results) -> random.nextInt(pieces.size());
+    }
+
+    /**
+     * 항상 첫 번째 후보를 고르는 전략
+     * @return 첫 후보 전략
+     */
+    static MoveStrategy first() {
+        return (game, pieces, results) -> 0;
+    }
+}
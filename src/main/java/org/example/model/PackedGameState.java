@@ -0,0 +1,345 @@
+package org.example.model;
+
+import java.util.List;
+
+/**
+ * 게임 국면을 long 두 개(128비트)로 압축한 값
+ * 말 위치, 업기, 완주 여부, 턴 순서, 추가 턴 플래그, 남은 윷 결과를 담으며
+ * 기본형 해시 테이블의 키나 배열 원소로 쓰고 long 비교만으로 같은 국면인지 확인할 수 있습니다.
+ * <pre>
+ * 비트 0~87   플레이어별 말 위치 (22비트씩 4명): 말 위치 코드의 중복 조합 순위
+ *             위치 코드 = 위치 번호, 단 시작점 번호는 "출발 전", 도착점 번호는 "완주"를 뜻함
+ *             업힌 말은 업은 말의 위치 코드를 가짐
+ * 비트 88~89  현재 턴 인덱스
+ * 비트 90~92  추가 턴 플래그 (추가 턴 있음, 잡기 추가 턴 사용, 추가 턴 던지기)
+ * 비트 93~116 남은 윷 결과 개수 (결과 순서별 4비트)
+ * </pre>
+ * 같은 플레이어의 말은 서로 구별하지 않으므로, 되살린 게임에서는 번호가 작은 말부터 위치를 채우고
+ * 같은 위치의 말은 번호가 가장 작은 말이 나머지를 업습니다. 남은 윷 결과는 이동 칸수가 큰 순서로 되살립니다.
+ * 압축할 게임과 되살릴 게임은 같은 설정이어야 하며, 설정 자체는 담지 않습니다.
+ */
+public final class PackedGameState {
+    private static final int MAX_PLAYERS = GameSettings.getMaxPlayerCount();
+    private static final int MAX_PIECES = GameSettings.getMaxPiecePerPlayer();
+    private static final int PLAYER_BITS = 22;
+    private static final int TURN_OFFSET = PLAYER_BITS * 4;
+    private static final int FLAGS_OFFSET = TURN_OFFSET + 2;
+    private static final int PENDING_OFFSET = FLAGS_OFFSET + 3;
+    private static final int PENDING_BITS = 4;
+    private static final int MAX_PENDING_COUNT = (1 << PENDING_BITS) - 1;
+    private static final int MAX_CODES = 64;
+
+    // BINOMIAL[n][r] = C(n, r)
+    private static final long[][] BINOMIAL = new long[MAX_CODES + MAX_PIECES][MAX_PIECES + 1];
+
+    static {
+        for (int n = 0; n < BINOMIAL.length; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int r = 1; r <= Math.min(n, MAX_PIECES); r++) {
+                BINOMIAL[n][r] = BINOMIAL[n - 1][r - 1] + (r <= n - 1 ? BINOMIAL[n - 1][r] : 0);
+            }
+        }
+    }
+
+    private final long low;
+    private final long high;
+
+    /**
+     * 압축된 두 long으로 생성
+     * @param low 하위 64비트
+     * @param high 상위 64비트
+     */
+    public PackedGameState(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * 게임 국면을 압축
+     * @param game 게임
+     * @return 압축된 국면
+     */
+    public static PackedGameState of(Game game) {
+        long[] packed = new long[2];
+        encode(game, packed);
+        return new PackedGameState(packed[0], packed[1]);
+    }
+
+    /**
+     * 게임 국면을 배열에 압축 (위치 코드 버퍼를 하나 만듦)
+     * @param game 게임
+     * @param out 결과 배열 (out[0]: 하위 64비트, out[1]: 상위 64비트)
+     */
+    public static void encode(Game game, long[] out) {
+        encode(game, out, new int[MAX_PIECES]);
+    }
+
+    /**
+     * 게임 국면을 배열에 압축 (넘겨받은 버퍼만 쓰므로 객체를 만들지 않음)
+     * @param game 게임
+     * @param out 결과 배열 (out[0]: 하위 64비트, out[1]: 상위 64비트)
+     * @param codes 위치 코드 버퍼 (플레이어의 말 개수 이상)
+     */
+    public static void encode(Game game, long[] out, int[] codes) {
+        Board board = game.getBoard();
+        if (board == null) {
+            throw new IllegalStateException("초기화되지 않은 게임은 압축할 수 없습니다.");
+        }
+        List<Player> players = game.playersView();
+        int codeCount = board.getPlaceCount();
+        int startCode = board.getStartingPlace().getIndex();
+        int endCode = board.getEndingPlace().getIndex();
+        checkShape(players.size(), players.get(0).getPieceCount(), codeCount);
+
+        out[0] = 0;
+        out[1] = 0;
+        for (int p = 0; p < players.size(); p++) {
+            Player player = players.get(p);
+            int pieceCount = player.getPieceCount();
+            for (int i = 0; i < pieceCount; i++) {
+                codes[i] = codeOf(player.getPiece(i), startCode, endCode);
+            }
+            put(out, p * PLAYER_BITS, rankMultiset(codes, pieceCount));
+        }
+
+        long turnState = game.getTurnService().saveState();
+        long turn = (turnState & 0x3) | (((turnState >>> 8) & 0x7) << 2);
+        put(out, TURN_OFFSET, turn);
+
+        // 남은 윷 결과는 결과별 개수로 기록
+        YutResultBag pending = game.pendingYutResultsView();
+        for (Yut.YutResult result : YutResultBag.ORDER) {
+            int count = pending.count(result);
+            if (count > MAX_PENDING_COUNT) {
+                throw new IllegalStateException("같은 윷 결과가 너무 많이 남아 있어 압축할 수 없습니다.");
+            }
+            put(out, PENDING_OFFSET + result.ordinal() * PENDING_BITS, count);
+        }
+    }
+
+    /**
+     * 압축된 국면을 게임에 되살림
+     * @param target 되살릴 게임 (압축한 게임과 같은 설정으로 초기화되어 있어야 함)
+     */
+    public void decodeInto(Game target) {
+        decode(low, high, target);
+    }
+
+    /**
+     * 압축된 두 long을 게임에 되살림
+     * 되살린 게임의 되돌리기 기록은 지워지고, 승자는 완주 상태로 다시 판정합니다.
+     * @param low 하위 64비트
+     * @param high 상위 64비트
+     * @param target 되살릴 게임 (압축한 게임과 같은 설정으로 초기화되어 있어야 함)
+     */
+    public static void decode(long low, long high, Game target) {
+        Board board = target.getBoard();
+        if (board == null) {
+            throw new IllegalStateException("초기화되지 않은 게임에는 되살릴 수 없습니다.");
+        }
+        List<Player> players = target.getPlayers();
+        int codeCount = board.getPlaceCount();
+        int startCode = board.getStartingPlace().getIndex();
+        int endCode = board.getEndingPlace().getIndex();
+        checkShape(players.size(), players.get(0).getPieceCount(), codeCount);
+
+        // 모든 위치를 비운 뒤 말을 다시 놓음
+        Piece[] none = new Piece[0];
+        for (int index = 0; index < codeCount; index++) {
+            board.getPlaceByIndex(index).restorePieces(none, 0, 0);
+        }
+
+        int[] codes = new int[MAX_PIECES];
+        Piece[] stack = new Piece[MAX_PIECES];
+        for (int p = 0; p < players.size(); p++) {
+            Player player = players.get(p);
+            int pieceCount = player.getPieceCount();
+            long rank = get(low, high, p * PLAYER_BITS, PLAYER_BITS);
+            unrankMultiset(rank, codes, pieceCount);
+
+            int i = 0;
+            while (i < pieceCount) {
+                int code = codes[i];
+                Piece carrier = player.getPiece(i);
+                if (code == startCode) {
+                    carrier.restoreState(null, null, false, stack, 0, 0);
+                    i++;
+                    continue;
+                }
+                if (code == endCode) {
+                    Place ending = board.getEndingPlace();
+                    carrier.restoreState(ending, null, true, stack, 0, 0);
+                    ending.addPiece(carrier);
+                    i++;
+                    continue;
+                }
+
+                // 같은 위치 코드의 말은 정렬되어 연속하므로 첫 말이 나머지를 업음
+                int end = i + 1;
+                while (end < pieceCount && codes[end] == code) {
+                    end++;
+                }
+                for (int k = i + 1; k < end; k++) {
+                    stack[k - i - 1] = player.getPiece(k);
+                    player.getPiece(k).restoreState(null, carrier, false, stack, 0, 0);
+                }
+                Place place = board.getPlaceByIndex(code);
+                carrier.restoreState(place, null, false, stack, 0, end - i - 1);
+                place.addPiece(carrier);
+                i = end;
+            }
+        }
+
+        long turn = get(low, high, TURN_OFFSET, 5);
+        TurnService turnService = target.getTurnService();
+        long turnState = turnService.saveState();
+        turnState = (turnState & ~0x7FFL) | (turn & 0x3) | ((turn >>> 2) << 8);
+        turnService.restoreState(turnState);
+
+        YutResultBag pending = target.pendingYutResultsView();
+        pending.clear();
+        for (Yut.YutResult result : YutResultBag.ORDER) {
+            long count = get(low, high, PENDING_OFFSET + result.ordinal() * PENDING_BITS, PENDING_BITS);
+            for (int k = 0; k < count; k++) {
+                pending.add(result);
+            }
+        }
+
+        target.positionRestored();
+    }
+
+    /**
+     * 플레이어별 말 위치 순위만으로 국면 생성 (0번 플레이어 차례, 추가 턴 플래그와 남은 윷 결과 없음)
+     * @param ranks 플레이어 순서대로 rankMultiset으로 구한 말 위치 순위
+     * @return 압축된 국면
+     */
+    static PackedGameState ofPlayerRanks(long... ranks) {
+        long[] packed = new long[2];
+        for (int p = 0; p < ranks.length; p++) {
+            put(packed, p * PLAYER_BITS, ranks[p]);
+        }
+        return new PackedGameState(packed[0], packed[1]);
+    }
+
+    /**
+     * 위치 코드 count개의 중복 조합 개수 (rankMultiset이 돌려주는 순위의 범위)
+     * @param codeCount 위치 코드 개수
+     * @param count 말 개수
+     * @return 중복 조합 개수
+     */
+    static long multisetCount(int codeCount, int count) {
+        return BINOMIAL[codeCount + count - 1][count];
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * 말의 위치 코드 (업힌 말은 업은 말의 위치, 출발 전은 시작점 번호, 완주는 도착점 번호)
+     */
+    static int codeOf(Piece piece, int startCode, int endCode) {
+        if (piece.isCompleted()) {
+            return endCode;
+        }
+        Piece carrier = piece;
+        while (carrier.getCarriedBy() != null) {
+            carrier = carrier.getCarriedBy();
+        }
+        Place place = carrier.getCurrentPlace();
+        return place == null ? startCode : place.getIndex();
+    }
+
+    /**
+     * 위치 코드 중복 조합의 순위 (정렬 후 c_i + i를 조합으로 보고 조합 번호 계산)
+     */
+    static long rankMultiset(int[] codes, int count) {
+        // 삽입 정렬 (최대 5개)
+        for (int i = 1; i < count; i++) {
+            int value = codes[i];
+            int j = i - 1;
+            while (j >= 0 && codes[j] > value) {
+                codes[j + 1] = codes[j];
+                j--;
+            }
+            codes[j + 1] = value;
+        }
+        long rank = 0;
+        for (int i = 0; i < count; i++) {
+            rank += BINOMIAL[codes[i] + i][i + 1];
+        }
+        return rank;
+    }
+
+    /**
+     * rankMultiset의 역변환 (오름차순 위치 코드를 채움)
+     */
+    static void unrankMultiset(long rank, int[] codes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            int d = i;
+            while (d + 1 < BINOMIAL.length && BINOMIAL[d + 1][i + 1] <= rank) {
+                d++;
+            }
+            rank -= BINOMIAL[d][i + 1];
+            codes[i] = d - i;
+        }
+    }
+
+    private static void checkShape(int playerCount, int pieceCount, int codeCount) {
+        if (playerCount > MAX_PLAYERS || pieceCount > MAX_PIECES || codeCount > MAX_CODES
+                || BINOMIAL[codeCount + pieceCount - 1][pieceCount] > (1L << PLAYER_BITS)) {
+            throw new IllegalArgumentException("128비트로 압축할 수 없는 게임 크기입니다.");
+        }
+    }
+
+    /**
+     * 128비트 값(out[0]: 하위, out[1]: 상위)의 offset 위치에 value를 더함 (필드가 넘치지 않는 값만)
+     */
+    private static void put(long[] out, int offset, long value) {
+        if (offset >= 64) {
+            out[1] += value << (offset - 64);
+            return;
+        }
+        out[0] += value << offset;
+        if (offset > 0) {
+            out[1] += value >>> (64 - offset);
+        }
+    }
+
+    /**
+     * 128비트 값의 offset부터 width비트 읽기
+     */
+    private static long get(long low, long high, int offset, int width) {
+        long mask = (1L << width) - 1;
+        if (offset >= 64) {
+            return (high >>> (offset - 64)) & mask;
+        }
+        long value = low >>> offset;
+        if (offset + width > 64) {
+            value |= high << (64 - offset);
+        }
+        return value & mask;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PackedGameState)) return false;
+        PackedGameState other = (PackedGameState) o;
+        return low == other.low && high == other.high;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(low * 0x9E3779B97F4A7C15L ^ high);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PackedGameState{%016x%016x}", high, low);
+    }
+}
@@ -172,6 +172,38 @@ public class Piece {
         stackPieces.clear();
     }
 
+    /**
+     * 업힌 말 목록을 배열에 복사 (되돌리기 기록용)
+     * @param target 복사할 배열 (업힌 말 개수 이상의 여유 필요)
+     * @param offset 시작 위치
+     * @return 복사한 말 개수
+     */
+    int copyStackTo(Piece[] target, int offset) {
+        for (int i = 0; i < stackPieces.size(); i++) {
+            target[offset + i] = stackPieces.get(i);
+        }
+        return stackPieces.size();
+    }
+
+    /**
+     * 말 상태를 그대로 복원 (되돌리기 복원용, 위치의 말 목록은 Place.restorePieces로 따로 복원)
+     * @param place 현재 위치
+     * @param carrier 업고 있는 말
+     * @param complete 완주 여부
+     * @param stack 업힌 말 배열
+     * @param from 업힌 말 시작 위치
+     * @param to 업힌 말 끝 위치 (제외)
+     */
+    void restoreState(Place place, Piece carrier, boolean complete, Piece[] stack, int from, int to) {
+        this.currentPlace = place;
+        this.carriedBy = carrier;
+        this.isComplete = complete;
+        stackPieces.clear();
+        for (int i = from; i < to; i++) {
+            stackPieces.add(stack[i]);
+        }
+    }
+
     // getter 메서드들
     public String getId() {
         return id;
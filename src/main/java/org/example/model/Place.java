@@ -6,26 +6,40 @@ import java.util.Objects;
 
 /**
  * 윷놀이 판의 각 위치를 나타내는 클래스
+ * 보드에 속한 위치는 게임별 손잡이 객체입니다. ID, 이름, 속성과 연결은 보드 타입별 공유 구조(BoardTopology)에서
+ * 위치 번호로 찾고, 놓인 말은 보드의 점유 상태(PlaceOccupancy)에 보관하므로 손잡이는 보드, 점유 상태, 번호만 가집니다.
+ * 이 값들은 공유 구조와 어긋나지 않도록 바꿀 수 없습니다. 보드 밖에서 따로 만든 위치는 속성, 연결과 말을 스스로 보관합니다.
  */
 public class Place {
-    private String id;                  // 위치 고유 식별자
-    private String name;                // 위치 이름
-    private boolean isJunction;         // 분기점 여부
-    private boolean isCenter;           // 중앙점 여부
-    private boolean isStartingPoint;    // 시작점 여부
-    private boolean isEndingPoint;      // 도착점(골인 지점) 여부
+    private final Board board;          // 속한 보드 (보드 밖 위치면 null)
+    private final PlaceOccupancy occupancy; // 현재 이 위치에 있는 말들을 보관하는 점유 상태
+    private final int slot;             // 점유 상태와 보드 구조에서 이 위치의 번호
+    private final Detached detached;    // 보드 밖 위치의 속성과 연결 (보드에 속한 위치는 null)
 
-    private Place nextPlace;            // 기본 다음 위치
-    private Place specialNextPlace;     // 특별 다음 위치(대각선 등)
-    private Place previousPlace;  // 이전 위치 참조 추가
-
-    private List<Piece> pieces;         // 현재 이 위치에 있는 말들
+    /**
+     * 보드 밖 위치가 스스로 보관하는 속성과 연결
+     */
+    private static final class Detached {
+        private String id;                  // 위치 고유 식별자
+        private String name;                // 위치 이름
+        private boolean isJunction;         // 분기점 여부
+        private boolean isCenter;           // 중앙점 여부
+        private boolean isStartingPoint;    // 시작점 여부
+        private boolean isEndingPoint;      // 도착점(골인 지점) 여부
+        private Place nextPlace;            // 기본 다음 위치
+        private Place specialNextPlace;     // 특별 다음 위치(대각선 등)
+        private Place previousPlace;        // 이전 위치
+        private int index = -1;             // 빌드 중인 보드 구조의 위치 번호 (없으면 -1)
+    }
 
     /**
      * 기본 생성자
      */
     public Place() {
-        this.pieces = new ArrayList<>();
+        this.board = null;
+        this.occupancy = new PlaceOccupancy(1);
+        this.slot = 0;
+        this.detached = new Detached();
     }
 
     /**
@@ -34,13 +48,7 @@ public class Place {
      * @param name 위치 이름
      */
     public Place(String id, String name) {
-        this.id = id;
-        this.name = name;
-        this.isJunction = false;
-        this.isCenter = false;
-        this.isStartingPoint = false;
-        this.isEndingPoint = false;
-        this.pieces = new ArrayList<>();
+        this(id, name, false, false, false, false);
     }
 
     /**
@@ -54,13 +62,26 @@ public class Place {
      */
     public Place(String id, String name, boolean isJunction, boolean isCenter,
                  boolean isStartingPoint, boolean isEndingPoint) {
-        this.id = id;
-        this.name = name;
-        this.isJunction = isJunction;
-        this.isCenter = isCenter;
-        this.isStartingPoint = isStartingPoint;
-        this.isEndingPoint = isEndingPoint;
-        this.pieces = new ArrayList<>();
+        this();
+        detached.id = id;
+        detached.name = name;
+        detached.isJunction = isJunction;
+        detached.isCenter = isCenter;
+        detached.isStartingPoint = isStartingPoint;
+        detached.isEndingPoint = isEndingPoint;
+    }
+
+    /**
+     * 보드에 속한 위치 생성 (속성과 연결은 보드의 공유 구조에서 찾고, 말은 보드의 점유 상태에 보관)
+     * @param board 속한 보드
+     * @param occupancy 보드의 점유 상태
+     * @param index 위치 번호
+     */
+    Place(Board board, PlaceOccupancy occupancy, int index) {
+        this.board = board;
+        this.occupancy = occupancy;
+        this.slot = index;
+        this.detached = null;
     }
 
     /**
@@ -68,8 +89,8 @@ public class Place {
      * @param piece 추가할 말
      */
     public void addPiece(Piece piece) {
-        if (piece != null && !pieces.contains(piece)) {
-            pieces.add(piece);
+        if (piece != null && !occupancy.contains(slot, piece)) {
+            occupancy.add(slot, piece);
         }
     }
 
@@ -80,7 +101,7 @@ public class Place {
      * @return 제거 성공 여부
      */
     public boolean removePiece(Piece piece) {
-        return pieces.remove(piece);
+        return occupancy.remove(slot, piece);
     }
 
     /**
@@ -89,8 +110,17 @@ public class Place {
      * @return 플레이어의 말이 있으면 true
      */
     public boolean hasPlayerPieces(Player player) {
-        for (Piece piece : pieces) {
-            if (piece.getPlayer().equals(player)) {
+        return getPlayerPiece(player) != null;
+    }
+
+    /**
+     * 현재 플레이어 외 다른 플레이어의 말이 이 위치에 있는지 확인 (목록을 만들지 않음)
+     * @param currentPlayer 현재 플레이어
+     * @return 다른 플레이어의 말이 있으면 true
+     */
+    public boolean hasOpponentPieces(Player currentPlayer) {
+        for (int i = 0; i < occupancy.count(slot); i++) {
+            if (!occupancy.get(slot, i).getPlayer().equals(currentPlayer)) {
                 return true;
             }
         }
@@ -104,7 +134,8 @@ public class Place {
      */
     public List<Piece> getOpponentPieces(Player currentPlayer) {
         List<Piece> opponentPieces = new ArrayList<>();
-        for (Piece piece : pieces) {
+        for (int i = 0; i < occupancy.count(slot); i++) {
+            Piece piece = occupancy.get(slot, i);
             if (!piece.getPlayer().equals(currentPlayer)) {
                 opponentPieces.add(piece);
             }
@@ -118,7 +149,8 @@ public class Place {
      * @return 플레이어의 말(없으면 null)
      */
     public Piece getPlayerPiece(Player player) {
-        for (Piece piece : pieces) {
+        for (int i = 0; i < occupancy.count(slot); i++) {
+            Piece piece = occupancy.get(slot, i);
             if (piece.getPlayer().equals(player)) {
                 return piece;
             }
@@ -131,7 +163,12 @@ public class Place {
      * @return 말 목록
      */
     public List<Piece> getPieces() {
-        return new ArrayList<>(pieces);
+        int count = occupancy.count(slot);
+        List<Piece> pieces = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pieces.add(occupancy.get(slot, i));
+        }
+        return pieces;
     }
 
     /**
@@ -139,7 +176,16 @@ public class Place {
      * @return 말의 수
      */
     public int getPieceCount() {
-        return pieces.size();
+        return occupancy.count(slot);
+    }
+
+    /**
+     * 이 위치의 i번째 말 반환 (목록을 복사하지 않음)
+     * @param i 순서
+     * @return 말
+     */
+    Piece getPieceAt(int i) {
+        return occupancy.get(slot, i);
     }
 
     /**
@@ -147,25 +193,27 @@ public class Place {
      * @return 비어있으면 true
      */
     public boolean isEmpty() {
-        return pieces.isEmpty();
+        return occupancy.count(slot) == 0;
     }
 
     // 기본 getter/setter 메서드
 
     public String getId() {
-        return id;
+        return board == null ? detached.id : board.getTopology().getId(slot);
     }
 
     public void setId(String id) {
-        this.id = id;
+        checkDetached();
+        detached.id = id;
     }
 
     public String getName() {
-        return name;
+        return board == null ? detached.name : board.getTopology().getName(slot);
     }
 
     public void setName(String name) {
-        this.name = name;
+        checkDetached();
+        detached.name = name;
     }
 
     /**
@@ -173,11 +221,12 @@ public class Place {
      * @return 분기점이면 true
      */
     public boolean isJunction() {
-        return isJunction;
+        return board == null ? detached.isJunction : board.getTopology().isJunction(slot);
     }
 
     public void setJunction(boolean junction) {
-        isJunction = junction;
+        checkDetached();
+        detached.isJunction = junction;
     }
 
     /**
@@ -185,11 +234,12 @@ public class Place {
      * @return 중앙점이면 true
      */
     public boolean isCenter() {
-        return isCenter;
+        return board == null ? detached.isCenter : board.getTopology().isCenter(slot);
     }
 
     public void setCenter(boolean center) {
-        isCenter = center;
+        checkDetached();
+        detached.isCenter = center;
     }
 
     /**
@@ -197,11 +247,12 @@ public class Place {
      * @return 시작점이면 true
      */
     public boolean isStartingPoint() {
-        return isStartingPoint;
+        return board == null ? detached.isStartingPoint : board.getTopology().isStartingPoint(slot);
     }
 
     public void setStartingPoint(boolean startingPoint) {
-        isStartingPoint = startingPoint;
+        checkDetached();
+        detached.isStartingPoint = startingPoint;
     }
 
     /**
@@ -209,11 +260,12 @@ public class Place {
      * @return 도착점이면 true
      */
     public boolean isEndingPoint() {
-        return isEndingPoint;
+        return board == null ? detached.isEndingPoint : board.getTopology().isEndingPoint(slot);
     }
 
     public void setEndingPoint(boolean endingPoint) {
-        isEndingPoint = endingPoint;
+        checkDetached();
+        detached.isEndingPoint = endingPoint;
     }
 
     /**
@@ -221,11 +273,12 @@ public class Place {
      * @return 다음 위치
      */
     public Place getNextPlace() {
-        return nextPlace;
+        return board == null ? detached.nextPlace : linkedPlace(board.getTopology().getNextIndex(slot));
     }
 
     public void setNextPlace(Place nextPlace) {
-        this.nextPlace = nextPlace;
+        checkDetached();
+        detached.nextPlace = nextPlace;
     }
 
     /**
@@ -233,11 +286,12 @@ public class Place {
      * @return 특별 다음 위치
      */
     public Place getSpecialNextPlace() {
-        return specialNextPlace;
+        return board == null ? detached.specialNextPlace : linkedPlace(board.getTopology().getSpecialNextIndex(slot));
     }
 
     public void setSpecialNextPlace(Place specialNextPlace) {
-        this.specialNextPlace = specialNextPlace;
+        checkDetached();
+        detached.specialNextPlace = specialNextPlace;
     }
 
     /**
@@ -245,15 +299,87 @@ public class Place {
      * @return 특별 다음 위치가 있으면 true
      */
     public boolean hasSpecialNextPlace() {
-        return specialNextPlace != null;
+        return getSpecialNextPlace() != null;
     }
 
     public Place getPreviousPlace() {
-        return previousPlace;
+        return board == null ? detached.previousPlace : linkedPlace(board.getTopology().getPreviousIndex(slot));
     }
 
     public void setPreviousPlace(Place previousPlace) {
-        this.previousPlace = previousPlace;
+        checkDetached();
+        detached.previousPlace = previousPlace;
+    }
+
+    /**
+     * 공유 구조의 연결 번호를 이 보드의 위치로 바꿈 (-1이면 null)
+     */
+    private Place linkedPlace(int linkIndex) {
+        return linkIndex < 0 ? null : board.getPlaceByIndex(linkIndex);
+    }
+
+    /**
+     * 보드에 속한 위치의 속성과 연결은 보드 타입별 공유 구조이므로 바꿀 수 없음
+     */
+    private void checkDetached() {
+        if (board != null) {
+            throw new IllegalStateException("보드에 속한 위치의 속성과 연결은 바꿀 수 없습니다.");
+        }
+    }
+
+    /**
+     * 보드 내 위치 번호 반환 (보드 구조가 생성 순서대로 부여)
+     * @return 위치 번호, 보드에 속하지 않은 위치는 -1 (빌드 중인 보드 구조의 위치는 부여된 번호)
+     */
+    int getIndex() {
+        return board == null ? detached.index : slot;
+    }
+
+    void setIndex(int index) {
+        checkDetached();
+        detached.index = index;
+    }
+
+    /**
+     * 이 위치의 말 목록을 배열에 복사 (되돌리기 기록용)
+     * @param target 복사할 배열 (말 개수 이상의 여유 필요)
+     * @param offset 시작 위치
+     * @return 복사한 말 개수
+     */
+    int copyPiecesTo(Piece[] target, int offset) {
+        int count = occupancy.count(slot);
+        for (int i = 0; i < count; i++) {
+            target[offset + i] = occupancy.get(slot, i);
+        }
+        return count;
+    }
+
+    /**
+     * 말 목록을 배열 구간의 내용으로 교체 (되돌리기 복원용, 순서 유지)
+     * @param source 말 배열
+     * @param from 시작 위치
+     * @param to 끝 위치 (제외)
+     */
+    void restorePieces(Piece[] source, int from, int to) {
+        occupancy.replace(slot, source, from, to);
+    }
+
+    /**
+     * 업기/잡기 판정에서 같은 위치인지 확인
+     * 같은 보드의 위치는 위치 번호로 비교하며, 두 중앙점은 같은 위치로 취급합니다.
+     * @param other 비교할 위치
+     * @return 같은 위치면 true
+     */
+    boolean isSameLocation(Place other) {
+        if (this == other) return true;
+        if (other == null) return false;
+        if (isCenter() && other.isCenter()) return true;
+        int index = getIndex();
+        int otherIndex = other.getIndex();
+        if (index >= 0 && otherIndex >= 0) {
+            return index == otherIndex;
+        }
+        return equals(other);
     }
 
     @Override
@@ -261,25 +387,25 @@ public class Place {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Place place = (Place) o;
-        return Objects.equals(id, place.id);
+        return Objects.equals(getId(), place.getId());
     }
 
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Objects.hashCode(getId());
     }
 
     @Override
     public String toString() {
         return "Place{" +
-                "id='" + id + '\'' +
-                ", name='" + name + '\'' +
-                ", pieces=" + pieces.size() +
-                ", isJunction=" + isJunction +
-                ", isCenter=" + isCenter +
-                ", isStartingPoint=" + isStartingPoint +
-                ", isEndingPoint=" + isEndingPoint +
+                "id='" + getId() + '\'' +
+                ", name='" + getName() + '\'' +
+                ", pieces=" + getPieceCount() +
+                ", isJunction=" + isJunction() +
+                ", isCenter=" + isCenter() +
+                ", isStartingPoint=" + isStartingPoint() +
+                ", isEndingPoint=" + isEndingPoint() +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package org.example.model;
+
+import java.util.Arrays;
+
+/**
+ * 게임별 위치 점유 상태 (위치 번호별 말 배열)
+ * Board가 위치 개수만큼 하나 만들어 모든 위치가 공유하며, 위치 번호마다 놓인 순서대로 말을 보관합니다.
+ * 말 배열은 처음 말이 놓일 때 만들고 모자라면 두 배로 늘리므로, 빈 위치는 배열 칸 하나만 차지합니다.
+ */
+final class PlaceOccupancy {
+    private static final Piece[] NONE = new Piece[0];
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final Piece[][] pieces; // 위치 번호별 말 배열 (앞에서 counts개만 유효)
+    private final int[] counts; // 위치 번호별 말 개수
+
+    /**
+     * 생성자
+     * @param placeCount 위치 개수
+     */
+    PlaceOccupancy(int placeCount) {
+        this.pieces = new Piece[placeCount][];
+        Arrays.fill(pieces, NONE);
+        this.counts = new int[placeCount];
+    }
+
+    int count(int index) {
+        return counts[index];
+    }
+
+    /**
+     * 위치의 i번째 말
+     * @param index 위치 번호
+     * @param i 순서
+     * @return 말
+     */
+    Piece get(int index, int i) {
+        if (i < 0 || i >= counts[index]) {
+            throw new IndexOutOfBoundsException("위치의 말 순서가 범위를 벗어났습니다: " + i);
+        }
+        return pieces[index][i];
+    }
+
+    /**
+     * 위치에 말이 있는지 확인 (Piece.equals 기준)
+     * @param index 위치 번호
+     * @param piece 말
+     * @return 있으면 true
+     */
+    boolean contains(int index, Piece piece) {
+        return indexOf(index, piece) >= 0;
+    }
+
+    /**
+     * 위치의 맨 뒤에 말 추가
+     * @param index 위치 번호
+     * @param piece 말
+     */
+    void add(int index, Piece piece) {
+        int count = counts[index];
+        Piece[] slots = pieces[index];
+        if (count == slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(INITIAL_CAPACITY, count * 2));
+            pieces[index] = slots;
+        }
+        slots[count] = piece;
+        counts[index] = count + 1;
+    }
+
+    /**
+     * 위치에서 말 하나 제거 (Piece.equals 기준 첫 번째, 나머지 순서 유지)
+     * @param index 위치 번호
+     * @param piece 말
+     * @return 제거했으면 true
+     */
+    boolean remove(int index, Piece piece) {
+        int i = indexOf(index, piece);
+        if (i < 0) {
+            return false;
+        }
+        Piece[] slots = pieces[index];
+        int count = --counts[index];
+        System.arraycopy(slots, i + 1, slots, i, count - i);
+        slots[count] = null;
+        return true;
+    }
+
+    /**
+     * 위치의 말을 배열 구간의 내용으로 교체 (순서 유지)
+     * @param index 위치 번호
+     * @param source 말 배열
+     * @param from 시작 위치
+     * @param to 끝 위치 (제외)
+     */
+    void replace(int index, Piece[] source, int from, int to) {
+        Arrays.fill(pieces[index], 0, counts[index], null);
+        counts[index] = 0;
+        for (int i = from; i < to; i++) {
+            add(index, source[i]);
+        }
+    }
+
+    private int indexOf(int index, Piece piece) {
+        Piece[] slots = pieces[index];
+        for (int i = 0; i < counts[index]; i++) {
+            if (slots[i].equals(piece)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
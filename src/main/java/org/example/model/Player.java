@@ -74,6 +74,32 @@ public class Player {
         return new ArrayList<>(pieces);
     }
 
+    /**
+     * 말 개수 반환 (목록을 복사하지 않음)
+     * @return 말 개수
+     */
+    public int getPieceCount() {
+        return pieces.size();
+    }
+
+    /**
+     * 순서로 말 찾기 (목록을 복사하지 않음)
+     * @param index 말 순서 (0부터)
+     * @return 해당 순서의 말
+     */
+    public Piece getPiece(int index) {
+        return pieces.get(index);
+    }
+
+    /**
+     * 말의 순서 반환 (목록을 복사하지 않음)
+     * @param piece 찾을 말
+     * @return 말 순서 (이 플레이어의 말이 아니면 -1)
+     */
+    public int getPieceIndex(Piece piece) {
+        return pieces.indexOf(piece);
+    }
+
     /**
      * 이동 가능한 말 목록 반환 (완주하지 않은 말만)
      * @return 이동 가능한 말 목록
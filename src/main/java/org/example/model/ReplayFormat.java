@@ -0,0 +1,43 @@
+package org.example.model;
+
+/**
+ * 이진 리플레이 형식 상수 모음
+ * <pre>
+ * 게임 하나 = 헤더 8바이트 + 기록 1바이트씩 + 종료 1바이트 (한 파일에 여러 게임을 이어 붙일 수 있음)
+ *
+ * 헤더: 'Y' 'U' 'T' 'R', 버전(1), 보드 타입 순서, 플레이어 수, 플레이어당 말 개수
+ *
+ * 기록 (상위 2비트가 종류):
+ *   00000rrr  던지기  - rrr: 윷 결과 순서 (Yut.YutResult.ordinal())
+ *   01ppprrr  이동    - 01 ppp rrr: 현재 플레이어의 말 순서(ppp)와 사용한 윷 결과 순서(rrr)
+ *   10000000  결과 버림 (Game.forfeitPendingResults)
+ *   11111111  게임 종료
+ * </pre>
+ * 이동 기록은 컨트롤러와 같은 순서로 재생됩니다: movePiece 후 승자가 없으면 endTurnIfNoExtraTurn.
+ */
+final class ReplayFormat {
+    static final byte[] MAGIC = {'Y', 'U', 'T', 'R'};
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 8;
+
+    static final int TAG_MASK = 0xC0;
+    static final int TAG_THROW = 0x00;
+    static final int TAG_MOVE = 0x40;
+    static final int FORFEIT = 0x80;
+    static final int END = 0xFF;
+
+    static final int RESULT_MASK = 0x07;
+    static final int PIECE_SHIFT = 3;
+    static final int PIECE_MASK = 0x07;
+
+    private ReplayFormat() {
+    }
+
+    static int throwRecord(Yut.YutResult result) {
+        return TAG_THROW | result.ordinal();
+    }
+
+    static int moveRecord(int pieceIndex, Yut.YutResult result) {
+        return TAG_MOVE | (pieceIndex << PIECE_SHIFT) | result.ordinal();
+    }
+}
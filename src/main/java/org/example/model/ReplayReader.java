@@ -0,0 +1,138 @@
+package org.example.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 이진 리플레이 재생기 (형식은 ReplayFormat 참고)
+ * 리플레이 파일을 메모리에 매핑하고, 게임마다 Game에 같은 순서로 다시 호출하여 재현합니다.
+ * 빠른 재생이 필요하면 재생할 게임의 사건 기록을 꺼 두세요. (game.getEventLog().setRecording(false))
+ */
+public class ReplayReader implements Closeable {
+    private static final Yut.YutResult[] RESULTS = Yut.YutResult.values();
+    private static final Board.BoardType[] BOARD_TYPES = Board.BoardType.values();
+
+    private ByteBuffer buffer;
+    private FileChannel channel;
+
+    /**
+     * 메모리의 리플레이 데이터로 생성
+     * @param buffer 리플레이 데이터 (현재 위치부터 읽음)
+     */
+    public ReplayReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    private ReplayReader(ByteBuffer buffer, FileChannel channel) {
+        this.buffer = buffer;
+        this.channel = channel;
+    }
+
+    /**
+     * 리플레이 파일을 읽기 전용으로 메모리에 매핑하여 생성
+     * @param file 리플레이 파일 (2GB 이하)
+     * @return 재생기
+     */
+    public static ReplayReader open(Path file) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("2GB를 넘는 리플레이 파일은 나누어 저장해야 합니다: " + file);
+            }
+            return new ReplayReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), channel);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new IllegalStateException("리플레이 파일을 열 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 재생할 게임이 남아 있는지 확인
+     * @return 남아 있으면 true
+     */
+    public boolean hasNext() {
+        return buffer.hasRemaining();
+    }
+
+    /**
+     * 다음 게임 헤더를 읽어 게임 설정 반환
+     * @return 게임 설정
+     */
+    private GameSettings readHeader() {
+        if (buffer.remaining() < ReplayFormat.HEADER_SIZE) {
+            throw new IllegalStateException("리플레이 헤더가 잘렸습니다.");
+        }
+        for (byte magic : ReplayFormat.MAGIC) {
+            if (buffer.get() != magic) {
+                throw new IllegalStateException("리플레이 파일 형식이 아닙니다.");
+            }
+        }
+        int version = buffer.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IllegalStateException("지원하지 않는 리플레이 버전입니다: " + version);
+        }
+        Board.BoardType boardType = BOARD_TYPES[buffer.get()];
+        int playerCount = buffer.get();
+        int piecePerPlayer = buffer.get();
+        return new GameSettings(playerCount, piecePerPlayer, boardType);
+    }
+
+    /**
+     * 다음 게임 하나를 재생
+     * @param game 재생에 사용할 게임 (헤더의 설정으로 다시 초기화됨)
+     * @return 승리 플레이어 (종료 전에 기록이 끝난 게임이면 null)
+     */
+    public Player replayNext(Game game) {
+        game.initialize(readHeader());
+
+        while (buffer.hasRemaining()) {
+            int record = buffer.get() & 0xFF;
+            if (record == ReplayFormat.END) {
+                return game.getWinner();
+            }
+            if (record == ReplayFormat.FORFEIT) {
+                game.forfeitPendingResults();
+                continue;
+            }
+
+            Yut.YutResult result = RESULTS[record & ReplayFormat.RESULT_MASK];
+            if ((record & ReplayFormat.TAG_MASK) == ReplayFormat.TAG_THROW) {
+                game.setSpecificYutResult(result);
+            } else if ((record & ReplayFormat.TAG_MASK) == ReplayFormat.TAG_MOVE) {
+                int pieceIndex = (record >>> ReplayFormat.PIECE_SHIFT) & ReplayFormat.PIECE_MASK;
+                Piece piece = game.getCurrentPlayer().getPiece(pieceIndex);
+                if (game.movePiece(piece, result) == null) {
+                    throw new IllegalStateException("리플레이 기록이 게임 진행과 맞지 않습니다.");
+                }
+                if (!game.checkGameEnd()) {
+                    game.endTurnIfNoExtraTurn();
+                }
+            } else {
+                throw new IllegalStateException("알 수 없는 리플레이 기록입니다: " + record);
+            }
+        }
+        return game.getWinner();
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(channel);
+        channel = null;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 읽기 전용 채널이므로 닫기 실패는 무시
+        }
+    }
+}
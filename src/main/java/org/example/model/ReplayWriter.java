@@ -0,0 +1,137 @@
+package org.example.model;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 이진 리플레이 기록기 (형식은 ReplayFormat 참고)
+ * Game.setReplayWriter로 연결하면 게임이 진행되는 대로 던지기/이동 기록을 덧붙입니다.
+ * 한 기록기로 여러 게임을 연속으로 기록할 수 있습니다.
+ */
+public class ReplayWriter implements Closeable {
+    private OutputStream out;
+    private boolean inGame;
+    private long gameCount;
+
+    /**
+     * 생성자
+     * @param out 기록할 출력 스트림 (버퍼링되지 않은 스트림이면 버퍼를 씌움)
+     */
+    public ReplayWriter(OutputStream out) {
+        this.out = out instanceof BufferedOutputStream ? out : new BufferedOutputStream(out, 64 * 1024);
+    }
+
+    /**
+     * 파일 끝에 덧붙이는 기록기 생성
+     * @param file 리플레이 파일
+     * @return 기록기
+     */
+    public static ReplayWriter append(Path file) {
+        try {
+            return new ReplayWriter(Files.newOutputStream(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        } catch (IOException e) {
+            throw new IllegalStateException("리플레이 파일을 열 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 새 게임 헤더 기록 (이전 게임이 끝나지 않았으면 종료 표시를 먼저 기록)
+     * @param settings 게임 설정
+     */
+    public void startGame(GameSettings settings) {
+        if (inGame) {
+            endGame();
+        }
+        write(ReplayFormat.MAGIC[0]);
+        write(ReplayFormat.MAGIC[1]);
+        write(ReplayFormat.MAGIC[2]);
+        write(ReplayFormat.MAGIC[3]);
+        write(ReplayFormat.VERSION);
+        write(settings.getBoardType().ordinal());
+        write(settings.getPlayerCount());
+        write(settings.getPiecePerPlayer());
+        inGame = true;
+    }
+
+    public void recordThrow(Yut.YutResult result) {
+        writeRecord(ReplayFormat.throwRecord(result));
+    }
+
+    /**
+     * 이동 기록
+     * @param pieceIndex 현재 플레이어의 말 순서
+     * @param result 사용한 윷 결과
+     */
+    public void recordMove(int pieceIndex, Yut.YutResult result) {
+        if (pieceIndex < 0 || pieceIndex > ReplayFormat.PIECE_MASK) {
+            throw new IllegalArgumentException("기록할 수 없는 말 순서입니다: " + pieceIndex);
+        }
+        writeRecord(ReplayFormat.moveRecord(pieceIndex, result));
+    }
+
+    public void recordForfeit() {
+        writeRecord(ReplayFormat.FORFEIT);
+    }
+
+    /**
+     * 게임 종료 표시 기록 (진행 중인 게임이 없으면 무시)
+     */
+    public void endGame() {
+        if (!inGame) {
+            return;
+        }
+        write(ReplayFormat.END);
+        inGame = false;
+        gameCount++;
+    }
+
+    /**
+     * 종료 표시까지 기록된 게임 수 반환
+     * @return 게임 수
+     */
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("리플레이를 기록할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 진행 중인 게임을 종료 처리하고 스트림을 닫음
+     */
+    @Override
+    public void close() {
+        endGame();
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("리플레이 파일을 닫을 수 없습니다.", e);
+        }
+    }
+
+    private void writeRecord(int record) {
+        if (!inGame) {
+            throw new IllegalStateException("게임 헤더를 기록하기 전에는 기록을 추가할 수 없습니다.");
+        }
+        write(record);
+    }
+
+    private void write(int value) {
+        try {
+            out.write(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("리플레이를 기록할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.model;
+
+/**
+ * 시간 예산이 있는 탐색의 마감 확인 (ExpectiminimaxStrategy와 TurnPlanner가 공유)
+ * 방문한 노드를 세다가 CHECK_INTERVAL 개마다만 시계를 읽고, 마감이 지났으면 Timeout을 던져
+ * 재귀 탐색을 한 번에 빠져나옵니다. 마감 확인을 꺼 두면 노드 수만 셉니다.
+ */
+final class SearchDeadline {
+    static final int CHECK_INTERVAL = 256; // 노드 수 기준 시간 확인 간격
+
+    /**
+     * 시간 예산 초과로 탐색을 중단할 때 쓰는 예외 (스택 추적 없음)
+     */
+    static final class Timeout extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private Timeout() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final Timeout TIMEOUT = new Timeout();
+
+    private final long budgetNanos;
+    private long deadline;
+    private boolean active;
+    private long nodeCount;
+
+    /**
+     * 생성자
+     * @param budgetMillis 한 번의 탐색에 쓸 시간 (밀리초)
+     */
+    SearchDeadline(long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("시간 예산은 1ms 이상이어야 합니다.");
+        }
+        this.budgetNanos = budgetMillis * 1_000_000L;
+    }
+
+    /**
+     * 지금부터 시간 예산만큼 마감을 정하고 노드 수를 비움 (마감 확인은 켬)
+     */
+    void start() {
+        deadline = System.nanoTime() + budgetNanos;
+        nodeCount = 0;
+        active = true;
+    }
+
+    /**
+     * 마감 확인 켜기/끄기 (꺼 두면 visit이 예외를 던지지 않음)
+     * @param active 마감을 확인하면 true
+     */
+    void setActive(boolean active) {
+        this.active = active;
+    }
+
+    /**
+     * 노드 하나 방문 (CHECK_INTERVAL 개마다 마감 확인)
+     * @throws Timeout 마감 확인이 켜져 있고 마감이 지났을 때
+     */
+    void visit() {
+        if (++nodeCount % CHECK_INTERVAL == 0 && active && System.nanoTime() >= deadline) {
+            throw TIMEOUT;
+        }
+    }
+
+    /**
+     * 마감이 지났는지 바로 확인 (켜기/끄기와 관계없음)
+     * @return 지났으면 true
+     */
+    boolean isExpired() {
+        return System.nanoTime() >= deadline;
+    }
+
+    long getNodeCount() {
+        return nodeCount;
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.model;
+
+/**
+ * 시뮬레이션 결과 집계 클래스
+ * 게임 수, 완료된 게임 수, 자리(플레이어 순서)별 승리 수, 던지기/이동/턴/잡기/업기 횟수와 경과 시간을 보관합니다.
+ */
+public class SimulationStats {
+    private long gameCount;
+    private long finishedCount;
+    private long[] winsBySeat;
+    private long throwCount;
+    private long moveCount;
+    private long turnCount;
+    private long captureCount;
+    private long stackCount;
+    private long elapsedNanos;
+
+    /**
+     * 생성자
+     * @param playerCount 플레이어 수
+     */
+    public SimulationStats(int playerCount) {
+        this.winsBySeat = new long[playerCount];
+    }
+
+    /**
+     * 게임 한 판의 결과 기록
+     * @param winnerSeat 승리한 플레이어 순서 (행동 한도에 걸려 끝나지 않았으면 -1)
+     * @param throwCount 던지기 횟수
+     * @param moveCount 이동 횟수
+     * @param turnCount 턴 수
+     * @param captureCount 잡기 횟수
+     * @param stackCount 업기 횟수
+     */
+    void recordGame(int winnerSeat, long throwCount, long moveCount,
+                    long turnCount, long captureCount, long stackCount) {
+        this.gameCount++;
+        if (winnerSeat >= 0) {
+            this.finishedCount++;
+            this.winsBySeat[winnerSeat]++;
+        }
+        this.throwCount += throwCount;
+        this.moveCount += moveCount;
+        this.turnCount += turnCount;
+        this.captureCount += captureCount;
+        this.stackCount += stackCount;
+    }
+
+    void addElapsedNanos(long nanos) {
+        this.elapsedNanos += nanos;
+    }
+
+    /**
+     * 다른 집계 결과 합치기
+     * @param other 합칠 집계 결과
+     */
+    public void merge(SimulationStats other) {
+        if (other.winsBySeat.length != winsBySeat.length) {
+            throw new IllegalArgumentException("플레이어 수가 다른 집계는 합칠 수 없습니다.");
+        }
+        gameCount += other.gameCount;
+        finishedCount += other.finishedCount;
+        for (int i = 0; i < winsBySeat.length; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+        }
+        throwCount += other.throwCount;
+        moveCount += other.moveCount;
+        turnCount += other.turnCount;
+        captureCount += other.captureCount;
+        stackCount += other.stackCount;
+        elapsedNanos += other.elapsedNanos;
+    }
+
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    public long getFinishedCount() {
+        return finishedCount;
+    }
+
+    /**
+     * 플레이어 순서별 승리 수 반환
+     * @param seat 플레이어 순서 (0부터)
+     * @return 승리 수
+     */
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    public int getPlayerCount() {
+        return winsBySeat.length;
+    }
+
+    public long getThrowCount() {
+        return throwCount;
+    }
+
+    public long getMoveCount() {
+        return moveCount;
+    }
+
+    public long getTurnCount() {
+        return turnCount;
+    }
+
+    public long getCaptureCount() {
+        return captureCount;
+    }
+
+    public long getStackCount() {
+        return stackCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 초당 게임 수 반환
+     * @return 초당 게임 수 (경과 시간이 없으면 0)
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : gameCount * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    private double perGame(long total) {
+        return gameCount == 0 ? 0.0 : (double) total / gameCount;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("게임 %,d판 (완료 %,d판), %.0f판/초, 판당 턴 %.1f, 던지기 %.1f, 이동 %.1f, 잡기 %.2f, 업기 %.2f, 승리:",
+                gameCount, finishedCount, getGamesPerSecond(),
+                perGame(turnCount), perGame(throwCount), perGame(moveCount),
+                perGame(captureCount), perGame(stackCount)));
+        for (int i = 0; i < winsBySeat.length; i++) {
+            sb.append(" P").append(i + 1).append('=').append(winsBySeat[i]);
+        }
+        return sb.toString();
+    }
+}
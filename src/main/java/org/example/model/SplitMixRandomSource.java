@@ -0,0 +1,65 @@
+package org.example.model;
+
+/**
+ * 카운터 기반 SplitMix64 난수 공급원
+ * n번째 난수는 mix64(seed + n * gamma)로 정해지므로 상태는 (seed, gamma, 카운터)뿐이며,
+ * 스트림 번호마다 다른 gamma를 써서 서로 독립적인 난수열을 만듭니다.
+ */
+final class SplitMixRandomSource implements YutRandomSource {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final long gamma;
+    private long counter;
+
+    private SplitMixRandomSource(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * 시드 하나로 공급원 생성
+     * @param seed 시드
+     * @return 공급원
+     */
+    static SplitMixRandomSource seeded(long seed) {
+        return new SplitMixRandomSource(seed, GOLDEN_GAMMA);
+    }
+
+    /**
+     * 시드와 스트림 번호로 공급원 생성 (스트림마다 시작점과 gamma가 모두 다름)
+     * @param seed 시드
+     * @param streamIndex 스트림 번호
+     * @return 공급원
+     */
+    static SplitMixRandomSource forStream(long seed, long streamIndex) {
+        long base = seed + mix64(streamIndex) * GOLDEN_GAMMA;
+        return new SplitMixRandomSource(mix64(base), mixGamma(base + GOLDEN_GAMMA));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(seed + (++counter) * gamma);
+    }
+
+    @Override
+    public YutRandomSource split() {
+        return new SplitMixRandomSource(nextLong(), mixGamma(nextLong()));
+    }
+
+    // SplitMix64 출력 함수 (Stafford variant 13)
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 홀수이면서 비트 변화가 충분한 gamma 생성 (SplittableRandom과 같은 방식)
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
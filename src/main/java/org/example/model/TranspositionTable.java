@@ -0,0 +1,294 @@
+package org.example.model;
+
+import java.util.Arrays;
+
+/**
+ * 탐색 결과를 국면 해시(64비트)로 저장하는 고정 크기 치환표
+ * 잡혀서 시작점으로 돌아간 말이나 다른 순서로 만든 같은 업기처럼 같은 국면이 자주 다시 나오므로,
+ * 한 번 계산한 값을 저장해 두고 다시 탐색하지 않게 합니다.
+ * - 저장: 항목마다 키, 값, 남은 깊이, 최선 이동 번호, 값의 종류(정확/하한/상한), 세대를 각각의 기본형 배열에 둡니다.
+ * - 조회: 키의 하위 비트로 정한 칸부터 PROBE_LIMIT칸을 차례로 봅니다 (열린 주소법).
+ * - 교체: 같은 키나 빈 칸이 없으면 ReplacementPolicy에 따라 교체할 칸을 고르거나 저장하지 않습니다.
+ * 키 전체를 저장하므로 다른 국면을 같은 국면으로 보는 경우는 64비트 해시가 충돌할 때뿐입니다.
+ * 동기화하지 않으므로 한 스레드에서만 사용하세요.
+ */
+public final class TranspositionTable {
+    public static final int PROBE_LIMIT = 4; // 한 키가 쓸 수 있는 연속 칸 수
+
+    /**
+     * 저장된 값의 종류
+     */
+    public enum Bound {
+        EXACT,       // 정확한 값
+        LOWER,       // 실제 값은 이 값 이상 (상한을 넘어 잘림)
+        UPPER        // 실제 값은 이 값 이하 (하한 아래로 잘림)
+    }
+
+    /**
+     * 같은 키도 빈 칸도 없을 때의 교체 정책
+     */
+    public enum ReplacementPolicy {
+        ALWAYS,          // 항상 키의 첫 칸을 덮어씀
+        DEPTH_PREFERRED  // 이전 세대 항목부터, 없으면 가장 얕은 항목을 덮어쓰되 새 항목이 더 얕으면 저장하지 않음
+    }
+
+    private static final Bound[] BOUNDS = Bound.values();
+    private static final byte EMPTY = -1;
+
+    private final int mask;
+    private final ReplacementPolicy policy;
+    private final long[] keys;
+    private final double[] values;
+    private final byte[] depths;
+    private final short[] bestMoves;
+    private final byte[] bounds; // Bound.ordinal(), 빈 칸은 EMPTY
+    private final byte[] generations;
+    private byte generation;
+
+    // 통계
+    private long probes;
+    private long hits;
+    private long stores;
+    private long replacements;
+    private long rejections;
+
+    /**
+     * 깊이 우선 교체 정책을 쓰는 생성자
+     * @param capacity 최소 항목 수 (2의 거듭제곱으로 올림)
+     */
+    public TranspositionTable(int capacity) {
+        this(capacity, ReplacementPolicy.DEPTH_PREFERRED);
+    }
+
+    /**
+     * 교체 정책을 지정하는 생성자
+     * @param capacity 최소 항목 수 (2의 거듭제곱으로 올림)
+     * @param policy 교체 정책
+     */
+    public TranspositionTable(int capacity, ReplacementPolicy policy) {
+        if (capacity < PROBE_LIMIT || capacity > 1 << 30) {
+            throw new IllegalArgumentException("치환표 크기는 " + PROBE_LIMIT + " 이상 2^30 이하여야 합니다: " + capacity);
+        }
+        if (policy == null) {
+            throw new NullPointerException("교체 정책은 null일 수 없습니다.");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.policy = policy;
+        this.keys = new long[size];
+        this.values = new double[size];
+        this.depths = new byte[size];
+        this.bestMoves = new short[size];
+        this.bounds = new byte[size];
+        this.generations = new byte[size];
+        Arrays.fill(bounds, EMPTY);
+    }
+
+    /**
+     * 키의 항목 찾기
+     * @param key 국면 해시
+     * @return 항목 번호 (없으면 -1)
+     */
+    public int probe(long key) {
+        probes++;
+        int home = (int) (key ^ key >>> 32) & mask;
+        for (int k = 0; k < PROBE_LIMIT; k++) {
+            int slot = (home + k) & mask;
+            if (bounds[slot] == EMPTY) {
+                return -1; // 지우지 않으므로 빈 칸 뒤에는 이 키가 없음
+            }
+            if (keys[slot] == key) {
+                hits++;
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 탐색 결과 저장 (같은 키가 있으면 덮어씀)
+     * @param key 국면 해시
+     * @param value 값
+     * @param depth 남은 탐색 깊이 (0 ~ 127)
+     * @param bestMove 최선 이동 번호 (없으면 -1)
+     * @param bound 값의 종류
+     * @return 저장했으면 true, 교체 정책에 따라 버렸으면 false
+     */
+    public boolean store(long key, double value, int depth, int bestMove, Bound bound) {
+        if (depth < 0 || depth > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("저장할 깊이는 0 이상 127 이하여야 합니다: " + depth);
+        }
+        int home = (int) (key ^ key >>> 32) & mask;
+        int victim = -1;
+        for (int k = 0; k < PROBE_LIMIT; k++) {
+            int slot = (home + k) & mask;
+            if (bounds[slot] == EMPTY || keys[slot] == key) {
+                victim = slot;
+                break;
+            }
+        }
+        if (victim < 0) {
+            victim = chooseVictim(home, depth);
+            if (victim < 0) {
+                rejections++;
+                return false;
+            }
+            replacements++;
+        }
+        stores++;
+        keys[victim] = key;
+        values[victim] = value;
+        depths[victim] = (byte) depth;
+        bestMoves[victim] = (short) bestMove;
+        bounds[victim] = (byte) bound.ordinal();
+        generations[victim] = generation;
+        return true;
+    }
+
+    /**
+     * 항목의 값 반환
+     * @param slot probe가 돌려준 항목 번호
+     * @return 값
+     */
+    public double getValue(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * 항목의 남은 탐색 깊이 반환
+     * @param slot probe가 돌려준 항목 번호
+     * @return 깊이
+     */
+    public int getDepth(int slot) {
+        return depths[slot];
+    }
+
+    /**
+     * 항목의 최선 이동 번호 반환
+     * @param slot probe가 돌려준 항목 번호
+     * @return 이동 번호 (없으면 -1)
+     */
+    public int getBestMove(int slot) {
+        return bestMoves[slot];
+    }
+
+    /**
+     * 항목 값의 종류 반환
+     * @param slot probe가 돌려준 항목 번호
+     * @return 값의 종류
+     */
+    public Bound getBound(int slot) {
+        return BOUNDS[bounds[slot]];
+    }
+
+    /**
+     * 새 탐색 시작 (세대 증가)
+     * 항목은 그대로 두고 조회할 수 있으며, DEPTH_PREFERRED 정책에서 이전 세대 항목을 먼저 교체합니다.
+     */
+    public void newSearch() {
+        generation++;
+    }
+
+    /**
+     * 모든 항목 삭제 (통계는 유지)
+     */
+    public void clear() {
+        Arrays.fill(bounds, EMPTY);
+    }
+
+    /**
+     * 항목 수 반환
+     * @return 전체 칸 수
+     */
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    /**
+     * 교체 정책 반환
+     * @return 교체 정책
+     */
+    public ReplacementPolicy getReplacementPolicy() {
+        return policy;
+    }
+
+    /**
+     * 조회 횟수 반환
+     * @return probe 호출 횟수
+     */
+    public long getProbeCount() {
+        return probes;
+    }
+
+    /**
+     * 조회 성공 횟수 반환
+     * @return 키를 찾은 횟수
+     */
+    public long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * 조회 성공률 반환
+     * @return 성공 횟수 / 조회 횟수 (조회가 없으면 0)
+     */
+    public double getHitRate() {
+        return probes == 0 ? 0 : (double) hits / probes;
+    }
+
+    /**
+     * 저장 횟수 반환
+     * @return 저장한 횟수 (교체 포함)
+     */
+    public long getStoreCount() {
+        return stores;
+    }
+
+    /**
+     * 다른 키의 항목을 덮어쓴 횟수 반환
+     * @return 교체 횟수
+     */
+    public long getReplacementCount() {
+        return replacements;
+    }
+
+    /**
+     * 교체 정책에 따라 저장하지 않은 횟수 반환
+     * @return 버린 횟수
+     */
+    public long getRejectionCount() {
+        return rejections;
+    }
+
+    /**
+     * 통계 초기화 (항목은 유지)
+     */
+    public void resetStatistics() {
+        probes = 0;
+        hits = 0;
+        stores = 0;
+        replacements = 0;
+        rejections = 0;
+    }
+
+    /**
+     * 다른 키로 가득 찬 칸들 중 덮어쓸 칸 선택
+     * @return 항목 번호 (저장하지 않으면 -1)
+     */
+    private int chooseVictim(int home, int depth) {
+        if (policy == ReplacementPolicy.ALWAYS) {
+            return home;
+        }
+        int shallowest = -1;
+        for (int k = 0; k < PROBE_LIMIT; k++) {
+            int slot = (home + k) & mask;
+            if (generations[slot] != generation) {
+                return slot;
+            }
+            if (shallowest < 0 || depths[slot] < depths[shallowest]) {
+                shallowest = slot;
+            }
+        }
+        return depths[shallowest] <= depth ? shallowest : -1;
+    }
+}
@@ -0,0 +1,440 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 남은 윷 결과 여러 개를 어느 말에 어떤 순서로 쓸지 한 번에 정하는 턴 계획기
+ * 윷/모가 이어져 남은 결과가 여러 개일 때, 결과를 쓰는 순서와 말 배정을 모두 탐색하여
+ * 남은 결과를 다 쓴 국면(또는 턴이 넘어가거나 게임이 끝난 국면)을 평가 함수로 비교합니다.
+ * - 같은 위치에서 같은 결과로 움직이는 이동(업힌 말 묶음, 출발 전 말들)은 한 번만 탐색합니다.
+ * - 순서만 다르고 같은 국면에 이르는 경우는 Zobrist 해시를 키로 치환표에 저장한 값을 다시 씁니다.
+ * - 시간 예산을 넘기면 끝까지 탐색한 첫 이동들 중 가장 좋은 계획을 돌려줍니다.
+ *   하나도 없거나 그 계획을 이어 붙이다 예산을 넘기면 한 수씩 평가한 계획을 돌려줍니다.
+ * 복사한 게임에서 탐색하므로 원래 게임이 바뀌지 않는 점과 스레드 제약은 ExpectiminimaxStrategy와 같습니다.
+ */
+public class TurnPlanner implements MoveStrategy {
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 80;
+    public static final int DEFAULT_TABLE_CAPACITY = 1 << 16;
+
+    private static final int RESULT_COUNT = Yut.YutResult.values().length;
+    private static final int NO_MOVE = -1;
+
+    /**
+     * 계획이 끝난 국면의 평가 함수 (클수록 좋음)
+     */
+    @FunctionalInterface
+    public interface Evaluator {
+
+        /**
+         * 국면 평가
+         * @param game 계획이 끝난 국면의 게임 (읽기 전용으로 사용)
+         * @param player 계획하는 플레이어
+         * @return 평가 값
+         */
+        double evaluate(Game game, Player player);
+
+        /**
+         * 완주까지 남은 평균 던지기 수로 진행도를 재는 평가 함수
+         * 플레이어의 진행도(말마다 시작점과 현재 위치의 평균 던지기 수 차이)에서 가장 앞선 상대의 진행도를 빼고,
+         * 잡기로 한 번 더 던지게 되면 던지기 한 번만큼 더합니다.
+         * @return 평가 함수
+         */
+        static Evaluator progress() {
+            return (game, player) -> {
+                FinishTimeTable table = FinishTimeTable.of(game.getBoard().getBoardType(),
+                        game.getGameSettings().getYutProbabilityModel());
+                double bestOpponent = 0;
+                for (Player other : game.getPlayers()) {
+                    if (other != player) {
+                        bestOpponent = Math.max(bestOpponent, table.progress(other));
+                    }
+                }
+                double value = table.progress(player) - bestOpponent;
+                if (!game.isGameFinished() && game.getCurrentPlayer() == player && !game.hasPendingYutResults()) {
+                    value += 1; // 잡기로 얻은 추가 던지기
+                }
+                return value;
+            };
+        }
+    }
+
+    /**
+     * 턴 계획 (원래 게임의 말과 쓸 윷 결과를 쓰는 순서대로)
+     */
+    public static final class Plan {
+        private final List<Piece> pieces;
+        private final List<Yut.YutResult> results;
+        private final double value;
+
+        Plan(List<Piece> pieces, List<Yut.YutResult> results, double value) {
+            this.pieces = Collections.unmodifiableList(pieces);
+            this.results = Collections.unmodifiableList(results);
+            this.value = value;
+        }
+
+        /**
+         * 계획의 이동 수
+         * @return 이동 수 (움직일 말이 없어 결과를 버리면 0)
+         */
+        public int size() {
+            return pieces.size();
+        }
+
+        public boolean isEmpty() {
+            return pieces.isEmpty();
+        }
+
+        /**
+         * i번째로 움직일 말
+         * @param step 순서
+         * @return 원래 게임의 말
+         */
+        public Piece getPiece(int step) {
+            return pieces.get(step);
+        }
+
+        /**
+         * i번째로 쓸 윷 결과
+         * @param step 순서
+         * @return 윷 결과
+         */
+        public Yut.YutResult getResult(int step) {
+            return results.get(step);
+        }
+
+        public List<Piece> getPieces() {
+            return pieces;
+        }
+
+        public List<Yut.YutResult> getResults() {
+            return results;
+        }
+
+        /**
+         * 계획대로 둔 뒤 국면의 평가 값
+         * @return 평가 값
+         */
+        public double getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("Plan[");
+            for (int i = 0; i < pieces.size(); i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(pieces.get(i).getId()).append(' ').append(results.get(i));
+            }
+            return builder.append("] = ").append(value).toString();
+        }
+    }
+
+    private final Evaluator evaluator;
+    private final SearchDeadline deadline;
+    private final TranspositionTable table;
+    private final Game searchGame;
+    private final List<MoveList> moveLists = new ArrayList<>(); // 깊이별 이동 목록
+
+    private Player planner; // 탐색용 게임에서 계획하는 플레이어
+    private boolean lastComplete;
+
+    /**
+     * 기본 평가 함수(Evaluator.progress)와 기본 시간 예산(80ms)을 쓰는 생성자
+     */
+    public TurnPlanner() {
+        this(Evaluator.progress(), DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * 평가 함수와 시간 예산을 지정하는 생성자
+     * @param evaluator 평가 함수
+     * @param timeBudgetMillis 한 번의 계획에 쓸 시간 (밀리초)
+     */
+    public TurnPlanner(Evaluator evaluator, long timeBudgetMillis) {
+        if (evaluator == null) {
+            throw new NullPointerException("평가 함수는 null일 수 없습니다.");
+        }
+        this.evaluator = evaluator;
+        this.deadline = new SearchDeadline(timeBudgetMillis);
+        this.table = new TranspositionTable(DEFAULT_TABLE_CAPACITY, TranspositionTable.ReplacementPolicy.ALWAYS);
+        this.searchGame = new Game();
+        this.searchGame.getEventLog().setRecording(false);
+    }
+
+    /**
+     * 현재 플레이어의 남은 윷 결과를 쓰는 최선의 계획 찾기
+     * @param game 남은 윷 결과가 있는 게임
+     * @return 계획
+     * @throws IllegalStateException 게임이 끝났거나 남은 윷 결과가 없을 때
+     */
+    public Plan plan(Game game) {
+        if (game.isGameFinished() || !game.hasPendingYutResults()) {
+            throw new IllegalStateException("계획할 남은 윷 결과가 없습니다.");
+        }
+        deadline.start();
+        lastComplete = true;
+
+        game.copyInto(searchGame);
+        planner = searchGame.getCurrentPlayer();
+        table.clear();
+
+        MoveList rootMoves = moveList(0);
+        int count = searchGame.generateLegalMoves(rootMoves);
+        if (count == 0) {
+            return new Plan(new ArrayList<>(), new ArrayList<>(), forfeitValue());
+        }
+
+        int best = NO_MOVE;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        try {
+            for (int i = 0; i < count; i++) {
+                if (rootMoves.repeatsEarlierMove(i)) {
+                    continue;
+                }
+                searchGame.applyMove(rootMoves.getPiece(i), rootMoves.getResult(i));
+                double value;
+                try {
+                    value = search(1);
+                } finally {
+                    searchGame.undo();
+                }
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = i;
+                }
+            }
+        } catch (SearchDeadline.Timeout timeout) {
+            lastComplete = false;
+        }
+
+        List<Piece> pieces = new ArrayList<>();
+        List<Yut.YutResult> results = new ArrayList<>();
+        if (best != NO_MOVE) {
+            try {
+                principalLine(game, best, pieces, results);
+                return new Plan(pieces, results, bestValue);
+            } catch (SearchDeadline.Timeout timeout) {
+                // 치환표에서 밀려난 국면을 다시 탐색하다 예산을 넘기면 한 수씩 평가한 계획으로 대신함
+                lastComplete = false;
+                pieces.clear();
+                results.clear();
+            }
+        }
+        double value = greedyLine(game, pieces, results);
+        return new Plan(pieces, results, value);
+    }
+
+    @Override
+    public int chooseMove(Game game, List<Piece> pieces, List<Yut.YutResult> results) {
+        if (pieces.size() <= 1) {
+            return 0;
+        }
+        Plan plan = plan(game);
+        if (plan.isEmpty()) {
+            return 0;
+        }
+        return MoveList.findCandidate(game, pieces, results, plan.getPiece(0), plan.getResult(0));
+    }
+
+    /**
+     * 마지막 계획에서 방문한 노드 수 반환
+     * @return 노드 수
+     */
+    public long getLastNodeCount() {
+        return deadline.getNodeCount();
+    }
+
+    /**
+     * 마지막 계획이 시간 예산 안에 모든 계획을 비교했는지 확인
+     * @return 끝까지 탐색했으면 true
+     */
+    public boolean isLastPlanComplete() {
+        return lastComplete;
+    }
+
+    /**
+     * 치환표 반환 (조회 성공률 등 통계 확인용)
+     * @return 치환표
+     */
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /**
+     * 남은 결과를 모두 쓰는 가장 좋은 계획의 값 (치환표에 값과 최선 이동을 저장)
+     */
+    private double search(int depth) {
+        deadline.visit();
+        if (isPlanEnd()) {
+            return evaluator.evaluate(searchGame, planner);
+        }
+        long key = searchGame.getZobristHash();
+        int slot = table.probe(key);
+        if (slot >= 0) {
+            return table.getValue(slot);
+        }
+
+        MoveList moves = moveList(depth);
+        int count = searchGame.generateLegalMoves(moves);
+        double best = Double.NEGATIVE_INFINITY;
+        int bestMove = NO_MOVE;
+        if (count == 0) {
+            best = forfeitValue();
+        }
+        for (int i = 0; i < count; i++) {
+            if (moves.repeatsEarlierMove(i)) {
+                continue;
+            }
+            searchGame.applyMove(moves.getPiece(i), moves.getResult(i));
+            double value;
+            try {
+                value = search(depth + 1);
+            } finally {
+                searchGame.undo();
+            }
+            if (value > best) {
+                best = value;
+                bestMove = encodeMove(moves, i);
+            }
+        }
+        table.store(key, best, 0, bestMove, TranspositionTable.Bound.EXACT);
+        return best;
+    }
+
+    /**
+     * 루트의 최선 이동부터 치환표의 최선 이동을 따라 계획을 채움 (교체되어 없는 항목은 다시 탐색)
+     * @throws SearchDeadline.Timeout 다시 탐색하다 시간 예산을 넘겼을 때 (적용한 이동은 되돌린 뒤)
+     */
+    private void principalLine(Game game, int rootMove, List<Piece> pieces, List<Yut.YutResult> results) {
+        MoveList moves = moveList(0);
+        int applied = 0;
+        try {
+            int move = rootMove;
+            while (move != NO_MOVE) {
+                addStep(game, moves, move, pieces, results);
+                searchGame.applyMove(moves.getPiece(move), moves.getResult(move));
+                applied++;
+                if (isPlanEnd()) {
+                    break;
+                }
+                long key = searchGame.getZobristHash();
+                int slot = table.probe(key);
+                if (slot < 0) {
+                    search(applied);
+                    slot = table.probe(key);
+                }
+                moves = moveList(applied);
+                searchGame.generateLegalMoves(moves);
+                move = findMove(moves, table.getBestMove(slot));
+            }
+        } finally {
+            for (int i = 0; i < applied; i++) {
+                searchGame.undo();
+            }
+        }
+    }
+
+    /**
+     * 매번 바로 다음 국면만 평가하여 가장 좋은 이동을 고르는 계획 (시간 예산 안에 탐색이 끝나지 않았을 때)
+     * @return 마지막 국면의 평가 값
+     */
+    private double greedyLine(Game game, List<Piece> pieces, List<Yut.YutResult> results) {
+        int applied = 0;
+        try {
+            while (!isPlanEnd()) {
+                MoveList moves = moveList(applied);
+                int count = searchGame.generateLegalMoves(moves);
+                if (count == 0) {
+                    return forfeitValue();
+                }
+                int best = 0;
+                double bestValue = Double.NEGATIVE_INFINITY;
+                for (int i = 0; i < count; i++) {
+                    if (moves.repeatsEarlierMove(i)) {
+                        continue;
+                    }
+                    searchGame.applyMove(moves.getPiece(i), moves.getResult(i));
+                    try {
+                        double value = evaluator.evaluate(searchGame, planner);
+                        if (value > bestValue) {
+                            bestValue = value;
+                            best = i;
+                        }
+                    } finally {
+                        searchGame.undo();
+                    }
+                }
+                addStep(game, moves, best, pieces, results);
+                searchGame.applyMove(moves.getPiece(best), moves.getResult(best));
+                applied++;
+            }
+            return evaluator.evaluate(searchGame, planner);
+        } finally {
+            for (int i = 0; i < applied; i++) {
+                searchGame.undo();
+            }
+        }
+    }
+
+    /**
+     * 계획이 끝난 국면인지 확인 (게임 종료, 턴 넘어감, 남은 결과 없음)
+     */
+    private boolean isPlanEnd() {
+        return searchGame.isGameFinished() || searchGame.getCurrentPlayer() != planner
+                || !searchGame.hasPendingYutResults();
+    }
+
+    /**
+     * 움직일 말이 없어 남은 결과를 버린 국면의 평가 값
+     */
+    private double forfeitValue() {
+        searchGame.applyForfeit();
+        try {
+            return evaluator.evaluate(searchGame, planner);
+        } finally {
+            searchGame.undo();
+        }
+    }
+
+    /**
+     * 탐색용 게임의 이동을 원래 게임의 말로 바꾸어 계획에 추가
+     */
+    private void addStep(Game game, MoveList moves, int move, List<Piece> pieces, List<Yut.YutResult> results) {
+        Piece piece = moves.getPiece(move);
+        int playerIndex = searchGame.getPlayers().indexOf(piece.getPlayer());
+        pieces.add(game.getPlayers().get(playerIndex).getPiece(piece.getPlayer().getPieceIndex(piece)));
+        results.add(moves.getResult(move));
+    }
+
+    /**
+     * 이동을 (출발 위치 번호, 윷 결과) 코드로 바꿈 (같은 국면의 다른 말 객체에도 쓸 수 있게)
+     */
+    private int encodeMove(MoveList moves, int index) {
+        return originIndex(moves.getPiece(index)) * RESULT_COUNT + moves.getResult(index).ordinal();
+    }
+
+    private int findMove(MoveList moves, int code) {
+        for (int i = 0; i < moves.size(); i++) {
+            if (encodeMove(moves, i) == code) {
+                return i;
+            }
+        }
+        return NO_MOVE;
+    }
+
+    private int originIndex(Piece piece) {
+        Place place = piece.getCurrentPlace();
+        return place == null ? searchGame.getBoard().getStartingPlace().getIndex() : place.getIndex();
+    }
+
+    private MoveList moveList(int depth) {
+        while (moveLists.size() <= depth) {
+            moveLists.add(new MoveList());
+        }
+        return moveLists.get(depth);
+    }
+}
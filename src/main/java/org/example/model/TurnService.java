@@ -11,21 +11,31 @@ public class TurnService {
     private boolean hasExtraTurn;
     private boolean captureExtraTurnUsed;
     private boolean isExtraTurnThrow;
-    private List<Yut.YutResult> pendingYutResults;
-    private List<String> gameLog;
+    private int turnCount; // 다음 플레이어로 턴이 넘어간 횟수
+    private YutResultBag pendingYutResults;
+    private GameEventLog eventLog;
+    private ZobristHash zobristHash; // 턴 상태와 남은 결과 변경을 반영할 해시 (없으면 null)
 
     /**
      * 생성자
-     * @param pendingYutResults 윷 결과 목록 참조
-     * @param gameLog 게임 로그 참조
+     * @param pendingYutResults 남은 윷 결과 모음 참조
+     * @param eventLog 게임 사건 기록 참조
      */
-    public TurnService(List<Yut.YutResult> pendingYutResults, List<String> gameLog) {
+    public TurnService(YutResultBag pendingYutResults, GameEventLog eventLog) {
         this.currentTurnIndex = 0;
         this.hasExtraTurn = false;
         this.captureExtraTurnUsed = false;
         this.isExtraTurnThrow = false;
         this.pendingYutResults = pendingYutResults;
-        this.gameLog = gameLog;
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * 턴 상태와 남은 윷 결과가 바뀔 때 갱신할 Zobrist 해시 연결
+     * @param zobristHash 해시 (null이면 갱신하지 않음)
+     */
+    void setZobristHash(ZobristHash zobristHash) {
+        this.zobristHash = zobristHash;
     }
 
     /**
@@ -36,6 +46,8 @@ public class TurnService {
         this.hasExtraTurn = false;
         this.captureExtraTurnUsed = false;
         this.isExtraTurnThrow = false;
+        this.turnCount = 0;
+        hashTurnState();
     }
 
     /**
@@ -45,6 +57,13 @@ public class TurnService {
         return currentTurnIndex;
     }
 
+    /**
+     * 다음 플레이어로 턴이 넘어간 횟수 반환
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
     /**
      * 추가 턴 여부 반환
      */
@@ -59,17 +78,14 @@ public class TurnService {
     public void nextTurn(List<Player> players) {
         if (!hasExtraTurn) {
             currentTurnIndex = (currentTurnIndex + 1) % players.size();
-            addToGameLog(players.get(currentTurnIndex).getName() + "의 턴입니다.");
+            turnCount++;
+            eventLog.turnChanged(players.get(currentTurnIndex), false);
         } else {
             hasExtraTurn = false;
             captureExtraTurnUsed = false;
-            addToGameLog(players.get(currentTurnIndex).getName() + "의 추가 턴입니다.");
+            eventLog.turnChanged(players.get(currentTurnIndex), true);
         }
-
-//        // 디버깅: 턴 시작 시 모든 플레이어의 말 상태 출력
-//        for (Player player : players) {
-//            debugPrintPlayerPieces(player);
-//        }
+        hashTurnState();
     }
 
     /**
@@ -77,7 +93,7 @@ public class TurnService {
      */
     public void prepareForYutThrow() {
         if (!hasExtraTurn) {
-            pendingYutResults.clear();
+            clearPendingYutResults();
             isExtraTurnThrow = false;
         } else {
             isExtraTurnThrow = true;
@@ -86,6 +102,7 @@ public class TurnService {
         if (hasExtraTurn && pendingYutResults.isEmpty()) {
             captureExtraTurnUsed = true;
         }
+        hashTurnState();
     }
 
     /**
@@ -94,14 +111,18 @@ public class TurnService {
      * @param currentPlayer 현재 플레이어
      */
     public void processYutResult(Yut.YutResult result, Player currentPlayer) {
-        if (result == Yut.YutResult.YUT || result == Yut.YutResult.MO) {
+        if (result.grantsExtraThrow()) {
             hasExtraTurn = true;
-            addToGameLog(currentPlayer.getName() + "에게 추가 턴이 부여되었습니다. (윷/모)");
+            eventLog.extraTurn(currentPlayer, false);
         } else {
             hasExtraTurn = false;
         }
 
         pendingYutResults.add(result);
+        if (zobristHash != null) {
+            zobristHash.pendingAdded(result);
+        }
+        hashTurnState();
     }
 
     /**
@@ -111,7 +132,8 @@ public class TurnService {
     public void grantCaptureExtraTurn(Player currentPlayer) {
         hasExtraTurn = true;
         captureExtraTurnUsed = false;
-        addToGameLog(currentPlayer.getName() + "에게 추가 턴이 부여되었습니다. (잡기)");
+        eventLog.extraTurn(currentPlayer, true);
+        hashTurnState();
     }
 
     /**
@@ -119,7 +141,19 @@ public class TurnService {
      * @param result 사용할 윷 결과
      */
     public void useYutResult(Yut.YutResult result) {
-        pendingYutResults.remove(result);
+        if (pendingYutResults.remove(result) && zobristHash != null) {
+            zobristHash.pendingRemoved(result);
+        }
+    }
+
+    /**
+     * 남은 윷 결과 모두 버림
+     */
+    public void clearPendingYutResults() {
+        pendingYutResults.clear();
+        if (zobristHash != null) {
+            zobristHash.pendingCleared();
+        }
     }
 
     /**
@@ -131,7 +165,7 @@ public class TurnService {
         if (hasExtraTurn && pendingYutResults.isEmpty()) {
             // 1-1: 상대방 말을 잡아서 추가 턴을 얻은 경우
             if (captureExtraTurnUsed) {
-                // 잡기로 얻은 추가 턴이 이미 사용되었으므로 턴 종료
+                // 잡기로 얻은 추가 턴이 이미 사용되었으므로 턴 종료 (해시는 nextTurn에서 갱신)
                 hasExtraTurn = false;
                 isExtraTurnThrow = false;
                 captureExtraTurnUsed = false;
@@ -141,7 +175,7 @@ public class TurnService {
 
             // 1-2: 윷/모로 추가 턴을 얻었거나, 잡기 추가 턴을 아직 사용하지 않은 경우
             // → 현재 플레이어가 계속해서 윷을 던져야 함
-            addToGameLog(players.get(currentTurnIndex).getName() + "의 추가 턴입니다. 윷을 던지세요.");
+            eventLog.extraTurnContinued(players.get(currentTurnIndex), pendingYutResults.asList());
             return;
         } else if (!pendingYutResults.isEmpty()) {
             return;
@@ -150,14 +184,13 @@ public class TurnService {
         // 경우 2: 추가 턴이 없는 경우 - 다음 플레이어로 턴 전환
         if (!hasExtraTurn) {
             nextTurn(players);
-            pendingYutResults.clear();
+            clearPendingYutResults();
             return;
         }
 
         // 경우 3: 추가 턴이 있고, 아직 윷 결과가 남아있는 경우
         // → 현재 플레이어가 계속 진행
-        addToGameLog(players.get(currentTurnIndex).getName() + "의 추가 턴이 남아있습니다. 윷 결과: " +
-                formatPendingResults());
+        eventLog.extraTurnContinued(players.get(currentTurnIndex), pendingYutResults.asList());
     }
 
     /**
@@ -165,52 +198,37 @@ public class TurnService {
      */
     public void setHasExtraTransferFalse() {
         hasExtraTurn = false;
+        hashTurnState();
     }
 
     /**
-     * 저장된 윷 결과 목록을 문자열로 변환
+     * 턴 상태를 long 하나로 저장 (되돌리기 기록용, 남은 윷 결과는 제외)
+     * 하위 8비트: 현재 턴 인덱스, 8~10비트: 추가 턴 플래그, 상위 32비트: 턴 전환 횟수
+     * @return 저장된 턴 상태
      */
-    private String formatPendingResults() {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < pendingYutResults.size(); i++) {
-            Yut.YutResult result = pendingYutResults.get(i);
-            sb.append(result.getName()).append("(").append(result.getMoveCount()).append("칸)");
-            if (i < pendingYutResults.size() - 1) {
-                sb.append(", ");
-            }
-        }
-        return sb.toString();
+    long saveState() {
+        long flags = (hasExtraTurn ? 1 : 0) | (captureExtraTurnUsed ? 2 : 0) | (isExtraTurnThrow ? 4 : 0);
+        return (currentTurnIndex & 0xFFL) | (flags << 8) | ((long) turnCount << 32);
     }
 
     /**
-     * 게임 로그에 메시지 추가
+     * saveState로 저장한 턴 상태 복원 (해시는 갱신하지 않으므로 호출한 쪽에서 맞춤)
+     * @param state 저장된 턴 상태
      */
-    private void addToGameLog(String message) {
-        gameLog.add(message);
+    void restoreState(long state) {
+        currentTurnIndex = (int) (state & 0xFF);
+        hasExtraTurn = (state & (1L << 8)) != 0;
+        captureExtraTurnUsed = (state & (2L << 8)) != 0;
+        isExtraTurnThrow = (state & (4L << 8)) != 0;
+        turnCount = (int) (state >>> 32);
     }
 
     /**
-     * 디버깅용: 플레이어의 모든 말 상태 출력
+     * 바뀐 턴 상태를 해시에 반영
      */
-    private void debugPrintPlayerPieces(Player player) {
-        if (player == null) {
-            addToGameLog("[디버그] 플레이어 객체가 null입니다.");
-            return;
-        }
-
-        List<Piece> pieces = player.getPieces();
-
-        for (Piece piece : pieces) {
-            Place currentPlace = piece.getCurrentPlace();
-
-            if (!piece.getStackedPieces().isEmpty()) {
-                addToGameLog("  업힌 말 목록:");
-                for (Piece stackedPiece : piece.getStackedPieces()) {
-                    addToGameLog("    - " + stackedPiece.getId());
-                }
-            }
-            addToGameLog("-----------");
+    private void hashTurnState() {
+        if (zobristHash != null) {
+            zobristHash.turnChanged(saveState());
         }
-        addToGameLog("===================");
     }
-}
\ No newline at end of file
+}
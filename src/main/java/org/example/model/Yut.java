@@ -1,5 +1,6 @@
 package org.example.model;
-import java.util.Random;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
 
 public class Yut {
     // 윷놀이 결과를 나타내는 열거형
@@ -26,13 +27,94 @@ public class Yut {
         public String getName() {
             return name;
         }
+
+        /**
+         * 이 결과가 나오면 이동 전에 한 번 더 던지는지 확인 (윷/모)
+         * @return 한 번 더 던지면 true
+         */
+        public boolean grantsExtraThrow() {
+            return this == YUT || this == MO;
+        }
+
+        /**
+         * 순서 값으로 윷 결과 찾기 (throwYuts가 채운 배열 해석용)
+         * @param ordinal 결과 순서 (ordinal())
+         * @return 윷 결과
+         */
+        public static YutResult ofOrdinal(int ordinal) {
+            return VALUES[ordinal];
+        }
+
+        private static final YutResult[] VALUES = values();
+    }
+
+    private static final long STICK_MASK = 0xFL; // 하위 4비트: 막대기 4개 (1이면 뒷면)
+
+    // 기본 규칙 일괄 던지기: 난수 하나를 4비트씩 16번 나누어 쓰고, 빽도 판정은 별도 난수를 32비트씩 나누어 사용
+    private static final int THROWS_PER_WORD = 16;
+    private static final int BACKDO_CHECKS_PER_WORD = 2;
+    private static final long BULK_BACKDO_THRESHOLD =
+            (long) (YutProbabilityModel.STANDARD_BACKDO_RATIO * (1L << 32));
+    private static final byte DO_ORDINAL = (byte) YutResult.DO.ordinal();
+    private static final byte BACKDO_ORDINAL = (byte) YutResult.BACKDO.ordinal();
+    private static final byte[] NIBBLE_RESULTS = new byte[16]; // 막대기 4비트 → 결과 순서 (빽도 판정 전)
+
+    static {
+        YutResult[] byBackCount = {YutResult.MO, YutResult.DO, YutResult.GAE, YutResult.GEOL, YutResult.YUT};
+        for (int nibble = 0; nibble < NIBBLE_RESULTS.length; nibble++) {
+            NIBBLE_RESULTS[nibble] = (byte) byBackCount[Integer.bitCount(nibble)].ordinal();
+        }
+    }
+
+    private YutRandomSource random;
+    private YutProbabilityModel probabilityModel = YutProbabilityModel.standard();
+
+    // 기본 생성자 (매번 다른 난수열 사용)
+    public Yut() {
+        this(YutRandomSource.unseeded());
     }
 
-    private final Random random = new Random();
+    // 시드를 지정하는 생성자 (같은 시드면 같은 결과 순서)
+    public Yut(long seed) {
+        this(YutRandomSource.seeded(seed));
+    }
 
-    // 단일 윷 막대기 던지기 (앞면: 0, 뒷면: 1)
-    private int throwOneStick() {
-        return random.nextInt(2);
+    // 난수 생성기를 지정하는 생성자 (시뮬레이션 재현용)
+    public Yut(RandomGenerator random) {
+        this(YutRandomSource.of(random));
+    }
+
+    // 난수 공급원을 지정하는 생성자
+    public Yut(YutRandomSource random) {
+        if (random == null) {
+            throw new IllegalArgumentException("난수 공급원이 필요합니다.");
+        }
+        this.random = random;
+    }
+
+    // 난수 공급원 교체 (배치 시뮬레이션에서 게임 객체를 재사용할 때 게임마다 새 난수열 지정)
+    void setRandomSource(YutRandomSource random) {
+        if (random == null) {
+            throw new IllegalArgumentException("난수 공급원이 필요합니다.");
+        }
+        this.random = random;
+    }
+
+    // 독립적인 난수열을 쓰는 새 윷 생성 (병렬 시뮬레이션용)
+    public Yut split() {
+        return new Yut(random.split());
+    }
+
+    // 결과 확률 모형 설정 (막대기 무게, 빽도 규칙 실험용)
+    public void setProbabilityModel(YutProbabilityModel probabilityModel) {
+        if (probabilityModel == null) {
+            throw new IllegalArgumentException("윷 확률 모형이 필요합니다.");
+        }
+        this.probabilityModel = probabilityModel;
+    }
+
+    public YutProbabilityModel getProbabilityModel() {
+        return probabilityModel;
     }
 
     // 지정된 결과 반환 (테스트용)
@@ -40,29 +122,56 @@ public class Yut {
         return result;
     }
 
-    // 랜덤 윷 던지기
+    // 랜덤 윷 던지기 (확률 모형의 별칭 표에서 난수 하나로 결과를 뽑음)
     public YutResult throwYut() {
-        // 4개의 윷 막대기 던지기
-        int backCount = 0; // 뒷면(등, 1) 개수
+        return probabilityModel.sample(random.nextLong());
+    }
 
-        for (int i = 0; i < 4; i++) {
-            backCount += throwOneStick();
-        }
+    /**
+     * 윷을 여러 번 던져 결과 순서(YutResult.ordinal())를 배열에 채움 (객체를 만들지 않음)
+     * 기본 규칙이면 난수 하나로 16번을 던지고, 도가 나온 경우에만 별도 난수의 32비트로 빽도(5%)를 판정합니다.
+     * 다른 확률 모형이면 한 번에 난수 하나씩 별칭 표에서 뽑습니다.
+     * 결과 분포는 throwYut과 같지만, 같은 시드라도 throwYut을 반복한 순서와는 다를 수 있습니다.
+     * @param results 결과를 채울 배열
+     * @param offset 시작 위치
+     * @param count 던질 횟수
+     */
+    public void throwYuts(byte[] results, int offset, int count) {
+        Objects.checkFromIndexSize(offset, count, results.length);
 
-        // 빽도 특수 케이스 (약 5% 확률로 발생)
-        boolean isBackDo = backCount == 1 && random.nextDouble() < 0.05;
-        if (isBackDo) {
-            return YutResult.BACKDO;
+        if (!probabilityModel.isStandard()) {
+            for (int i = offset, end = offset + count; i < end; i++) {
+                results[i] = (byte) probabilityModel.sampleOrdinal(random.nextLong());
+            }
+            return;
         }
 
-        // 윷 결과 계산
-        switch (backCount) {
-            case 0: return YutResult.MO;    // 4개 모두 앞면
-            case 1: return YutResult.DO;    // 3개 앞면, 1개 뒷면
-            case 2: return YutResult.GAE;   // 2개 앞면, 2개 뒷면
-            case 3: return YutResult.GEOL;  // 1개 앞면, 3개 뒷면
-            case 4: return YutResult.YUT;   // 4개 모두 뒷면
-            default: throw new IllegalStateException("Invalid yut result");
+        long sticks = 0;
+        int sticksLeft = 0;
+        long backdoBits = 0;
+        int backdoLeft = 0;
+
+        for (int i = offset, end = offset + count; i < end; i++) {
+            if (sticksLeft == 0) {
+                sticks = random.nextLong();
+                sticksLeft = THROWS_PER_WORD;
+            }
+            byte result = NIBBLE_RESULTS[(int) (sticks & STICK_MASK)];
+            sticks >>>= 4;
+            sticksLeft--;
+
+            if (result == DO_ORDINAL) {
+                if (backdoLeft == 0) {
+                    backdoBits = random.nextLong();
+                    backdoLeft = BACKDO_CHECKS_PER_WORD;
+                }
+                if ((backdoBits & 0xFFFFFFFFL) < BULK_BACKDO_THRESHOLD) {
+                    result = BACKDO_ORDINAL;
+                }
+                backdoBits >>>= 32;
+                backdoLeft--;
+            }
+            results[i] = result;
         }
     }
-}
\ No newline at end of file
+}
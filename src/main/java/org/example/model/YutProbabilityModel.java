@@ -0,0 +1,207 @@
+package org.example.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 윷 결과의 확률 모형
+ * 결과별 확률로 별칭 표(alias table)를 미리 만들어 두고, 난수 하나로 O(1)에 결과를 뽑습니다.
+ * 따라서 막대기 무게나 빽도 규칙을 바꾸어도 한 번 던지는 비용은 같습니다.
+ * 생성 후에는 바뀌지 않으므로 여러 게임과 스레드에서 함께 써도 됩니다.
+ */
+public final class YutProbabilityModel {
+    public static final double STANDARD_BACKDO_RATIO = 0.05; // 도 중 빽도가 되는 비율 (기본 규칙)
+
+    private static final Yut.YutResult[] RESULTS = Yut.YutResult.values();
+    private static final long COIN_SCALE = 1L << 32;
+
+    // 공정한 막대기 4개 + 도의 5%가 빽도인 기본 규칙
+    private static final YutProbabilityModel STANDARD =
+            ofSticks(new double[]{0.5, 0.5, 0.5, 0.5}, STANDARD_BACKDO_RATIO);
+
+    private final double[] probabilities; // 결과 순서별 확률
+    private final long[] thresholds; // 열별 자기 결과를 고르는 기준 (32비트 난수와 비교)
+    private final byte[] aliases; // 열별 별칭 결과 순서
+
+    private YutProbabilityModel(double[] probabilities) {
+        this.probabilities = probabilities;
+        this.thresholds = new long[probabilities.length];
+        this.aliases = new byte[probabilities.length];
+        buildAliasTable();
+    }
+
+    /**
+     * 기본 규칙 모형 반환 (공정한 막대기, 도의 5%가 빽도)
+     * @return 기본 모형
+     */
+    public static YutProbabilityModel standard() {
+        return STANDARD;
+    }
+
+    /**
+     * 막대기별 무게로 모형 생성
+     * 막대기 4개가 각각 독립적으로 뒷면(등)이 나올 확률을 받아 뒷면 개수의 분포를 계산합니다.
+     * @param backProbabilities 막대기 4개 각각의 뒷면 확률 (0~1)
+     * @param backdoRatio 도 중 빽도가 되는 비율 (0~1, 지역 규칙에 따라 0이면 빽도 없음)
+     * @return 확률 모형
+     */
+    public static YutProbabilityModel ofSticks(double[] backProbabilities, double backdoRatio) {
+        if (backProbabilities == null || backProbabilities.length != 4) {
+            throw new IllegalArgumentException("윷 막대기 4개의 확률이 필요합니다.");
+        }
+        checkProbability(backdoRatio, "빽도 비율");
+
+        // backCounts[k]: 뒷면이 k개 나올 확률
+        double[] backCounts = {1, 0, 0, 0, 0};
+        for (int stick = 0; stick < 4; stick++) {
+            double p = checkProbability(backProbabilities[stick], "막대기 뒷면 확률");
+            for (int k = stick + 1; k > 0; k--) {
+                backCounts[k] = backCounts[k] * (1 - p) + backCounts[k - 1] * p;
+            }
+            backCounts[0] *= 1 - p;
+        }
+
+        double[] probabilities = new double[RESULTS.length];
+        probabilities[Yut.YutResult.MO.ordinal()] = backCounts[0];
+        probabilities[Yut.YutResult.DO.ordinal()] = backCounts[1] * (1 - backdoRatio);
+        probabilities[Yut.YutResult.BACKDO.ordinal()] = backCounts[1] * backdoRatio;
+        probabilities[Yut.YutResult.GAE.ordinal()] = backCounts[2];
+        probabilities[Yut.YutResult.GEOL.ordinal()] = backCounts[3];
+        probabilities[Yut.YutResult.YUT.ordinal()] = backCounts[4];
+        return new YutProbabilityModel(probabilities);
+    }
+
+    /**
+     * 결과별 가중치로 모형 생성 (합이 1이 아니어도 비율로 정규화)
+     * @param weights 결과별 가중치 (없는 결과는 0)
+     * @return 확률 모형
+     */
+    public static YutProbabilityModel of(Map<Yut.YutResult, Double> weights) {
+        if (weights == null) {
+            throw new IllegalArgumentException("결과별 가중치가 필요합니다.");
+        }
+        double[] probabilities = new double[RESULTS.length];
+        double total = 0;
+        for (Map.Entry<Yut.YutResult, Double> entry : weights.entrySet()) {
+            Yut.YutResult result = entry.getKey();
+            Double weight = entry.getValue();
+            if (result == null || weight == null || !(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("가중치는 0 이상의 유한한 값이어야 합니다: " + result);
+            }
+            probabilities[result.ordinal()] = weight;
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("가중치의 합은 0보다 커야 합니다.");
+        }
+        for (int i = 0; i < probabilities.length; i++) {
+            probabilities[i] /= total;
+        }
+        return new YutProbabilityModel(probabilities);
+    }
+
+    /**
+     * 결과의 확률 반환
+     * @param result 윷 결과
+     * @return 확률
+     */
+    public double getProbability(Yut.YutResult result) {
+        return probabilities[result.ordinal()];
+    }
+
+    /**
+     * 결과별 확률 반환
+     * @return 결과별 확률 (복사본)
+     */
+    public Map<Yut.YutResult, Double> getProbabilities() {
+        Map<Yut.YutResult, Double> map = new EnumMap<>(Yut.YutResult.class);
+        for (Yut.YutResult result : RESULTS) {
+            map.put(result, probabilities[result.ordinal()]);
+        }
+        return map;
+    }
+
+    /**
+     * 기본 규칙 모형인지 확인 (Yut.throwYuts의 빠른 경로 사용 여부)
+     * @return 기본 모형이면 true
+     */
+    public boolean isStandard() {
+        return this == STANDARD;
+    }
+
+    /**
+     * 64비트 난수 하나로 결과 순서 뽑기
+     * 상위 32비트로 열을 고르고, 하위 32비트로 그 열의 결과와 별칭 중 하나를 고릅니다.
+     * @param bits 난수
+     * @return 결과 순서 (YutResult.ordinal())
+     */
+    int sampleOrdinal(long bits) {
+        int column = (int) (((bits >>> 32) * thresholds.length) >>> 32);
+        return (bits & 0xFFFFFFFFL) < thresholds[column] ? column : aliases[column];
+    }
+
+    /**
+     * 64비트 난수 하나로 결과 뽑기
+     * @param bits 난수
+     * @return 윷 결과
+     */
+    public Yut.YutResult sample(long bits) {
+        return RESULTS[sampleOrdinal(bits)];
+    }
+
+    // Vose 방식 별칭 표 생성
+    private void buildAliasTable() {
+        int n = probabilities.length;
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = probabilities[i] * n;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            thresholds[less] = Math.round(scaled[less] * COIN_SCALE);
+            aliases[less] = (byte) more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // 남은 열은 (부동소수점 오차 포함) 항상 자기 결과
+        while (largeCount > 0) {
+            int column = large[--largeCount];
+            thresholds[column] = COIN_SCALE;
+            aliases[column] = (byte) column;
+        }
+        while (smallCount > 0) {
+            int column = small[--smallCount];
+            thresholds[column] = COIN_SCALE;
+            aliases[column] = (byte) column;
+        }
+    }
+
+    private static double checkProbability(double value, String name) {
+        if (!(value >= 0 && value <= 1)) {
+            throw new IllegalArgumentException(name + "은(는) 0에서 1 사이여야 합니다: " + value);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "YutProbabilityModel" + getProbabilities();
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.model;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 윷 던지기에 쓰는 난수 공급원
+ * 윷 한 번에 nextLong() 한 번만 사용하며, split()으로 서로 독립적인 난수열을 나눌 수 있습니다.
+ * 같은 시드로 만든 공급원은 같은 윷 결과를 내므로 게임을 시드만으로 재현할 수 있고,
+ * 병렬 시뮬레이션은 게임마다 나눈 공급원을 써서 스레드 간 경합이 없습니다.
+ * 하나의 공급원은 한 스레드에서만 사용해야 합니다.
+ */
+public interface YutRandomSource {
+
+    /**
+     * 다음 64비트 난수 반환
+     * @return 난수
+     */
+    long nextLong();
+
+    /**
+     * 이 공급원에서 독립적인 새 공급원을 나눔 (이 공급원의 상태도 한 칸 진행)
+     * @return 새 공급원
+     */
+    YutRandomSource split();
+
+    /**
+     * 시드로 재현 가능한 공급원 생성 (카운터 기반 SplitMix64)
+     * @param seed 시드
+     * @return 공급원
+     */
+    static YutRandomSource seeded(long seed) {
+        return SplitMixRandomSource.seeded(seed);
+    }
+
+    /**
+     * 시드와 스트림 번호로 공급원 생성
+     * 같은 시드라도 스트림 번호가 다르면 독립적인 난수열이 되므로,
+     * 병렬 시뮬레이션에서 게임 번호만으로 각 게임의 난수열을 정할 수 있습니다.
+     * @param seed 시드
+     * @param streamIndex 스트림 번호 (게임 번호 등)
+     * @return 공급원
+     */
+    static YutRandomSource forStream(long seed, long streamIndex) {
+        return SplitMixRandomSource.forStream(seed, streamIndex);
+    }
+
+    /**
+     * 매번 다른 시드로 공급원 생성
+     * @return 공급원
+     */
+    static YutRandomSource unseeded() {
+        return seeded(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * 기존 난수 생성기를 공급원으로 감쌈
+     * @param random 난수 생성기 (SplittableGenerator면 split()도 그 생성기로 나눔)
+     * @return 공급원
+     */
+    static YutRandomSource of(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("난수 생성기가 필요합니다.");
+        }
+        return new YutRandomSource() {
+            @Override
+            public long nextLong() {
+                return random.nextLong();
+            }
+
+            @Override
+            public YutRandomSource split() {
+                if (random instanceof RandomGenerator.SplittableGenerator splittable) {
+                    return of(splittable.split());
+                }
+                return seeded(random.nextLong());
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 남은 윷 결과 모음 (결과 순서별 개수를 세는 중복 집합)
+ * 남은 결과는 순서와 관계없이 어떤 결과가 몇 개 남았는지만 의미가 있으므로 결과별 개수만 저장합니다.
+ * 포함 확인, 추가, 사용(하나 제거)은 배열 칸 하나만 바꾸며, 객체를 새로 만들지 않습니다.
+ * 목록으로 볼 때는 이동 칸 수가 큰 결과부터(모, 윷, 걸, 개, 도, 빽도) 같은 결과를 개수만큼 늘어놓습니다.
+ * 바꾸는 메소드는 Game과 TurnService만 쓰며, 밖에는 asList의 읽기 전용 보기로 보여 줍니다.
+ */
+public final class YutResultBag {
+    // 목록 순서 (이동 칸 수가 큰 순서)
+    static final Yut.YutResult[] ORDER = {
+            Yut.YutResult.MO, Yut.YutResult.YUT, Yut.YutResult.GEOL,
+            Yut.YutResult.GAE, Yut.YutResult.DO, Yut.YutResult.BACKDO
+    };
+
+    private final int[] counts = new int[ORDER.length]; // 결과 순서별 개수
+    private int size;
+    private final List<Yut.YutResult> view = new View();
+
+    /**
+     * 결과 하나 추가
+     * @param result 윷 결과
+     */
+    void add(Yut.YutResult result) {
+        counts[result.ordinal()]++;
+        size++;
+    }
+
+    /**
+     * 결과 하나 사용
+     * @param result 윷 결과
+     * @return 남아 있어서 사용했으면 true
+     */
+    boolean remove(Yut.YutResult result) {
+        int ordinal = result.ordinal();
+        if (counts[ordinal] == 0) {
+            return false;
+        }
+        counts[ordinal]--;
+        size--;
+        return true;
+    }
+
+    /**
+     * 모두 비움
+     */
+    void clear() {
+        Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    /**
+     * 다른 모음의 내용으로 덮어씀
+     * @param other 원본 모음
+     */
+    void copyFrom(YutResultBag other) {
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        size = other.size;
+    }
+
+    /**
+     * 결과가 남아 있는지 확인
+     * @param result 윷 결과
+     * @return 하나 이상 남아 있으면 true
+     */
+    public boolean contains(Yut.YutResult result) {
+        return counts[result.ordinal()] > 0;
+    }
+
+    /**
+     * 남은 결과 개수
+     * @param result 윷 결과
+     * @return 개수
+     */
+    public int count(Yut.YutResult result) {
+        return counts[result.ordinal()];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 목록 순서로 i번째 결과 (결과 종류 수만큼만 살펴보므로 객체를 만들지 않고 순회할 수 있음)
+     * @param index 순서
+     * @return 윷 결과
+     */
+    public Yut.YutResult get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("남은 윷 결과 순서가 범위를 벗어났습니다: " + index);
+        }
+        for (Yut.YutResult result : ORDER) {
+            index -= counts[result.ordinal()];
+            if (index < 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("남은 윷 결과 개수가 맞지 않습니다.");
+    }
+
+    /**
+     * 읽기 전용 목록 보기 (복사하지 않으며 모음이 바뀌면 함께 바뀜)
+     * @return 목록 보기
+     */
+    public List<Yut.YutResult> asList() {
+        return view;
+    }
+
+    @Override
+    public String toString() {
+        return view.toString();
+    }
+
+    /**
+     * 모음을 목록 순서로 보여 주는 읽기 전용 목록
+     */
+    private final class View extends AbstractList<Yut.YutResult> {
+        @Override
+        public Yut.YutResult get(int index) {
+            return YutResultBag.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Yut.YutResult && YutResultBag.this.contains((Yut.YutResult) o);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게임 국면의 Zobrist 해시 (치환표와 동기화 확인용)
+ * 국면 값은 세 부분의 XOR입니다.
+ * - 위치: 시작점을 뺀 위치마다, 그 위치에 있는 플레이어별 말 개수(업힌 말 포함)에 해당하는 키
+ * - 턴: 현재 턴 인덱스와 추가 턴 플래그 세 개에 해당하는 키
+ * - 남은 윷 결과: 결과별 개수에 해당하는 키
+ * 개수 0의 키는 0이므로 빈 위치와 출발 전 말은 해시에 영향을 주지 않으며,
+ * 같은 플레이어의 말은 서로 바꿔도 같은 값이 됩니다 (PackedGameState와 같은 기준).
+ * 키는 고정 시드로 만들어 모든 게임과 JVM에서 같으므로, 다른 프로세스의 해시와 비교할 수 있습니다.
+ */
+final class ZobristHash {
+    private static final int MAX_PLAYERS = GameSettings.getMaxPlayerCount();
+    private static final int MAX_PIECES = GameSettings.getMaxPiecePerPlayer();
+    private static final int MAX_PLACES = maxPlaceCount();
+    private static final int PENDING_COUNT_KEYS = 16; // 같은 결과 16개 이상은 15개와 같은 키 사용
+    private static final long KEY_SEED = 0x5975744E6F726921L;
+    private static final Yut.YutResult[] RESULTS = Yut.YutResult.values();
+
+    private static final long[] PLACE_KEYS = new long[MAX_PLAYERS * MAX_PLACES * (MAX_PIECES + 1)];
+    private static final long[] TURN_KEYS = new long[MAX_PLAYERS << 3];
+    private static final long[] PENDING_KEYS = new long[Yut.YutResult.values().length * PENDING_COUNT_KEYS];
+
+    static {
+        SplitMixRandomSource random = SplitMixRandomSource.seeded(KEY_SEED);
+        for (int i = 0; i < PLACE_KEYS.length; i++) {
+            PLACE_KEYS[i] = i % (MAX_PIECES + 1) == 0 ? 0 : random.nextLong();
+        }
+        for (int i = 0; i < TURN_KEYS.length; i++) {
+            TURN_KEYS[i] = random.nextLong();
+        }
+        for (int i = 0; i < PENDING_KEYS.length; i++) {
+            PENDING_KEYS[i] = i % PENDING_COUNT_KEYS == 0 ? 0 : random.nextLong();
+        }
+    }
+
+    private long value;
+    private int turnKey; // 현재 값에 들어 있는 턴 키 번호
+    private final int[] pendingCounts = new int[Yut.YutResult.values().length];
+    private final int[] playerCounts = new int[MAX_PLAYERS]; // placeKey 계산용
+
+    /**
+     * 현재 해시 값 반환
+     * @return 해시 값
+     */
+    long getValue() {
+        return value;
+    }
+
+    /**
+     * 게임 전체로부터 해시를 다시 계산하여 현재 값으로 설정
+     * @param board 보드
+     * @param players 플레이어 목록
+     * @param turnState TurnService.saveState 형식의 턴 상태
+     * @param pending 남은 윷 결과
+     */
+    void reset(Board board, List<Player> players, long turnState, YutResultBag pending) {
+        value = compute(board, players, turnState, pending);
+        turnKey = turnKeyIndex(turnState);
+        countPending(pending);
+    }
+
+    /**
+     * 되돌리기 기록에 저장해 둔 값으로 복원 (턴 상태와 남은 결과는 이미 복원된 상태여야 함)
+     * @param savedValue 저장된 해시 값
+     * @param turnState 복원된 턴 상태
+     * @param pending 복원된 남은 윷 결과
+     */
+    void restore(long savedValue, long turnState, YutResultBag pending) {
+        value = savedValue;
+        turnKey = turnKeyIndex(turnState);
+        countPending(pending);
+    }
+
+    /**
+     * 다른 해시의 상태를 그대로 복사 (copyInto용)
+     * @param other 원본 해시
+     */
+    void copyFrom(ZobristHash other) {
+        value = other.value;
+        turnKey = other.turnKey;
+        System.arraycopy(other.pendingCounts, 0, pendingCounts, 0, pendingCounts.length);
+    }
+
+    /**
+     * 게임 전체로부터 해시 계산 (현재 값은 바꾸지 않음, 검증용)
+     * @param board 보드
+     * @param players 플레이어 목록
+     * @param turnState TurnService.saveState 형식의 턴 상태
+     * @param pending 남은 윷 결과
+     * @return 해시 값
+     */
+    long compute(Board board, List<Player> players, long turnState, YutResultBag pending) {
+        long hash = TURN_KEYS[turnKeyIndex(turnState)];
+        for (int index = 0; index < board.getPlaceCount(); index++) {
+            hash ^= placeKey(board.getPlaceByIndex(index), players);
+        }
+        for (Yut.YutResult result : RESULTS) {
+            hash ^= pendingKey(result.ordinal(), pending.count(result));
+        }
+        return hash;
+    }
+
+    /**
+     * 위치 하나의 키를 현재 값에 XOR (바뀌기 전과 후에 한 번씩 호출하면 그 위치의 변화가 반영됨)
+     * @param place 위치
+     * @param players 플레이어 목록
+     */
+    void togglePlace(Place place, List<Player> players) {
+        value ^= placeKey(place, players);
+    }
+
+    /**
+     * 턴 상태 변경 반영
+     * @param turnState TurnService.saveState 형식의 새 턴 상태
+     */
+    void turnChanged(long turnState) {
+        int key = turnKeyIndex(turnState);
+        value ^= TURN_KEYS[turnKey] ^ TURN_KEYS[key];
+        turnKey = key;
+    }
+
+    /**
+     * 남은 윷 결과 추가 반영
+     * @param result 추가된 결과
+     */
+    void pendingAdded(Yut.YutResult result) {
+        int ordinal = result.ordinal();
+        int count = pendingCounts[ordinal]++;
+        value ^= pendingKey(ordinal, count) ^ pendingKey(ordinal, count + 1);
+    }
+
+    /**
+     * 남은 윷 결과 제거 반영
+     * @param result 제거된 결과
+     */
+    void pendingRemoved(Yut.YutResult result) {
+        int ordinal = result.ordinal();
+        int count = pendingCounts[ordinal]--;
+        value ^= pendingKey(ordinal, count) ^ pendingKey(ordinal, count - 1);
+    }
+
+    /**
+     * 남은 윷 결과 전체 삭제 반영
+     */
+    void pendingCleared() {
+        for (int ordinal = 0; ordinal < pendingCounts.length; ordinal++) {
+            value ^= pendingKey(ordinal, pendingCounts[ordinal]);
+            pendingCounts[ordinal] = 0;
+        }
+    }
+
+    /**
+     * 위치의 키 계산 (시작점은 출발 전 말과 같게 취급하여 0)
+     * 위치의 말 목록에는 업는 말만 있으므로, 업힌 말까지 더한 플레이어별 개수로 키를 고릅니다.
+     */
+    private long placeKey(Place place, List<Player> players) {
+        if (place.isStartingPoint() || place.isEmpty()) {
+            return 0;
+        }
+        int playerCount = players.size();
+        Arrays.fill(playerCounts, 0);
+        for (int i = 0; i < place.getPieceCount(); i++) {
+            Piece piece = place.getPieceAt(i);
+            Player owner = piece.getPlayer();
+            for (int p = 0; p < playerCount; p++) {
+                if (players.get(p) == owner) {
+                    playerCounts[p] += piece.getTotalPieceCount();
+                    break;
+                }
+            }
+        }
+        long key = 0;
+        int base = place.getIndex() * (MAX_PIECES + 1);
+        for (int p = 0; p < playerCount; p++) {
+            key ^= PLACE_KEYS[p * MAX_PLACES * (MAX_PIECES + 1) + base + Math.min(playerCounts[p], MAX_PIECES)];
+        }
+        return key;
+    }
+
+    /**
+     * 모든 보드 타입 중 가장 많은 위치 개수 (위치 키를 위치 번호로 찾기 위한 크기)
+     */
+    private static int maxPlaceCount() {
+        int max = 0;
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            max = Math.max(max, BoardTopology.of(boardType).getPlaceCount());
+        }
+        return max;
+    }
+
+    private void countPending(YutResultBag pending) {
+        for (Yut.YutResult result : RESULTS) {
+            pendingCounts[result.ordinal()] = pending.count(result);
+        }
+    }
+
+    private static long pendingKey(int ordinal, int count) {
+        return PENDING_KEYS[ordinal * PENDING_COUNT_KEYS + Math.min(count, PENDING_COUNT_KEYS - 1)];
+    }
+
+    // 턴 인덱스 8개 단위에 플래그 3비트
+    private static int turnKeyIndex(long turnState) {
+        return (int) ((turnState & 0xFF) << 3 | (turnState >>> 8 & 7));
+    }
+}
@@ -7,6 +7,7 @@ import javafx.scene.layout.*;
 import javafx.stage.Stage;
 import org.example.controller.javafx.FXGameController;
 import org.example.model.Game;
+import org.example.model.GameEventLog;
 import org.example.model.Piece;
 import org.example.model.Yut;
 
@@ -33,6 +34,12 @@ public class GameScene {
     private Label pendingYutLabel;
     private Button moveButton;
 
+    // 로그 표시 위치 (새로 추가된 로그만 덧붙이기 위함)
+    private Game loggedGame;
+    private long loggedGeneration;
+    private long nextLogSequence;
+    private int displayedLogLines;
+
     public GameScene(Stage primaryStage, FXGameController controller) {
         this.primaryStage = primaryStage;
         this.controller = controller;
@@ -281,6 +288,47 @@ public class GameScene {
         }
     }
 
+    /**
+     * 새 로그를 로그 영역에 덧붙이고, 보관 용량을 넘는 오래된 줄은 삭제
+     * @param game 현재 게임
+     */
+    private void updateLog(Game game) {
+        GameEventLog eventLog = game.getEventLog();
+
+        // 새 게임이거나 재시작된 경우 처음부터 다시 표시
+        if (game != loggedGame || eventLog.getGeneration() != loggedGeneration) {
+            logTextArea.clear();
+            displayedLogLines = 0;
+            loggedGame = game;
+            loggedGeneration = eventLog.getGeneration();
+            nextLogSequence = eventLog.getFirstSequence();
+        }
+
+        List<String> newLogs = eventLog.readMessagesSince(nextLogSequence);
+        nextLogSequence = eventLog.getNextSequence();
+        if (newLogs.isEmpty()) {
+            return;
+        }
+
+        StringBuilder logBuilder = new StringBuilder();
+        for (String log : newLogs) {
+            logBuilder.append(log).append("\n");
+        }
+        logTextArea.appendText(logBuilder.toString());
+        displayedLogLines += newLogs.size();
+
+        int excessLines = displayedLogLines - eventLog.getCapacity();
+        if (excessLines > 0) {
+            String text = logTextArea.getText();
+            int end = 0;
+            for (int i = 0; i < excessLines; i++) {
+                end = text.indexOf('\n', end) + 1;
+            }
+            logTextArea.deleteText(0, end);
+            displayedLogLines -= excessLines;
+        }
+    }
+
     /**
      * 게임 정보 업데이트
      */
@@ -289,13 +337,8 @@ public class GameScene {
         if (game != null) {
             currentPlayerLabel.setText("현재 턴: " + game.getCurrentPlayer().getName());
 
-            // 게임 로그 업데이트
-            StringBuilder logBuilder = new StringBuilder();
-            List<String> logs = game.getGameLog();
-            for (String log : logs) {
-                logBuilder.append(log).append("\n");
-            }
-            logTextArea.setText(logBuilder.toString());
+            // 게임 로그 업데이트 (마지막으로 표시한 뒤의 새 로그만 덧붙임)
+            updateLog(game);
 
             // 스크롤을 맨 아래로
             logTextArea.setScrollTop(Double.MAX_VALUE);
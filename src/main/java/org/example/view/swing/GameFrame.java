@@ -2,10 +2,12 @@ package org.example.view.swing;
 
 import org.example.controller.swing.SwingGameController;
 import org.example.model.Game;
+import org.example.model.GameEventLog;
 import org.example.model.Piece;
 import org.example.model.Yut;
 
 import javax.swing.*;
+import javax.swing.text.BadLocationException;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -36,6 +38,11 @@ public class GameFrame extends JFrame {
     private DefaultListModel<String> pendingYutListModel;
     private JLabel pendingYutLabel;
 
+    // 로그 표시 위치 (새로 추가된 로그만 덧붙이기 위함)
+    private Game loggedGame;
+    private long loggedGeneration;
+    private long nextLogSequence;
+
     /**
      * 생성자
      * @param controller 게임 컨트롤러
@@ -283,6 +290,37 @@ public class GameFrame extends JFrame {
         }
     }
 
+    /**
+     * 새 로그를 로그 영역에 덧붙이고, 보관 용량을 넘는 오래된 줄은 삭제
+     * @param game 현재 게임
+     */
+    private void updateLog(Game game) {
+        GameEventLog eventLog = game.getEventLog();
+
+        // 새 게임이거나 재시작된 경우 처음부터 다시 표시
+        if (game != loggedGame || eventLog.getGeneration() != loggedGeneration) {
+            logTextArea.setText("");
+            loggedGame = game;
+            loggedGeneration = eventLog.getGeneration();
+            nextLogSequence = eventLog.getFirstSequence();
+        }
+
+        for (String log : eventLog.readMessagesSince(nextLogSequence)) {
+            logTextArea.append(log + "\n");
+        }
+        nextLogSequence = eventLog.getNextSequence();
+
+        // 마지막 줄바꿈 뒤의 빈 줄은 제외
+        int excessLines = logTextArea.getLineCount() - 1 - eventLog.getCapacity();
+        if (excessLines > 0) {
+            try {
+                logTextArea.replaceRange("", 0, logTextArea.getLineStartOffset(excessLines));
+            } catch (BadLocationException e) {
+                logTextArea.setText("");
+            }
+        }
+    }
+
     /**
      * 게임 정보 업데이트
      */
@@ -291,12 +329,8 @@ public class GameFrame extends JFrame {
         if (game != null) {
             currentPlayerLabel.setText("현재 턴: " + game.getCurrentPlayer().getName());
 
-            // 게임 로그 업데이트
-            logTextArea.setText("");
-            List<String> logs = game.getGameLog();
-            for (String log : logs) {
-                logTextArea.append(log + "\n");
-            }
+            // 게임 로그 업데이트 (마지막으로 표시한 뒤의 새 로그만 덧붙임)
+            updateLog(game);
 
             // 항상 최신 로그가 보이도록 스크롤
             logTextArea.setCaretPosition(logTextArea.getDocument().getLength());
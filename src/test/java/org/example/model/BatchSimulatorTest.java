@@ -0,0 +1,93 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 병렬 배치 시뮬레이터 테스트
+ */
+public class BatchSimulatorTest {
+
+    private static void assertSameStats(SimulationStats expected, SimulationStats actual) {
+        assertEquals(expected.getGameCount(), actual.getGameCount());
+        assertEquals(expected.getFinishedCount(), actual.getFinishedCount());
+        for (int seat = 0; seat < expected.getPlayerCount(); seat++) {
+            assertEquals(expected.getWins(seat), actual.getWins(seat), "자리 " + seat + " 승리 수");
+        }
+        assertEquals(expected.getThrowCount(), actual.getThrowCount());
+        assertEquals(expected.getMoveCount(), actual.getMoveCount());
+        assertEquals(expected.getTurnCount(), actual.getTurnCount());
+        assertEquals(expected.getCaptureCount(), actual.getCaptureCount());
+        assertEquals(expected.getStackCount(), actual.getStackCount());
+    }
+
+    @Test
+    @DisplayName("같은 시드면 스레드 수와 작업 분할이 달라도 결과가 같다")
+    void testReproducibleAcrossParallelism() {
+        GameSettings settings = new GameSettings(3, 3, Board.BoardType.PENTAGON);
+
+        BatchSimulator single = new BatchSimulator(settings, MoveStrategy::random, 2024L);
+        single.setGamesPerTask(1000);
+        SimulationStats expected = single.run(300, new ForkJoinPool(1));
+
+        // 작업마다 한 판씩이면 게임 객체를 재사용하지 않으므로, 재사용해도 새 게임과 같은 결과인지 확인
+        BatchSimulator fresh = new BatchSimulator(settings, MoveStrategy::random, 2024L);
+        fresh.setGamesPerTask(1);
+        assertSameStats(expected, fresh.run(300, new ForkJoinPool(1)));
+
+        BatchSimulator parallel = new BatchSimulator(settings, MoveStrategy::random, 2024L);
+        parallel.setGamesPerTask(7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertSameStats(expected, parallel.run(300, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("모든 게임이 끝나고 턴, 잡기, 업기 횟수가 집계된다")
+    void testStatsCollected() {
+        BatchSimulator simulator = new BatchSimulator(new GameSettings(), MoveStrategy::random, 1L);
+
+        SimulationStats stats = simulator.run(500);
+
+        assertEquals(500, stats.getGameCount());
+        assertEquals(500, stats.getFinishedCount());
+        assertEquals(500, stats.getWins(0) + stats.getWins(1));
+        assertTrue(stats.getTurnCount() > 0);
+        assertTrue(stats.getCaptureCount() > 0, "무작위 게임 500판에서 잡기가 한 번은 일어나야 함");
+        assertTrue(stats.getStackCount() > 0, "무작위 게임 500판에서 업기가 한 번은 일어나야 함");
+    }
+
+    @Test
+    @DisplayName("시드가 다르면 다른 게임이 진행된다")
+    void testDifferentSeeds() {
+        GameSettings settings = new GameSettings();
+        SimulationStats first = new BatchSimulator(settings, MoveStrategy::random, 1L).run(200);
+        SimulationStats second = new BatchSimulator(settings, MoveStrategy::random, 2L).run(200);
+
+        assertNotEquals(first.getThrowCount(), second.getThrowCount());
+    }
+
+    @Test
+    @DisplayName("같은 시드의 난수 생성기를 쓰는 게임은 같은 윷 결과를 낸다")
+    void testSeededGameThrows() {
+        GameSettings settings = new GameSettings();
+        Game first = new Game(new SplittableRandom(99L));
+        Game second = new Game(new SplittableRandom(99L));
+        first.initialize(settings);
+        second.initialize(settings);
+
+        for (int i = 0; i < 50; i++) {
+            first.setHasExrtraTurnFalse();
+            second.setHasExrtraTurnFalse();
+            assertEquals(first.throwYut(), second.throwYut());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 미리 계산된 목적지 테이블에 대한 테스트 케이스
+ * 테이블 조회 결과가 위치 연결을 직접 따라간 결과와 같은지 검증합니다.
+ */
+public class DestinationTableTest {
+
+    @Test
+    @DisplayName("모든 보드의 모든 (위치, 윷 결과) 조합이 직접 계산한 결과와 일치")
+    void testTableMatchesWalkOnAllBoards() {
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            Board board = new Board(boardType);
+
+            for (Place place : board.getAllPlaces().values()) {
+                for (Yut.YutResult result : Yut.YutResult.values()) {
+                    Place expected = board.walkDestination(place, result);
+                    Place actual = board.calculateDestination(place, result);
+                    assertSame(expected, actual,
+                            boardType + " 보드의 " + place.getId() + "에서 " + result.getName() + " 이동 결과가 달라짐");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("위치가 null이면 시작점에서 이동")
+    void testNullPlaceStartsFromStartingPlace() {
+        Board board = new Board(Board.BoardType.SQUARE);
+
+        for (Yut.YutResult result : Yut.YutResult.values()) {
+            assertSame(board.calculateDestination(board.getStartingPlace(), result),
+                    board.calculateDestination(null, result));
+        }
+    }
+
+    @Test
+    @DisplayName("다른 보드의 위치는 연결을 따라가며 계산")
+    void testPlaceFromAnotherBoard() {
+        Board board = new Board(Board.BoardType.SQUARE);
+        Board otherBoard = new Board(Board.BoardType.SQUARE);
+
+        Place foreignPlace = otherBoard.getPlaceById("5");
+        Place destination = board.calculateDestination(foreignPlace, Yut.YutResult.GAE);
+
+        // 다른 보드의 연결을 따라가므로 결과도 다른 보드의 위치
+        assertSame(otherBoard.getPlaceById("C2"), destination);
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.model;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 종반 승리 확률표와 생성기 테스트
+ */
+public class EndgameTablebaseTest {
+    private static YutProbabilityModel model;
+    private static EndgameTablebaseGenerator generator;
+
+    @BeforeAll
+    static void generate() {
+        // 윷/모가 없는 모형은 턴 안 탐색이 작아 빠르게 풀림
+        Map<Yut.YutResult, Double> weights = new EnumMap<>(Yut.YutResult.class);
+        weights.put(Yut.YutResult.BACKDO, 0.1);
+        weights.put(Yut.YutResult.DO, 0.3);
+        weights.put(Yut.YutResult.GAE, 0.35);
+        weights.put(Yut.YutResult.GEOL, 0.25);
+        model = YutProbabilityModel.of(weights);
+        generator = new EndgameTablebaseGenerator(Board.BoardType.SQUARE, 1, model);
+        generator.solve(1e-12, 1000);
+    }
+
+    @Test
+    @DisplayName("생성한 값은 수렴하며 모든 국면에서 Bellman 식을 만족한다")
+    void testGeneratedValuesAreFixedPoint() {
+        assertTrue(generator.getResidual() < 1e-12);
+        assertTrue(generator.getIterations() > 1);
+        assertTrue(generator.getStateCount() > 0);
+
+        int codeCount = new Board(Board.BoardType.SQUARE).getPlaceCount();
+        long size = PackedGameState.multisetCount(codeCount, 1) * PackedGameState.multisetCount(codeCount, 1);
+        int checked = 0;
+        for (long index = 0; index < size; index++) {
+            double value = generator.getValue(index);
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            assertTrue(value >= 0 && value <= 1, "값은 확률이어야 함: " + value);
+            assertEquals(value, generator.evaluate(index), 1e-9);
+            checked++;
+        }
+        assertEquals(generator.getStateCount(), checked);
+    }
+
+    @Test
+    @DisplayName("표준 윷 확률(윷/모 한 번 더 던지기 포함)에서도 반복마다 Bellman 잔차가 마지막 변화량 이하로 줄어든다")
+    void testStandardModelBellmanResiduals() {
+        // 끝까지 풀면 수십 초 걸리므로 몇 번만 반복하고, 값을 제자리에서 갱신하는 반복의 성질을 확인
+        // (한 번 반복한 뒤 어느 국면을 다시 계산해도 마지막 반복의 최대 변화량보다 크게 바뀌지 않음)
+        EndgameTablebaseGenerator standard =
+                new EndgameTablebaseGenerator(Board.BoardType.SQUARE, 1, YutProbabilityModel.standard());
+        standard.solve(0, 1);
+        double firstResidual = standard.getResidual();
+        standard.solve(0, 3);
+        assertEquals(3, standard.getIterations());
+        assertTrue(standard.getResidual() < firstResidual, standard.getResidual() + " >= " + firstResidual);
+
+        int codeCount = new Board(Board.BoardType.SQUARE).getPlaceCount();
+        long size = PackedGameState.multisetCount(codeCount, 1) * PackedGameState.multisetCount(codeCount, 1);
+        int checked = 0;
+        for (long index = 0; index < size; index++) {
+            double value = standard.getValue(index);
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            assertTrue(value >= 0 && value <= 1, "값은 확률이어야 함: " + value);
+            double bellmanResidual = Math.abs(standard.evaluate(index) - value);
+            assertTrue(bellmanResidual <= standard.getResidual() + 1e-12,
+                    "국면 " + index + "의 잔차 " + bellmanResidual + " > " + standard.getResidual());
+            checked++;
+        }
+        assertEquals(standard.getStateCount(), checked);
+    }
+
+    @Test
+    @DisplayName("파일로 저장한 확률표를 매핑하여 게임 국면의 승리 확률을 조회한다")
+    void testLookupFromFile() throws IOException {
+        Path file = Files.createTempFile("yut-tablebase", ".bin");
+        try {
+            generator.write(file);
+            try (EndgameTablebase tablebase = EndgameTablebase.open(file)) {
+                assertEquals(Board.BoardType.SQUARE, tablebase.getBoardType());
+                assertEquals(1, tablebase.getPiecesPerPlayer());
+                assertEquals(generator.getIterations(), tablebase.getIterations());
+                assertEquals(generator.getResidual(), tablebase.getResidual());
+                assertEquals(0.3, tablebase.getProbability(Yut.YutResult.DO), 1e-12);
+                assertEquals(0, tablebase.getProbability(Yut.YutResult.MO));
+
+                // 말 4개 중 3개씩 완주한 게임은 말 1개짜리 확률표로 조회
+                Game game = newGame(4);
+                Board board = game.getBoard();
+                Player mover = game.getCurrentPlayer();
+                Player opponent = game.getPlayers().get(1 - game.getCurrentTurnIndex());
+                for (int i = 0; i < 3; i++) {
+                    mover.getPiece(i).moveTo(board.getEndingPlace());
+                    opponent.getPiece(i).moveTo(board.getEndingPlace());
+                }
+                assertFalse(tablebase.covers(newGame(4)));
+                assertTrue(tablebase.covers(game));
+                double atStart = tablebase.getWinProbability(game);
+                assertEquals(generator.getValue(indexOf(game, board.getStartingPlace().getIndex(), board.getStartingPlace().getIndex())), atStart);
+                // 먼저 던지는 쪽이 유리함
+                assertTrue(atStart > 0.5 && atStart < 1);
+
+                // 도착 직전의 말은 거의 확실히 이김
+                Place lastPlace = placeBeforeEnd(board);
+                mover.getPiece(3).moveTo(lastPlace);
+                double nearEnd = tablebase.getWinProbability(game);
+                assertEquals(generator.getValue(indexOf(game, lastPlace.getIndex(), board.getStartingPlace().getIndex())),
+                        nearEnd);
+                assertTrue(nearEnd > atStart);
+                assertTrue(nearEnd > 0.9);
+
+                // 턴 중간(남은 윷 결과가 있음)은 조회할 수 없음
+                game.applyThrow(Yut.YutResult.DO);
+                assertFalse(tablebase.covers(game));
+                assertThrows(IllegalArgumentException.class, () -> tablebase.getWinProbability(game));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("윷 확률 모형이 다르면 조회할 수 없다")
+    void testDifferentModelNotCovered() throws IOException {
+        Path file = Files.createTempFile("yut-tablebase", ".bin");
+        try {
+            generator.write(file);
+            try (EndgameTablebase tablebase = EndgameTablebase.open(file)) {
+                Game game = new Game();
+                game.initialize(new GameSettings(2, 2, Board.BoardType.SQUARE));
+                game.getCurrentPlayer().getPiece(0).moveTo(game.getBoard().getEndingPlace());
+                game.getPlayers().get(1 - game.getCurrentTurnIndex()).getPiece(0).moveTo(game.getBoard().getEndingPlace());
+                assertFalse(tablebase.covers(game));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("형식이 다르거나 잘린 파일, 잘못된 인자는 예외를 던진다")
+    void testInvalidFilesAndArguments() throws IOException {
+        Path file = Files.createTempFile("yut-tablebase", ".bin");
+        try {
+            Files.write(file, new byte[EndgameTablebase.HEADER_SIZE]);
+            assertThrows(IllegalStateException.class, () -> EndgameTablebase.open(file));
+
+            generator.write(file);
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - Double.BYTES));
+            assertThrows(IllegalStateException.class, () -> EndgameTablebase.open(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        assertThrows(IllegalStateException.class, () -> EndgameTablebase.open(file));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EndgameTablebaseGenerator(Board.BoardType.SQUARE, 0, model));
+        assertThrows(NullPointerException.class, () -> new EndgameTablebaseGenerator(null, 1, model));
+    }
+
+    private static Game newGame(int pieces) {
+        GameSettings settings = new GameSettings(2, pieces, Board.BoardType.SQUARE);
+        settings.setYutProbabilityModel(model);
+        Game game = new Game();
+        game.initialize(settings);
+        return game;
+    }
+
+    /**
+     * 말 1개씩 남은 국면의 확률표 번호 (턴을 시작하는 플레이어의 위치 코드, 상대의 위치 코드)
+     */
+    private static long indexOf(Game game, int moverCode, int opponentCode) {
+        long rankCount = PackedGameState.multisetCount(game.getBoard().getPlaceCount(), 1);
+        return PackedGameState.rankMultiset(new int[]{moverCode}, 1) * rankCount
+                + PackedGameState.rankMultiset(new int[]{opponentCode}, 1);
+    }
+
+    /**
+     * 도로 한 번에 도착하는 칸
+     */
+    private static Place placeBeforeEnd(Board board) {
+        for (Place place : board.getAllPlaces().values()) {
+            if (place != board.getStartingPlace() && place != board.getEndingPlace()
+                    && board.calculateDestination(place, Yut.YutResult.DO) == board.getEndingPlace()) {
+                return place;
+            }
+        }
+        throw new IllegalStateException("도착 직전 칸이 없습니다.");
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 컴퓨터 플레이어(expectiminimax) 전략 테스트
+ */
+public class ExpectiminimaxStrategyTest {
+    // 컴퓨터 플레이어가 한 수를 답해야 하는 턴 제한 (기본 예산 80ms는 이 제한 안에 여유를 둔 값)
+    private static final long TURN_LIMIT_MILLIS = 100;
+
+    @Test
+    @DisplayName("Star1/Star2 가지치기를 써도 같은 깊이의 expectiminimax 값과 같다")
+    void testPruningPreservesValue() {
+        List<Piece> pieces = new ArrayList<>();
+        List<Yut.YutResult> results = new ArrayList<>();
+        Board.BoardType[] boardTypes = Board.BoardType.values();
+        for (int depth = 2; depth <= 5; depth++) {
+            for (int seed = 0; seed < 12; seed++) {
+                Game game = GameFixtures.decisionPosition(
+                        new GameSettings(2 + seed % 3, 2 + seed % 4, boardTypes[seed % boardTypes.length]), seed, 40);
+                if (game.isGameFinished()) {
+                    continue;
+                }
+                ExpectiminimaxStrategy pruned = new ExpectiminimaxStrategy(60_000, depth, true);
+                ExpectiminimaxStrategy plain = new ExpectiminimaxStrategy(60_000, depth, false);
+                GameFixtures.choose(pruned, game, pieces, results);
+                GameFixtures.choose(plain, game, pieces, results);
+
+                assertEquals(depth, pruned.getLastDepth());
+                assertEquals(plain.getLastValue(), pruned.getLastValue(), 1e-9, "깊이 " + depth + ", 시드 " + seed);
+                assertTrue(pruned.getLastNodeCount() <= plain.getLastNodeCount() * 11 / 10);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("치환표를 쓰면 같은 깊이를 탐색하는 노드 수가 줄고 조회가 성공한다")
+    void testTranspositionTableReducesNodes() {
+        List<Piece> pieces = new ArrayList<>();
+        List<Yut.YutResult> results = new ArrayList<>();
+        long withoutTable = 0;
+        long withTable = 0;
+        for (int seed = 0; seed < 6; seed++) {
+            Game game = GameFixtures.decisionPosition(new GameSettings(2, 4, Board.BoardType.SQUARE), seed, 40);
+            if (game.isGameFinished()) {
+                continue;
+            }
+            ExpectiminimaxStrategy plain = new ExpectiminimaxStrategy(60_000, 7, true);
+            ExpectiminimaxStrategy cached = new ExpectiminimaxStrategy(60_000, 7);
+            GameFixtures.choose(plain, game, pieces, results);
+            GameFixtures.choose(cached, game, pieces, results);
+
+            assertEquals(7, cached.getLastDepth());
+            assertTrue(cached.getTranspositionTable().getHitCount() > 0);
+            withoutTable += plain.getLastNodeCount();
+            withTable += cached.getLastNodeCount();
+        }
+        assertTrue(withTable < withoutTable, withTable + " >= " + withoutTable);
+        assertNull(new ExpectiminimaxStrategy(10, 2, true).getTranspositionTable());
+    }
+
+    @Test
+    @DisplayName("모든 보드에서 100ms 턴 제한 안에 답하고, 원래 게임은 바뀌지 않는다")
+    void testAnswersWithinBudget() {
+        List<Piece> pieces = new ArrayList<>();
+        List<Yut.YutResult> results = new ArrayList<>();
+        ExpectiminimaxStrategy strategy = new ExpectiminimaxStrategy();
+        // 첫 번째는 JIT 준비용으로 시간을 재지 않음
+        for (int pass = 0; pass < 2; pass++) {
+            for (Board.BoardType boardType : Board.BoardType.values()) {
+                for (int seed = 0; seed < 4; seed++) {
+                    Game game = GameFixtures.decisionPosition(new GameSettings(4, 5, boardType), seed, 60);
+                    if (game.isGameFinished()) {
+                        continue;
+                    }
+                    String before = GameFixtures.snapshot(game);
+
+                    long start = System.nanoTime();
+                    int choice = GameFixtures.choose(strategy, game, pieces, results);
+                    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+                    assertTrue(choice >= 0 && choice < pieces.size());
+                    if (pass > 0) {
+                        assertTrue(elapsedMillis <= TURN_LIMIT_MILLIS,
+                                boardType + " 보드에서 " + elapsedMillis + "ms 걸림 (제한 " + TURN_LIMIT_MILLIS + "ms)");
+                    }
+                    assertTrue(strategy.getLastDepth() >= 1);
+                    assertEquals(before, GameFixtures.snapshot(game));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("상대 말을 잡을 수 있으면 잡는 이동을 고른다")
+    void testPrefersCapture() {
+        Game game = new Game();
+        game.initialize(new GameSettings(2, 2, Board.BoardType.SQUARE));
+        Board board = game.getBoard();
+        Player me = game.getPlayers().get(0);
+        Player opponent = game.getPlayers().get(1);
+        me.getPiece(0).moveTo(board.getPlaceById("3"));
+        opponent.getPiece(0).moveTo(board.getPlaceById("5"));
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+
+        List<Piece> pieces = new ArrayList<>();
+        List<Yut.YutResult> results = new ArrayList<>();
+        int choice = GameFixtures.choose(new ExpectiminimaxStrategy(1_000, 4), game, pieces, results);
+
+        assertSame(me.getPiece(0), pieces.get(choice));
+    }
+
+    @Test
+    @DisplayName("무작위 전략을 상대로 더 많이 이긴다")
+    void testBeatsRandomStrategy() {
+        ExpectiminimaxStrategy ai = new ExpectiminimaxStrategy(5, 4);
+        MoveStrategy random = MoveStrategy.random(new SplittableRandom(3));
+        MoveStrategy seats = (game, pieces, results) -> game.getCurrentTurnIndex() == 0
+                ? ai.chooseMove(game, pieces, results)
+                : random.chooseMove(game, pieces, results);
+
+        Game game = new Game(YutRandomSource.seeded(19));
+        GameSimulator simulator = new GameSimulator(new GameSettings(2, 4, Board.BoardType.SQUARE), seats, game);
+        SimulationStats stats = simulator.run(40);
+
+        assertEquals(40, stats.getFinishedCount());
+        assertTrue(stats.getWins(0) >= 26, "40판 중 " + stats.getWins(0) + "승");
+    }
+
+    @Test
+    @DisplayName("잘못된 시간 예산과 깊이는 예외를 던진다")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpectiminimaxStrategy(0));
+        assertThrows(IllegalArgumentException.class, () -> new ExpectiminimaxStrategy(10, 0));
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 최종 도착점까지 평균 던지기 수/턴 수 표 테스트
+ */
+public class FinishTimeTableTest {
+
+    @Test
+    @DisplayName("모든 보드에서 가우스 소거 결과가 반복 대입으로 구한 값과 같다")
+    void testMatchesValueIteration() {
+        YutProbabilityModel model = YutProbabilityModel.standard();
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            Board board = new Board(boardType);
+            FinishTimeTable table = FinishTimeTable.of(boardType, model);
+            double[] expected = valueIteration(board, model);
+            for (int index = 0; index < board.getPlaceCount(); index++) {
+                assertEquals(expected[index], table.expectedThrows(index), 1e-8, boardType + " " + index);
+            }
+            assertEquals(0, table.getExpectedThrows(board.getEndingPlace()));
+            assertEquals(0, table.getExpectedTurns(board.getEndingPlace()));
+            // 윷/모로 한 턴에 여러 번 던지므로 턴 수가 던지기 수보다 적음
+            Place start = board.getStartingPlace();
+            assertTrue(table.getExpectedTurns(start) < table.getExpectedThrows(start));
+            assertTrue(table.getExpectedTurns(start) > 1);
+        }
+    }
+
+    @Test
+    @DisplayName("한 가지 결과만 나오는 모형은 목적지를 따라간 횟수와 같다")
+    void testDeterministicModels() {
+        Board board = new Board(Board.BoardType.SQUARE);
+        FinishTimeTable doOnly = FinishTimeTable.of(Board.BoardType.SQUARE, onlyResult(Yut.YutResult.DO));
+        FinishTimeTable yutOnly = FinishTimeTable.of(Board.BoardType.SQUARE, onlyResult(Yut.YutResult.YUT));
+        for (Place place : board.getAllPlaces().values()) {
+            if (place == board.getEndingPlace()) {
+                continue;
+            }
+            int steps = walk(board, place, Yut.YutResult.DO);
+            assertEquals(steps, doOnly.getExpectedThrows(place), 1e-9, place.getId());
+            assertEquals(steps, doOnly.getExpectedTurns(place), 1e-9, place.getId());
+
+            // 윷만 나오면 도착할 때까지 한 턴에 계속 던짐
+            assertEquals(walk(board, place, Yut.YutResult.YUT), yutOnly.getExpectedThrows(place), 1e-9);
+            assertEquals(1, yutOnly.getExpectedTurns(place), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 보드 타입과 모형의 표는 한 번만 만든다")
+    void testCached() {
+        YutProbabilityModel model = YutProbabilityModel.standard();
+        FinishTimeTable table = FinishTimeTable.of(Board.BoardType.HEXAGON, model);
+        assertSame(table, FinishTimeTable.of(Board.BoardType.HEXAGON, model));
+        assertNotSame(table, FinishTimeTable.of(Board.BoardType.PENTAGON, model));
+        assertEquals(Board.BoardType.HEXAGON, table.getBoardType());
+    }
+
+    @Test
+    @DisplayName("도착할 수 없는 모형과 null 인자는 예외를 던진다")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FinishTimeTable.of(Board.BoardType.SQUARE, onlyResult(Yut.YutResult.BACKDO)));
+        assertThrows(NullPointerException.class, () -> FinishTimeTable.of(null, YutProbabilityModel.standard()));
+        assertThrows(NullPointerException.class, () -> FinishTimeTable.of(Board.BoardType.SQUARE, null));
+    }
+
+    private static YutProbabilityModel onlyResult(Yut.YutResult result) {
+        Map<Yut.YutResult, Double> weights = new EnumMap<>(Yut.YutResult.class);
+        weights.put(result, 1.0);
+        return YutProbabilityModel.of(weights);
+    }
+
+    private static int walk(Board board, Place place, Yut.YutResult result) {
+        int count = 0;
+        while (place != board.getEndingPlace()) {
+            place = board.calculateDestination(place, result);
+            count++;
+        }
+        return count;
+    }
+
+    private static double[] valueIteration(Board board, YutProbabilityModel model) {
+        int endIndex = board.getEndingPlace().getIndex();
+        double[] expected = new double[board.getPlaceCount()];
+        for (int iteration = 0; iteration < 100_000; iteration++) {
+            double change = 0;
+            for (int index = 0; index < expected.length; index++) {
+                if (index == endIndex) {
+                    continue;
+                }
+                double value = 1;
+                for (Yut.YutResult result : Yut.YutResult.values()) {
+                    value += model.getProbability(result) * expected[board.getDestinationIndex(index, result)];
+                }
+                change = Math.max(change, Math.abs(value - expected[index]));
+                expected[index] = value;
+            }
+            if (change < 1e-12) {
+                break;
+            }
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게임 상태 복사(Game.copyInto) 테스트
+ */
+public class GameCopyTest {
+
+    @Test
+    @DisplayName("진행 중인 게임을 복사하면 모든 상태가 같고, 이후 같은 행동을 하면 같은 상태가 된다")
+    void testCopyMatchesAndEvolvesIdentically() {
+        SplittableRandom random = new SplittableRandom(11);
+        Game target = new Game();
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            for (int round = 0; round < 20; round++) {
+                Game source = new Game();
+                source.getEventLog().setRecording(false);
+                source.initialize(new GameSettings(2 + round % 3, 2 + round % 4, boardType));
+                GameFixtures.advance(source, random, random.nextInt(150));
+
+                source.copyInto(target);
+                assertEquals(GameFixtures.snapshot(source), GameFixtures.snapshot(target));
+
+                // 같은 난수로 양쪽을 진행하면 같은 상태 (숨은 턴 플래그까지 복사되었는지 확인)
+                long seed = random.nextLong();
+                GameFixtures.advance(source, new SplittableRandom(seed), 40);
+                GameFixtures.advance(target, new SplittableRandom(seed), 40);
+                assertEquals(GameFixtures.snapshot(source), GameFixtures.snapshot(target));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("복사본을 진행해도 원본은 바뀌지 않는다")
+    void testCopyIsIndependent() {
+        Game source = new Game();
+        source.initialize(new GameSettings(4, 5, Board.BoardType.HEXAGON));
+        GameFixtures.advance(source, new SplittableRandom(3), 60);
+        String before = GameFixtures.snapshot(source);
+
+        Game copy = source.copyInto(new Game());
+        GameFixtures.advance(copy, new SplittableRandom(4), 60);
+        copy.applyThrow(Yut.YutResult.MO);
+
+        assertEquals(before, GameFixtures.snapshot(source));
+        assertNotSame(source.getBoard(), copy.getBoard());
+        for (int p = 0; p < source.getPlayers().size(); p++) {
+            for (int i = 0; i < 5; i++) {
+                assertNotSame(source.getPlayers().get(p).getPiece(i), copy.getPlayers().get(p).getPiece(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("대상 설정이 다르면 대상을 다시 초기화한 뒤 복사하고, 자기 자신에게는 복사할 수 없다")
+    void testShapeChangeAndSelfCopy() {
+        Game source = new Game();
+        source.initialize(new GameSettings(3, 3, Board.BoardType.PENTAGON));
+        GameFixtures.advance(source, new SplittableRandom(5), 30);
+
+        Game target = new Game();
+        target.initialize(new GameSettings(2, 4, Board.BoardType.SQUARE));
+        source.copyInto(target);
+
+        assertEquals(Board.BoardType.PENTAGON, target.getBoard().getBoardType());
+        assertEquals(3, target.getPlayers().size());
+        assertEquals(GameFixtures.snapshot(source), GameFixtures.snapshot(target));
+        assertThrows(IllegalArgumentException.class, () -> source.copyInto(source));
+        assertThrows(IllegalStateException.class, () -> new Game().copyInto(target));
+    }
+}
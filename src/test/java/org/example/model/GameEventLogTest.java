@@ -0,0 +1,237 @@
+package org.example.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게임 사건 기록 테스트
+ */
+public class GameEventLogTest {
+
+    private Game game;
+    private Player player1;
+    private Player player2;
+
+    @BeforeEach
+    void setUp() {
+        game = new Game();
+        game.initialize(new GameSettings(2, 2, Board.BoardType.SQUARE));
+        player1 = game.getPlayers().get(0);
+        player2 = game.getPlayers().get(1);
+    }
+
+    private GameEvent lastEventOf(GameEvent.Type type) {
+        List<GameEvent> events = game.getEventLog().getEvents();
+        for (int i = events.size() - 1; i >= 0; i--) {
+            if (events.get(i).getType() == type) {
+                return events.get(i);
+            }
+        }
+        return null;
+    }
+
+    @Test
+    @DisplayName("던지기와 이동이 종류별 사건으로 기록된다")
+    void testThrowAndMoveEvents() {
+        Piece piece = player1.getPieces().get(0);
+
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+        game.movePiece(piece, Yut.YutResult.GAE);
+
+        List<GameEvent> events = game.getEventLog().getEvents();
+        assertEquals(GameEvent.Type.GAME_STARTED, events.get(0).getType());
+
+        GameEvent thrown = lastEventOf(GameEvent.Type.THROWN);
+        assertSame(player1, thrown.getPlayer());
+        assertEquals(Yut.YutResult.GAE, thrown.getResult());
+
+        GameEvent moved = lastEventOf(GameEvent.Type.MOVED);
+        assertSame(piece, moved.getPiece());
+        assertSame(game.getBoard().getStartingPlace(), moved.getFrom());
+        assertSame(game.getBoard().getPlaceById("2"), moved.getTo());
+        assertEquals("Player 1의 말 " + piece.getId() + "이(가) 시작점에서 외곽2으로 개(2칸) 만큼 이동했습니다.", moved.toMessage());
+
+    }
+
+    @Test
+    @DisplayName("잡기와 추가 턴이 기록되고 문장은 요청할 때 만들어진다")
+    void testCaptureEventAndLazyMessage() {
+        Piece mine = player1.getPieces().get(0);
+        Piece theirs = player2.getPieces().get(0);
+        Place place3 = game.getBoard().getPlaceById("3");
+        theirs.moveTo(place3);
+        mine.moveTo(game.getBoard().getPlaceById("1"));
+
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+        game.movePiece(mine, Yut.YutResult.GAE);
+
+        GameEvent captured = lastEventOf(GameEvent.Type.CAPTURED);
+        assertNotNull(captured);
+        assertSame(mine, captured.getPiece());
+        assertSame(theirs, captured.getOtherPiece());
+        assertFalse(captured.isAtCenter(), "외곽 칸에서의 잡기");
+        assertFalse(captured.isFromCapture(), "추가 턴 사건이 아니면 잡기 추가 턴 표시는 false");
+
+        GameEvent extraTurn = lastEventOf(GameEvent.Type.EXTRA_TURN);
+        assertNotNull(extraTurn);
+        assertTrue(extraTurn.isFromCapture(), "잡기로 인한 추가 턴이어야 함");
+
+        List<String> messages = game.getGameLog();
+        assertEquals(game.getEventLog().size(), messages.size());
+        assertTrue(messages.contains(captured.toMessage()));
+        assertTrue(captured.toMessage().contains("을(를) 잡았습니다."));
+    }
+
+    @Test
+    @DisplayName("업기가 기록된다")
+    void testStackEvent() {
+        Piece first = player1.getPieces().get(0);
+        Piece second = player1.getPieces().get(1);
+        second.moveTo(game.getBoard().getPlaceById("2"));
+
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+        game.movePiece(first, Yut.YutResult.GAE);
+
+        GameEvent stacked = lastEventOf(GameEvent.Type.STACKED);
+        assertNotNull(stacked);
+        assertSame(first, stacked.getPiece());
+        assertSame(second, stacked.getOtherPiece());
+    }
+
+    @Test
+    @DisplayName("기록을 끄면 사건이 남지 않는다")
+    void testRecordingOff() {
+        game.getEventLog().setRecording(false);
+        int before = game.getEventLog().size();
+
+        game.setSpecificYutResult(Yut.YutResult.GEOL);
+        game.movePiece(player1.getPieces().get(0), Yut.YutResult.GEOL);
+        game.endTurnIfNoExtraTurn();
+
+        assertEquals(before, game.getEventLog().size());
+        assertEquals(1, game.getCurrentTurnIndex(), "기록을 꺼도 게임 진행은 같아야 함");
+    }
+
+    @Test
+    @DisplayName("승리가 기록된다")
+    void testWonEvent() {
+        for (Piece piece : player1.getPieces()) {
+            piece.moveTo(game.getBoard().getEndingPlace());
+        }
+
+        assertTrue(game.checkGameEnd());
+
+        GameEvent won = lastEventOf(GameEvent.Type.WON);
+        assertSame(player1, won.getPlayer());
+        assertEquals("Player 1이(가) 게임에서 승리했습니다!", won.toMessage());
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 사건부터 밀려나고 순번은 계속 증가한다")
+    void testRingBufferOverflow() {
+        GameEventLog log = new GameEventLog(3);
+        for (int i = 0; i < 5; i++) {
+            log.won(player1);
+        }
+
+        assertEquals(3, log.size());
+        assertEquals(2, log.getFirstSequence());
+        assertEquals(5, log.getNextSequence());
+        assertEquals(3, log.getEvents().size());
+    }
+
+    @Test
+    @DisplayName("버퍼는 기록할 때 용량까지 늘어나고, 늘어나도 사건 순서가 유지된다")
+    void testBufferGrowsOnDemand() {
+        GameEventLog log = new GameEventLog(40);
+        assertEquals(0, log.getBufferLength());
+        assertEquals(40, log.getCapacity());
+
+        for (int i = 0; i < 100; i++) {
+            log.won(i % 2 == 0 ? player1 : player2);
+            assertTrue(log.getBufferLength() <= 40);
+        }
+        assertEquals(40, log.getBufferLength());
+        List<GameEvent> events = log.readSince(0);
+        assertEquals(40, events.size());
+        assertEquals(60, log.getFirstSequence());
+        for (int i = 0; i < events.size(); i++) {
+            assertSame((60 + i) % 2 == 0 ? player1 : player2, events.get(i).getPlayer());
+        }
+
+        // 기록을 끈 게임은 버퍼를 만들지 않음
+        Game quiet = new Game();
+        quiet.getEventLog().setRecording(false);
+        quiet.initialize(new GameSettings());
+        quiet.setSpecificYutResult(Yut.YutResult.GAE);
+        quiet.movePiece(quiet.getCurrentPlayer().getPiece(0), Yut.YutResult.GAE);
+        assertEquals(0, quiet.getEventLog().getBufferLength());
+    }
+
+    @Test
+    @DisplayName("순번 이후의 새 사건만 읽을 수 있다")
+    void testReadSince() {
+        GameEventLog log = new GameEventLog(4);
+        log.gameRestarted();
+        log.won(player1);
+        long seen = log.getNextSequence();
+        log.won(player2);
+
+        List<GameEvent> fresh = log.readSince(seen);
+        assertEquals(1, fresh.size());
+        assertSame(player2, fresh.get(0).getPlayer());
+        assertTrue(log.readSince(log.getNextSequence()).isEmpty());
+
+        // 이미 밀려난 순번은 보관 중인 가장 오래된 사건부터
+        for (int i = 0; i < 4; i++) {
+            log.gameRestarted();
+        }
+        assertEquals(4, log.readSince(0).size());
+        assertEquals(2, log.tail(2).size());
+        assertEquals(List.of("게임이 재시작되었습니다."), log.readMessagesSince(log.getNextSequence() - 1));
+    }
+
+    @Test
+    @DisplayName("삭제하면 세대가 바뀌고 순번은 이어진다")
+    void testClearKeepsSequence() {
+        long generation = game.getEventLog().getGeneration();
+        long next = game.getEventLog().getNextSequence();
+
+        game.restartGame(null);
+
+        assertEquals(generation + 1, game.getEventLog().getGeneration());
+        assertEquals(next, game.getEventLog().getFirstSequence());
+        assertEquals(GameEvent.Type.GAME_STARTED, game.getEventLog().getEvents().get(0).getType());
+    }
+
+    @Test
+    @DisplayName("파일 내보내기를 켜면 밀려난 사건이 순번과 함께 파일에 기록된다")
+    void testSpillToFile() throws IOException {
+        Path file = Files.createTempFile("yut-log", ".txt");
+        try (GameEventLog log = new GameEventLog(2)) {
+            log.enableSpill(file);
+            log.gameRestarted();
+            log.won(player1);
+            log.won(player2);
+            log.clear();
+            log.flush();
+
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertEquals(3, lines.size());
+            assertEquals("0\t게임이 재시작되었습니다.", lines.get(0));
+            assertEquals("2\tPlayer 2이(가) 게임에서 승리했습니다!", lines.get(2));
+            assertEquals(0, log.size());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * 여러 테스트가 함께 쓰는 게임 진행/비교 도우미
+ */
+final class GameFixtures {
+
+    private GameFixtures() {
+    }
+
+    /**
+     * 무작위 합법 이동으로 게임을 진행 (윷 결과는 무작위로 지정)
+     */
+    static void advance(Game game, SplittableRandom random, int actions) {
+        MoveList moves = new MoveList();
+        Yut.YutResult[] results = Yut.YutResult.values();
+        for (int i = 0; i < actions && !game.isGameFinished(); i++) {
+            if (game.generateLegalMoves(moves) == 0) {
+                game.setSpecificYutResult(results[random.nextInt(results.length)]);
+                continue;
+            }
+            int choice = random.nextInt(moves.size());
+            game.movePiece(moves.getPiece(choice), moves.getResult(choice));
+            if (!game.checkGameEnd()) {
+                game.endTurnIfNoExtraTurn();
+            }
+        }
+    }
+
+    /**
+     * 무작위로 진행한 뒤, 이동 후보가 둘 이상인 결정 시점까지 진행한 게임
+     */
+    static Game decisionPosition(GameSettings settings, long seed, int actions) {
+        Game game = new Game();
+        game.getEventLog().setRecording(false);
+        game.initialize(settings);
+        SplittableRandom random = new SplittableRandom(seed);
+        advance(game, random, actions);
+        MoveList moves = new MoveList();
+        while (!game.isGameFinished() && game.generateLegalMoves(moves) < 2) {
+            advance(game, random, 1);
+        }
+        return game;
+    }
+
+    /**
+     * 현재 합법 이동을 후보 목록으로 채우고 전략의 선택을 받음
+     */
+    static int choose(MoveStrategy strategy, Game game, List<Piece> pieces, List<Yut.YutResult> results) {
+        pieces.clear();
+        results.clear();
+        MoveList moves = new MoveList();
+        for (int i = 0; i < game.generateLegalMoves(moves); i++) {
+            pieces.add(moves.getPiece(i));
+            results.add(moves.getResult(i));
+        }
+        return strategy.chooseMove(game, pieces, results);
+    }
+
+    /**
+     * 공개 API로 볼 수 있는 게임 상태 전체를 문자열로 만듦
+     */
+    static String snapshot(Game game) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("turn=").append(game.getCurrentTurnIndex())
+                .append(" extra=").append(game.hasExtraTurn())
+                .append(" turns=").append(game.getTurnCount())
+                .append(" pending=").append(game.getPendingYutResults())
+                .append(" last=").append(game.getLastYutResult())
+                .append(" finished=").append(game.isGameFinished())
+                .append(" winner=").append(game.getWinner() == null ? null : game.getWinner().getName())
+                .append(" captures=").append(game.getCaptureCount())
+                .append(" stacks=").append(game.getStackCount()).append('\n');
+        for (Player player : game.getPlayers()) {
+            for (Piece piece : player.getPieces()) {
+                sb.append(piece.getId())
+                        .append('@').append(piece.getCurrentPlace() == null ? null : piece.getCurrentPlace().getId())
+                        .append(" carriedBy=").append(piece.getCarriedBy() == null ? null : piece.getCarriedBy().getId())
+                        .append(" done=").append(piece.isCompleted())
+                        .append(" stack=");
+                for (Piece stacked : piece.getStackedPieces()) {
+                    sb.append(stacked.getId()).append(',');
+                }
+                sb.append('\n');
+            }
+        }
+        Map<String, Place> places = new TreeMap<>(game.getBoard().getAllPlaces());
+        for (Place place : places.values()) {
+            if (!place.isEmpty()) {
+                sb.append(place.getId()).append(':');
+                for (Piece piece : place.getPieces()) {
+                    sb.append(piece.getId()).append(',');
+                }
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
+}
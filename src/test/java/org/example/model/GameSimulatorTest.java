@@ -0,0 +1,88 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 헤드리스 시뮬레이터 테스트
+ */
+public class GameSimulatorTest {
+
+    @Test
+    @DisplayName("모든 보드 타입에서 무작위 전략으로 게임이 끝까지 진행된다")
+    void testRandomGamesFinishOnAllBoards() {
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            GameSettings settings = new GameSettings(3, 4, boardType);
+            GameSimulator simulator = new GameSimulator(settings, MoveStrategy.random(new Random(7)));
+
+            SimulationStats stats = simulator.run(200);
+
+            assertEquals(200, stats.getGameCount());
+            assertEquals(200, stats.getFinishedCount(), boardType + " 보드의 모든 게임이 끝나야 함");
+            long wins = 0;
+            for (int seat = 0; seat < stats.getPlayerCount(); seat++) {
+                wins += stats.getWins(seat);
+            }
+            assertEquals(200, wins, "승리 수 합계는 완료된 게임 수와 같아야 함");
+            assertTrue(stats.getMoveCount() > 0);
+            assertTrue(stats.getThrowCount() >= stats.getMoveCount());
+        }
+    }
+
+    @Test
+    @DisplayName("게임이 끝나면 승자의 말이 모두 완주 상태이다")
+    void testWinnerHasAllPiecesCompleted() {
+        GameSimulator simulator = new GameSimulator(new GameSettings(), MoveStrategy.first());
+
+        Player winner = simulator.playGame(null);
+
+        assertNotNull(winner);
+        assertTrue(simulator.getGame().isGameFinished());
+        assertTrue(winner.isAllPiecesCompleted());
+    }
+
+    @Test
+    @DisplayName("행동 한도를 넘으면 끝나지 않은 게임으로 기록된다")
+    void testActionLimit() {
+        GameSimulator simulator = new GameSimulator(new GameSettings(), MoveStrategy.first());
+        simulator.setMaxActions(3);
+
+        SimulationStats stats = simulator.run(5);
+
+        assertEquals(5, stats.getGameCount());
+        assertEquals(0, stats.getFinishedCount());
+    }
+
+    @Test
+    @DisplayName("집계 결과를 합치면 판 수와 승리 수가 더해진다")
+    void testMergeStats() {
+        GameSettings settings = new GameSettings();
+        SimulationStats first = new GameSimulator(settings, MoveStrategy.random(new Random(1))).run(50);
+        SimulationStats second = new GameSimulator(settings, MoveStrategy.random(new Random(2))).run(30);
+
+        first.merge(second);
+
+        assertEquals(80, first.getGameCount());
+        assertEquals(80, first.getWins(0) + first.getWins(1));
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new SimulationStats(3)));
+    }
+
+    @Test
+    @DisplayName("남은 윷 결과를 버리면 턴이 다음 플레이어로 넘어간다")
+    void testForfeitPendingResults() {
+        Game game = new Game();
+        game.initialize(new GameSettings());
+
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+        assertEquals(0, game.getCurrentTurnIndex());
+
+        game.forfeitPendingResults();
+
+        assertTrue(game.getPendingYutResults().isEmpty());
+        assertEquals(1, game.getCurrentTurnIndex());
+    }
+}
@@ -267,6 +267,10 @@ public class GameTest {
             }
         }
 
+        // 현재 플레이어의 말만 이동할 수 있으므로 플레이어2의 차례로 넘김
+        game.endTurnIfNoExtraTurn();
+        assertSame(player2, game.getCurrentPlayer(), "두 번째 말은 플레이어2의 차례에 이동해야 함");
+
         // 윷 결과를 게임에 추가 (이 줄 추가)
         game.setSpecificYutResult(result2);
 
@@ -0,0 +1,84 @@
+package org.example.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 잡기/업기 디버그 추적 테스트
+ */
+public class GameTracerTest {
+
+    private Game game;
+    private List<String> traced;
+    private Piece first;
+    private Piece second;
+
+    @BeforeEach
+    void setUp() {
+        game = new Game();
+        game.initialize(new GameSettings(2, 2, Board.BoardType.SQUARE));
+        traced = new ArrayList<>();
+        game.getTracer().setSink(traced::add);
+
+        Player player = game.getPlayers().get(0);
+        first = player.getPieces().get(0);
+        second = player.getPieces().get(1);
+        second.moveTo(game.getBoard().getPlaceById("2"));
+    }
+
+    private void moveFirstOntoSecond() {
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+        game.movePiece(first, Yut.YutResult.GAE);
+    }
+
+    @Test
+    @DisplayName("기본 수준은 OFF이며 업기가 일어나도 출력 대상이 호출되지 않는다")
+    void testDisabledByDefault() {
+        assertEquals(GameTracer.Level.OFF, game.getTracer().getLevel());
+        assertFalse(game.getTracer().isInfoEnabled());
+        assertFalse(game.getTracer().isDebugEnabled());
+
+        moveFirstOntoSecond();
+
+        assertTrue(first.getStackedPieces().contains(second), "추적과 관계없이 업기는 일어나야 함");
+        assertTrue(traced.isEmpty());
+    }
+
+    @Test
+    @DisplayName("DEBUG 수준에서는 업기 전후 위치 정보가 출력된다")
+    void testDebugTracesGrouping() {
+        game.getTracer().setLevel(GameTracer.Level.DEBUG);
+
+        moveFirstOntoSecond();
+
+        assertFalse(traced.isEmpty());
+        assertTrue(traced.get(0).startsWith("[디버그] === 업기 전 상태 ==="));
+        boolean afterFound = false;
+        for (String line : traced) {
+            if (line.contains("업는 말 " + first.getId() + "에 업힌 말 개수: 1")) {
+                afterFound = true;
+            }
+        }
+        assertTrue(afterFound, "업기 후 업힌 말 개수가 출력되어야 함");
+    }
+
+    @Test
+    @DisplayName("INFO 수준에서는 실패 이유만 출력된다")
+    void testInfoTracesFailureOnly() {
+        game.getTracer().setLevel(GameTracer.Level.INFO);
+        Piece opponent = game.getPlayers().get(1).getPieces().get(0);
+        opponent.moveTo(game.getBoard().getPlaceById("2"));
+
+        boolean grouped = game.applyGrouping(first, opponent);
+
+        assertFalse(grouped);
+        assertEquals(1, traced.size());
+        assertEquals("업기 실패: 서로 다른 플레이어의 말입니다.", traced.get(0));
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이동/던지기 되돌리기(Game.applyMove, applyThrow, undo) 테스트
+ */
+public class GameUndoTest {
+    private static final Yut.YutResult[] RESULTS = Yut.YutResult.values();
+
+    /**
+     * 무작위 행동 하나를 applyThrow/applyMove로 적용하고 기록에 남김 (적용한 행동이 없으면 false)
+     */
+    private static boolean applyRandomAction(Game game, MoveList moves, SplittableRandom random, List<int[]> actions) {
+        if (game.isGameFinished()) {
+            return false;
+        }
+        if (game.generateLegalMoves(moves) == 0 || random.nextInt(4) == 0) {
+            int result = random.nextInt(RESULTS.length);
+            game.applyThrow(RESULTS[result]);
+            actions.add(new int[]{-1, result});
+        } else {
+            int choice = random.nextInt(moves.size());
+            Piece piece = moves.getPiece(choice);
+            Yut.YutResult result = moves.getResult(choice);
+            assertNotNull(game.applyMove(piece, result));
+            actions.add(new int[]{game.getPlayers().indexOf(piece.getPlayer()) * 8
+                    + piece.getPlayer().getPieceIndex(piece), result.ordinal()});
+        }
+        return true;
+    }
+
+    private static void replay(Game game, int[] action) {
+        if (action[0] < 0) {
+            game.applyThrow(RESULTS[action[1]]);
+        } else {
+            Piece piece = game.getPlayers().get(action[0] / 8).getPiece(action[0] % 8);
+            assertNotNull(game.applyMove(piece, RESULTS[action[1]]));
+        }
+    }
+
+    @Test
+    @DisplayName("무작위로 진행한 행동을 모두 되돌리면 각 단계의 상태가 정확히 복원된다")
+    void testUndoRestoresEveryStep() {
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            SplittableRandom random = new SplittableRandom(boardType.ordinal() + 1);
+            for (int round = 0; round < 40; round++) {
+                Game game = new Game();
+                game.getEventLog().setRecording(false);
+                game.initialize(new GameSettings(2 + round % 3, 2 + round % 4, boardType));
+                MoveList moves = new MoveList();
+                List<int[]> actions = new ArrayList<>();
+
+                // 앞부분은 되돌리지 않고 진행하여 다양한 시작 상태를 만듦
+                int prefix = random.nextInt(60);
+                int applied = 0;
+                while (applied < prefix && applyRandomAction(game, moves, random, actions)) {
+                    applied++;
+                }
+                int base = game.getUndoDepth();
+
+                List<String> before = new ArrayList<>();
+                for (int i = 0; i < 30; i++) {
+                    String state = GameFixtures.snapshot(game);
+                    if (!applyRandomAction(game, moves, random, actions)) {
+                        break;
+                    }
+                    before.add(state);
+                }
+                List<String> after = new ArrayList<>();
+                for (int i = before.size() - 1; i >= 0; i--) {
+                    after.add(GameFixtures.snapshot(game));
+                    game.undo();
+                    assertEquals(before.get(i), GameFixtures.snapshot(game), boardType + " " + round + "판 " + i + "번째 행동 되돌리기");
+                }
+                assertEquals(base, game.getUndoDepth());
+
+                // 숨은 턴 플래그까지 복원되었다면 같은 행동을 다시 적용했을 때 같은 상태가 나와야 함
+                for (int i = 0; i < before.size(); i++) {
+                    replay(game, actions.get(base + i));
+                    assertEquals(after.get(before.size() - 1 - i), GameFixtures.snapshot(game));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("잡기를 되돌리면 잡힌 말과 업힌 말이 원래 위치로 돌아온다")
+    void testUndoCapture() {
+        Game game = new Game();
+        game.initialize(new GameSettings(2, 4, Board.BoardType.SQUARE));
+        List<Player> players = game.getPlayers();
+        Board board = game.getBoard();
+        Piece victim = players.get(1).getPiece(0);
+        Piece rider = players.get(1).getPiece(1);
+        victim.moveTo(board.getPlaceById("3"));
+        rider.moveTo(board.getPlaceById("3"));
+        victim.stackPiece(rider);
+        game.setSpecificYutResult(Yut.YutResult.GEOL);
+        String before = GameFixtures.snapshot(game);
+
+        game.applyMove(players.get(0).getPiece(0), Yut.YutResult.GEOL);
+        assertEquals(1, game.getCaptureCount());
+        assertSame(board.getStartingPlace(), victim.getCurrentPlace());
+        assertFalse(rider.isCarried());
+        assertTrue(game.hasExtraTurn());
+
+        game.undo();
+        assertEquals(before, GameFixtures.snapshot(game));
+        assertSame(victim, rider.getCarriedBy());
+        assertEquals(0, game.getCaptureCount());
+    }
+
+    @Test
+    @DisplayName("되돌리기는 사건 기록을 남기지 않고, 되돌릴 행동이 없으면 예외를 던진다")
+    void testUndoIsUnrecordedAndBounded() {
+        Game game = new Game();
+        game.initialize(new GameSettings());
+        long sequence = game.getEventLog().getNextSequence();
+
+        game.applyThrow(Yut.YutResult.GAE);
+        assertNull(game.applyMove(game.getCurrentPlayer().getPiece(0), Yut.YutResult.DO));
+        game.applyMove(game.getCurrentPlayer().getPiece(0), Yut.YutResult.GAE);
+        assertEquals(2, game.getUndoDepth());
+        assertEquals(sequence, game.getEventLog().getNextSequence());
+
+        game.undo();
+        game.undo();
+        assertThrows(IllegalStateException.class, game::undo);
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 합법 이동 생성(Game.generateLegalMoves) 테스트
+ */
+public class LegalMoveGeneratorTest {
+    private Game game;
+    private MoveList moves;
+
+    @BeforeEach
+    void setUp() {
+        game = new Game();
+        game.initialize(new GameSettings(2, 4, Board.BoardType.SQUARE));
+        moves = new MoveList(2); // 자동으로 늘어나는지도 함께 확인
+    }
+
+    @Test
+    @DisplayName("남은 결과가 없으면 이동이 없다")
+    void testNoPendingResults() {
+        assertEquals(0, game.generateLegalMoves(moves));
+        assertTrue(moves.isEmpty());
+    }
+
+    @Test
+    @DisplayName("모든 남은 결과와 말의 조합을 목적지와 함께 채운다")
+    void testAllPendingResults() {
+        game.setSpecificYutResult(Yut.YutResult.YUT);
+        game.setSpecificYutResult(Yut.YutResult.DO);
+
+        assertEquals(8, game.generateLegalMoves(moves));
+        Player player = game.getCurrentPlayer();
+        Board board = game.getBoard();
+        for (int i = 0; i < moves.size(); i++) {
+            Yut.YutResult result = moves.getResult(i);
+            assertEquals(i < 4 ? Yut.YutResult.YUT : Yut.YutResult.DO, result);
+            assertSame(player.getPiece(i % 4), moves.getPiece(i));
+            assertSame(board.calculateDestination(board.getStartingPlace(), result), moves.getDestination(i));
+        }
+        assertEquals(5, moves.indexOf(player.getPiece(1), Yut.YutResult.DO));
+        assertEquals(-1, moves.indexOf(player.getPiece(1), Yut.YutResult.GAE));
+    }
+
+    @Test
+    @DisplayName("같은 결과가 여러 개 남아 있어도 한 번만 넣는다")
+    void testDuplicateResults() {
+        game.setSpecificYutResult(Yut.YutResult.MO);
+        game.setSpecificYutResult(Yut.YutResult.MO);
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+
+        assertEquals(8, game.generateLegalMoves(moves));
+    }
+
+    @Test
+    @DisplayName("빽도는 판 위의 말에만, 업힌 말과 완주한 말은 제외한다")
+    void testBackdoCarriedAndCompleted() {
+        Player player = game.getCurrentPlayer();
+        Piece onBoard = player.getPiece(0);
+        Piece carried = player.getPiece(1);
+        Piece completed = player.getPiece(2);
+        onBoard.moveTo(game.getBoard().getPlaceById("3"));
+        carried.moveTo(game.getBoard().getPlaceById("3"));
+        assertTrue(game.applyGrouping(onBoard, carried));
+        completed.moveTo(game.getBoard().getEndingPlace()); // 도착점에 놓으면 완주 처리
+
+        game.setSpecificYutResult(Yut.YutResult.BACKDO);
+
+        assertEquals(1, game.generateLegalMoves(moves));
+        assertSame(onBoard, moves.getPiece(0));
+        assertEquals("2", moves.getDestination(0).getId());
+    }
+
+    @Test
+    @DisplayName("버퍼를 다시 채우면 이전 이동이 지워진다")
+    void testReuseBuffer() {
+        game.setSpecificYutResult(Yut.YutResult.GEOL);
+        assertEquals(4, game.generateLegalMoves(moves));
+
+        game.movePiece(game.getCurrentPlayer().getPiece(0), Yut.YutResult.GEOL);
+        assertEquals(0, game.generateLegalMoves(moves));
+        assertThrows(IndexOutOfBoundsException.class, () -> moves.getPiece(0));
+    }
+
+    @Test
+    @DisplayName("복사본에서 고른 이동은 같은 말 번호의 후보로 찾고, 해당하는 후보가 없으면 예외를 던진다")
+    void testFindCandidate() {
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+        Game copy = game.copyInto(new Game());
+        Player copyPlayer = copy.getCurrentPlayer();
+
+        List<Piece> pieces = new ArrayList<>();
+        List<Yut.YutResult> results = new ArrayList<>();
+        for (int i = 0; i < game.generateLegalMoves(moves); i++) {
+            pieces.add(moves.getPiece(i));
+            results.add(moves.getResult(i));
+        }
+        assertEquals(2, MoveList.findCandidate(game, pieces, results, copyPlayer.getPiece(2), Yut.YutResult.GAE));
+        assertThrows(IllegalStateException.class,
+                () -> MoveList.findCandidate(game, pieces, results, copyPlayer.getPiece(2), Yut.YutResult.MO));
+    }
+}
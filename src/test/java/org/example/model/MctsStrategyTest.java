@@ -0,0 +1,119 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 컴퓨터 플레이어(MCTS) 전략 테스트
+ */
+public class MctsStrategyTest {
+
+    @Test
+    @DisplayName("롤아웃 수 예산과 시드가 같으면 병렬로 탐색해도 항상 같은 이동과 방문 수가 나온다")
+    void testDeterministicWithPlayoutBudget() {
+        Game game = GameFixtures.decisionPosition(new GameSettings(3, 4, Board.BoardType.PENTAGON), 4, 30);
+        List<Piece> pieces = new ArrayList<>();
+        List<Yut.YutResult> results = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            int[] expectedVisits = null;
+            int expectedChoice = -1;
+            for (int run = 0; run < 3; run++) {
+                MctsStrategy strategy = MctsStrategy.withPlayoutBudget(600)
+                        .setThreadCount(3)
+                        .setSeed(42)
+                        .setPool(pool);
+                int choice = GameFixtures.choose(strategy, game, pieces, results);
+
+                assertEquals(600, strategy.getLastPlayoutCount());
+                assertEquals(600, Arrays.stream(strategy.getLastVisits()).sum());
+                if (run == 0) {
+                    expectedChoice = choice;
+                    expectedVisits = strategy.getLastVisits();
+                } else {
+                    assertEquals(expectedChoice, choice);
+                    assertArrayEquals(expectedVisits, strategy.getLastVisits());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 예산 안에 답하고 초당 롤아웃 수를 기록하며, 원래 게임은 바뀌지 않는다")
+    void testTimeBudget() {
+        List<Piece> pieces = new ArrayList<>();
+        List<Yut.YutResult> results = new ArrayList<>();
+        MctsStrategy strategy = MctsStrategy.withTimeBudget(30).setThreadCount(2).setSeed(1);
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            Game game = GameFixtures.decisionPosition(new GameSettings(4, 5, boardType), 2, 60);
+            if (game.isGameFinished()) {
+                continue;
+            }
+            String before = GameFixtures.snapshot(game);
+
+            int choice = GameFixtures.choose(strategy, game, pieces, results);
+
+            assertTrue(choice >= 0 && choice < pieces.size());
+            assertTrue(strategy.getLastPlayoutCount() > 0);
+            assertTrue(strategy.getPlayoutsPerSecond() > 0);
+            assertTrue(strategy.getLastElapsedNanos() < 500_000_000L);
+            assertEquals(before, GameFixtures.snapshot(game));
+        }
+    }
+
+    @Test
+    @DisplayName("상대 말을 잡을 수 있으면 잡는 이동을 고른다")
+    void testPrefersCapture() {
+        Game game = new Game();
+        game.initialize(new GameSettings(2, 2, Board.BoardType.SQUARE));
+        Board board = game.getBoard();
+        Player me = game.getPlayers().get(0);
+        Player opponent = game.getPlayers().get(1);
+        me.getPiece(0).moveTo(board.getPlaceById("3"));
+        opponent.getPiece(0).moveTo(board.getPlaceById("5"));
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+
+        List<Piece> pieces = new ArrayList<>();
+        List<Yut.YutResult> results = new ArrayList<>();
+        int choice = GameFixtures.choose(MctsStrategy.withPlayoutBudget(2_000).setThreadCount(2).setSeed(3), game, pieces, results);
+
+        assertSame(me.getPiece(0), pieces.get(choice));
+    }
+
+    @Test
+    @DisplayName("무작위 전략을 상대로 더 많이 이긴다")
+    void testBeatsRandomStrategy() {
+        MctsStrategy ai = MctsStrategy.withPlayoutBudget(100).setThreadCount(2).setSeed(7);
+        MoveStrategy random = MoveStrategy.random(new SplittableRandom(3));
+        MoveStrategy seats = (game, pieces, results) -> game.getCurrentTurnIndex() == 0
+                ? ai.chooseMove(game, pieces, results)
+                : random.chooseMove(game, pieces, results);
+
+        Game game = new Game(YutRandomSource.seeded(20));
+        GameSimulator simulator = new GameSimulator(new GameSettings(2, 2, Board.BoardType.SQUARE), seats, game);
+        SimulationStats stats = simulator.run(30);
+
+        assertEquals(30, stats.getFinishedCount());
+        assertTrue(stats.getWins(0) >= 20, "30판 중 " + stats.getWins(0) + "승");
+    }
+
+    @Test
+    @DisplayName("잘못된 예산과 설정은 예외를 던진다")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> MctsStrategy.withTimeBudget(0));
+        assertThrows(IllegalArgumentException.class, () -> MctsStrategy.withPlayoutBudget(0));
+        assertThrows(IllegalArgumentException.class, () -> MctsStrategy.withPlayoutBudget(10).setThreadCount(0));
+        assertThrows(IllegalArgumentException.class, () -> MctsStrategy.withPlayoutBudget(10).setExploration(-1));
+        assertThrows(NullPointerException.class, () -> MctsStrategy.withPlayoutBudget(10).setPool(null));
+    }
+}
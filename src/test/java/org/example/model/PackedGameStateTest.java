@@ -0,0 +1,154 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 128비트 국면 압축(PackedGameState) 테스트
+ */
+public class PackedGameStateTest {
+
+    /**
+     * 말 번호와 무관한 국면 설명 (플레이어별 말 위치와 업힌 수를 정렬, 턴 상태, 남은 결과 개수)
+     */
+    private static String canonical(Game game) {
+        StringBuilder sb = new StringBuilder();
+        for (Player player : game.getPlayers()) {
+            List<String> pieces = new ArrayList<>();
+            for (Piece piece : player.getPieces()) {
+                if (piece.isCompleted()) {
+                    pieces.add("done");
+                } else if (!piece.isCarried()) {
+                    Place place = piece.getCurrentPlace();
+                    pieces.add((place == null || place.isStartingPoint() ? "home" : place.getId())
+                            + "x" + piece.getTotalPieceCount());
+                }
+            }
+            pieces.sort(null);
+            sb.append(pieces).append(' ');
+        }
+        Map<Yut.YutResult, Integer> pending = new java.util.EnumMap<>(Yut.YutResult.class);
+        for (Yut.YutResult result : game.getPendingYutResults()) {
+            pending.merge(result, 1, Integer::sum);
+        }
+        return sb.append("turn=").append(game.getCurrentTurnIndex())
+                .append(" flags=").append((game.getTurnService().saveState() >> 8) & 7)
+                .append(" pending=").append(pending)
+                .append(" winner=").append(game.getWinner() == null ? -1 : game.getPlayers().indexOf(game.getWinner()))
+                .toString();
+    }
+
+    @Test
+    @DisplayName("압축한 국면을 되살리면 같은 국면이 되고 다시 압축해도 같은 값이다")
+    void testRoundTrip() {
+        SplittableRandom random = new SplittableRandom(21);
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            for (int round = 0; round < 60; round++) {
+                GameSettings settings = new GameSettings(2 + round % 3, 2 + round % 4, boardType);
+                Game source = new Game();
+                source.getEventLog().setRecording(false);
+                source.initialize(settings);
+                GameFixtures.advance(source, random, random.nextInt(200));
+
+                PackedGameState packed = PackedGameState.of(source);
+                Game target = new Game();
+                target.initialize(settings);
+                packed.decodeInto(target);
+
+                assertEquals(canonical(source), canonical(target), boardType + " " + round);
+                assertEquals(packed, PackedGameState.of(target));
+
+                // 되살린 게임의 합법 이동 수도 같아야 함
+                assertEquals(source.generateLegalMoves(new MoveList()), target.generateLegalMoves(new MoveList()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("국면 설명이 같을 때에만 압축 값이 같다 (최대 크기: 육각형, 4명, 말 5개)")
+    void testInjective() {
+        SplittableRandom random = new SplittableRandom(5);
+        GameSettings settings = new GameSettings(4, 5, Board.BoardType.HEXAGON);
+        Map<PackedGameState, String> seen = new HashMap<>();
+        long[] packed = new long[2];
+        int[] codes = new int[5];
+        for (int round = 0; round < 300; round++) {
+            Game game = new Game();
+            game.getEventLog().setRecording(false);
+            game.initialize(settings);
+            for (int step = 0; step < 40 && !game.isGameFinished(); step++) {
+                GameFixtures.advance(game, random, 5);
+                PackedGameState.encode(game, packed, codes);
+                assertEquals(PackedGameState.of(game), new PackedGameState(packed[0], packed[1]), "버퍼를 다시 써도 같은 값");
+                String description = canonical(game);
+                String previous = seen.putIfAbsent(new PackedGameState(packed[0], packed[1]), description);
+                if (previous != null) {
+                    assertEquals(previous, description);
+                }
+            }
+        }
+        assertTrue(seen.size() > 1000);
+        assertEquals(seen.size(), new java.util.HashSet<>(seen.values()).size());
+    }
+
+    @Test
+    @DisplayName("말은 위치 코드 순으로 배정되고, 업힌 말은 번호가 가장 작은 말이 업은 상태로 되살아난다")
+    void testStackCanonicalForm() {
+        GameSettings settings = new GameSettings(2, 4, Board.BoardType.SQUARE);
+        Game source = new Game();
+        source.initialize(settings);
+        Player player = source.getCurrentPlayer();
+        Board board = source.getBoard();
+        player.getPiece(3).moveTo(board.getPlaceById("5"));
+        player.getPiece(1).moveTo(board.getPlaceById("5"));
+        assertTrue(source.applyGrouping(player.getPiece(3), player.getPiece(1)));
+
+        Game target = new Game();
+        target.initialize(settings);
+        PackedGameState.of(source).decodeInto(target);
+
+        // 출발 전 말(시작 위치 코드)이 앞 번호를 차지하고, 업힌 두 말은 2번이 3번을 업음
+        Player restored = target.getCurrentPlayer();
+        assertNull(restored.getPiece(0).getCurrentPlace());
+        assertNull(restored.getPiece(1).getCurrentPlace());
+        assertEquals("5", restored.getPiece(2).getCurrentPlace().getId());
+        assertSame(restored.getPiece(2), restored.getPiece(3).getCarriedBy());
+        assertEquals(2, restored.getPiece(2).getTotalPieceCount());
+        assertEquals(1, target.getBoard().getPlaceById("5").getPieceCount());
+    }
+
+    @Test
+    @DisplayName("턴 순서와 남은 결과가 압축 값에 반영되고, 압축할 수 없는 상태는 예외를 던진다")
+    void testTurnPendingAndLimits() {
+        Game game = new Game();
+        game.initialize(new GameSettings());
+        PackedGameState initial = PackedGameState.of(game);
+        assertEquals(new PackedGameState(initial.getLow(), initial.getHigh()), initial);
+
+        game.nextTurn();
+        assertNotEquals(initial, PackedGameState.of(game));
+
+        Game pendingGame = new Game();
+        pendingGame.initialize(new GameSettings());
+        for (int i = 0; i < 15; i++) {
+            pendingGame.setSpecificYutResult(Yut.YutResult.MO);
+        }
+        PackedGameState fifteen = PackedGameState.of(pendingGame);
+        Game restored = new Game();
+        restored.initialize(new GameSettings());
+        fifteen.decodeInto(restored);
+        assertEquals(15, restored.getPendingYutResults().size());
+
+        pendingGame.setSpecificYutResult(Yut.YutResult.MO);
+        assertThrows(IllegalStateException.class, () -> PackedGameState.of(pendingGame));
+        assertThrows(IllegalStateException.class, () -> PackedGameState.of(new Game()));
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 보드 위치 번호(dense index)에 대한 테스트 케이스
+ */
+public class PlaceIndexTest {
+
+    @Test
+    @DisplayName("위치 번호는 0부터 위치 개수-1까지 빠짐없이 부여")
+    void testIndicesAreDense() {
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            Board board = new Board(boardType);
+            int placeCount = board.getPlaceCount();
+            assertEquals(board.getAllPlaces().size(), placeCount);
+
+            boolean[] seen = new boolean[placeCount];
+            for (Place place : board.getAllPlaces().values()) {
+                int index = place.getIndex();
+                assertTrue(index >= 0 && index < placeCount, place.getId() + "의 번호가 범위를 벗어남");
+                assertFalse(seen[index], "번호 " + index + "가 중복됨");
+                seen[index] = true;
+                assertSame(place, board.getPlaceByIndex(index));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("번호 기반 목적지 조회가 위치 기반 조회와 일치")
+    void testDestinationIndexMatchesPlace() {
+        Board board = new Board(Board.BoardType.HEXAGON);
+        for (int index = 0; index < board.getPlaceCount(); index++) {
+            Place place = board.getPlaceByIndex(index);
+            for (Yut.YutResult result : Yut.YutResult.values()) {
+                assertEquals(board.calculateDestination(place, result).getIndex(),
+                        board.getDestinationIndex(index, result));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("두 중앙점은 서로를 짝으로 가지고 같은 위치로 취급")
+    void testCenterPartners() {
+        Board board = new Board(Board.BoardType.SQUARE);
+        Place center1 = board.getPlaceById("C_1");
+        Place center2 = board.getPlaceById("C_2");
+
+        assertEquals(center2.getIndex(), board.getPartnerCenterIndex(center1.getIndex()));
+        assertEquals(center1.getIndex(), board.getPartnerCenterIndex(center2.getIndex()));
+        assertEquals(-1, board.getPartnerCenterIndex(board.getPlaceById("5").getIndex()));
+
+        assertTrue(center1.isSameLocation(center2));
+        assertFalse(center1.isSameLocation(board.getPlaceById("C1")));
+        assertTrue(board.getPlaceById("7").isSameLocation(board.getPlaceById("7")));
+    }
+
+    @Test
+    @DisplayName("보드의 위치는 공유 구조의 연결을 이 보드의 위치로 보여 주고, 연결은 바꿀 수 없다")
+    void testLinksComeFromTopology() {
+        Board first = new Board(Board.BoardType.SQUARE);
+        Board second = new Board(Board.BoardType.SQUARE);
+        Place five = first.getPlaceById("5");
+        assertSame(first.getPlaceById("6"), five.getNextPlace());
+        assertSame(first.getPlaceById("C1"), five.getSpecialNextPlace());
+        assertSame(first.getPlaceById("4"), five.getPreviousPlace());
+        assertNotSame(second.getPlaceById("6"), five.getNextPlace());
+        assertNull(first.getEndingPlace().getNextPlace());
+
+        assertThrows(IllegalStateException.class, () -> five.setNextPlace(first.getPlaceById("7")));
+        assertSame(first.getPlaceById("6"), five.getNextPlace());
+    }
+
+    @Test
+    @DisplayName("보드의 위치는 ID, 이름과 속성도 공유 구조에서 읽으며 바꿀 수 없다")
+    void testAttributesComeFromTopology() {
+        Board board = new Board(Board.BoardType.SQUARE);
+        Place ending = board.getEndingPlace();
+        assertEquals("FE", ending.getId());
+        assertTrue(ending.isEndingPoint());
+        assertTrue(board.getPlaceById("5").isJunction());
+        assertTrue(board.getPlaceById("C_1").isCenter());
+        assertTrue(board.getStartingPlace().isStartingPoint());
+        assertEquals("외곽7", board.getPlaceById("7").getName());
+
+        assertThrows(IllegalStateException.class, () -> ending.setEndingPoint(false));
+        assertThrows(IllegalStateException.class, () -> ending.setId("X"));
+        assertThrows(IllegalStateException.class, () -> ending.setName("X"));
+        assertThrows(IllegalStateException.class, () -> ending.setJunction(true));
+        assertThrows(IllegalStateException.class, () -> ending.setCenter(true));
+        assertThrows(IllegalStateException.class, () -> ending.setStartingPoint(true));
+        assertTrue(ending.isEndingPoint());
+        assertEquals(Yut.YutResult.values().length, countSelfDestinations(board, ending));
+
+        // 보드 밖 위치는 속성을 바꿀 수 있음
+        Place loose = new Place("X", "따로");
+        loose.setEndingPoint(true);
+        loose.setId("Y");
+        assertTrue(loose.isEndingPoint());
+        assertEquals("Y", loose.getId());
+    }
+
+    private static int countSelfDestinations(Board board, Place place) {
+        int count = 0;
+        for (Yut.YutResult result : Yut.YutResult.values()) {
+            if (board.calculateDestination(place, result) == place) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    @DisplayName("말은 보드마다 따로 위치 번호별로 보관되며 놓인 순서를 유지한다")
+    void testOccupancyPerBoard() {
+        Board first = new Board(Board.BoardType.SQUARE);
+        Board second = new Board(Board.BoardType.SQUARE);
+        Game game = new Game();
+        game.initialize(new GameSettings(2, 5, Board.BoardType.SQUARE));
+        Player player = game.getCurrentPlayer();
+        Place place = first.getPlaceById("3");
+        for (int i = 0; i < 5; i++) {
+            place.addPiece(player.getPiece(i));
+        }
+        place.addPiece(player.getPiece(0));
+        assertEquals(5, place.getPieceCount());
+        assertTrue(second.getPlaceById("3").isEmpty());
+
+        assertTrue(place.removePiece(player.getPiece(1)));
+        assertFalse(place.removePiece(player.getPiece(1)));
+        assertEquals(java.util.List.of(player.getPiece(0), player.getPiece(2), player.getPiece(3),
+                player.getPiece(4)), place.getPieces());
+        assertTrue(first.getPlaceById("4").isEmpty());
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이진 리플레이 기록/재생 테스트
+ */
+public class ReplayTest {
+
+    /**
+     * 시뮬레이터로 여러 판을 기록하고 각 판의 승자 자리를 반환
+     */
+    private List<Integer> recordGames(GameSettings settings, ReplayWriter writer, int games) {
+        Game game = new Game(new SplittableRandom(11));
+        game.setReplayWriter(writer);
+        GameSimulator simulator = new GameSimulator(settings, MoveStrategy.random(new Random(5)), game);
+
+        List<Integer> winnerSeats = new ArrayList<>();
+        for (int i = 0; i < games; i++) {
+            Player winner = simulator.playGame(null);
+            winnerSeats.add(game.getPlayers().indexOf(winner));
+        }
+        writer.close();
+        return winnerSeats;
+    }
+
+    @Test
+    @DisplayName("기록한 게임을 재생하면 같은 승자와 같은 진행 통계가 나온다")
+    void testReplayReproducesGames() {
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            GameSettings settings = new GameSettings(3, 4, boardType);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ReplayWriter writer = new ReplayWriter(bytes);
+            List<Integer> expectedSeats = recordGames(settings, writer, 50);
+            assertEquals(50, writer.getGameCount());
+
+            ReplayReader reader = new ReplayReader(ByteBuffer.wrap(bytes.toByteArray()));
+            Game replayGame = new Game();
+            replayGame.getEventLog().setRecording(false);
+            int index = 0;
+            while (reader.hasNext()) {
+                Player winner = reader.replayNext(replayGame);
+                assertNotNull(winner, boardType + " 보드 " + index + "번째 게임의 승자가 재현되어야 함");
+                assertTrue(winner.isAllPiecesCompleted());
+                assertEquals(expectedSeats.get(index).intValue(), replayGame.getPlayers().indexOf(winner));
+                assertEquals(boardType, replayGame.getBoard().getBoardType());
+                index++;
+            }
+            assertEquals(50, index);
+        }
+    }
+
+    @Test
+    @DisplayName("리플레이 파일을 메모리에 매핑하여 재생할 수 있다")
+    void testReplayFromFile() throws Exception {
+        Path file = Files.createTempFile("yut-replay", ".bin");
+        try {
+            List<Integer> expectedSeats = recordGames(new GameSettings(), ReplayWriter.append(file), 20);
+
+            try (ReplayReader reader = ReplayReader.open(file)) {
+                Game replayGame = new Game();
+                for (int expectedSeat : expectedSeats) {
+                    assertTrue(reader.hasNext());
+                    Player winner = reader.replayNext(replayGame);
+                    assertEquals(expectedSeat, replayGame.getPlayers().indexOf(winner));
+                }
+                assertFalse(reader.hasNext());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("던지기와 이동이 한 바이트씩 기록된다")
+    void testRecordLayout() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayWriter writer = new ReplayWriter(bytes);
+        Game game = new Game();
+        game.setReplayWriter(writer);
+        game.initialize(new GameSettings(2, 4, Board.BoardType.SQUARE));
+
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+        Piece piece = game.getCurrentPlayer().getPiece(2);
+        game.movePiece(piece, Yut.YutResult.GAE);
+        writer.close();
+
+        byte[] data = bytes.toByteArray();
+        assertEquals(ReplayFormat.HEADER_SIZE + 3, data.length);
+        assertEquals('Y', data[0]);
+        assertEquals(Board.BoardType.SQUARE.ordinal(), data[5]);
+        assertEquals(2, data[6]);
+        assertEquals(4, data[7]);
+        assertEquals(Yut.YutResult.GAE.ordinal(), data[8]);
+        assertEquals(0x40 | (2 << 3) | Yut.YutResult.GAE.ordinal(), data[9] & 0xFF);
+        assertEquals(0xFF, data[10] & 0xFF);
+    }
+
+    @Test
+    @DisplayName("다른 플레이어의 말로 이동하면 기록 여부와 관계없이 거부하고, 기록하지 않는다")
+    void testForeignPieceNotRecorded() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayWriter writer = new ReplayWriter(bytes);
+        Game game = new Game();
+        game.setReplayWriter(writer);
+        game.initialize(new GameSettings(2, 4, Board.BoardType.SQUARE));
+
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+        Piece foreign = game.getPlayers().get(1).getPiece(0);
+        assertNull(game.movePiece(foreign, Yut.YutResult.GAE));
+        assertNull(foreign.getCurrentPlace());
+        assertTrue(game.getPendingYutResults().contains(Yut.YutResult.GAE));
+        writer.close();
+
+        byte[] data = bytes.toByteArray();
+        assertEquals(ReplayFormat.HEADER_SIZE + 2, data.length);
+        assertEquals(Yut.YutResult.GAE.ordinal(), data[8]);
+        assertEquals(0xFF, data[9] & 0xFF);
+
+        Game unrecorded = new Game();
+        unrecorded.initialize(new GameSettings(2, 4, Board.BoardType.SQUARE));
+        unrecorded.setSpecificYutResult(Yut.YutResult.GAE);
+        assertNull(unrecorded.movePiece(unrecorded.getPlayers().get(1).getPiece(0), Yut.YutResult.GAE));
+        assertTrue(unrecorded.getPendingYutResults().contains(Yut.YutResult.GAE));
+    }
+
+    @Test
+    @DisplayName("게임 진행과 맞지 않는 기록이나 잘못된 헤더는 예외를 던진다")
+    void testInvalidReplay() {
+        byte[] mismatch = {'Y', 'U', 'T', 'R', 1, 0, 2, 4,
+                (byte) ReplayFormat.moveRecord(0, Yut.YutResult.DO)};
+        assertThrows(IllegalStateException.class,
+                () -> new ReplayReader(ByteBuffer.wrap(mismatch)).replayNext(new Game()));
+
+        byte[] badMagic = {'Y', 'U', 'T', 'X', 1, 0, 2, 4, (byte) 0xFF};
+        assertThrows(IllegalStateException.class,
+                () -> new ReplayReader(ByteBuffer.wrap(badMagic)).replayNext(new Game()));
+
+        assertThrows(IllegalStateException.class, () -> new ReplayWriter(new ByteArrayOutputStream())
+                .recordThrow(Yut.YutResult.DO));
+    }
+}
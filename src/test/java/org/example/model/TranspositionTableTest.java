@@ -0,0 +1,136 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 치환표 테스트
+ */
+public class TranspositionTableTest {
+
+    @Test
+    @DisplayName("저장한 값, 깊이, 최선 이동, 값의 종류를 키로 다시 찾는다")
+    void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(100);
+        assertEquals(128, table.getCapacity());
+        assertEquals(-1, table.probe(42L));
+
+        assertTrue(table.store(42L, 0.25, 3, 7, TranspositionTable.Bound.LOWER));
+        int slot = table.probe(42L);
+        assertTrue(slot >= 0);
+        assertEquals(0.25, table.getValue(slot));
+        assertEquals(3, table.getDepth(slot));
+        assertEquals(7, table.getBestMove(slot));
+        assertEquals(TranspositionTable.Bound.LOWER, table.getBound(slot));
+
+        // 같은 키는 깊이와 관계없이 덮어씀
+        assertTrue(table.store(42L, -0.5, 1, -1, TranspositionTable.Bound.EXACT));
+        slot = table.probe(42L);
+        assertEquals(-0.5, table.getValue(slot));
+        assertEquals(-1, table.getBestMove(slot));
+        assertEquals(TranspositionTable.Bound.EXACT, table.getBound(slot));
+
+        assertEquals(3, table.getProbeCount());
+        assertEquals(2, table.getHitCount());
+        assertEquals(2.0 / 3, table.getHitRate(), 1e-12);
+        assertEquals(2, table.getStoreCount());
+        assertEquals(0, table.getReplacementCount());
+
+        table.clear();
+        assertEquals(-1, table.probe(42L));
+        table.resetStatistics();
+        assertEquals(0, table.getProbeCount());
+        assertEquals(0, table.getHitRate());
+    }
+
+    @Test
+    @DisplayName("같은 칸으로 모이는 키도 PROBE_LIMIT개까지 함께 저장된다")
+    void testOpenAddressing() {
+        TranspositionTable table = new TranspositionTable(16);
+        // 하위 비트가 같아 모두 같은 칸에서 시작하는 키
+        long[] keys = new long[TranspositionTable.PROBE_LIMIT];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 5L + 16L * (i + 1);
+            assertTrue(table.store(keys[i], i, 1, i, TranspositionTable.Bound.EXACT));
+        }
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, table.getValue(table.probe(keys[i])));
+        }
+        assertEquals(0, table.getReplacementCount());
+    }
+
+    @Test
+    @DisplayName("DEPTH_PREFERRED는 이전 세대와 얕은 항목을 먼저 교체하고, 더 얕은 새 항목은 버린다")
+    void testDepthPreferredReplacement() {
+        TranspositionTable table = new TranspositionTable(16, TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED);
+        int limit = TranspositionTable.PROBE_LIMIT;
+        for (int i = 0; i < limit; i++) {
+            table.store(16L * (i + 1), i, 5 + i, -1, TranspositionTable.Bound.EXACT);
+        }
+
+        // 가장 얕은 항목(깊이 5)보다 얕으면 저장하지 않음
+        assertFalse(table.store(16L * 100, 0, 4, -1, TranspositionTable.Bound.EXACT));
+        assertEquals(1, table.getRejectionCount());
+        assertEquals(-1, table.probe(16L * 100));
+
+        // 깊이가 같거나 깊으면 가장 얕은 항목을 교체
+        assertTrue(table.store(16L * 101, 0, 9, -1, TranspositionTable.Bound.EXACT));
+        assertEquals(-1, table.probe(16L));
+        assertTrue(table.probe(16L * 101) >= 0);
+        assertTrue(table.probe(16L * limit) >= 0);
+
+        // 새 탐색에서는 이전 세대 항목을 깊이와 관계없이 교체
+        table.newSearch();
+        assertTrue(table.store(16L * 102, 0, 0, -1, TranspositionTable.Bound.EXACT));
+        assertEquals(2, table.getReplacementCount());
+        assertTrue(table.probe(16L * 102) >= 0);
+    }
+
+    @Test
+    @DisplayName("ALWAYS는 가득 찬 칸들 중 키의 첫 칸을 항상 교체한다")
+    void testAlwaysReplacement() {
+        TranspositionTable table = new TranspositionTable(16, TranspositionTable.ReplacementPolicy.ALWAYS);
+        for (int i = 0; i < TranspositionTable.PROBE_LIMIT; i++) {
+            table.store(3L + 16L * (i + 1), i, 20, -1, TranspositionTable.Bound.EXACT);
+        }
+        assertTrue(table.store(3L + 16L * 50, 0, 0, -1, TranspositionTable.Bound.UPPER));
+        assertEquals(-1, table.probe(3L + 16L));
+        assertTrue(table.probe(3L + 16L * 50) >= 0);
+        assertEquals(1, table.getReplacementCount());
+        assertEquals(0, table.getRejectionCount());
+    }
+
+    @Test
+    @DisplayName("Zobrist 해시로 무작위 국면을 저장하면 다시 나온 국면에서 조회가 성공한다")
+    void testHitsOnRepeatedPositions() {
+        TranspositionTable table = new TranspositionTable(1 << 12);
+        SplittableRandom random = new SplittableRandom(21);
+        for (int round = 0; round < 50; round++) {
+            Game game = new Game();
+            game.getEventLog().setRecording(false);
+            game.initialize(new GameSettings(2, 2, Board.BoardType.SQUARE));
+            for (int step = 0; step < 30 && !game.isGameFinished(); step++) {
+                GameFixtures.advance(game, random, 1);
+                long key = game.getZobristHash();
+                if (table.probe(key) < 0) {
+                    table.store(key, 0, 0, -1, TranspositionTable.Bound.EXACT);
+                }
+            }
+        }
+        assertTrue(table.getHitCount() > 0);
+        assertTrue(table.getHitRate() > 0 && table.getHitRate() < 1);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기, 정책, 깊이는 예외를 던진다")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(1));
+        assertThrows(NullPointerException.class, () -> new TranspositionTable(16, null));
+        TranspositionTable table = new TranspositionTable(16);
+        assertThrows(IllegalArgumentException.class, () -> table.store(1L, 0, 128, -1, TranspositionTable.Bound.EXACT));
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 턴 계획기 테스트
+ */
+public class TurnPlannerTest {
+    private static final Yut.YutResult[] FINAL_RESULTS = {
+            Yut.YutResult.BACKDO, Yut.YutResult.DO, Yut.YutResult.GAE, Yut.YutResult.GEOL
+    };
+
+    @Test
+    @DisplayName("남은 결과 중 상대 말을 잡을 수 있는 결과를 출발 전 말에 배정한다")
+    void testPlansCapture() {
+        Game game = new Game();
+        game.initialize(new GameSettings(2, 2, Board.BoardType.SQUARE));
+        Player first = game.getCurrentPlayer();
+        game.setSpecificYutResult(Yut.YutResult.GEOL);
+        game.movePiece(first.getPiece(0), Yut.YutResult.GEOL);
+        game.endTurnIfNoExtraTurn();
+        Place target = first.getPiece(0).getCurrentPlace();
+
+        Player second = game.getCurrentPlayer();
+        assertNotSame(first, second);
+        game.setSpecificYutResult(Yut.YutResult.YUT);
+        game.setSpecificYutResult(Yut.YutResult.GEOL);
+
+        TurnPlanner planner = new TurnPlanner(TurnPlanner.Evaluator.progress(), 1000);
+        TurnPlanner.Plan plan = planner.plan(game);
+        assertTrue(planner.isLastPlanComplete());
+        assertEquals(2, plan.size());
+        for (Piece piece : plan.getPieces()) {
+            assertSame(second, piece.getPlayer());
+        }
+
+        for (int step = 0; step < plan.size(); step++) {
+            assertNotNull(game.applyMove(plan.getPiece(step), plan.getResult(step)));
+        }
+        Place after = first.getPiece(0).getCurrentPlace();
+        assertTrue(after == null || after.isStartingPoint(), "잡힌 말은 시작점으로 돌아감");
+        assertNotSame(target, after);
+        assertSame(second, game.getCurrentPlayer());
+    }
+
+    @Test
+    @DisplayName("계획 값은 모든 순서와 배정을 그대로 탐색한 최댓값과 같다")
+    void testMatchesExhaustiveSearch() {
+        SplittableRandom random = new SplittableRandom(24);
+        TurnPlanner.Evaluator evaluator = TurnPlanner.Evaluator.progress();
+        TurnPlanner planner = new TurnPlanner(evaluator, 10_000);
+        MoveList moves = new MoveList();
+        int checked = 0;
+        for (int round = 0; round < 40; round++) {
+            Game game = new Game();
+            game.getEventLog().setRecording(false);
+            game.initialize(new GameSettings(2 + round % 3, 2 + round % 4, Board.BoardType.values()[round % 3]));
+            GameFixtures.advance(game, random, random.nextInt(60));
+            while (!game.isGameFinished() && game.hasPendingYutResults()) {
+                if (game.generateLegalMoves(moves) == 0) {
+                    game.forfeitPendingResults();
+                } else {
+                    GameFixtures.advance(game, random, 1);
+                }
+            }
+            if (game.isGameFinished()) {
+                continue;
+            }
+            game.setSpecificYutResult(Yut.YutResult.YUT);
+            game.setSpecificYutResult(random.nextBoolean() ? Yut.YutResult.MO : Yut.YutResult.YUT);
+            game.setSpecificYutResult(FINAL_RESULTS[random.nextInt(FINAL_RESULTS.length)]);
+
+            long hash = game.getZobristHash();
+            TurnPlanner.Plan plan = planner.plan(game);
+            assertTrue(planner.isLastPlanComplete());
+            assertEquals(hash, game.getZobristHash(), "계획은 원래 게임을 바꾸지 않음");
+
+            Player player = game.getCurrentPlayer();
+            assertEquals(exhaustive(game, player, evaluator), plan.getValue(), 1e-9);
+
+            // 계획을 그대로 두면 계획 값의 국면이 됨
+            for (int step = 0; step < plan.size(); step++) {
+                assertNotNull(game.applyMove(plan.getPiece(step), plan.getResult(step)));
+            }
+            if (game.hasPendingYutResults() && game.getCurrentPlayer() == player && !game.isGameFinished()) {
+                game.applyForfeit();
+            }
+            assertEquals(plan.getValue(), evaluator.evaluate(game, player), 1e-9);
+            checked++;
+        }
+        assertTrue(checked > 20);
+    }
+
+    @Test
+    @DisplayName("시간 예산이 모자라도 둘 수 있는 계획을 돌려준다")
+    void testTimeBudget() {
+        Game game = new Game();
+        game.getEventLog().setRecording(false);
+        game.initialize(new GameSettings(2, 5, Board.BoardType.HEXAGON));
+        GameFixtures.advance(game, new SplittableRandom(3), 40);
+        while (game.hasPendingYutResults() && !game.isGameFinished()) {
+            game.forfeitPendingResults();
+        }
+        for (int i = 0; i < 5; i++) {
+            game.setSpecificYutResult(i % 2 == 0 ? Yut.YutResult.MO : Yut.YutResult.YUT);
+        }
+        game.setSpecificYutResult(Yut.YutResult.GEOL);
+
+        TurnPlanner planner = new TurnPlanner(TurnPlanner.Evaluator.progress(), 1);
+        TurnPlanner.Plan plan = planner.plan(game);
+        assertFalse(plan.isEmpty());
+        for (int step = 0; step < plan.size(); step++) {
+            assertNotNull(game.applyMove(plan.getPiece(step), plan.getResult(step)));
+        }
+    }
+
+    @Test
+    @DisplayName("남은 결과가 없거나 잘못된 인자는 예외를 던진다")
+    void testInvalidArguments() {
+        Game game = new Game();
+        game.initialize(new GameSettings());
+        TurnPlanner planner = new TurnPlanner();
+        assertThrows(IllegalStateException.class, () -> planner.plan(game));
+        assertThrows(NullPointerException.class, () -> new TurnPlanner(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TurnPlanner(TurnPlanner.Evaluator.progress(), 0));
+    }
+
+    /**
+     * 중복 제거와 치환표 없이 모든 이동 순서를 탐색한 최댓값
+     */
+    private static double exhaustive(Game game, Player player, TurnPlanner.Evaluator evaluator) {
+        if (game.isGameFinished() || game.getCurrentPlayer() != player || !game.hasPendingYutResults()) {
+            return evaluator.evaluate(game, player);
+        }
+        MoveList moves = new MoveList();
+        int count = game.generateLegalMoves(moves);
+        if (count == 0) {
+            game.applyForfeit();
+            try {
+                return evaluator.evaluate(game, player);
+            } finally {
+                game.undo();
+            }
+        }
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            game.applyMove(moves.getPiece(i), moves.getResult(i));
+            try {
+                best = Math.max(best, exhaustive(game, player, evaluator));
+            } finally {
+                game.undo();
+            }
+        }
+        return best;
+    }
+}
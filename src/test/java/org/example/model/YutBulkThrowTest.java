@@ -0,0 +1,76 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 윷 일괄 던지기(Yut.throwYuts) 테스트
+ */
+public class YutBulkThrowTest {
+    // 자유도 5, 유의수준 0.001의 카이제곱 임계값
+    private static final double CHI_SQUARE_CRITICAL = 20.515;
+
+    // 결과 순서별 기대 확률: 빽도, 도, 개, 걸, 윷, 모
+    private static final double[] EXPECTED = {
+            4.0 / 16 * 0.05, 4.0 / 16 * 0.95, 6.0 / 16, 4.0 / 16, 1.0 / 16, 1.0 / 16
+    };
+
+    private static double chiSquare(long[] counts, long total) {
+        double chiSquare = 0;
+        for (int i = 0; i < counts.length; i++) {
+            double expected = EXPECTED[i] * total;
+            double diff = counts[i] - expected;
+            chiSquare += diff * diff / expected;
+        }
+        return chiSquare;
+    }
+
+    @Test
+    @DisplayName("일괄 던지기 결과가 한 번씩 던진 결과와 같은 분포를 따른다 (카이제곱 검정)")
+    void testBulkDistributionMatchesSingleThrow() {
+        int throwCount = 1_000_000;
+        byte[] results = new byte[throwCount];
+        new Yut(12345L).throwYuts(results, 0, throwCount);
+
+        long[] bulkCounts = new long[Yut.YutResult.values().length];
+        for (byte result : results) {
+            bulkCounts[result]++;
+        }
+
+        Yut single = new Yut(12345L);
+        long[] singleCounts = new long[Yut.YutResult.values().length];
+        for (int i = 0; i < throwCount; i++) {
+            singleCounts[single.throwYut().ordinal()]++;
+        }
+
+        double bulkChiSquare = chiSquare(bulkCounts, throwCount);
+        double singleChiSquare = chiSquare(singleCounts, throwCount);
+        assertTrue(bulkChiSquare < CHI_SQUARE_CRITICAL, "일괄 던지기 카이제곱 값: " + bulkChiSquare);
+        assertTrue(singleChiSquare < CHI_SQUARE_CRITICAL, "한 번씩 던지기 카이제곱 값: " + singleChiSquare);
+    }
+
+    @Test
+    @DisplayName("지정한 구간만 채우고 같은 시드면 같은 결과를 낸다")
+    void testRangeAndReproducibility() {
+        byte[] first = new byte[100];
+        byte[] second = new byte[100];
+        Arrays.fill(first, (byte) -1);
+        new Yut(7L).throwYuts(first, 10, 80);
+        new Yut(7L).throwYuts(second, 10, 80);
+
+        for (int i = 0; i < first.length; i++) {
+            if (i < 10 || i >= 90) {
+                assertEquals(-1, first[i], i + "번째 칸은 채우지 않아야 함");
+            } else {
+                assertNotNull(Yut.YutResult.ofOrdinal(first[i]));
+                assertEquals(second[i], first[i]);
+            }
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> new Yut(7L).throwYuts(new byte[4], 2, 3));
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 윷 확률 모형 테스트
+ */
+public class YutProbabilityModelTest {
+    // 자유도 5, 유의수준 0.001의 카이제곱 임계값
+    private static final double CHI_SQUARE_CRITICAL = 20.515;
+
+    private static double chiSquare(YutProbabilityModel model, long[] counts, long total) {
+        double chiSquare = 0;
+        for (Yut.YutResult result : Yut.YutResult.values()) {
+            double expected = model.getProbability(result) * total;
+            double diff = counts[result.ordinal()] - expected;
+            chiSquare += diff * diff / expected;
+        }
+        return chiSquare;
+    }
+
+    @Test
+    @DisplayName("기본 모형은 공정한 막대기 4개와 5% 빽도 규칙의 확률을 가진다")
+    void testStandardProbabilities() {
+        YutProbabilityModel model = YutProbabilityModel.standard();
+
+        assertTrue(model.isStandard());
+        assertEquals(4.0 / 16 * 0.95, model.getProbability(Yut.YutResult.DO), 1e-12);
+        assertEquals(4.0 / 16 * 0.05, model.getProbability(Yut.YutResult.BACKDO), 1e-12);
+        assertEquals(6.0 / 16, model.getProbability(Yut.YutResult.GAE), 1e-12);
+        assertEquals(4.0 / 16, model.getProbability(Yut.YutResult.GEOL), 1e-12);
+        assertEquals(1.0 / 16, model.getProbability(Yut.YutResult.YUT), 1e-12);
+        assertEquals(1.0 / 16, model.getProbability(Yut.YutResult.MO), 1e-12);
+        assertSame(model, new GameSettings().getYutProbabilityModel());
+    }
+
+    @Test
+    @DisplayName("무게가 다른 막대기와 빽도 없는 규칙의 확률을 계산한다")
+    void testWeightedSticks() {
+        YutProbabilityModel model = YutProbabilityModel.ofSticks(new double[]{0.6, 0.6, 0.6, 0.6}, 0.0);
+
+        assertFalse(model.isStandard());
+        assertEquals(0.0, model.getProbability(Yut.YutResult.BACKDO));
+        assertEquals(Math.pow(0.4, 4), model.getProbability(Yut.YutResult.MO), 1e-12);
+        assertEquals(4 * 0.6 * Math.pow(0.4, 3), model.getProbability(Yut.YutResult.DO), 1e-12);
+        assertEquals(Math.pow(0.6, 4), model.getProbability(Yut.YutResult.YUT), 1e-12);
+
+        double total = 0;
+        for (double probability : model.getProbabilities().values()) {
+            total += probability;
+        }
+        assertEquals(1.0, total, 1e-12);
+    }
+
+    @Test
+    @DisplayName("별칭 표에서 뽑은 결과가 모형의 분포를 따른다 (카이제곱 검정)")
+    void testAliasSamplingDistribution() {
+        Map<Yut.YutResult, Double> weights = new EnumMap<>(Yut.YutResult.class);
+        weights.put(Yut.YutResult.BACKDO, 1.0);
+        weights.put(Yut.YutResult.DO, 2.0);
+        weights.put(Yut.YutResult.GAE, 3.0);
+        weights.put(Yut.YutResult.GEOL, 4.0);
+        weights.put(Yut.YutResult.YUT, 5.0);
+        weights.put(Yut.YutResult.MO, 5.0);
+        YutProbabilityModel model = YutProbabilityModel.of(weights);
+        assertEquals(0.25, model.getProbability(Yut.YutResult.MO), 1e-12);
+
+        Yut yut = new Yut(77L);
+        yut.setProbabilityModel(model);
+        int throwCount = 600_000;
+        long[] singleCounts = new long[Yut.YutResult.values().length];
+        for (int i = 0; i < throwCount; i++) {
+            singleCounts[yut.throwYut().ordinal()]++;
+        }
+        byte[] bulk = new byte[throwCount];
+        yut.throwYuts(bulk, 0, throwCount);
+        long[] bulkCounts = new long[Yut.YutResult.values().length];
+        for (byte result : bulk) {
+            bulkCounts[result]++;
+        }
+
+        assertTrue(chiSquare(model, singleCounts, throwCount) < CHI_SQUARE_CRITICAL);
+        assertTrue(chiSquare(model, bulkCounts, throwCount) < CHI_SQUARE_CRITICAL);
+    }
+
+    @Test
+    @DisplayName("게임 설정의 확률 모형이 게임의 윷 던지기에 적용된다")
+    void testModelFromSettings() {
+        Map<Yut.YutResult, Double> weights = new EnumMap<>(Yut.YutResult.class);
+        weights.put(Yut.YutResult.GEOL, 1.0);
+        GameSettings settings = new GameSettings();
+        settings.setYutProbabilityModel(YutProbabilityModel.of(weights));
+
+        Game game = new Game(YutRandomSource.seeded(3L));
+        game.initialize(settings);
+        for (int i = 0; i < 20; i++) {
+            game.setHasExrtraTurnFalse();
+            assertEquals(Yut.YutResult.GEOL, game.throwYut());
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 확률이나 가중치는 예외를 던진다")
+    void testInvalidModels() {
+        assertThrows(IllegalArgumentException.class,
+                () -> YutProbabilityModel.ofSticks(new double[]{0.5, 0.5, 0.5}, 0.05));
+        assertThrows(IllegalArgumentException.class,
+                () -> YutProbabilityModel.ofSticks(new double[]{0.5, 0.5, 1.5, 0.5}, 0.05));
+        assertThrows(IllegalArgumentException.class,
+                () -> YutProbabilityModel.ofSticks(new double[]{0.5, 0.5, 0.5, 0.5}, -0.1));
+        assertThrows(IllegalArgumentException.class,
+                () -> YutProbabilityModel.of(new EnumMap<>(Yut.YutResult.class)));
+        Map<Yut.YutResult, Double> nullWeight = new EnumMap<>(Yut.YutResult.class);
+        nullWeight.put(Yut.YutResult.DO, 1.0);
+        nullWeight.put(Yut.YutResult.GAE, null);
+        assertThrows(IllegalArgumentException.class, () -> YutProbabilityModel.of(nullWeight));
+        Map<Yut.YutResult, Double> nullResult = new HashMap<>();
+        nullResult.put(Yut.YutResult.DO, 1.0);
+        nullResult.put(null, 1.0);
+        assertThrows(IllegalArgumentException.class, () -> YutProbabilityModel.of(nullResult));
+        assertThrows(NullPointerException.class, () -> new GameSettings().setYutProbabilityModel(null));
+    }
+}
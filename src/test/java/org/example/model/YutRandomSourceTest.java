@@ -0,0 +1,92 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 윷 난수 공급원 테스트
+ */
+public class YutRandomSourceTest {
+
+    @Test
+    @DisplayName("같은 시드의 윷은 같은 결과 순서를 낸다")
+    void testSeededYutIsReproducible() {
+        Yut first = new Yut(42L);
+        Yut second = new Yut(YutRandomSource.seeded(42L));
+        Yut other = new Yut(43L);
+
+        boolean differs = false;
+        for (int i = 0; i < 200; i++) {
+            Yut.YutResult result = first.throwYut();
+            assertEquals(result, second.throwYut());
+            differs |= result != other.throwYut();
+        }
+        assertTrue(differs, "다른 시드는 다른 결과 순서를 내야 함");
+    }
+
+    @Test
+    @DisplayName("나눈 공급원과 스트림 번호가 다른 공급원은 서로 다른 난수열을 낸다")
+    void testSplitAndStreamsAreIndependent() {
+        YutRandomSource parent = YutRandomSource.seeded(7L);
+        YutRandomSource child = parent.split();
+        assertNotEquals(parent.nextLong(), child.nextLong());
+
+        // 같은 시드/스트림 번호는 같은 난수열
+        YutRandomSource stream = YutRandomSource.forStream(7L, 3);
+        YutRandomSource sameStream = YutRandomSource.forStream(7L, 3);
+        YutRandomSource nextStream = YutRandomSource.forStream(7L, 4);
+        for (int i = 0; i < 10; i++) {
+            long value = stream.nextLong();
+            assertEquals(value, sameStream.nextLong());
+            assertNotEquals(value, nextStream.nextLong());
+        }
+    }
+
+    @Test
+    @DisplayName("난수 하나로 던져도 윷 결과 분포는 막대기 4개 모형과 같다")
+    void testDistribution() {
+        Yut yut = new Yut(2024L);
+        int throwCount = 160_000;
+        Map<Yut.YutResult, Integer> counts = new EnumMap<>(Yut.YutResult.class);
+        for (int i = 0; i < throwCount; i++) {
+            counts.merge(yut.throwYut(), 1, Integer::sum);
+        }
+
+        // 도 4/16 (이 중 5%는 빽도), 개 6/16, 걸 4/16, 윷 1/16, 모 1/16
+        assertEquals(4.0 / 16 * 0.95, counts.get(Yut.YutResult.DO) / (double) throwCount, 0.005);
+        assertEquals(4.0 / 16 * 0.05, counts.get(Yut.YutResult.BACKDO) / (double) throwCount, 0.002);
+        assertEquals(6.0 / 16, counts.get(Yut.YutResult.GAE) / (double) throwCount, 0.005);
+        assertEquals(4.0 / 16, counts.get(Yut.YutResult.GEOL) / (double) throwCount, 0.005);
+        assertEquals(1.0 / 16, counts.get(Yut.YutResult.YUT) / (double) throwCount, 0.003);
+        assertEquals(1.0 / 16, counts.get(Yut.YutResult.MO) / (double) throwCount, 0.003);
+    }
+
+    @Test
+    @DisplayName("같은 시드의 공급원으로 만든 게임은 시뮬레이션 결과가 같다")
+    void testSeededGameIsReproducible() {
+        GameSettings settings = new GameSettings(2, 4, Board.BoardType.HEXAGON);
+        SimulationStats first = new GameSimulator(settings, MoveStrategy.random(new SplittableRandom(1)),
+                new Game(YutRandomSource.seeded(99L))).run(30);
+        SimulationStats second = new GameSimulator(settings, MoveStrategy.random(new SplittableRandom(1)),
+                new Game(YutRandomSource.seeded(99L))).run(30);
+
+        assertEquals(first.getThrowCount(), second.getThrowCount());
+        assertEquals(first.getMoveCount(), second.getMoveCount());
+        assertEquals(first.getWins(0), second.getWins(0));
+    }
+
+    @Test
+    @DisplayName("기존 난수 생성기를 감싸서 사용할 수 있다")
+    void testWrapRandomGenerator() {
+        YutRandomSource wrapped = YutRandomSource.of(new SplittableRandom(5L));
+        assertEquals(new SplittableRandom(5L).nextLong(), wrapped.nextLong());
+        assertNotNull(wrapped.split());
+        assertThrows(IllegalArgumentException.class, () -> YutRandomSource.of(null));
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 남은 윷 결과 모음 테스트
+ */
+public class YutResultBagTest {
+
+    @Test
+    @DisplayName("결과별 개수를 세고, 목록은 이동 칸 수가 큰 결과부터 보여 준다")
+    void testCountsAndOrder() {
+        YutResultBag bag = new YutResultBag();
+        assertTrue(bag.isEmpty());
+        bag.add(Yut.YutResult.DO);
+        bag.add(Yut.YutResult.YUT);
+        bag.add(Yut.YutResult.BACKDO);
+        bag.add(Yut.YutResult.YUT);
+        bag.add(Yut.YutResult.MO);
+
+        assertEquals(5, bag.size());
+        assertEquals(2, bag.count(Yut.YutResult.YUT));
+        assertTrue(bag.contains(Yut.YutResult.BACKDO));
+        assertFalse(bag.contains(Yut.YutResult.GAE));
+        assertEquals(List.of(Yut.YutResult.MO, Yut.YutResult.YUT, Yut.YutResult.YUT, Yut.YutResult.DO,
+                Yut.YutResult.BACKDO), bag.asList());
+        assertEquals(Yut.YutResult.DO, bag.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> bag.get(5));
+
+        assertTrue(bag.remove(Yut.YutResult.YUT));
+        assertFalse(bag.remove(Yut.YutResult.GAE));
+        assertEquals(1, bag.count(Yut.YutResult.YUT));
+        assertEquals(4, bag.size());
+
+        YutResultBag copy = new YutResultBag();
+        copy.copyFrom(bag);
+        assertEquals(bag.asList(), copy.asList());
+        bag.clear();
+        assertTrue(bag.isEmpty());
+        assertEquals(4, copy.size());
+    }
+
+    @Test
+    @DisplayName("목록 보기는 복사하지 않고 바뀐 내용을 보여 주며 고칠 수 없다")
+    void testReadOnlyView() {
+        YutResultBag bag = new YutResultBag();
+        List<Yut.YutResult> view = bag.asList();
+        assertSame(view, bag.asList());
+        bag.add(Yut.YutResult.GEOL);
+        assertEquals(List.of(Yut.YutResult.GEOL), view);
+        assertTrue(view.contains(Yut.YutResult.GEOL));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(Yut.YutResult.DO));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    @Test
+    @DisplayName("게임의 남은 윷 결과는 던진 순서와 관계없이 같은 순서로 보이고, 사용하면 하나씩 줄어든다")
+    void testGamePendingResults() {
+        Game game = new Game();
+        game.initialize(new GameSettings(2, 4, Board.BoardType.SQUARE));
+        game.setSpecificYutResult(Yut.YutResult.YUT);
+        game.setSpecificYutResult(Yut.YutResult.MO);
+        game.setSpecificYutResult(Yut.YutResult.YUT);
+        game.setSpecificYutResult(Yut.YutResult.GAE);
+
+        List<Yut.YutResult> view = game.getPendingYutResultsView();
+        assertEquals(List.of(Yut.YutResult.MO, Yut.YutResult.YUT, Yut.YutResult.YUT, Yut.YutResult.GAE), view);
+        assertEquals(view, game.getPendingYutResults());
+        assertThrows(UnsupportedOperationException.class, () -> view.clear());
+
+        Player player = game.getCurrentPlayer();
+        assertNotNull(game.movePiece(player.getPiece(0), Yut.YutResult.YUT));
+        assertEquals(List.of(Yut.YutResult.MO, Yut.YutResult.YUT, Yut.YutResult.GAE), view);
+        assertNull(game.movePiece(player.getPiece(1), Yut.YutResult.GEOL));
+        assertEquals(3, view.size());
+    }
+}
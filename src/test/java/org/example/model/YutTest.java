@@ -74,6 +74,11 @@ public class YutTest {
             logger.info(String.format("이름 테스트 성공: %s", expectedName));
         }
 
+        // 한 번 더 던지기 검증 (윷/모만)
+        for (Yut.YutResult result : Yut.YutResult.values()) {
+            assertEquals(result == Yut.YutResult.YUT || result == Yut.YutResult.MO, result.grantsExtraThrow());
+        }
+
         logger.info("윷 결과 값 테스트 완료");
     }
 
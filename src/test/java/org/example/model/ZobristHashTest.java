@@ -0,0 +1,152 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게임 국면 Zobrist 해시 테스트
+ */
+public class ZobristHashTest {
+
+    private static Game newGame(GameSettings settings) {
+        Game game = new Game();
+        game.getEventLog().setRecording(false);
+        game.initialize(settings);
+        game.setZobristVerification(true);
+        return game;
+    }
+
+    @Test
+    @DisplayName("이동, 잡기, 업기, 턴 변경마다 갱신한 해시가 전체 재계산 값과 같다")
+    void testIncrementalMatchesRecomputation() {
+        SplittableRandom random = new SplittableRandom(18);
+        int captures = 0;
+        int stacks = 0;
+        for (Board.BoardType boardType : Board.BoardType.values()) {
+            for (int round = 0; round < 30; round++) {
+                Game game = newGame(new GameSettings(2 + round % 3, 2 + round % 4, boardType));
+                // 검증이 켜져 있으므로 불일치가 있으면 진행 중에 IllegalStateException
+                GameFixtures.advance(game, random, 400);
+                captures += game.getCaptureCount();
+                stacks += game.getStackCount();
+            }
+        }
+        assertTrue(captures > 0 && stacks > 0);
+    }
+
+    @Test
+    @DisplayName("해시는 압축 국면(PackedGameState)이 같으면 같고, 다르면 거의 항상 다르다")
+    void testAgreesWithPackedState() {
+        SplittableRandom random = new SplittableRandom(3);
+        GameSettings settings = new GameSettings(4, 5, Board.BoardType.HEXAGON);
+        Map<PackedGameState, Long> hashes = new HashMap<>();
+        Map<Long, PackedGameState> positions = new HashMap<>();
+        for (int round = 0; round < 200; round++) {
+            Game game = newGame(settings);
+            for (int step = 0; step < 40 && !game.isGameFinished(); step++) {
+                GameFixtures.advance(game, random, 5);
+                PackedGameState packed = PackedGameState.of(game);
+                Long previous = hashes.putIfAbsent(packed, game.getZobristHash());
+                if (previous != null) {
+                    assertEquals(previous.longValue(), game.getZobristHash());
+                }
+                PackedGameState other = positions.putIfAbsent(game.getZobristHash(), packed);
+                if (other != null) {
+                    assertEquals(other, packed);
+                }
+            }
+        }
+        assertTrue(hashes.size() > 1000);
+    }
+
+    @Test
+    @DisplayName("다른 순서로 도달한 같은 국면은 해시가 같다")
+    void testTranspositionsHashEqually() {
+        GameSettings settings = new GameSettings(2, 4, Board.BoardType.SQUARE);
+        Game first = newGame(settings);
+        Game second = newGame(settings);
+        for (Game game : new Game[]{first, second}) {
+            game.setSpecificYutResult(Yut.YutResult.YUT);
+            game.setSpecificYutResult(Yut.YutResult.DO);
+        }
+
+        // 첫 게임: 0번 말을 윷, 1번 말을 도 / 두 번째 게임: 1번 말을 도, 0번 말을 윷
+        Player p1 = first.getCurrentPlayer();
+        first.movePiece(p1.getPiece(0), Yut.YutResult.YUT);
+        first.movePiece(p1.getPiece(1), Yut.YutResult.DO);
+        Player p2 = second.getCurrentPlayer();
+        second.movePiece(p2.getPiece(1), Yut.YutResult.DO);
+        second.movePiece(p2.getPiece(0), Yut.YutResult.YUT);
+        assertEquals(first.getZobristHash(), second.getZobristHash());
+
+        // 말 번호만 바뀐 국면도 같은 해시 (같은 플레이어의 말은 구분하지 않음)
+        Game swapped = newGame(settings);
+        swapped.setSpecificYutResult(Yut.YutResult.YUT);
+        swapped.setSpecificYutResult(Yut.YutResult.DO);
+        Player p3 = swapped.getCurrentPlayer();
+        swapped.movePiece(p3.getPiece(2), Yut.YutResult.YUT);
+        swapped.movePiece(p3.getPiece(3), Yut.YutResult.DO);
+        assertEquals(first.getZobristHash(), swapped.getZobristHash());
+
+        // 턴이 넘어가면 해시가 바뀜
+        long beforeTurn = first.getZobristHash();
+        first.endTurnIfNoExtraTurn();
+        assertEquals(1, first.getCurrentTurnIndex());
+        assertNotEquals(beforeTurn, first.getZobristHash());
+    }
+
+    @Test
+    @DisplayName("되돌리기, 복사, 압축 국면 복원 후에도 해시가 맞다")
+    void testUndoCopyAndDecode() {
+        SplittableRandom random = new SplittableRandom(8);
+        GameSettings settings = new GameSettings(3, 4, Board.BoardType.PENTAGON);
+        Game game = newGame(settings);
+        GameFixtures.advance(game, random, 30);
+
+        long start = game.getZobristHash();
+        MoveList moves = new MoveList();
+        int applied = 0;
+        for (int i = 0; i < 20 && !game.isGameFinished(); i++) {
+            if (game.generateLegalMoves(moves) == 0) {
+                game.applyThrow(Yut.YutResult.values()[random.nextInt(6)]);
+            } else {
+                int choice = random.nextInt(moves.size());
+                game.applyMove(moves.getPiece(choice), moves.getResult(choice));
+            }
+            applied++;
+        }
+        for (int i = 0; i < applied; i++) {
+            game.undo();
+        }
+        assertEquals(start, game.getZobristHash());
+
+        Game copy = game.copyInto(newGame(settings));
+        assertEquals(game.getZobristHash(), copy.getZobristHash());
+
+        Game decoded = newGame(settings);
+        PackedGameState.of(game).decodeInto(decoded);
+        assertEquals(game.getZobristHash(), decoded.getZobristHash());
+
+        // 같은 국면은 다른 게임 객체에서도 같은 해시 (키가 고정)
+        assertEquals(newGame(settings).getZobristHash(), newGame(settings).getZobristHash());
+    }
+
+    @Test
+    @DisplayName("검증이 켜져 있을 때 말을 직접 옮겨 해시가 어긋나면 예외를 던진다")
+    void testVerifierDetectsDesync() {
+        Game game = newGame(new GameSettings());
+        Player player = game.getCurrentPlayer();
+        player.getPiece(0).moveTo(game.getBoard().getPlaceById("5"));
+
+        assertThrows(IllegalStateException.class, game::endTurnIfNoExtraTurn);
+
+        game.setZobristVerification(false);
+        assertDoesNotThrow(game::endTurnIfNoExtraTurn);
+    }
+}